@@ -20,9 +20,11 @@ import static io.leitstand.inventory.service.ElementId.randomElementId;
 
 import java.util.Date;
 
+import javax.json.bind.annotation.JsonbTypeAdapter;
 import javax.validation.Valid;
 import javax.validation.constraints.NotNull;
 
+import io.leitstand.commons.jsonb.IsoDateAdapter;
 
 /**
  * The <code>BaseElementEnvelope</code> contains the attributes shared with every element-related message.
@@ -204,6 +206,7 @@ public class BaseElementEnvelope extends BaseElementGroupEnvelope {
     @NotNull(message="{operational_state.required}")
 	private OperationalState operationalState;
 
+	@JsonbTypeAdapter(IsoDateAdapter.class)
 	private Date dateModified; 
 	
 	@Valid
@@ -15,6 +15,7 @@
  */
 package io.leitstand.inventory.service;
 
+import java.util.List;
 
 /**
  * A service for cloning elements in the inventory.
@@ -41,6 +42,22 @@ public interface CloneElementService {
      */
 	ElementId cloneElement(ElementName source, ElementCloneRequest request);
 	
+	/**
+	 * Clones an element into multiple new elements in the inventory and 
+	 * copies the configuration and environments from the source element to all clones.
+	 * @param source the source element ID
+	 * @param cloneRequests the mandatory data to create the clones
+	 * @return the element IDs of the clone elements in the order of the clone requests
+	 */
+	List<ElementId> cloneElements(ElementId source, List<ElementCloneRequest> cloneRequests);
 	
+	/**
+	 * Clones an element into multiple new elements in the inventory and 
+	 * copies the configuration and environments from the source element to all clones.
+	 * @param source the source element name
+	 * @param cloneRequests the mandatory data to create the clones
+	 * @return the element IDs of the clone elements in the order of the clone requests
+	 */
+	List<ElementId> cloneElements(ElementName source, List<ElementCloneRequest> cloneRequests);
 	
 }
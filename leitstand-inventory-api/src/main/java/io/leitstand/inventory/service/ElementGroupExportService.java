@@ -15,6 +15,8 @@
  */
 package io.leitstand.inventory.service;
 
+import java.util.function.Consumer;
+
 /**
  * A service to export all element groups and the general settings of their respective elements.
  */
@@ -29,6 +31,18 @@ public interface ElementGroupExportService {
 	ElementGroupsExport exportElementGroups(ElementGroupType groupType,
 											String filter);
 	
+	/**
+	 * Exports all element groups matching the given filter expression group by group.
+	 * Every exported group is passed to the given consumer before the next group is loaded,
+	 * such that the export does not have to hold the entire inventory in memory.
+	 * @param groupType - the type of group to export.
+	 * @param filter - the filter expression
+	 * @param groups - the consumer of the exported groups
+	 */
+	void exportElementGroups(ElementGroupType groupType,
+							 String filter,
+							 Consumer<ElementGroupExport> groups);
+	
 	/**
 	 * Imports a group export and synchronizes the element groups and their respective elements.
 	 * @param export - the export to be implemented
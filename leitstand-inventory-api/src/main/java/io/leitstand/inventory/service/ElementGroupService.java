@@ -35,6 +35,21 @@ public interface ElementGroupService {
 										  int offset, 
 										  int limit);
 
+    /**
+     * Returns the group settings for all matching groups ordered by their name, 
+     * continuing after the group the specified cursor points to.
+     * Use {@link PageCursor#pageCursor(ElementGroupSettings)} to obtain the cursor of the last group of a page.
+     * @param groupType the group type
+     * @param filter a regular expression to filter groups by name
+     * @param after the cursor of the last group of the previous page or <code>null</code> to read the first page
+     * @param limit the maximum number of groups to return
+     * @return all matching groups ordered by their name
+     */
+    List<ElementGroupSettings> findGroups(ElementGroupType groupType,
+    									  String filter,
+    									  PageCursor after,
+    									  int limit);
+
     /**
      * Returns the group statistics for all matching groups. 
      * The group statistics contain the number of elements grouped by operational state.
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2020 RtBrick Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.leitstand.inventory.service;
+
+import java.util.List;
+
+/**
+ * A service to search elements by all their names and identifiers at once.
+ */
+public interface ElementSearchService {
+
+	/**
+	 * Searches for elements by name, alias, tags, serial number, asset ID and management interface hostnames.
+	 * <p>
+	 * The search terms are separated by whitespace and are case-insensitive. 
+	 * An element matches a term, if one of its names or identifiers, or a part of it delimited by 
+	 * <code>-</code>, <code>_</code>, <code>.</code>, <code>:</code> or <code>/</code>, starts with the term. 
+	 * An element must match all terms to be returned.
+	 * The list is sorted by the element group name and the element name in ascending order.
+	 * </p>
+	 * @param query the search terms
+	 * @param limit the number of items to be returned at maximum
+	 * @return the list of matching elements.
+	 */
+	List<ElementSettings> searchElements(String query, int limit);
+	
+}
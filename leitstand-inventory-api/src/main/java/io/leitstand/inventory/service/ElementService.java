@@ -35,6 +35,21 @@ public interface ElementService {
 	 * @return the list of matching elements.
 	 */
 	List<ElementSettings> findElementsByName(String filter, int offset, int items);
+
+	/**
+	 * Searches for elements that match the specified filter expression and returns the element settings of all matches.
+	 * <p>
+	 * This method continues reading the result list after the element the specified cursor points to.
+	 * The list is sorted by the group name and the element name in ascending order.
+	 * Use {@link PageCursor#pageCursor(ElementSettings)} to obtain the cursor of the last element of a page.
+	 * </p>
+	 * @param filter a regular expression to filter elements by the element name or element alias
+	 * @param after the cursor of the last element of the previous page or <code>null</code> to read the first page
+	 * @param items the number of items to be returned at maximum
+	 * @return the list of matching elements.
+	 * @see #findElementsByName(String, int, int)
+	 */
+	List<ElementSettings> findElementsByName(String filter, PageCursor after, int items);
 	
 	/**
 	 * Searches for elements that match the specified filter expression and returns the element settings of all matches.
@@ -50,6 +65,21 @@ public interface ElementService {
 	 */
 	List<ElementSettings> findElementsByNameOrTag(String filter, int offset, int items);
 
+	/**
+	 * Searches for elements that match the specified filter expression and returns the element settings of all matches.
+	 * <p>
+	 * This method continues reading the result list after the element the specified cursor points to.
+	 * The list is sorted by the group name and the element name in ascending order.
+	 * Use {@link PageCursor#pageCursor(ElementSettings)} to obtain the cursor of the last element of a page.
+	 * </p>
+	 * @param filter a regular expression to filter elements by the element name, element alias or element tags
+	 * @param after the cursor of the last element of the previous page or <code>null</code> to read the first page
+	 * @param items the number of items to be returned at maximum
+	 * @return the list of matching elements.
+	 * @see #findElementsByNameOrTag(String, int, int)
+	 */
+	List<ElementSettings> findElementsByNameOrTag(String filter, PageCursor after, int items);
+
 	/**
 	 * Searches for elements that match the specified filter expression and returns the element settings of all matches.
 	 * The filter expression is a POSIX regular expression and applied to the element name, element alias and all element tags.
@@ -63,6 +93,21 @@ public interface ElementService {
      * @return the list of matching elements.
 	 */
 	List<ElementSettings> findElementsByAssetId(String filter, int offset, int items);
+
+	/**
+	 * Searches for elements that match the specified filter expression and returns the element settings of all matches.
+	 * <p>
+	 * This method continues reading the result list after the element the specified cursor points to.
+	 * The list is sorted by the group name and the element name in ascending order.
+	 * Use {@link PageCursor#pageCursor(ElementSettings)} to obtain the cursor of the last element of a page.
+	 * </p>
+	 * @param filter a regular expression to filter elements by the assigned asset ID
+	 * @param after the cursor of the last element of the previous page or <code>null</code> to read the first page
+	 * @param items the number of items to be returned at maximum
+	 * @return the list of matching elements.
+	 * @see #findElementsByAssetId(String, int, int)
+	 */
+	List<ElementSettings> findElementsByAssetId(String filter, PageCursor after, int items);
 	
 	/**
 	 * Searches for elements that match the specified filter expression and returns the element settings of all matches.
@@ -77,6 +122,21 @@ public interface ElementService {
      * @return the list of matching elements.
 	 */
 	List<ElementSettings> findElementsBySerialNumber(String filter, int offset, int items);
+
+	/**
+	 * Searches for elements that match the specified filter expression and returns the element settings of all matches.
+	 * <p>
+	 * This method continues reading the result list after the element the specified cursor points to.
+	 * The list is sorted by the group name and the element name in ascending order.
+	 * Use {@link PageCursor#pageCursor(ElementSettings)} to obtain the cursor of the last element of a page.
+	 * </p>
+	 * @param filter a regular expression to filter elements by the assigned serial number
+	 * @param after the cursor of the last element of the previous page or <code>null</code> to read the first page
+	 * @param items the number of items to be returned at maximum
+	 * @return the list of matching elements.
+	 * @see #findElementsBySerialNumber(String, int, int)
+	 */
+	List<ElementSettings> findElementsBySerialNumber(String filter, PageCursor after, int items);
 	
 	/**
 	 * Searches for elements that match the specified filter expression and returns the element settings of all matches.
@@ -92,6 +152,21 @@ public interface ElementService {
 	 */
 	List<ElementSettings> findElementsByManagementIP(String filter, int offset, int items);
 
+	/**
+	 * Searches for elements that match the specified filter expression and returns the element settings of all matches.
+	 * <p>
+	 * This method continues reading the result list after the element the specified cursor points to.
+	 * The list is sorted by the group name and the element name in ascending order.
+	 * Use {@link PageCursor#pageCursor(ElementSettings)} to obtain the cursor of the last element of a page.
+	 * </p>
+	 * @param filter a regular expression to filter elements by the management IP address / hostname
+	 * @param after the cursor of the last element of the previous page or <code>null</code> to read the first page
+	 * @param items the number of items to be returned at maximum
+	 * @return the list of matching elements.
+	 * @see #findElementsByManagementIP(String, int, int)
+	 */
+	List<ElementSettings> findElementsByManagementIP(String filter, PageCursor after, int items);
+
 	/**
 	 * Removes the specified element.
 	 * Only inactive elements are removable.
@@ -139,5 +214,24 @@ public interface ElementService {
 	 * @param elementId the element name
 	 */
 	void forceRemoveElement(ElementName elementName);
+
+	/**
+	 * Removes all elements of an element group and their assigned resources.
+	 * Only inactive elements are removable.
+	 * The elements are removed in batches, whereas each batch is committed in a transaction of its own.
+	 * @param groupId the element group ID
+	 * @throws EntityNotFoundException if the element group does not exist.
+	 * @throws ConflictException if an element of the group is active.
+	 */
+	void forceRemoveElements(ElementGroupId groupId);
+
+	/**
+	 * Removes the specified elements and their assigned resources.
+	 * Only inactive elements are removable.
+	 * The elements are removed in batches, whereas each batch is committed in a transaction of its own.
+	 * @param elementIds the element IDs
+	 * @throws ConflictException if one of the elements is active.
+	 */
+	void forceRemoveElements(List<ElementId> elementIds);
 	
 }
@@ -15,6 +15,8 @@
  */
 package io.leitstand.inventory.service;
 
+import java.util.List;
+
 //TODO Javadoc
 
 public interface ElementSettingsService {
@@ -24,5 +26,7 @@ public interface ElementSettingsService {
 	ElementSettings getElementSettings(ElementName name);
 
 	boolean storeElementSettings(ElementSettings settings);
+	
+	void storeElementSettings(List<ElementSettings> settings);
 
 }
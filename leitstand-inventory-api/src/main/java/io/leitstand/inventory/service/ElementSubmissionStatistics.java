@@ -0,0 +1,122 @@
+/*
+ * Copyright 2020 RtBrick Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.leitstand.inventory.service;
+
+import static io.leitstand.commons.model.BuilderUtil.assertNotInvalidated;
+
+import io.leitstand.commons.model.ValueObject;
+
+/**
+ * Counts the processed and skipped bulk submissions of an element inventory section.
+ * <p>
+ * Collectors periodically submit the complete physical interfaces, modules and images of an element.
+ * A resubmission of unchanged data is skipped. 
+ * The counters are maintained in memory and reset when the inventory is restarted.
+ */
+public class ElementSubmissionStatistics extends ValueObject {
+
+	/**
+	 * Returns a builder for an immutable <code>ElementSubmissionStatistics</code> value object.
+	 * @return a builder for an immutable <code>ElementSubmissionStatistics</code> value object.
+	 */
+	public static Builder newElementSubmissionStatistics() {
+		return new Builder();
+	}
+	
+	/**
+	 * A builder for an immutable <code>ElementSubmissionStatistics</code> value object.
+	 */
+	public static class Builder {
+		
+		private ElementSubmissionStatistics statistics = new ElementSubmissionStatistics();
+		
+		/**
+		 * Sets the inventory section.
+		 * @param section the inventory section
+		 * @return a reference to this builder to continue object creation
+		 */
+		public Builder withSection(String section) {
+			assertNotInvalidated(getClass(), statistics);
+			statistics.section = section;
+			return this;
+		}
+		
+		/**
+		 * Sets the number of processed submissions.
+		 * @param processed the number of processed submissions
+		 * @return a reference to this builder to continue object creation
+		 */
+		public Builder withProcessedSubmissions(long processed) {
+			assertNotInvalidated(getClass(), statistics);
+			statistics.processedSubmissions = processed;
+			return this;
+		}
+		
+		/**
+		 * Sets the number of skipped submissions.
+		 * @param skipped the number of skipped submissions
+		 * @return a reference to this builder to continue object creation
+		 */
+		public Builder withSkippedSubmissions(long skipped) {
+			assertNotInvalidated(getClass(), statistics);
+			statistics.skippedSubmissions = skipped;
+			return this;
+		}
+		
+		/**
+		 * Returns an immutable <code>ElementSubmissionStatistics</code> value object and invalidates this builder.
+		 * Subsequent invocations of the <code>build()</code> method raise an exception.
+		 * @return the immutable <code>ElementSubmissionStatistics</code> value object.
+		 */
+		public ElementSubmissionStatistics build() {
+			try {
+				assertNotInvalidated(getClass(), statistics);
+				return statistics;
+			} finally {
+				this.statistics = null;
+			}
+		}
+	}
+	
+	private String section;
+	private long processedSubmissions;
+	private long skippedSubmissions;
+	
+	/**
+	 * Returns the inventory section, i.e. <code>IFP</code>, <code>MODULE</code> or <code>IMAGE</code>.
+	 * @return the inventory section.
+	 */
+	public String getSection() {
+		return section;
+	}
+	
+	/**
+	 * Returns the number of processed submissions since the inventory was started.
+	 * @return the number of processed submissions.
+	 */
+	public long getProcessedSubmissions() {
+		return processedSubmissions;
+	}
+	
+	/**
+	 * Returns the number of skipped unchanged submissions since the inventory was started.
+	 * @return the number of skipped submissions.
+	 */
+	public long getSkippedSubmissions() {
+		return skippedSubmissions;
+	}
+	
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2020 RtBrick Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.leitstand.inventory.service;
+
+import java.util.UUID;
+
+import javax.json.bind.annotation.JsonbTypeAdapter;
+
+import io.leitstand.commons.model.Scalar;
+import io.leitstand.inventory.jsonb.JobIdAdapter;
+
+/**
+ * Unique job ID in UUIDv4 format.
+ * <p>
+ * The job ID is immutable thereby forming a persistent unique key for each inventory job.
+ * @see JobInfo
+ */
+@JsonbTypeAdapter(JobIdAdapter.class)
+public class JobId extends Scalar<String>{
+
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Creates a random job ID.
+	 * @return a random job ID.
+	 */
+	public static JobId randomJobId() {
+		return valueOf(UUID.randomUUID().toString());
+	}
+	
+	/**
+	 * Returns a job ID from the specified string.
+	 * Returns <code>null</code> if the specified string is <code>null</code> or empty.
+	 * <p>
+	 * This method is an alias for the {@link #valueOf(String)} method to improve readability by avoiding static import conflicts.
+	 * @param jobId the job ID
+	 * @return a job ID or <code>null</code> if the specified string is <code>null</code> or empty.
+	 */
+	public static JobId jobId(String jobId) {
+		return valueOf(jobId);
+	}
+
+	/**
+     * Returns a job ID from the specified string.
+     * Returns <code>null</code> if the specified string is <code>null</code> or empty.
+     * @param jobId the job ID
+     * @return a job ID or <code>null</code> if the specified string is <code>null</code> or empty.
+     */
+	public static JobId valueOf(String jobId) {
+		return fromString(jobId, JobId::new);
+	}
+	
+	private String value;
+
+	/**
+	 * Creates a job ID
+	 * @param jobId the job ID
+	 */
+	public JobId(String jobId) {
+		this.value = jobId;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String getValue() {
+		return value;
+	}
+	
+}
@@ -0,0 +1,337 @@
+/*
+ * Copyright 2020 RtBrick Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.leitstand.inventory.service;
+
+import static io.leitstand.commons.model.BuilderUtil.assertNotInvalidated;
+
+import java.util.Date;
+
+import javax.json.bind.annotation.JsonbTypeAdapter;
+
+import io.leitstand.commons.jsonb.IsoDateAdapter;
+import io.leitstand.commons.model.ValueObject;
+
+/**
+ * Status of a long-running inventory job.
+ * <p>
+ * The status conveys the job lifecycle state, the number of processed items and, 
+ * if the total number of items is known, the job progress in percent and the estimated completion date.
+ */
+public class JobInfo extends ValueObject {
+
+	/**
+	 * Returns a builder for a job status.
+	 * @return a builder for a job status.
+	 */
+	public static Builder newJobInfo() {
+		return new Builder();
+	}
+	
+	/**
+	 * A builder for an immutable <code>JobInfo</code> value object.
+	 */
+	public static class Builder {
+		
+		private JobInfo job = new JobInfo();
+		
+		/**
+		 * Sets the job ID.
+		 * @param jobId the job ID
+		 * @return a reference to this builder to continue object creation
+		 */
+		public Builder withJobId(JobId jobId) {
+			assertNotInvalidated(getClass(), job);
+			job.jobId = jobId;
+			return this;
+		}
+		
+		/**
+		 * Sets the job type.
+		 * @param jobType the job type
+		 * @return a reference to this builder to continue object creation
+		 */
+		public Builder withJobType(String jobType) {
+			assertNotInvalidated(getClass(), job);
+			job.jobType = jobType;
+			return this;
+		}
+		
+		/**
+		 * Sets the job name.
+		 * @param jobName the job name
+		 * @return a reference to this builder to continue object creation
+		 */
+		public Builder withJobName(String jobName) {
+			assertNotInvalidated(getClass(), job);
+			job.jobName = jobName;
+			return this;
+		}
+		
+		/**
+		 * Sets the job state.
+		 * @param jobState the job state
+		 * @return a reference to this builder to continue object creation
+		 */
+		public Builder withJobState(JobState jobState) {
+			assertNotInvalidated(getClass(), job);
+			job.jobState = jobState;
+			return this;
+		}
+		
+		/**
+		 * Sets the date when the job was submitted.
+		 * @param date the submission date
+		 * @return a reference to this builder to continue object creation
+		 */
+		public Builder withDateSubmitted(Date date) {
+			assertNotInvalidated(getClass(), job);
+			job.dateSubmitted = copy(date);
+			return this;
+		}
+
+		/**
+		 * Sets the date when the job was started.
+		 * @param date the start date
+		 * @return a reference to this builder to continue object creation
+		 */
+		public Builder withDateStarted(Date date) {
+			assertNotInvalidated(getClass(), job);
+			job.dateStarted = copy(date);
+			return this;
+		}
+		
+		/**
+		 * Sets the date when the job has terminated.
+		 * @param date the completion date
+		 * @return a reference to this builder to continue object creation
+		 */
+		public Builder withDateCompleted(Date date) {
+			assertNotInvalidated(getClass(), job);
+			job.dateCompleted = copy(date);
+			return this;
+		}
+		
+		/**
+		 * Sets the estimated completion date of a running job.
+		 * @param date the estimated completion date
+		 * @return a reference to this builder to continue object creation
+		 */
+		public Builder withEstimatedCompletion(Date date) {
+			assertNotInvalidated(getClass(), job);
+			job.estimatedCompletion = copy(date);
+			return this;
+		}
+		
+		/**
+		 * Sets the total number of items to be processed or 0 if the total number of items is unknown.
+		 * @param items the total number of items
+		 * @return a reference to this builder to continue object creation
+		 */
+		public Builder withItemsTotal(int items) {
+			assertNotInvalidated(getClass(), job);
+			job.itemsTotal = items;
+			return this;
+		}
+		
+		/**
+		 * Sets the number of successfully processed items.
+		 * @param items the number of processed items
+		 * @return a reference to this builder to continue object creation
+		 */
+		public Builder withItemsProcessed(int items) {
+			assertNotInvalidated(getClass(), job);
+			job.itemsProcessed = items;
+			return this;
+		}
+		
+		/**
+		 * Sets the number of items that could not be processed.
+		 * @param items the number of failed items
+		 * @return a reference to this builder to continue object creation
+		 */
+		public Builder withItemsFailed(int items) {
+			assertNotInvalidated(getClass(), job);
+			job.itemsFailed = items;
+			return this;
+		}
+		
+		/**
+		 * Sets the job progress in percent.
+		 * @param progress the job progress in percent or <code>null</code> if the progress is unknown.
+		 * @return a reference to this builder to continue object creation
+		 */
+		public Builder withProgress(Integer progress) {
+			assertNotInvalidated(getClass(), job);
+			job.progress = progress;
+			return this;
+		}
+		
+		/**
+		 * Sets the job message, which describes the job outcome or the reason why a job has failed.
+		 * @param message the job message
+		 * @return a reference to this builder to continue object creation
+		 */
+		public Builder withMessage(String message) {
+			assertNotInvalidated(getClass(), job);
+			job.message = message;
+			return this;
+		}
+		
+		/**
+		 * Returns the immutable job status and invalidates this builder.
+		 * @return the immutable job status.
+		 */
+		public JobInfo build() {
+			try {
+				assertNotInvalidated(getClass(), job);
+				return job;
+			} finally {
+				this.job = null;
+			}
+		}
+		
+	}
+	
+	private static Date copy(Date date) {
+		if(date == null) {
+			return null;
+		}
+		return new Date(date.getTime());
+	}
+	
+	private JobId jobId;
+	private String jobType;
+	private String jobName;
+	private JobState jobState;
+	@JsonbTypeAdapter(IsoDateAdapter.class)
+	private Date dateSubmitted;
+	@JsonbTypeAdapter(IsoDateAdapter.class)
+	private Date dateStarted;
+	@JsonbTypeAdapter(IsoDateAdapter.class)
+	private Date dateCompleted;
+	@JsonbTypeAdapter(IsoDateAdapter.class)
+	private Date estimatedCompletion;
+	private int itemsTotal;
+	private int itemsProcessed;
+	private int itemsFailed;
+	private Integer progress;
+	private String message;
+	
+	/**
+	 * Returns the job ID.
+	 * @return the job ID.
+	 */
+	public JobId getJobId() {
+		return jobId;
+	}
+	
+	/**
+	 * Returns the job type.
+	 * @return the job type.
+	 */
+	public String getJobType() {
+		return jobType;
+	}
+	
+	/**
+	 * Returns the job name.
+	 * @return the job name.
+	 */
+	public String getJobName() {
+		return jobName;
+	}
+	
+	/**
+	 * Returns the job state.
+	 * @return the job state.
+	 */
+	public JobState getJobState() {
+		return jobState;
+	}
+	
+	/**
+	 * Returns the date when the job was submitted.
+	 * @return the submission date.
+	 */
+	public Date getDateSubmitted() {
+		return copy(dateSubmitted);
+	}
+	
+	/**
+	 * Returns the date when the job was started or <code>null</code> if the job is still queued.
+	 * @return the start date.
+	 */
+	public Date getDateStarted() {
+		return copy(dateStarted);
+	}
+	
+	/**
+	 * Returns the date when the job has terminated or <code>null</code> if the job has not terminated yet.
+	 * @return the completion date.
+	 */
+	public Date getDateCompleted() {
+		return copy(dateCompleted);
+	}
+	
+	/**
+	 * Returns the estimated completion date of a running job or <code>null</code> if the completion date cannot be estimated.
+	 * @return the estimated completion date.
+	 */
+	public Date getEstimatedCompletion() {
+		return copy(estimatedCompletion);
+	}
+	
+	/**
+	 * Returns the total number of items to be processed or 0 if the total number of items is unknown.
+	 * @return the total number of items.
+	 */
+	public int getItemsTotal() {
+		return itemsTotal;
+	}
+	
+	/**
+	 * Returns the number of successfully processed items.
+	 * @return the number of processed items.
+	 */
+	public int getItemsProcessed() {
+		return itemsProcessed;
+	}
+	
+	/**
+	 * Returns the number of items that could not be processed.
+	 * @return the number of failed items.
+	 */
+	public int getItemsFailed() {
+		return itemsFailed;
+	}
+	
+	/**
+	 * Returns the job progress in percent or <code>null</code> if the progress is unknown.
+	 * @return the job progress in percent.
+	 */
+	public Integer getProgress() {
+		return progress;
+	}
+	
+	/**
+	 * Returns the job message.
+	 * @return the job message.
+	 */
+	public String getMessage() {
+		return message;
+	}
+	
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2020 RtBrick Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.leitstand.inventory.service;
+
+import java.util.List;
+
+/**
+ * A service to query and control long-running inventory jobs.
+ * <p>
+ * Long-running operations like imports, bulk clones or the decommissioning of element groups 
+ * can be submitted as jobs, which are executed asynchronously by a bounded pool of workers.
+ * Every job reports its progress, such that clients can poll the job status.
+ */
+public interface JobService {
+
+	/**
+	 * Returns the status of a job.
+	 * @param jobId the job ID
+	 * @return the job status
+	 * @throws EntityNotFoundException if the job does not exist.
+	 */
+	JobInfo getJob(JobId jobId);
+	
+	/**
+	 * Returns the most recently submitted jobs.
+	 * @param state the job state or <code>null</code> to return jobs in all states.
+	 * @param limit the maximum number of returned jobs
+	 * @return the most recently submitted jobs in descending submission order.
+	 */
+	List<JobInfo> getJobs(JobState state, int limit);
+	
+	/**
+	 * Cancels a job.
+	 * A queued job is cancelled immediately, a running job is cancelled when it has completed the current chunk of work.
+	 * Items that have been processed already are not rolled back.
+	 * @param jobId the job ID
+	 * @throws EntityNotFoundException if the job does not exist.
+	 * @throws ConflictException if the job has already terminated.
+	 */
+	void cancelJob(JobId jobId);
+	
+	/**
+	 * Removes the status record of a terminated job.
+	 * @param jobId the job ID
+	 * @throws ConflictException if the job is still queued or running.
+	 */
+	void removeJob(JobId jobId);
+	
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2020 RtBrick Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.leitstand.inventory.service;
+
+/**
+ * Enumeration of inventory job lifecycle states.
+ */
+public enum JobState {
+
+	/** The job has been submitted and waits for a free worker.*/
+	QUEUED,
+	/** The job is being executed.*/
+	RUNNING,
+	/** The job has been completed.*/
+	COMPLETED,
+	/** The job has been aborted due to an error.*/
+	FAILED,
+	/** The job has been cancelled.*/
+	CANCELLED;
+	
+	/**
+	 * Creates a job state from the specified string.
+	 * <p>
+	 * This is an alias of the {@link #valueOf(String)} method to improve readability 
+	 * by avoiding static import conflicts.
+	 * </p>
+	 * @param state the job state as string
+	 * @return the job state.
+	 */
+	public static JobState jobState(String state) {
+		return valueOf(state);
+	}
+	
+	/**
+	 * Returns whether the job has terminated, i.e. the job is either completed, failed or cancelled.
+	 * @return <code>true</code> if the job has terminated, <code>false</code> if the job is queued or running.
+	 */
+	public boolean isTerminated() {
+		return this == COMPLETED || this == FAILED || this == CANCELLED;
+	}
+	
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2020 RtBrick Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.leitstand.inventory.service;
+
+import static io.leitstand.commons.model.StringUtil.isEmptyString;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.asList;
+import static java.util.Collections.unmodifiableList;
+
+import java.util.Base64;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import io.leitstand.commons.model.Scalar;
+
+/**
+ * An opaque continuation token to read the next page of a sorted list.
+ * <p>
+ * The <code>PageCursor</code> encodes the sort key of the last item of the previous page.
+ * A query that is continued from a cursor returns all items whose sort key is greater than the cursor sort key.
+ * Unlike an offset, the cursor does not require the database to read and discard all preceding items, 
+ * which keeps the cost of reading a page constant regardless of how deep a client pages into the list.
+ * <p>
+ * Clients must not make any assumptions about the structure of the token.
+ */
+public class PageCursor extends Scalar<String> {
+
+	private static final long serialVersionUID = 1L;
+	
+	private static final String KEY_SEPARATOR = "\u001F";
+	private static final Pattern KEY_SEPARATOR_PATTERN = Pattern.compile(KEY_SEPARATOR);
+	
+	/**
+	 * Creates a <code>PageCursor</code> from the specified sort keys.
+	 * <code>null</code> keys are encoded as empty strings.
+	 * @param keys the sort key of the last item of the previous page
+	 * @return the <code>PageCursor</code> to read the next page
+	 */
+	public static PageCursor pageCursor(String... keys) {
+		StringBuilder token = new StringBuilder();
+		for(int i=0; i < keys.length; i++) {
+			if(i > 0) {
+				token.append(KEY_SEPARATOR);
+			}
+			if(keys[i] != null) {
+				token.append(keys[i]);
+			}
+		}
+		return new PageCursor(Base64.getUrlEncoder()
+									.withoutPadding()
+									.encodeToString(token.toString().getBytes(UTF_8)));
+	}
+	
+	/**
+	 * Creates a <code>PageCursor</code> to read the elements following the specified element.
+	 * Elements are sorted by group name and element name.
+	 * @param element the last element of the previous page
+	 * @return the <code>PageCursor</code> to read the next page
+	 */
+	public static PageCursor pageCursor(ElementSettings element) {
+		return pageCursor(Scalar.toString(element.getGroupName()),
+						  Scalar.toString(element.getElementName()));
+	}
+	
+	/**
+	 * Creates a <code>PageCursor</code> to read the groups following the specified group.
+	 * Groups are sorted by group name.
+	 * @param group the last group of the previous page
+	 * @return the <code>PageCursor</code> to read the next page
+	 */
+	public static PageCursor pageCursor(ElementGroupSettings group) {
+		return pageCursor(Scalar.toString(group.getGroupName()));
+	}
+	
+	/**
+	 * Creates a <code>PageCursor</code> to read the physical interfaces following the specified interface.
+	 * Physical interfaces are sorted by facility name, group name, element name and interface name.
+	 * @param ifp the last physical interface of the previous page
+	 * @return the <code>PageCursor</code> to read the next page
+	 */
+	public static PageCursor pageCursor(PhysicalInterfaceData ifp) {
+		return pageCursor(Scalar.toString(ifp.getFacilityName()),
+						  Scalar.toString(ifp.getGroupName()),
+						  Scalar.toString(ifp.getElementName()),
+						  Scalar.toString(ifp.getIfpName()));
+	}
+	
+	/**
+	 * Creates a <code>PageCursor</code> from the specified token.
+	 * Returns <code>null</code> if the specified token is <code>null</code> or empty.
+	 * @param token the continuation token
+	 * @return the <code>PageCursor</code> or <code>null</code> if the specified token is <code>null</code> or empty.
+	 * @throws IllegalArgumentException if the token is not a valid page cursor.
+	 */
+	public static PageCursor valueOf(String token) {
+		if(isEmptyString(token)) {
+			return null;
+		}
+		PageCursor cursor = new PageCursor(token);
+		// Decode the token to reject malformed tokens early.
+		cursor.getKeys();
+		return cursor;
+	}
+	
+	private String value;
+	
+	/**
+	 * Creates a <code>PageCursor</code>.
+	 * @param value the continuation token
+	 */
+	public PageCursor(String value) {
+		this.value = value;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String getValue() {
+		return value;
+	}
+	
+	/**
+	 * Returns the sort keys encoded in this cursor.
+	 * @return an immutable list of the sort keys.
+	 * @throws IllegalArgumentException if the token is not a valid page cursor.
+	 */
+	public List<String> getKeys(){
+		String keys = new String(Base64.getUrlDecoder().decode(value),UTF_8);
+		return unmodifiableList(asList(KEY_SEPARATOR_PATTERN.split(keys,-1)));
+	}
+	
+	/**
+	 * Returns the sort key at the specified position or an empty string if the cursor has less keys.
+	 * @param index the sort key position
+	 * @return the sort key at the specified position.
+	 */
+	public String getKey(int index) {
+		List<String> keys = getKeys();
+		return index < keys.size() ? keys.get(index) : "";
+	}
+	
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright 2020 RtBrick Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.leitstand.inventory.service;
+
+import static io.leitstand.commons.model.StringUtil.trim;
+
+/**
+ * A composable query for physical interfaces of all elements.
+ * <p>
+ * All specified criteria must be satisfied by a matching interface. 
+ * Criteria that are not specified do not restrict the result.
+ * Text filters are matched as literal substrings unless they contain regular expression meta characters, 
+ * in which case they are evaluated as POSIX regular expressions.
+ * Literal filters can be evaluated by database indexes, whereas regular expressions cannot.
+ */
+public class PhysicalInterfaceQuery {
+
+	/**
+	 * Creates a new physical interface query.
+	 * @return a new physical interface query that matches all interfaces.
+	 */
+	public static PhysicalInterfaceQuery ifpQuery() {
+		return new PhysicalInterfaceQuery();
+	}
+	
+	private String facilityFilter;
+	private String groupFilter;
+	private ElementRoleName elementRole;
+	private String ifpFilter;
+	private AdministrativeState administrativeState;
+	private OperationalState operationalState;
+	private Bandwidth minBandwidth;
+	private Bandwidth maxBandwidth;
+	private Boolean neighborPresent;
+	
+	/**
+	 * Sets the facility filter.
+	 * @param filter a filter for the facility name or facility location.
+	 * @return a reference to this query to continue query composition.
+	 */
+	public PhysicalInterfaceQuery facility(String filter) {
+		this.facilityFilter = trim(filter);
+		return this;
+	}
+	
+	/**
+	 * Sets the element group filter.
+	 * @param filter a filter for the element group name.
+	 * @return a reference to this query to continue query composition.
+	 */
+	public PhysicalInterfaceQuery group(String filter) {
+		this.groupFilter = trim(filter);
+		return this;
+	}
+	
+	/**
+	 * Sets the element role the element of the interface must have.
+	 * @param role the element role.
+	 * @return a reference to this query to continue query composition.
+	 */
+	public PhysicalInterfaceQuery elementRole(ElementRoleName role) {
+		this.elementRole = role;
+		return this;
+	}
+	
+	/**
+	 * Sets the interface filter. 
+	 * An interface matches if its name is equal to the filter or if its alias matches the filter.
+	 * @param filter the interface name or a filter for the interface alias.
+	 * @return a reference to this query to continue query composition.
+	 */
+	public PhysicalInterfaceQuery ifp(String filter) {
+		this.ifpFilter = trim(filter);
+		return this;
+	}
+	
+	/**
+	 * Sets the administrative state the interface must have.
+	 * @param state the administrative state.
+	 * @return a reference to this query to continue query composition.
+	 */
+	public PhysicalInterfaceQuery administrativeState(AdministrativeState state) {
+		this.administrativeState = state;
+		return this;
+	}
+	
+	/**
+	 * Sets the operational state the interface must have.
+	 * @param state the operational state.
+	 * @return a reference to this query to continue query composition.
+	 */
+	public PhysicalInterfaceQuery operationalState(OperationalState state) {
+		this.operationalState = state;
+		return this;
+	}
+	
+	/**
+	 * Sets the minimum bandwidth of the interface.
+	 * @param bandwidth the minimum bandwidth.
+	 * @return a reference to this query to continue query composition.
+	 */
+	public PhysicalInterfaceQuery minBandwidth(Bandwidth bandwidth) {
+		this.minBandwidth = bandwidth;
+		return this;
+	}
+
+	/**
+	 * Sets the maximum bandwidth of the interface.
+	 * @param bandwidth the maximum bandwidth.
+	 * @return a reference to this query to continue query composition.
+	 */
+	public PhysicalInterfaceQuery maxBandwidth(Bandwidth bandwidth) {
+		this.maxBandwidth = bandwidth;
+		return this;
+	}
+	
+	/**
+	 * Sets whether the interface must or must not be connected to a known neighbor interface.
+	 * @param present <code>true</code> to select interfaces with neighbor, <code>false</code> to select interfaces without neighbor 
+	 * and <code>null</code> to not consider the neighbor at all.
+	 * @return a reference to this query to continue query composition.
+	 */
+	public PhysicalInterfaceQuery neighborPresent(Boolean present) {
+		this.neighborPresent = present;
+		return this;
+	}
+	
+	/**
+	 * Returns the facility filter.
+	 * @return the facility filter or <code>null</code> if no facility filter is specified.
+	 */
+	public String getFacilityFilter() {
+		return facilityFilter;
+	}
+	
+	/**
+	 * Returns the element group filter.
+	 * @return the element group filter or <code>null</code> if no element group filter is specified.
+	 */
+	public String getGroupFilter() {
+		return groupFilter;
+	}
+	
+	/**
+	 * Returns the element role.
+	 * @return the element role or <code>null</code> if no element role is specified.
+	 */
+	public ElementRoleName getElementRole() {
+		return elementRole;
+	}
+	
+	/**
+	 * Returns the interface filter.
+	 * @return the interface filter or <code>null</code> if no interface filter is specified.
+	 */
+	public String getIfpFilter() {
+		return ifpFilter;
+	}
+	
+	/**
+	 * Returns the administrative state.
+	 * @return the administrative state or <code>null</code> if no administrative state is specified.
+	 */
+	public AdministrativeState getAdministrativeState() {
+		return administrativeState;
+	}
+	
+	/**
+	 * Returns the operational state.
+	 * @return the operational state or <code>null</code> if no operational state is specified.
+	 */
+	public OperationalState getOperationalState() {
+		return operationalState;
+	}
+	
+	/**
+	 * Returns the minimum bandwidth.
+	 * @return the minimum bandwidth or <code>null</code> if no minimum bandwidth is specified.
+	 */
+	public Bandwidth getMinBandwidth() {
+		return minBandwidth;
+	}
+	
+	/**
+	 * Returns the maximum bandwidth.
+	 * @return the maximum bandwidth or <code>null</code> if no maximum bandwidth is specified.
+	 */
+	public Bandwidth getMaxBandwidth() {
+		return maxBandwidth;
+	}
+	
+	/**
+	 * Returns whether a neighbor must be present.
+	 * @return <code>true</code> if a neighbor must be present, <code>false</code> if no neighbor must be present 
+	 * and <code>null</code> if the neighbor is not considered.
+	 */
+	public Boolean getNeighborPresent() {
+		return neighborPresent;
+	}
+	
+}
@@ -16,6 +16,7 @@
 package io.leitstand.inventory.service;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * A service for discovering physical interfaces in the network.
@@ -35,4 +36,54 @@ public interface PhysicalInterfaceService {
 	                                                   int offset, 
 	                                                   int limit);
 
+    /**
+     * Lists all matching physical interfaces, continuing after the interface the specified cursor points to.
+     * The interfaces are sorted by facility name, group name, element name and interface name.
+     * Use {@link PageCursor#pageCursor(PhysicalInterfaceData)} to obtain the cursor of the last interface of a page.
+     * @param locationFilter a regular expression to filter for network facilities.
+     * @param interfaceFilter a regular expression to filter for interface name and alias.
+     * @param after the cursor of the last interface of the previous page or <code>null</code> to read the first page
+     * @param limit the maximum number of returned matching interfaces.
+     * @return a list of matching physical interfaces.
+     */
+	List<PhysicalInterfaceData> findPhysicalInterfaces(String locationFilter,
+	                                                   String interfaceFilter, 
+	                                                   PageCursor after, 
+	                                                   int limit);
+
+    /**
+     * Lists all physical interfaces matching the specified query.
+     * The interfaces are sorted by facility name, group name, element name and interface name.
+     * @param query the physical interface query.
+     * @param offset the search offset
+     * @param limit the maximum number of returned matching interfaces.
+     * @return a list of matching physical interfaces.
+     */
+	List<PhysicalInterfaceData> findPhysicalInterfaces(PhysicalInterfaceQuery query,
+	                                                   int offset, 
+	                                                   int limit);
+
+    /**
+     * Lists all physical interfaces matching the specified query, continuing after the interface the specified cursor points to.
+     * The interfaces are sorted by facility name, group name, element name and interface name.
+     * @param query the physical interface query.
+     * @param after the cursor of the last interface of the previous page or <code>null</code> to read the first page
+     * @param limit the maximum number of returned matching interfaces.
+     * @return a list of matching physical interfaces.
+     */
+	List<PhysicalInterfaceData> findPhysicalInterfaces(PhysicalInterfaceQuery query,
+	                                                   PageCursor after, 
+	                                                   int limit);
+	
+    /**
+     * Passes all physical interfaces matching the specified query to the given consumer.
+     * The interfaces are read from the database as they are passed to the consumer, 
+     * such that large result sets can be processed without loading all interfaces into memory.
+     * The interfaces are sorted by facility name, group name, element name and interface name.
+     * @param query the physical interface query.
+     * @param ifps the consumer of the matching physical interfaces.
+     */
+	void exportPhysicalInterfaces(PhysicalInterfaceQuery query,
+	                              Consumer<PhysicalInterfaceData> ifps);
+
 }
@@ -108,6 +108,12 @@ public enum ReasonCode implements Reason{
 	/** An element with the given name already exists.*/
 	IVT0307E_ELEMENT_NAME_ALREADY_IN_USE,
 	
+	/** The element has been cloned into multiple elements successfully.*/
+	IVT0308I_ELEMENTS_CLONED,
+	
+	/** A set of elements has been retired.*/
+	IVT0309I_ELEMENTS_RETIRED,
+	
 	/** The requested hardware module of an element does not exist.*/
 	IVT0310E_ELEMENT_MODULE_NOT_FOUND,
 
@@ -117,6 +123,9 @@ public enum ReasonCode implements Reason{
 	/** The  hardware module has been removed.*/
 	IVT0312I_ELEMENT_MODULE_REMOVED,
 	
+	/** A set of elements has been removed.*/
+	IVT0313I_ELEMENTS_REMOVED,
+	
 	/** A new element configuration revision was added to the inventory.*/
 	IVT0330I_ELEMENT_CONFIG_REVISION_STORED,
 	
@@ -303,6 +312,27 @@ public enum ReasonCode implements Reason{
 	/** An attempt to import data into the inventory failed.*/
 	IVT1000E_IMPORT_ERROR,
 	
+	/** The requested job does not exist.*/
+	IVT1100E_JOB_NOT_FOUND,
+	
+	/** The job has been submitted.*/
+	IVT1101I_JOB_SUBMITTED,
+	
+	/** The job has been cancelled.*/
+	IVT1102I_JOB_CANCELLED,
+	
+	/** The job cannot be cancelled because it has already terminated.*/
+	IVT1103E_JOB_NOT_CANCELLABLE,
+	
+	/** The job has been removed.*/
+	IVT1104I_JOB_REMOVED,
+	
+	/** The job cannot be removed because it has not terminated yet.*/
+	IVT1105E_JOB_NOT_REMOVABLE,
+	
+	/** The page cursor is malformed.*/
+	IVT1200E_PAGE_CURSOR_INVALID,
+	
 	/** The requested environment does not exist.*/
 	IVT0390E_ELEMENT_ENVIRONMENT_NOT_FOUND,
 	
@@ -15,6 +15,8 @@
  */
 package io.leitstand.inventory.service;
 
+import java.util.List;
+
 /**
  * A service to retire an element.
  * <p>
@@ -44,4 +46,20 @@ public interface RetireElementService {
 	 */
 	void retireElement(ElementName elementName);
 	
+	/**
+	 * Marks all elements of an element group as retired.
+	 * The elements are retired in batches, whereas each batch is committed in a transaction of its own.
+	 * @param groupId the element group ID
+	 * @throws EntityNotFoundException if the element group does not exist.
+	 */
+	void retireElements(ElementGroupId groupId);
+	
+	/**
+	 * Marks the specified elements as retired.
+	 * The elements are retired in batches, whereas each batch is committed in a transaction of its own.
+	 * Unknown elements are ignored.
+	 * @param elementIds the element IDs
+	 */
+	void retireElements(List<ElementId> elementIds);
+	
 }
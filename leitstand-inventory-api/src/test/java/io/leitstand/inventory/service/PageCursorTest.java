@@ -0,0 +1,75 @@
+/*
+ * Copyright 2020 RtBrick Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.leitstand.inventory.service;
+
+import static io.leitstand.inventory.service.ElementGroupName.groupName;
+import static io.leitstand.inventory.service.ElementName.elementName;
+import static io.leitstand.inventory.service.InterfaceName.interfaceName;
+import static io.leitstand.inventory.service.PageCursor.pageCursor;
+import static io.leitstand.inventory.service.PhysicalInterfaceData.newPhysicalInterfaceData;
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+
+public class PageCursorTest {
+
+    @Test
+    public void decode_encoded_keys() {
+        PageCursor cursor = PageCursor.valueOf(pageCursor("group","element name").getValue());
+        assertThat(cursor.getKeys(),is(asList("group","element name")));
+        assertThat(cursor.getKey(0),is("group"));
+        assertThat(cursor.getKey(1),is("element name"));
+    }
+    
+    @Test
+    public void missing_keys_are_empty_strings() {
+        PageCursor cursor = pageCursor(null,"element");
+        assertThat(cursor.getKey(0),is(""));
+        assertThat(cursor.getKey(1),is("element"));
+        assertThat(cursor.getKey(2),is(""));
+    }
+    
+    @Test
+    public void empty_token_is_mapped_to_null() {
+        assertThat(PageCursor.valueOf(null),is(nullValue()));
+        assertThat(PageCursor.valueOf(""),is(nullValue()));
+    }
+    
+    @Test(expected=IllegalArgumentException.class)
+    public void reject_malformed_token() {
+        PageCursor.valueOf("not a cursor!");
+    }
+    
+    @Test
+    public void token_is_url_safe() {
+        String token = pageCursor("??>>","~~~").getValue();
+        assertThat(token.matches("[A-Za-z0-9_-]+"),is(true));
+    }
+    
+    @Test
+    public void physical_interface_cursor_without_facility() {
+        PageCursor cursor = pageCursor(newPhysicalInterfaceData()
+                                       .withGroupName(groupName("group"))
+                                       .withElementName(elementName("element"))
+                                       .withIfpName(interfaceName("ifp-0/0/1"))
+                                       .build());
+        assertThat(cursor.getKeys(),is(asList("","group","element","ifp-0/0/1")));
+    }
+    
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2020 RtBrick Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.leitstand.inventory.model;
+
+import static io.leitstand.commons.db.DatabaseService.prepare;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.EntityTransaction;
+import javax.persistence.Persistence;
+
+import org.h2.jdbcx.JdbcDataSource;
+
+import io.leitstand.commons.db.DatabaseService;
+import io.leitstand.commons.model.Repository;
+
+/**
+ * Embedded H2 inventory database for the benchmarks.
+ * <p>
+ * The database schema is created from the inventory persistence unit, 
+ * the same way the inventory integration tests create their schema.
+ * Every transaction runs in a single application-managed entity manager, 
+ * which is cleared after the transaction has been completed to start 
+ * every transaction with an empty persistence context.
+ */
+final class BenchmarkDatabase implements AutoCloseable {
+
+	private static final String JDBC_URL = "jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1";
+	
+	static BenchmarkDatabase openDatabase() {
+		JdbcDataSource ds = new JdbcDataSource();
+		ds.setURL(JDBC_URL);
+		ds.setUser("sa");
+		ds.setPassword("sa");
+		try (Connection c = ds.getConnection()) {
+			// Create empty schemas to enable JPA to create all tables. 
+			c.createStatement().execute("CREATE SCHEMA IF NOT EXISTS inventory;");
+			c.createStatement().execute("CREATE SCHEMA IF NOT EXISTS leitstand;");
+		} catch (SQLException e) {
+			throw new IllegalStateException("Cannot create benchmark database: "+e.getMessage(),e);
+		}
+		
+		Map<String,String> properties = new HashMap<>();
+		properties.put("javax.persistence.provider","org.eclipse.persistence.jpa.PersistenceProvider");
+		properties.put("javax.persistence.jdbc.driver","org.h2.Driver");
+		properties.put("javax.persistence.jdbc.url",JDBC_URL);
+		properties.put("javax.persistence.jdbc.user","sa");
+		properties.put("javax.persistence.jdbc.password","sa");
+		properties.put("javax.persistence.transactionType","RESOURCE_LOCAL");
+		properties.put("javax.persistence.jtaDataSource","");
+		properties.put("eclipselink.target-database","org.eclipse.persistence.platform.database.H2Platform");
+		properties.put("eclipselink.ddl-generation","create-tables");
+		properties.put("eclipselink.ddl-generation.output-mode","database");
+		properties.put("eclipselink.logging.level","WARNING");
+		
+		EntityManagerFactory emf = Persistence.createEntityManagerFactory("inventory", properties);
+		return new BenchmarkDatabase(emf,new DatabaseService(ds));
+	}
+	
+	private final EntityManagerFactory emf;
+	private final EntityManager em;
+	private final Repository repository;
+	private final DatabaseService db;
+	
+	private BenchmarkDatabase(EntityManagerFactory emf, DatabaseService db) {
+		this.emf = emf;
+		this.em = emf.createEntityManager();
+		this.repository = new Repository(em);
+		this.db = db;
+	}
+	
+	Repository getRepository() {
+		return repository;
+	}
+	
+	DatabaseService getDatabase() {
+		return db;
+	}
+	
+	void transaction(Runnable tx) {
+		transaction(() -> {
+			tx.run();
+			return null;
+		});
+	}
+	
+	<T> T transaction(Supplier<T> tx) {
+		EntityTransaction transaction = em.getTransaction();
+		transaction.begin();
+		try {
+			T result = tx.get();
+			transaction.commit();
+			return result;
+		} finally {
+			if(transaction.isActive()) {
+				transaction.rollback();
+			}
+			em.clear();
+		}
+	}
+	
+	@Override
+	public void close() {
+		em.close();
+		emf.close();
+		db.executeUpdate(prepare("SHUTDOWN"));
+	}
+	
+}
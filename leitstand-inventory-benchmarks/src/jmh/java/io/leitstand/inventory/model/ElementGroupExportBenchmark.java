@@ -0,0 +1,75 @@
+/*
+ * Copyright 2020 RtBrick Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.leitstand.inventory.model;
+
+import static io.leitstand.inventory.model.Fleet.POD;
+import static org.mockito.Mockito.mock;
+
+import javax.inject.Provider;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.leitstand.commons.messages.Messages;
+import io.leitstand.commons.model.Repository;
+import io.leitstand.commons.tx.SubtransactionService;
+
+/**
+ * Element group export benchmark.
+ * <p>
+ * Exports all pods of the fleet including the settings of all pod elements.
+ */
+@State(Scope.Benchmark)
+public class ElementGroupExportBenchmark {
+
+	private Fleet fleet;
+	private DefaultElementGroupExportService service;
+	
+	@Setup
+	public void initServices(Fleet fleet) {
+		this.fleet = fleet;
+		Repository repository = fleet.getRepository();
+		Messages messages = mock(Messages.class);
+		SubtransactionService transactions = new SubtransactionService() {
+
+		    @Override
+		    protected Provider<SubtransactionService> getServiceProvider() {
+		        return () -> this;
+		    }
+        
+		    @Override
+		    protected Repository getRepository() {
+		        return repository;
+		    }
+		};
+		this.service = new DefaultElementGroupExportService(transactions,
+															new DefaultElementGroupService(new ElementGroupManager(repository,
+																												   fleet.getDatabase().getDatabase(),
+																												   new FacilityProvider(repository,messages),
+																												   messages)));
+	}
+	
+	@Benchmark
+	public void exportElementGroups(Blackhole blackhole) {
+		fleet.getDatabase().transaction(() -> service.exportElementGroups(POD, 
+																		  null, 
+																		  blackhole::consume));
+	}
+	
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2020 RtBrick Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.leitstand.inventory.model;
+
+import static io.leitstand.inventory.model.Fleet.IMAGES_PER_ELEMENT;
+import static io.leitstand.inventory.service.ElementImageReference.newElementImageReference;
+import static io.leitstand.inventory.service.ElementImageState.ACTIVE;
+import static io.leitstand.inventory.service.ElementImageState.CACHED;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import io.leitstand.commons.messages.Messages;
+import io.leitstand.commons.model.Repository;
+import io.leitstand.commons.tx.SubtransactionService;
+import io.leitstand.inventory.service.ElementImageReference;
+import io.leitstand.inventory.service.ElementImageService;
+import io.leitstand.inventory.service.ElementImages;
+
+/**
+ * Element image benchmarks.
+ * <p>
+ * The store benchmark alternates between two sets of installed images 
+ * to measure the replacement of the installed images of an element rather than a no-op.
+ */
+@State(Scope.Benchmark)
+public class ElementImageBenchmark {
+	
+	private Fleet fleet;
+	private ElementImageService service;
+	private List<ElementImageReference> images;
+	private List<ElementImageReference> upgrades;
+	private boolean toggle;
+	
+	@Setup
+	public void initServices(Fleet fleet) {
+		this.fleet = fleet;
+		Repository repository = fleet.getRepository();
+		this.service = new DefaultElementImagesService(new ElementImageManager(repository,
+																			   mock(SubtransactionService.class),
+																			   new ImageUpgradeIndex(repository),
+																			   mock(Messages.class)),
+													   new ElementProvider(repository),
+													   new ElementFingerprintManager(repository));
+		this.images = installedImages(0);
+		this.upgrades = installedImages(IMAGES_PER_ELEMENT);
+	}
+	
+	private List<ElementImageReference> installedImages(int offset){
+		List<ElementImageReference> installed = new ArrayList<>(IMAGES_PER_ELEMENT);
+		for(int i=0; i < IMAGES_PER_ELEMENT; i++) {
+			ElementImageReference image = fleet.getImages().get(offset+i);
+			installed.add(newElementImageReference()
+						  .withImageId(image.getImageId())
+						  .withImageType(image.getImageType())
+						  .withImageName(image.getImageName())
+						  .withImageVersion(image.getImageVersion())
+						  .withElementImageState(i == 0 ? ACTIVE : CACHED)
+						  .build());
+		}
+		return installed;
+	}
+	
+	@Benchmark
+	public void storeElementImages() {
+		List<ElementImageReference> installed = toggle ? images : upgrades;
+		toggle = !toggle;
+		fleet.getDatabase().transaction(() -> service.storeElementImages(fleet.nextElement(), 
+																		 installed));
+	}
+	
+	@Benchmark
+	public ElementImages getElementImages() {
+		return fleet.getDatabase().transaction(() -> service.getElementImages(fleet.nextElement()));
+	}
+	
+}
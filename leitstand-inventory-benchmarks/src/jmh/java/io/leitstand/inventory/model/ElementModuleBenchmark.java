@@ -0,0 +1,127 @@
+/*
+ * Copyright 2020 RtBrick Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.leitstand.inventory.model;
+
+import static io.leitstand.inventory.service.AdministrativeState.ACTIVE;
+import static io.leitstand.inventory.service.ModuleData.newModuleData;
+import static io.leitstand.inventory.service.ModuleName.moduleName;
+import static java.lang.String.format;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import io.leitstand.commons.messages.Messages;
+import io.leitstand.commons.model.Repository;
+import io.leitstand.inventory.service.ElementId;
+import io.leitstand.inventory.service.ElementModuleService;
+import io.leitstand.inventory.service.ModuleData;
+import io.leitstand.inventory.service.ModuleName;
+
+/**
+ * Element module benchmarks.
+ * <p>
+ * Every element has a chassis with line cards, power supplies and fans.
+ * The store benchmark toggles the firmware revision of all modules with every submission 
+ * to measure the update of existing modules rather than a no-op.
+ */
+@State(Scope.Benchmark)
+public class ElementModuleBenchmark {
+
+	private static final ModuleName CHASSIS = moduleName("chassis");
+	private static final int LINECARDS = 8;
+	private static final int PSUS = 2;
+	private static final int FANS = 4;
+	
+	private Fleet fleet;
+	private ElementModuleService service;
+	private List<ModuleData> current;
+	private List<ModuleData> upgraded;
+	private boolean toggle;
+	
+	@Setup
+	public void initServices(Fleet fleet) {
+		this.fleet = fleet;
+		Repository repository = fleet.getRepository();
+		this.service = new DefaultElementModuleService(new ElementProvider(repository),
+													   new ElementModuleManager(repository, 
+															   					mock(Messages.class)),
+													   new ElementFingerprintManager(repository));
+		this.current = modules("1.0.0");
+		this.upgraded = modules("1.1.0");
+		// Create the modules of all elements to benchmark module updates.
+		for(ElementId elementId : fleet.getElementIds()) {
+			fleet.getDatabase().transaction(() -> service.storeElementModules(elementId, current));
+		}
+	}
+	
+	private static List<ModuleData> modules(String firmware){
+		List<ModuleData> modules = new ArrayList<>();
+		modules.add(module(CHASSIS, "CHASSIS", firmware).build());
+		for(int i=0; i < LINECARDS; i++) {
+			modules.add(module(moduleName(format("linecard-%d",i)),"LINECARD",firmware)
+						.withParentModule(CHASSIS)
+						.withLocation(Integer.toString(i))
+						.build());
+		}
+		for(int i=0; i < PSUS; i++) {
+			modules.add(module(moduleName(format("psu-%d",i)),"PSU",firmware)
+						.withParentModule(CHASSIS)
+						.withLocation(Integer.toString(i))
+						.build());
+		}
+		for(int i=0; i < FANS; i++) {
+			modules.add(module(moduleName(format("fan-%d",i)),"FAN",firmware)
+						.withParentModule(CHASSIS)
+						.withLocation(Integer.toString(i))
+						.build());
+		}
+		return modules;
+	}
+	
+	private static ModuleData.Builder module(ModuleName name, String moduleClass, String firmware) {
+		return newModuleData()
+			   .withAdministrativeState(ACTIVE)
+			   .withAssetId("asset-id")
+			   .withDescription("Module description")
+			   .withFieldReplaceableUnit(true)
+			   .withFirmwareRevision(firmware)
+			   .withHardwareRevision("hardware-rev")
+			   .withManufacturerName("mfg-name")
+			   .withManufacturingDate(new Date())
+			   .withModelName("model-name")
+			   .withModuleName(name)
+			   .withModuleClass(moduleClass)
+			   .withSerialNumber(format("s-e-r-i-a-l %s",name))
+			   .withSoftwareRevision("software-rev")
+			   .withVendorType("vendor-type");
+	}
+	
+	@Benchmark
+	public void storeElementModules() {
+		List<ModuleData> modules = toggle ? current : upgraded;
+		toggle = !toggle;
+		fleet.getDatabase().transaction(() -> service.storeElementModules(fleet.nextElement(), 
+																		  modules));
+	}
+	
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2020 RtBrick Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.leitstand.inventory.model;
+
+import static io.leitstand.inventory.model.Fleet.ifpName;
+import static io.leitstand.inventory.service.AdministrativeState.UP;
+import static io.leitstand.inventory.service.Bandwidth.bandwidth;
+import static io.leitstand.inventory.service.ElementPhysicalInterfaceFilter.ifpFilter;
+import static io.leitstand.inventory.service.ElementPhysicalInterfaceSubmission.newPhysicalInterfaceSubmission;
+import static io.leitstand.inventory.service.MACAddress.macAddress;
+import static java.lang.String.format;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.enterprise.event.Event;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import io.leitstand.commons.messages.Messages;
+import io.leitstand.commons.model.Repository;
+import io.leitstand.inventory.service.ElementPhysicalInterfaceService;
+import io.leitstand.inventory.service.ElementPhysicalInterfaceSubmission;
+import io.leitstand.inventory.service.ElementPhysicalInterfaces;
+import io.leitstand.inventory.service.OperationalState;
+
+/**
+ * Physical interface benchmarks.
+ * <p>
+ * The store benchmark submits all physical interfaces of an element 
+ * and toggles the operational state of all interfaces with every submission 
+ * to measure the update of existing interfaces rather than a no-op.
+ */
+@State(Scope.Benchmark)
+public class ElementPhysicalInterfaceBenchmark {
+
+	private Fleet fleet;
+	private ElementPhysicalInterfaceService service;
+	private List<ElementPhysicalInterfaceSubmission> up;
+	private List<ElementPhysicalInterfaceSubmission> down;
+	private boolean toggle;
+	
+	@Setup
+	@SuppressWarnings("unchecked")
+	public void initServices(Fleet fleet) {
+		this.fleet = fleet;
+		Repository repository = fleet.getRepository();
+		ElementProvider elements = new ElementProvider(repository);
+		this.service = new DefaultElementPhysicalInterfaceService(elements,
+																  new ElementPhysicalInterfaceManager(repository, 
+																		  							  elements, 
+																		  							  mock(Messages.class), 
+																		  							  mock(Event.class)),
+																  new ElementFingerprintManager(repository));
+		this.up = submissions(fleet.getPhysicalInterfacesPerElement(), OperationalState.UP);
+		this.down = submissions(fleet.getPhysicalInterfacesPerElement(), OperationalState.DOWN);
+	}
+	
+	private static List<ElementPhysicalInterfaceSubmission> submissions(int count, OperationalState opState){
+		List<ElementPhysicalInterfaceSubmission> submissions = new ArrayList<>(count);
+		for(int i=0; i < count; i++) {
+			submissions.add(newPhysicalInterfaceSubmission()
+							.withIfpName(ifpName(i))
+							.withIfcName(ifpName(i))
+							.withIfpAlias(format("Port %d",i))
+							.withCategory("data")
+							.withBandwidth(bandwidth("100.000 Gbps"))
+							.withMacAddress(macAddress(format("02:00:00:00:%02x:%02x",i / 256, i % 256)))
+							.withAdministrativeState(UP)
+							.withOperationalState(opState)
+							.build());
+		}
+		return submissions;
+	}
+	
+	@Benchmark
+	public void storePhysicalInterfaces() {
+		List<ElementPhysicalInterfaceSubmission> submissions = toggle ? up : down;
+		toggle = !toggle;
+		fleet.getDatabase().transaction(() -> service.storePhysicalInterfaces(fleet.nextElement(), 
+																			  submissions));
+	}
+	
+	@Benchmark
+	public ElementPhysicalInterfaces getPhysicalInterfaces() {
+		return fleet.getDatabase().transaction(() -> service.getPhysicalInterfaces(fleet.nextElement(), 
+																				   ifpFilter()));
+	}
+	
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2020 RtBrick Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.leitstand.inventory.model;
+
+import static io.leitstand.inventory.model.Fleet.ifpName;
+import static io.leitstand.inventory.service.AdministrativeState.UP;
+import static io.leitstand.inventory.service.Bandwidth.bandwidth;
+import static io.leitstand.inventory.service.ElementGroupId.randomGroupId;
+import static io.leitstand.inventory.service.ElementGroupName.groupName;
+import static io.leitstand.inventory.service.ElementGroupType.groupType;
+import static io.leitstand.inventory.service.ElementId.randomElementId;
+import static io.leitstand.inventory.service.ElementName.elementName;
+import static io.leitstand.inventory.service.ElementPhysicalInterfaceData.newPhysicalInterfaceData;
+import static io.leitstand.inventory.service.ElementPhysicalInterfaceNeighbor.newPhysicalInterfaceNeighbor;
+import static io.leitstand.inventory.service.ElementPhysicalInterfaces.newPhysicalInterfaces;
+import static io.leitstand.inventory.service.ElementRoleName.elementRoleName;
+import static io.leitstand.inventory.service.MACAddress.macAddress;
+import static io.leitstand.inventory.service.OperationalState.DOWN;
+import static java.lang.String.format;
+import static javax.json.bind.config.PropertyNamingStrategy.LOWER_CASE_WITH_UNDERSCORES;
+import static javax.ws.rs.core.MediaType.APPLICATION_JSON_TYPE;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.json.bind.Jsonb;
+import javax.json.bind.JsonbBuilder;
+import javax.json.bind.JsonbConfig;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import io.leitstand.commons.jsonb.FieldAccessVisibilityStrategy;
+import io.leitstand.inventory.rs.ElementPhysicalInterfacesWriter;
+import io.leitstand.inventory.service.ElementId;
+import io.leitstand.inventory.service.ElementPhysicalInterfaceData;
+import io.leitstand.inventory.service.ElementPhysicalInterfaces;
+
+/**
+ * Compares the JSON-B serialization of the physical interfaces of an element 
+ * with the streaming {@link ElementPhysicalInterfacesWriter}.
+ * <p>
+ * Both benchmarks write the same in-memory value object to a byte array
+ * and do not access the database.
+ */
+@State(Scope.Benchmark)
+public class ElementPhysicalInterfacesSerializationBenchmark {
+
+	private static final int BUFFER_SIZE = 1 << 20;
+	
+	@Param({"48","600"})
+	private int ifps;
+	
+	private ElementPhysicalInterfaces interfaces;
+	private Jsonb jsonb;
+	private ElementPhysicalInterfacesWriter writer;
+	
+	@Setup
+	public void createInterfaces() {
+		ElementId neighborId = randomElementId();
+		List<ElementPhysicalInterfaceData> data = new ArrayList<>(ifps);
+		for(int i=0; i < ifps; i++) {
+			data.add(newPhysicalInterfaceData()
+					 .withIfpName(ifpName(i))
+					 .withIfpAlias(format("Port %d",i))
+					 .withCategory("data")
+					 .withBandwidth(bandwidth("100.000 Gbps"))
+					 .withMacAddress(macAddress(format("02:00:00:00:%02x:%02x",i / 256, i % 256)))
+					 .withAdministrativeState(UP)
+					 .withOperationalState(DOWN)
+					 .withNeighbor(newPhysicalInterfaceNeighbor()
+							 	   .withElementId(neighborId)
+							 	   .withElementName(elementName("spine-01"))
+							 	   .withInterfaceName(ifpName(i)))
+					 .build());
+		}
+		interfaces = newPhysicalInterfaces()
+					 .withGroupId(randomGroupId())
+					 .withGroupName(groupName("pod-001"))
+					 .withGroupType(groupType("pod"))
+					 .withElementId(randomElementId())
+					 .withElementName(elementName("leaf-0001"))
+					 .withElementRole(elementRoleName("leaf"))
+					 .withPhysicalInterfaces(data)
+					 .build();
+		// Same property naming and visibility as the JSON-B provider of the REST API.
+		jsonb = JsonbBuilder.create(new JsonbConfig()
+									.withPropertyVisibilityStrategy(new FieldAccessVisibilityStrategy())
+									.withPropertyNamingStrategy(LOWER_CASE_WITH_UNDERSCORES));
+		writer = new ElementPhysicalInterfacesWriter();
+	}
+	
+	@TearDown
+	public void closeJsonb() throws Exception {
+		jsonb.close();
+	}
+	
+	@Benchmark
+	public byte[] serializeWithJsonb() {
+		ByteArrayOutputStream out = new ByteArrayOutputStream(BUFFER_SIZE);
+		jsonb.toJson(interfaces, out);
+		return out.toByteArray();
+	}
+	
+	@Benchmark
+	public byte[] serializeWithJsonp() throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream(BUFFER_SIZE);
+		writer.writeTo(interfaces, 
+					   ElementPhysicalInterfaces.class, 
+					   ElementPhysicalInterfaces.class, 
+					   null, 
+					   APPLICATION_JSON_TYPE, 
+					   null, 
+					   out);
+		return out.toByteArray();
+	}
+	
+}
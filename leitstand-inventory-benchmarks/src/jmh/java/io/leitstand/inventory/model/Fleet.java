@@ -0,0 +1,239 @@
+/*
+ * Copyright 2020 RtBrick Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.leitstand.inventory.model;
+
+import static io.leitstand.inventory.model.BenchmarkDatabase.openDatabase;
+import static io.leitstand.inventory.model.Checksum.md5Checksum;
+import static io.leitstand.inventory.model.Checksum.sha256Checksum;
+import static io.leitstand.inventory.model.ElementRole.findRoleByName;
+import static io.leitstand.inventory.model.Image.findImageById;
+import static io.leitstand.inventory.model.Platform.findPlatformById;
+import static io.leitstand.inventory.service.Bandwidth.bandwidth;
+import static io.leitstand.inventory.service.ElementGroupId.randomGroupId;
+import static io.leitstand.inventory.service.ElementGroupName.groupName;
+import static io.leitstand.inventory.service.ElementGroupType.groupType;
+import static io.leitstand.inventory.service.ElementId.randomElementId;
+import static io.leitstand.inventory.service.ElementImageReference.newElementImageReference;
+import static io.leitstand.inventory.service.ElementImageState.ACTIVE;
+import static io.leitstand.inventory.service.ElementImageState.CACHED;
+import static io.leitstand.inventory.service.ElementName.elementName;
+import static io.leitstand.inventory.service.ElementRoleName.elementRoleName;
+import static io.leitstand.inventory.service.ImageId.randomImageId;
+import static io.leitstand.inventory.service.ImageName.imageName;
+import static io.leitstand.inventory.service.ImageType.imageType;
+import static io.leitstand.inventory.service.InterfaceName.interfaceName;
+import static io.leitstand.inventory.service.Plane.DATA;
+import static io.leitstand.inventory.service.PlatformChipsetName.platformChipsetName;
+import static io.leitstand.inventory.service.PlatformId.randomPlatformId;
+import static io.leitstand.inventory.service.PlatformName.platformName;
+import static java.lang.Math.min;
+import static java.lang.String.format;
+import static java.util.Arrays.asList;
+import static java.util.Collections.unmodifiableList;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import io.leitstand.commons.model.Repository;
+import io.leitstand.inventory.service.ElementGroupType;
+import io.leitstand.inventory.service.ElementId;
+import io.leitstand.inventory.service.ElementImageReference;
+import io.leitstand.inventory.service.ElementRoleName;
+import io.leitstand.inventory.service.InterfaceName;
+import io.leitstand.inventory.service.PlatformChipsetName;
+import io.leitstand.inventory.service.PlatformId;
+import io.leitstand.inventory.service.Version;
+
+/**
+ * A fleet of elements stored in an embedded H2 inventory database.
+ * <p>
+ * The fleet consists of pods with {@value #ELEMENTS_PER_POD} elements each.
+ * Every element has the configured number of physical interfaces, 
+ * a container interface and a logical interface per physical interface 
+ * and {@value #IMAGES_PER_ELEMENT} installed images. 
+ * All elements share the same element role, platform and image catalog.
+ * The fleet is created once per trial. 
+ */
+@State(Scope.Benchmark)
+public class Fleet {
+	
+	static final ElementGroupType POD = groupType("pod");
+	static final ElementRoleName ROLE = elementRoleName("leaf");
+	static final PlatformId PLATFORM_ID = randomPlatformId();
+	static final PlatformChipsetName CHIPSET = platformChipsetName("chipset");
+	static final int ELEMENTS_PER_POD = 20;
+	static final int IMAGES = 16;
+	static final int IMAGES_PER_ELEMENT = 4;
+	static final int PACKAGES_PER_IMAGE = 10;
+	static final int PORTS_PER_SLOT = 12;
+	
+	static InterfaceName ifpName(int i) {
+		return interfaceName(format("ifp-0/%d/%d", i / PORTS_PER_SLOT, i % PORTS_PER_SLOT));
+	}
+	
+	static InterfaceName iflName(int i) {
+		return interfaceName(format("ifl-0/%d/%d/0", i / PORTS_PER_SLOT, i % PORTS_PER_SLOT));
+	}
+	
+	@Param({"100","1000"})
+	private int elements;
+
+	@Param({"48"})
+	private int ifps;
+	
+	private BenchmarkDatabase db;
+	private List<ElementId> elementIds;
+	private List<ElementImageReference> images;
+	private int next;
+	
+	@Setup
+	public void createFleet() {
+		db = openDatabase();
+		Repository repository = db.getRepository();
+		db.transaction(() -> {
+			repository.add(new ElementRole(ROLE,DATA));
+			repository.add(new Platform(PLATFORM_ID, platformName("platform"), CHIPSET));
+		});
+		images = createImages(repository);
+		elementIds = new ArrayList<>(elements);
+		for(int pod = 0; pod * ELEMENTS_PER_POD < elements; pod++) {
+			int offset = pod * ELEMENTS_PER_POD;
+			ElementGroup group = new ElementGroup(randomGroupId(), 
+												  POD, 
+												  groupName(format("pod-%03d",pod)));
+			// One transaction per pod to keep the persistence context small.
+			db.transaction(() -> {
+				repository.add(group);
+				ElementRole role = repository.execute(findRoleByName(ROLE));
+				Platform platform = repository.execute(findPlatformById(PLATFORM_ID));
+				for(int i = offset; i < min(offset + ELEMENTS_PER_POD, elements); i++) {
+					elementIds.add(createElement(repository, group, role, platform, i));
+				}
+			});
+		}
+	}
+	
+	private List<ElementImageReference> createImages(Repository repository){
+		List<ElementImageReference> refs = new ArrayList<>(IMAGES);
+		db.transaction(() -> {
+			ElementRole role = repository.execute(findRoleByName(ROLE));
+			for(int i = 0; i < IMAGES; i++) {
+				List<Package_Version> packages = new ArrayList<>(PACKAGES_PER_IMAGE);
+				for(int j = 0; j < PACKAGES_PER_IMAGE; j++) {
+					Package pkg = new Package("io.leitstand", format("pkg-%d-%d",i,j), "deb");
+					Package_Version version = pkg.newVersion(new Version(1,i,0));
+					version.setBuildDate(new Date());
+					version.setChecksums(asList(md5Checksum("md5"),
+												sha256Checksum("sha256")));
+					repository.add(pkg);
+					packages.add(version);
+				}
+				Image image = new Image(randomImageId(),
+										imageType("lxd"),
+										imageName(format("image-%d",i)),
+										asList(role),
+										CHIPSET,
+										new Version(1,i,0));
+				image.setOrganization("io.leitstand");
+				image.setPackages(packages);
+				image.setChecksums(asList(md5Checksum("md5")));
+				repository.add(image);
+				refs.add(newElementImageReference()
+						 .withImageId(image.getImageId())
+						 .withImageType(image.getImageType())
+						 .withImageName(image.getImageName())
+						 .withImageVersion(image.getImageVersion())
+						 .withElementImageState(CACHED)
+						 .build());
+			}
+		});
+		return unmodifiableList(refs);
+	}
+	
+	private ElementId createElement(Repository repository, 
+									ElementGroup group, 
+									ElementRole role, 
+									Platform platform, 
+									int i) {
+		Element element = new Element(group, 
+									  role, 
+									  platform, 
+									  randomElementId(), 
+									  elementName(format("leaf-%04d",i)));
+		repository.add(element);
+		for(int j = 0; j < ifps; j++) {
+			Element_ContainerInterface ifc = new Element_ContainerInterface(element, ifpName(j));
+			repository.add(ifc);
+			repository.add(new Element_PhysicalInterface(element, 
+														 ifpName(j), 
+														 bandwidth("100.000 Gbps"), 
+														 ifc));
+			repository.add(new Element_LogicalInterface(element, ifc, iflName(j)));
+		}
+		for(int j = 0; j < IMAGES_PER_ELEMENT; j++) {
+			ElementImageReference ref = images.get((i + j) % IMAGES);
+			Element_Image elementImage = new Element_Image(element, 
+														   repository.execute(findImageById(ref.getImageId())));
+			elementImage.setElementImageState(j == 0 ? ACTIVE : CACHED);
+			repository.add(elementImage);
+		}
+		return element.getElementId();
+	}
+	
+	@TearDown
+	public void dropFleet() {
+		db.close();
+	}
+	
+	BenchmarkDatabase getDatabase() {
+		return db;
+	}
+
+	Repository getRepository() {
+		return db.getRepository();
+	}
+	
+	int getPhysicalInterfacesPerElement() {
+		return ifps;
+	}
+	
+	List<ElementId> getElementIds() {
+		return unmodifiableList(elementIds);
+	}
+	
+	List<ElementImageReference> getImages() {
+		return images;
+	}
+
+	/**
+	 * Returns the elements of the fleet in a round-robin fashion 
+	 * to avoid that a benchmark operates on a single warm element.
+	 * @return the ID of the next element.
+	 */
+	ElementId nextElement() {
+		ElementId elementId = elementIds.get(next);
+		next = (next + 1) % elementIds.size();
+		return elementId;
+	}
+	
+}
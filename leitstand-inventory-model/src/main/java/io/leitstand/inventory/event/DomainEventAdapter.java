@@ -17,22 +17,78 @@ package io.leitstand.inventory.event;
 
 import static io.leitstand.event.queue.service.DomainEvent.newDomainEvent;
 import static io.leitstand.event.queue.service.TopicName.topicName;
+import static javax.enterprise.event.TransactionPhase.BEFORE_COMPLETION;
+import static javax.transaction.Status.STATUS_ACTIVE;
 
+import javax.annotation.Resource;
 import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.event.Event;
 import javax.enterprise.event.Observes;
 import javax.inject.Inject;
+import javax.transaction.TransactionSynchronizationRegistry;
 
 import io.leitstand.event.queue.service.DomainEvent;
 
-
+/**
+ * Forwards inventory events to the leitstand message queue.
+ * <p>
+ * Physical interface events are buffered per transaction and coalesced by element, interface and event type,
+ * because a single interface synchronization can fire hundreds of events for the same element. 
+ * The buffered events are published by a <code>BEFORE_COMPLETION</code> transactional observer,
+ * which runs while the transaction is still active. The published events are therefore written to the message queue 
+ * in the same transaction and the <code>AFTER_SUCCESS</code> observers of the published events are notified after commit.
+ * The buffered events are discarded if the transaction is rolled back.
+ * All other element events, including the element batch events, flush the buffered events first to retain the order of events of a transaction.
+ * The maximum number of buffered events per transaction can be set by the 
+ * <code>leitstand.inventory.event.buffer.size</code> system property and defaults to 1000.
+ */
 @ApplicationScoped
 public class DomainEventAdapter {
 
+	static final int MAX_BUFFER_SIZE = Integer.getInteger("leitstand.inventory.event.buffer.size", 1000);
+	
+	private static final Object BUFFER_KEY = ElementEventBuffer.class;
+	
 	@Inject
 	private Event<DomainEvent<?>> bus;
 	
+	@Inject
+	private Event<ElementEventBuffer> buffers;
+	
+	@Resource
+	private TransactionSynchronizationRegistry transactions;
+	
+	protected DomainEventAdapter() {
+		// CDI
+	}
+	
+	DomainEventAdapter(Event<DomainEvent<?>> bus, 
+					   Event<ElementEventBuffer> buffers,
+					   TransactionSynchronizationRegistry transactions){
+		this.bus = bus;
+		this.buffers = buffers;
+		this.transactions = transactions;
+	}
+	
 	public void publishElementEvent(@Observes ElementEvent event) {
+		ElementEventBuffer buffer = transactionBuffer();
+		if(buffer == null) {
+			fireElementEvent(event);
+			return;
+		}
+		if(event instanceof ElementPhysicalInterfaceEvent) {
+			buffer.add((ElementPhysicalInterfaceEvent) event);
+			return;
+		}
+		buffer.flush();
+		fireElementEvent(event);
+	}
+	
+	public void publishElementEvent(@Observes ElementBatchEvent event) {
+		ElementEventBuffer buffer = transactionBuffer();
+		if(buffer != null) {
+			buffer.flush();
+		}
 		bus.fire(newDomainEvent()
 				 .withTopicName(topicName("element"))
 				 .withPayload(event)
@@ -54,4 +110,33 @@ public class DomainEventAdapter {
 		
 	}
 	
+	/**
+	 * Publishes the buffered physical interface events before the transaction completes.
+	 * @param buffer the transaction buffer
+	 */
+	void flushBuffer(@Observes(during=BEFORE_COMPLETION) ElementEventBuffer buffer) {
+		buffer.close();
+	}
+	
+	private void fireElementEvent(ElementEvent event) {
+		bus.fire(newDomainEvent()
+				 .withTopicName(topicName("element"))
+				 .withPayload(event)
+				 .build());
+	}
+	
+	private ElementEventBuffer transactionBuffer() {
+		if(transactions == null || transactions.getTransactionStatus() != STATUS_ACTIVE) {
+			return null;
+		}
+		ElementEventBuffer buffer = (ElementEventBuffer) transactions.getResource(BUFFER_KEY);
+		if(buffer == null) {
+			buffer = new ElementEventBuffer(this::fireElementEvent, MAX_BUFFER_SIZE);
+			transactions.putResource(BUFFER_KEY, buffer);
+			// Announce the buffer to flush the buffer by the BEFORE_COMPLETION observer.
+			buffers.fire(buffer);
+		}
+		return buffer;
+	}
+	
 }
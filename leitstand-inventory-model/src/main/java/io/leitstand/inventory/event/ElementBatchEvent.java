@@ -0,0 +1,99 @@
+/*
+ * Copyright 2020 RtBrick Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.leitstand.inventory.event;
+
+import static io.leitstand.commons.model.BuilderUtil.assertNotInvalidated;
+import static java.util.Collections.unmodifiableList;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.leitstand.commons.model.ValueObject;
+import io.leitstand.inventory.service.BaseElementGroupEnvelope;
+import io.leitstand.inventory.service.ElementAlias;
+import io.leitstand.inventory.service.ElementId;
+import io.leitstand.inventory.service.ElementName;
+import io.leitstand.inventory.service.ElementRoleName;
+
+/**
+ * Base class of all events that report a change of a set of elements of an element group.
+ * <p>
+ * Batch operations fire a single batch event per element group and batch rather than an event per element.
+ */
+public abstract class ElementBatchEvent extends BaseElementGroupEnvelope {
+
+	/**
+	 * An element of the batch.
+	 */
+	public static class BatchElement extends ValueObject {
+		
+		public static BatchElement newBatchElement(ElementId elementId,
+												   ElementName elementName,
+												   ElementAlias elementAlias,
+												   ElementRoleName elementRole) {
+			BatchElement element = new BatchElement();
+			element.elementId = elementId;
+			element.elementName = elementName;
+			element.elementAlias = elementAlias;
+			element.elementRole = elementRole;
+			return element;
+		}
+		
+		private ElementId elementId;
+		private ElementName elementName;
+		private ElementAlias elementAlias;
+		private ElementRoleName elementRole;
+		
+		public ElementId getElementId() {
+			return elementId;
+		}
+		
+		public ElementName getElementName() {
+			return elementName;
+		}
+		
+		public ElementAlias getElementAlias() {
+			return elementAlias;
+		}
+		
+		public ElementRoleName getElementRole() {
+			return elementRole;
+		}
+		
+	}
+	
+	@SuppressWarnings("unchecked")
+	public static class ElementBatchEventBuilder<T extends ElementBatchEvent, B extends ElementBatchEventBuilder<T,B>> extends BaseElementGroupEnvelopeBuilder<T, B> {
+		
+		protected ElementBatchEventBuilder(T event) {
+			super(event);
+		}
+		
+		public B withElements(List<BatchElement> elements) {
+			assertNotInvalidated(getClass(), object);
+			((ElementBatchEvent)object).elements = unmodifiableList(new ArrayList<>(elements));
+			return (B) this;
+		}
+		
+	}
+	
+	private List<BatchElement> elements;
+	
+	public List<BatchElement> getElements() {
+		return elements;
+	}
+	
+}
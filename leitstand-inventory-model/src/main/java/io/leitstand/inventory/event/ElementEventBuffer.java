@@ -0,0 +1,108 @@
+/*
+ * Copyright 2020 RtBrick Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.leitstand.inventory.event;
+
+import static java.util.Arrays.asList;
+import static java.util.logging.Level.FINE;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+/**
+ * Transaction-bound buffer of physical interface events.
+ * <p>
+ * The buffer coalesces all physical interface events of a transaction by element, interface and event type, 
+ * whereas the latest event replaces all former events with the same key.
+ * The buffered events are published in the order of their last occurrence when the buffer is closed before the transaction completes, 
+ * such that the published events are still committed along with the inventory changes.
+ * The buffer is flushed prematurely when the number of buffered events exceeds the configured maximum buffer size.
+ * Events added to a closed buffer are published immediately.
+ */
+class ElementEventBuffer {
+	
+	private static final Logger LOG = Logger.getLogger(ElementEventBuffer.class.getName());
+
+	private final Map<List<Object>,ElementPhysicalInterfaceEvent> events;
+	private final Consumer<ElementEvent> publisher;
+	private final int maxSize;
+	private int received;
+	private boolean closed;
+	
+	ElementEventBuffer(Consumer<ElementEvent> publisher, int maxSize) {
+		this.events = new LinkedHashMap<>();
+		this.publisher = publisher;
+		this.maxSize = maxSize;
+	}
+	
+	/**
+	 * Adds an event to the buffer. A buffered event with the same element, interface and event type is discarded.
+	 * @param event the physical interface event
+	 */
+	void add(ElementPhysicalInterfaceEvent event) {
+		if(closed) {
+			publisher.accept(event);
+			return;
+		}
+		List<Object> key = asList(event.getElementId(),
+								  event.getInterfaceName(),
+								  event.getClass());
+		// Remove the outdated event first to publish the events in the order of their last occurrence.
+		events.remove(key);
+		events.put(key, event);
+		received++;
+		if(events.size() >= maxSize) {
+			flush();
+		}
+	}
+	
+	/**
+	 * Publishes all buffered events and clears the buffer.
+	 */
+	void flush() {
+		if(events.isEmpty()) {
+			return;
+		}
+		List<ElementEvent> pending = new ArrayList<>(events.values());
+		events.clear();
+		int coalesced = received - pending.size();
+		received = 0;
+		LOG.log(FINE, 
+				"Publish {0} physical interface events ({1} coalesced events discarded).", 
+				new Object[] {pending.size(), coalesced});
+		pending.forEach(publisher);
+	}
+	
+	int size() {
+		return events.size();
+	}
+
+	/**
+	 * Publishes all buffered events and closes the buffer.
+	 */
+	void close() {
+		flush();
+		closed = true;
+	}
+	
+	boolean isClosed() {
+		return closed;
+	}
+	
+}
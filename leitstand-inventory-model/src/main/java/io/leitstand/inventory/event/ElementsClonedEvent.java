@@ -0,0 +1,79 @@
+/*
+ * Copyright 2020 RtBrick Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.leitstand.inventory.event;
+
+import static java.util.Collections.unmodifiableList;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.leitstand.inventory.service.ElementCloneRequest;
+import io.leitstand.inventory.service.MACAddress;
+
+/**
+ * Fired when an element has been cloned into multiple elements at once.
+ * <p>
+ * The event describes the source element and conveys the clone requests of all created clones, 
+ * in order to publish a single event for a bulk clone rather than an event per clone.
+ */
+public class ElementsClonedEvent extends ElementEvent{
+
+	public static Builder newElementsClonedEvent() {
+		return new Builder();
+	}
+	
+	public static class Builder extends ElementEventBuilder<ElementsClonedEvent, Builder>{
+		
+		public Builder() {
+			super(new ElementsClonedEvent());
+		}
+		
+		public Builder withSerialNumber(String serialNumber) {
+			object.serialNumber = serialNumber;
+			return this;
+		}
+
+		public Builder withMacAddress(MACAddress macAddress) {
+			object.macAddress = macAddress;
+			return this;
+		}
+		
+		public Builder withClones(List<ElementCloneRequest> clones) {
+			object.clones = unmodifiableList(new ArrayList<>(clones));
+			return this;
+		}
+		
+	}
+	
+	
+	private String serialNumber;
+	private MACAddress  macAddress;
+	private List<ElementCloneRequest> clones;
+	
+	
+	public String getSerialNumber() {
+		return serialNumber;
+	}
+	
+	public MACAddress getMacAddress() {
+		return macAddress;
+	}
+	
+	public List<ElementCloneRequest> getClones() {
+		return clones;
+	}
+	
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright 2020 RtBrick Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.leitstand.inventory.event;
+
+/**
+ * Fired when a batch of elements of an element group has been retired.
+ */
+public class ElementsRetiredEvent extends ElementBatchEvent {
+
+	public static Builder newElementsRetiredEvent() {
+		return new Builder();
+	}
+	
+	public static class Builder extends ElementBatchEventBuilder<ElementsRetiredEvent, Builder>{
+		public Builder() {
+			super(new ElementsRetiredEvent());
+		}
+	}
+}
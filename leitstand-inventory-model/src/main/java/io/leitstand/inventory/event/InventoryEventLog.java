@@ -0,0 +1,232 @@
+/*
+ * Copyright 2020 RtBrick Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.leitstand.inventory.event;
+
+import static java.lang.String.format;
+import static java.lang.System.currentTimeMillis;
+import static java.util.Collections.emptySet;
+import static java.util.Collections.unmodifiableSet;
+import static java.util.logging.Level.FINE;
+import static javax.enterprise.event.TransactionPhase.AFTER_SUCCESS;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+
+import io.leitstand.event.queue.service.DomainEvent;
+import io.leitstand.inventory.event.ElementBatchEvent.BatchElement;
+import io.leitstand.inventory.service.BaseElementEnvelope;
+import io.leitstand.inventory.service.BaseElementGroupEnvelope;
+
+/**
+ * Bounded in-memory log of the committed inventory events published by the {@link DomainEventAdapter}.
+ * <p>
+ * Every logged event is assigned an ascending sequence number, which is the event ID of the server-sent event stream. 
+ * The sequence starts with the startup time in milliseconds, such that the IDs of events logged after a restart 
+ * are greater than all IDs issued before the restart and a client resuming a stream after a restart is detected as out of sync.
+ * The log retains the latest events in a ring buffer, which allows clients to resume a stream from the last received event.
+ * The buffer size can be set by the <code>leitstand.inventory.event.stream.buffer.size</code> system property and defaults to 1000.
+ * <p>
+ * The log only contains the events of this inventory instance.
+ */
+@ApplicationScoped
+public class InventoryEventLog {
+	
+	private static final Logger LOG = Logger.getLogger(InventoryEventLog.class.getName());
+
+	static final int DEFAULT_BUFFER_SIZE = Integer.getInteger("leitstand.inventory.event.stream.buffer.size", 1000);
+	
+	/**
+	 * A logged inventory event.
+	 */
+	public static final class Entry {
+		private final long id;
+		private final String topic;
+		private final String type;
+		private final Set<String> groups;
+		private final Set<String> elements;
+		private final Object payload;
+		
+		Entry(long id, Object payload){
+			this.id = id;
+			this.payload = payload;
+			this.type = payload.getClass().getSimpleName();
+			this.topic = payload instanceof ImageEvent ? "image" : "element";
+			Set<String> groups = new HashSet<>();
+			Set<String> elements = new HashSet<>();
+			if(payload instanceof BaseElementGroupEnvelope) {
+				BaseElementGroupEnvelope group = (BaseElementGroupEnvelope) payload;
+				addKeys(groups, group.getGroupId(), group.getGroupName());
+			}
+			if(payload instanceof BaseElementEnvelope) {
+				BaseElementEnvelope element = (BaseElementEnvelope) payload;
+				addKeys(elements, element.getElementId(), element.getElementName());
+			}
+			if(payload instanceof ElementBatchEvent) {
+				for(BatchElement element : ((ElementBatchEvent)payload).getElements()) {
+					addKeys(elements, element.getElementId(), element.getElementName());
+				}
+			}
+			this.groups = groups.isEmpty() ? emptySet() : unmodifiableSet(groups);
+			this.elements = elements.isEmpty() ? emptySet() : unmodifiableSet(elements);
+		}
+		
+		private static void addKeys(Set<String> keys, Object id, Object name) {
+			if(id != null) {
+				keys.add(id.toString());
+			}
+			if(name != null) {
+				keys.add(name.toString());
+			}
+		}
+		
+		/**
+		 * Returns the event ID.
+		 * @return the event ID.
+		 */
+		public long getId() {
+			return id;
+		}
+		
+		/**
+		 * Returns the topic of the event, i.e. either <code>element</code> or <code>image</code>.
+		 * @return the event topic
+		 */
+		public String getTopic() {
+			return topic;
+		}
+		
+		/**
+		 * Returns the event type, which is the simple class name of the event.
+		 * @return the event type
+		 */
+		public String getType() {
+			return type;
+		}
+		
+		/**
+		 * Returns the IDs and names of the element group affected by the event.
+		 * @return the group IDs and names or an empty set if the event does not refer to an element group.
+		 */
+		public Set<String> getGroups() {
+			return groups;
+		}
+		
+		/**
+		 * Returns the IDs and names of all elements affected by the event.
+		 * @return the element IDs and names or an empty set if the event does not refer to elements.
+		 */
+		public Set<String> getElements() {
+			return elements;
+		}
+		
+		/**
+		 * Returns the event.
+		 * @return the event.
+		 */
+		public Object getPayload() {
+			return payload;
+		}
+	}
+	
+	private final Entry[] buffer;
+	private final Set<Consumer<Entry>> listeners;
+	private long next;
+	private int size;
+	
+	public InventoryEventLog() {
+		this(DEFAULT_BUFFER_SIZE);
+	}
+	
+	InventoryEventLog(int bufferSize) {
+		this.buffer = new Entry[bufferSize];
+		this.listeners = new CopyOnWriteArraySet<>();
+		this.next = currentTimeMillis();
+	}
+	
+	/**
+	 * Logs a committed domain event and notifies all listeners.
+	 * @param event the domain event
+	 */
+	public void onDomainEvent(@Observes(during=AFTER_SUCCESS) DomainEvent<?> event) {
+		if(event.getPayload() == null) {
+			return;
+		}
+		Entry entry = append(event.getPayload());
+		for(Consumer<Entry> listener : listeners) {
+			try {
+				listener.accept(entry);
+			} catch (Exception e) {
+				LOG.fine(() -> format("Cannot notify event listener: %s", e.getMessage()));
+				LOG.log(FINE,e.getMessage(),e);
+				listeners.remove(listener);
+			}
+		}
+	}
+	
+	synchronized Entry append(Object payload) {
+		Entry entry = new Entry(next++, payload);
+		buffer[(int) (entry.getId() % buffer.length)] = entry;
+		if(size < buffer.length) {
+			size++;
+		}
+		return entry;
+	}
+	
+	/**
+	 * Returns all retained events logged after the specified event.
+	 * @param lastEventId the ID of the last received event
+	 * @return all retained events logged after the specified event in ascending order 
+	 * or <code>null</code> if events logged after the specified event are no longer retained 
+	 * or the specified event ID was not issued by this log.
+	 */
+	public synchronized List<Entry> since(long lastEventId) {
+		long oldest = next - size;
+		if(lastEventId < oldest - 1 || lastEventId >= next) {
+			return null;
+		}
+		List<Entry> entries = new ArrayList<>((int)(next - lastEventId - 1));
+		for(long id = lastEventId + 1; id < next; id++) {
+			entries.add(buffer[(int) (id % buffer.length)]);
+		}
+		return entries;
+	}
+	
+	/**
+	 * Registers a listener that is notified about every logged event.
+	 * A listener that throws an exception is unregistered.
+	 * @param listener the listener
+	 */
+	public void addListener(Consumer<Entry> listener) {
+		listeners.add(listener);
+	}
+	
+	/**
+	 * Unregisters a listener.
+	 * @param listener the listener
+	 */
+	public void removeListener(Consumer<Entry> listener) {
+		listeners.remove(listener);
+	}
+	
+}
@@ -18,11 +18,21 @@ package io.leitstand.inventory.model;
 import static io.leitstand.commons.db.DatabaseService.prepare;
 import static io.leitstand.commons.messages.MessageFactory.createMessage;
 import static io.leitstand.inventory.event.ElementClonedEvent.newElementClonedEvent;
+import static io.leitstand.inventory.event.ElementsClonedEvent.newElementsClonedEvent;
 import static io.leitstand.inventory.jpa.AdministrativeStateConverter.administrativeStateDbString;
 import static io.leitstand.inventory.jpa.OperationalStateConverter.operationalStateDbString;
+import static io.leitstand.inventory.model.Image_DeploymentCount.ADD_ELEMENTS_SQL;
+import static io.leitstand.inventory.model.Image_DeploymentCount.CREATE_COUNTER_SQL;
 import static io.leitstand.inventory.service.AdministrativeState.NEW;
+import static io.leitstand.inventory.service.ElementImageState.PULL;
 import static io.leitstand.inventory.service.OperationalState.DOWN;
 import static io.leitstand.inventory.service.ReasonCode.IVT0306I_ELEMENT_CLONED;
+import static io.leitstand.inventory.service.ReasonCode.IVT0308I_ELEMENTS_CLONED;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.unmodifiableList;
+
+import java.util.ArrayList;
+import java.util.List;
 
 import javax.annotation.PostConstruct;
 import javax.enterprise.event.Event;
@@ -57,6 +67,17 @@ public class DefaultCloneElementService implements CloneElementService{
 											  rs -> rs.getLong(1));
 		}
 		
+		Long acquireCloneIds(int count) {
+			// Acquire a range of element IDs with a single sequence update and return the first ID of the range.
+			Long last = db.getSingleResult(prepare("UPDATE leitstand.sequence "+
+												   "SET count = count + ? "+ 
+												   "WHERE name = 'id' "+
+												   "RETURNING count",
+												   count),
+										   rs -> rs.getLong(1));
+			return last - count + 1;
+		}
+		
 	}
 	
 	@Inject
@@ -111,13 +132,103 @@ public class DefaultCloneElementService implements CloneElementService{
 
 	}
 	
+	@Override
+	public List<ElementId> cloneElements(ElementId sourceElementId, 
+										 List<ElementCloneRequest> requests) {
+		Element source = elements.fetchElement(sourceElementId);
+		return cloneElements(source,
+							 requests);
+	}
+
+	@Override
+	public List<ElementId> cloneElements(ElementName sourceElementName, 
+										 List<ElementCloneRequest> requests) {
+		Element source = elements.fetchElement(sourceElementName);
+		return cloneElements(source,
+							 requests);
+	}
+	
 	private ElementId cloneElement(Element source, 
 								   ElementCloneRequest request) {
 		
 		// In order to avoid streaming all data from the database to the server, the cloning is done via SQL
 		Long id = sequence.acquireCloneId();
-
 		
+		insertClone(source, id, request);
+		copyElementData(source, id, id);
+		
+		messages.add(createMessage(IVT0306I_ELEMENT_CLONED,
+					 			   source.getElementName(),
+					 			   request.getElementName()));
+		
+		sink.fire(newElementClonedEvent()
+				  .withGroupId(source.getGroup().getGroupId())
+				  .withGroupName(source.getGroup().getGroupName())
+				  .withGroupType(source.getGroup().getGroupType())
+				  .withElementId(source.getElementId())
+				  .withElementName(source.getElementName())
+				  .withElementAlias(source.getElementAlias())
+				  .withElementRole(source.getElementRoleName())
+				  .withAdministrativeState(source.getAdministrativeState())
+				  .withOperationalState(source.getOperationalState())
+				  .withDateModified(source.getDateModified())
+				  .withSerialNumber(source.getSerialNumber())
+				  .withMacAddress(source.getManagementInterfaceMacAddress())
+				  .withCloneElementId(request.getElementId())
+				  .withCloneElementName(request.getElementName())
+				  .withCloneElementAlias(request.getElementAlias())
+				  .withCloneSerialNumber(request.getSerialNumber())
+				  .withCloneMacAddress(request.getMgmtMacAddress())
+				  .build());
+		
+		return request.getElementId();
+	}
+	
+	private List<ElementId> cloneElements(Element source, 
+										  List<ElementCloneRequest> requests) {
+		if(requests.isEmpty()) {
+			return emptyList();
+		}
+		
+		// Allocate the IDs of all clones at once. 
+		// The clones occupy a consecutive ID range, which allows to copy the element data for all clones at once.
+		Long first = sequence.acquireCloneIds(requests.size());
+		Long last  = first + requests.size() - 1;
+		
+		List<ElementId> cloneIds = new ArrayList<>(requests.size());
+		long id = first;
+		for(ElementCloneRequest request : requests) {
+			insertClone(source, id++, request);
+			cloneIds.add(request.getElementId());
+		}
+		copyElementData(source, first, last);
+		
+		messages.add(createMessage(IVT0308I_ELEMENTS_CLONED,
+								   source.getElementName(),
+								   requests.size()));
+		
+		sink.fire(newElementsClonedEvent()
+				  .withGroupId(source.getGroup().getGroupId())
+				  .withGroupName(source.getGroup().getGroupName())
+				  .withGroupType(source.getGroup().getGroupType())
+				  .withElementId(source.getElementId())
+				  .withElementName(source.getElementName())
+				  .withElementAlias(source.getElementAlias())
+				  .withElementRole(source.getElementRoleName())
+				  .withAdministrativeState(source.getAdministrativeState())
+				  .withOperationalState(source.getOperationalState())
+				  .withDateModified(source.getDateModified())
+				  .withSerialNumber(source.getSerialNumber())
+				  .withMacAddress(source.getManagementInterfaceMacAddress())
+				  .withClones(requests)
+				  .build());
+		
+		return unmodifiableList(cloneIds);
+	}
+	
+	private void insertClone(Element source, 
+							 Long id, 
+							 ElementCloneRequest request) {
 		// Clone the element record
 		db.executeUpdate(prepare("INSERT INTO inventory.element (elementgroup_id, elementrole_id, platform_id, id, uuid, name, alias, description, opstate, admstate, mgmtmac, serial, modcount, tscreated, tsmodified)"+
 								 "SELECT elementgroup_id, elementrole_id, platform_id, ?, ?, ?, ?, description, ?, ?, ?, ?,  0, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP "+
@@ -132,82 +243,93 @@ public class DefaultCloneElementService implements CloneElementService{
 								 request.getMgmtMacAddress(),
 								 request.getSerialNumber(),
 								 source.getId()));
+	}
+	
+	private void copyElementData(Element source, 
+								 Long first, 
+								 Long last) {
+		// Every statement copies the source element data to all clones in the given ID range.
 		
 		// Copy tags
 		db.executeUpdate(prepare("INSERT INTO inventory.element_tag (element_id, tag) "+
-								 "SELECT ?, tag "+
-								 "FROM inventory.element_tag "+
-								 "WHERE element_id = ?",
-								 id,
+								 "SELECT c.id, t.tag "+
+								 "FROM inventory.element c, inventory.element_tag t "+
+								 "WHERE c.id BETWEEN ? AND ? "+
+								 "AND t.element_id = ?",
+								 first,
+								 last,
 								 source.getId()));
 				
 		
 		// Copy management interfaces
 		db.executeUpdate(prepare("INSERT INTO inventory.element_management_interface (element_id, name, hostname, protocol, port, path) "+
-								 "SELECT ?, name, hostname, protocol, port, path "+
-								 "FROM inventory.element_management_interface "+
-								 "WHERE element_id = ?",
-								 id,
+								 "SELECT c.id, m.name, m.hostname, m.protocol, m.port, m.path "+
+								 "FROM inventory.element c, inventory.element_management_interface m "+
+								 "WHERE c.id BETWEEN ? AND ? "+
+								 "AND m.element_id = ?",
+								 first,
+								 last,
 								 source.getId()));
 
 		// Copy configuration series
 		db.executeUpdate(prepare("INSERT INTO inventory.element_config (element_id, name, tsmodified) "+
-				 				 "SELECT ?, name, tsmodified "+
-				 				 "FROM inventory.element_config "+
-				 				 "WHERE element_id = ?",
-				 				 id,
+				 				 "SELECT c.id, s.name, s.tsmodified "+
+				 				 "FROM inventory.element c, inventory.element_config s "+
+				 				 "WHERE c.id BETWEEN ? AND ? "+
+				 				 "AND s.element_id = ?",
+				 				 first,
+				 				 last,
 				 				 source.getId()));
 
 		db.executeUpdate(prepare("INSERT INTO inventory.element_config_revision (element_id, uuid, name, state, comment, content_hash, creator, tsmodified) "+
-								 "SELECT ?, random_uuid(), name, state, comment, content_hash, creator, tsmodified "+
-								 "FROM inventory.element_config_revision "+
-								 "WHERE element_id = ?",
-								 id,
+								 "SELECT c.id, random_uuid(), r.name, r.state, r.comment, r.content_hash, r.creator, r.tsmodified "+
+								 "FROM inventory.element c, inventory.element_config_revision r "+
+								 "WHERE c.id BETWEEN ? AND ? "+
+								 "AND r.element_id = ?",
+								 first,
+								 last,
 								 source.getId()));
 		
 		// Copy installed images
 		db.executeUpdate(prepare("INSERT INTO inventory.element_image (element_id, image_id, state, ztp) "+
-				 				 "SELECT ?, image_id, 'PULL', 'Y'"+
-				 				 "FROM inventory.element_image "+
-				 				 "WHERE element_id = ? "+
-				 				 "AND state='ACTIVE'",
-				 				 id,
+				 				 "SELECT c.id, i.image_id, 'PULL', 'Y' "+
+				 				 "FROM inventory.element c, inventory.element_image i "+
+				 				 "WHERE c.id BETWEEN ? AND ? "+
+				 				 "AND i.element_id = ? "+
+				 				 "AND i.state='ACTIVE'",
+				 				 first,
+				 				 last,
 				 				 source.getId()));	
 		
+		// Count pulled images of the clones. All clones have the same images installed.
+		// The counters are updated in image ID order, as all other counter updates do, to avoid deadlocks.
+		List<Long> images = db.executeQuery(prepare("SELECT DISTINCT image_id "+
+													"FROM inventory.element_image "+
+													"WHERE element_id = ? "+
+													"ORDER BY image_id",
+													first),
+											rs -> rs.getLong(1));
+		for(Long image : images) {
+			db.executeUpdate(prepare(CREATE_COUNTER_SQL,
+									 image,
+									 source.getGroup().getId(),
+									 PULL.name()));
+			db.executeUpdate(prepare(ADD_ELEMENTS_SQL,
+									 last - first + 1,
+									 image,
+									 source.getGroup().getId(),
+									 PULL.name()));
+		}
+		
 		// Copy environments
 		db.executeUpdate(prepare("INSERT INTO inventory.element_env (element_id, uuid, name, category, type, description, variables, tsmodified) "+
-							     "SELECT ?, random_uuid(), name, category, type, description, variables, tsmodified "+
-								 "FROM inventory.element_env "+
-							     "WHERE element_id = ? ",
-								  id,
-								  source.getId()));
-
-		
-		messages.add(createMessage(IVT0306I_ELEMENT_CLONED,
-					 			   source.getElementName(),
-					 			   request.getElementName()));
-		
-		sink.fire(newElementClonedEvent()
-				  .withGroupId(source.getGroup().getGroupId())
-				  .withGroupName(source.getGroup().getGroupName())
-				  .withGroupType(source.getGroup().getGroupType())
-				  .withElementId(source.getElementId())
-				  .withElementName(source.getElementName())
-				  .withElementAlias(source.getElementAlias())
-				  .withElementRole(source.getElementRoleName())
-				  .withAdministrativeState(source.getAdministrativeState())
-				  .withOperationalState(source.getOperationalState())
-				  .withDateModified(source.getDateModified())
-				  .withSerialNumber(source.getSerialNumber())
-				  .withMacAddress(source.getManagementInterfaceMacAddress())
-				  .withCloneElementId(request.getElementId())
-				  .withCloneElementName(request.getElementName())
-				  .withCloneElementAlias(request.getElementAlias())
-				  .withCloneSerialNumber(request.getSerialNumber())
-				  .withCloneMacAddress(request.getMgmtMacAddress())
-				  .build());
-		
-		return request.getElementId();
+							     "SELECT c.id, random_uuid(), e.name, e.category, e.type, e.description, e.variables, e.tsmodified "+
+								 "FROM inventory.element c, inventory.element_env e "+
+							     "WHERE c.id BETWEEN ? AND ? "+
+								 "AND e.element_id = ?",
+								 first,
+								 last,
+								 source.getId()));
 	}
 
 }
@@ -16,27 +16,29 @@
 package io.leitstand.inventory.model;
 
 import static io.leitstand.commons.messages.MessageFactory.createMessage;
+import static io.leitstand.inventory.model.Element.findElementsByGroupId;
 import static io.leitstand.inventory.service.ElementGroupExport.newElementGroupExport;
 import static io.leitstand.inventory.service.ElementGroupsExport.newInventoryExport;
 import static io.leitstand.inventory.service.ReasonCode.IVT0101I_GROUP_STORED;
-import static io.leitstand.inventory.service.ReasonCode.IVT0301I_ELEMENT_STORED;
 import static io.leitstand.inventory.service.ReasonCode.IVT0401I_ELEMENT_ROLE_STORED;
 import static io.leitstand.inventory.service.ReasonCode.IVT0901I_PLATFORM_STORED;
 import static io.leitstand.inventory.service.ReasonCode.IVT1000E_IMPORT_ERROR;
+import static java.lang.Boolean.TRUE;
 import static java.lang.Integer.MAX_VALUE;
 import static java.lang.String.format;
-import static java.util.stream.Collectors.toList;
 
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
 
 import io.leitstand.commons.messages.Messages;
-import io.leitstand.inventory.service.ElementGroupElementsService;
+import io.leitstand.commons.tx.SubtransactionService;
 import io.leitstand.inventory.service.ElementGroupExport;
 import io.leitstand.inventory.service.ElementGroupExportService;
 import io.leitstand.inventory.service.ElementGroupService;
@@ -44,7 +46,6 @@ import io.leitstand.inventory.service.ElementGroupSettings;
 import io.leitstand.inventory.service.ElementGroupSettingsService;
 import io.leitstand.inventory.service.ElementGroupType;
 import io.leitstand.inventory.service.ElementGroupsExport;
-import io.leitstand.inventory.service.ElementId;
 import io.leitstand.inventory.service.ElementRoleService;
 import io.leitstand.inventory.service.ElementRoleSettings;
 import io.leitstand.inventory.service.ElementSettings;
@@ -58,15 +59,16 @@ public class DefaultElementGroupExportService implements ElementGroupExportServi
 	
 	private static final Logger LOG = Logger.getLogger(DefaultElementGroupExportService.class.getName());
 
+	@Inject
+	@Inventory
+	private SubtransactionService transactions;
+	
 	@Inject
 	private ElementGroupService groupService;
 
 	@Inject
 	private ElementGroupSettingsService groupSettingsService;
 
-	@Inject
-	private ElementGroupElementsService elementsService;
-	
 	@Inject
 	private ElementSettingsService elementSettingsService;
 	
@@ -81,22 +83,25 @@ public class DefaultElementGroupExportService implements ElementGroupExportServi
 	
 	@Inject
 	private Messages messages;
-	
+
+	public DefaultElementGroupExportService() {
+		// CDI
+	}
+
+	DefaultElementGroupExportService(SubtransactionService transactions,
+									 ElementGroupService groupService) {
+		this.transactions = transactions;
+		this.groupService = groupService;
+	}
+
 	@Override
 	public ElementGroupsExport exportElementGroups(ElementGroupType groupType,
 												   String filter) {
 		// Fetch all groups matching the filter
 		List<ElementGroupExport> groups = new LinkedList<>();
-		for(ElementGroupSettings group : groupService.findGroups(groupType,
-																 filter, 
-																 0, 
-																 MAX_VALUE)) {
-			groups.add(newElementGroupExport()
-					   .withGroup(group)
-					   .withElements(loadElementSettings(group))
-					   .build());
-			
-		}
+		exportElementGroups(groupType, 
+							filter, 
+							groups::add);
 		
 		return newInventoryExport()
 			   .withDateCreated(new Date())
@@ -105,21 +110,34 @@ public class DefaultElementGroupExportService implements ElementGroupExportServi
 			   .withPlatforms(platformService.getPlatforms())
 			   .build();
 	}
+	
+	@Override
+	public void exportElementGroups(ElementGroupType groupType,
+									String filter,
+									Consumer<ElementGroupExport> groups) {
+		for(ElementGroupSettings group : groupService.findGroups(groupType,
+																 filter, 
+																 0, 
+																 MAX_VALUE)) {
+			groups.accept(newElementGroupExport()
+						  .withGroup(group)
+						  .withElements(loadElementSettings(group))
+						  .build());
+		}
+	}
 
 	protected List<ElementSettings> loadElementSettings(ElementGroupSettings group) {
-		// For each group, fetch all element settings
-		List<ElementSettings> export = new LinkedList<>();
-		for(ElementId elementId : elementsService.getGroupElements(group.getGroupId())
-											 	 .getElements()
-											 	 .stream()
-											 	 .map(ElementSettings::getElementId)
-											 	 .collect(toList())) {
-			
-			ElementSettings element = elementSettingsService.getElementSettings(elementId);
-			export.add(element);
-		}
-		
-		return export;
+		// The export is streamed to the client outside of a transaction.
+		// Fetch the settings of all group elements with a single query in a transaction of its own.
+		// The loaded elements are released when the transaction completes and 
+		// are not retained after the group has been exported.
+		List<ElementSettings> elements = new ArrayList<>();
+		transactions.run(repository -> repository.execute(findElementsByGroupId(group.getGroupId()))
+												 .stream()
+												 .map(ElementSettingsManager::settingsOf)
+												 .forEach(elements::add),
+						 repository -> TRUE);
+		return elements;
 	}
 
 	@Override
@@ -142,27 +160,9 @@ public class DefaultElementGroupExportService implements ElementGroupExportServi
 				messages.add(createMessage(IVT0101I_GROUP_STORED,
 										   group.getGroup().getGroupType(),
 										   group.getGroup().getGroupName()));
-				for(ElementSettings element : group.getElements()) {
-					try {
-						elementSettingsService.storeElementSettings(element);
-						LOG.info(() -> format("%s: Element %s added (Role: %s)",
-											  IVT0301I_ELEMENT_STORED.getReasonCode(),
-											  element.getElementName(),
-											  element.getElementRole()));
-						messages.add(createMessage(IVT0301I_ELEMENT_STORED, 
-												  element.getElementName()));
-					} catch (Exception e) {
-						LOG.warning(() -> format("%s: Element %s cannot be stored: %s",
-												 IVT1000E_IMPORT_ERROR.getReasonCode(),
-								  				 element.getElementName(),
-								  				 e.getMessage()));
-						messages.add(createMessage(IVT1000E_IMPORT_ERROR, 
-									   			   "element",
-												   element.getElementName(),
-												   e.getMessage()));	
-					}
-	
-				}
+				// Store all group elements at once. 
+				// The bulk import reports every element that cannot be stored.
+				elementSettingsService.storeElementSettings(group.getElements());
 			} catch (Exception e) {
 				LOG.warning(() ->  format("%s: Element group %s cannot be stored (Type: %s): %s",
 						  				  IVT1000E_IMPORT_ERROR.getReasonCode(),
@@ -24,6 +24,7 @@ import io.leitstand.inventory.service.ElementGroupService;
 import io.leitstand.inventory.service.ElementGroupSettings;
 import io.leitstand.inventory.service.ElementGroupStatistics;
 import io.leitstand.inventory.service.ElementGroupType;
+import io.leitstand.inventory.service.PageCursor;
 
 @Service
 public class DefaultElementGroupService implements ElementGroupService {
@@ -47,9 +48,22 @@ public class DefaultElementGroupService implements ElementGroupService {
 												 int items) {
 		return manager.findGroups(groupType,
 								  filter, 
+								  null,
 								  offset, 
 								  items);
 	}
+	
+	@Override
+	public List<ElementGroupSettings> findGroups(ElementGroupType groupType, 
+												 String filter, 
+												 PageCursor after, 
+												 int items) {
+		return manager.findGroups(groupType,
+								  filter, 
+								  after,
+								  0, 
+								  items);
+	}
 
 	@Override
 	public List<ElementGroupStatistics> getGroupStatistics(ElementGroupType groupType, 
@@ -15,6 +15,9 @@
  */
 package io.leitstand.inventory.model;
 
+import static io.leitstand.inventory.model.ElementFingerprintManager.fingerprint;
+import static io.leitstand.inventory.model.Element_Fingerprint.Section.IMAGE;
+
 import java.util.List;
 
 import javax.inject.Inject;
@@ -38,13 +41,19 @@ public class DefaultElementImagesService implements ElementImageService {
 	@Inject
 	private ElementImageManager manager;
 	
+	@Inject
+	private ElementFingerprintManager fingerprints;
+	
 	public DefaultElementImagesService() {
 		
 	}
 	
-	DefaultElementImagesService(ElementImageManager manager, ElementProvider elements){
+	DefaultElementImagesService(ElementImageManager manager, 
+								ElementProvider elements,
+								ElementFingerprintManager fingerprints){
 		this.manager = manager;
 		this.elements = elements;
+		this.fingerprints = fingerprints;
 	}
 	
 	@Override
@@ -75,48 +84,72 @@ public class DefaultElementImagesService implements ElementImageService {
 	@Override
 	public void storeElementImages(ElementId id, List<ElementImageReference> images) {
 		Element element = elements.fetchElement(id);
-		manager.storeElementImages(element,images);
+		storeElementImages(element,images);
 	}
 
 	@Override
 	public void storeElementImages(ElementName name, List<ElementImageReference> images) {
 		Element element = elements.fetchElement(name);
-		manager.storeElementImages(element,images);
+		storeElementImages(element,images);
+	}
+
+	private void storeElementImages(Element element, List<ElementImageReference> images) {
+		String digest = fingerprint(images, 
+									image -> new Object[] {image.getImageId(),
+														   image.getImageType(),
+														   image.getImageName(),
+														   image.getImageVersion(),
+														   image.isActive()});
+		if(fingerprints.isUnchanged(element, IMAGE, digest)) {
+			return;
+		}
+		if(manager.storeElementImages(element,images)) {
+			fingerprints.storeFingerprint(element, IMAGE, digest);
+		} else {
+			// Process the next submission again to retry registering unknown images.
+			fingerprints.resetFingerprint(element, IMAGE);
+		}
 	}
 
 	@Override
 	public void removeElementImage(ElementId id,ImageId imageId) {
 		Element element = elements.fetchElement(id);
+		fingerprints.resetFingerprint(element, IMAGE);
 		manager.removeElementImage(element,imageId);
 	}
 
 	@Override
 	public void removeElementImage(ElementName name, ImageId imageId) {
 		Element element = elements.fetchElement(name);
+		fingerprints.resetFingerprint(element, IMAGE);
 		manager.removeElementImage(element,imageId);
 	}
 
     @Override
     public void setZtpImage(ElementId elementId, ImageId imageId) {
         Element element = elements.fetchElement(elementId);
+        fingerprints.resetFingerprint(element, IMAGE);
         manager.setZtpImage(element,imageId);
     }
 
     @Override
     public void setZtpImage(ElementName elementName, ImageId imageId) {
         Element element = elements.fetchElement(elementName);
+        fingerprints.resetFingerprint(element, IMAGE);
         manager.setZtpImage(element,imageId);
     }
 
     @Override
     public void resetZtpImage(ElementId elementId) {
         Element element = elements.fetchElement(elementId);
+        fingerprints.resetFingerprint(element, IMAGE);
         manager.resetZtpImage(element);
     }
 
     @Override
     public void resetZtpImage(ElementName elementName) {
         Element element = elements.fetchElement(elementName);
+        fingerprints.resetFingerprint(element, IMAGE);
         manager.resetZtpImage(element);
     }
 
@@ -15,6 +15,9 @@
  */
 package io.leitstand.inventory.model;
 
+import static io.leitstand.inventory.model.ElementFingerprintManager.fingerprint;
+import static io.leitstand.inventory.model.Element_Fingerprint.Section.MODULE;
+
 import java.util.List;
 
 import javax.inject.Inject;
@@ -36,15 +39,20 @@ public class DefaultElementModuleService implements ElementModuleService {
 	
 	@Inject
 	private ElementModuleManager manager;
+	
+	@Inject
+	private ElementFingerprintManager fingerprints;
 
 	public DefaultElementModuleService() {
 		// CDI 
 	}
 	
 	DefaultElementModuleService(ElementProvider elements,
-								ElementModuleManager modules){
+								ElementModuleManager modules,
+								ElementFingerprintManager fingerprints){
 		this.elements = elements;
 		this.manager = modules;
+		this.fingerprints = fingerprints;
 	}
 	
 	@Override
@@ -63,8 +71,8 @@ public class DefaultElementModuleService implements ElementModuleService {
 	public void storeElementModules(ElementId id, 
 									List<ModuleData> moduleDatas) {
 		Element element = elements.fetchElement(id);
-		manager.storeElementModules(element,
-									moduleDatas);
+		storeElementModules(element, 
+							moduleDatas);
 	}
 
 	@Override
@@ -72,6 +80,7 @@ public class DefaultElementModuleService implements ElementModuleService {
 									  ModuleName moduleName,
 									  ModuleData moduleData) {
 		Element element = elements.fetchElement(id);
+		fingerprints.resetFingerprint(element, MODULE);
 		return manager.storeElementModule(element, 
 										  moduleName, 
 										  moduleData);
@@ -82,6 +91,7 @@ public class DefaultElementModuleService implements ElementModuleService {
 									  ModuleName moduleName,
 									  ModuleData moduleData) {
 		Element element = elements.fetchElement(name);
+		fingerprints.resetFingerprint(element, MODULE);
 		return manager.storeElementModule(element, 
 										  moduleName, 
 										  moduleData);
@@ -91,6 +101,7 @@ public class DefaultElementModuleService implements ElementModuleService {
 	public void removeElementModule(ElementId elementId, 
 									ModuleName moduleName) {
 		Element element = elements.fetchElement(elementId);
+		fingerprints.resetFingerprint(element, MODULE);
 		manager.removeElementModule(element,
 									moduleName);
 	}
@@ -99,6 +110,7 @@ public class DefaultElementModuleService implements ElementModuleService {
 	public void removeElementModule(ElementName elementName, 
 									ModuleName moduleName) {
 		Element element = elements.fetchElement(elementName);
+		fingerprints.resetFingerprint(element, MODULE);
 		manager.removeElementModule(element,
 									moduleName);
 		
@@ -108,8 +120,8 @@ public class DefaultElementModuleService implements ElementModuleService {
 	public void storeElementModules(ElementName elementName, 
 									List<ModuleData> modules) {
 		Element element = elements.fetchElement(elementName);
-		manager.storeElementModules(element, 
-									modules);
+		storeElementModules(element, 
+							modules);
 	}
 
 	@Override
@@ -138,5 +150,32 @@ public class DefaultElementModuleService implements ElementModuleService {
 		Element element = elements.fetchElement(name);
 		return manager.getElementModule(element, moduleName);
 	}
+	
+	private void storeElementModules(Element element, 
+									 List<ModuleData> modules) {
+		String digest = fingerprint(modules, 
+									module -> new Object[] {module.getModuleName(),
+															module.getModuleClass(),
+															module.getParentModule(),
+															module.getAdministrativeState(),
+															module.getSerialNumber(),
+															module.getAssetId(),
+															module.getDescription(),
+															module.isFieldReplaceableUnit(),
+															module.getHardwareRevision(),
+															module.getSoftwareRevision(),
+															module.getFirmwareRevision(),
+															module.getManufacturerName(),
+															module.getDateManufactured(),
+															module.getModelName(),
+															module.getVendorType(),
+															module.getLocation()});
+		if(fingerprints.isUnchanged(element, MODULE, digest)) {
+			return;
+		}
+		manager.storeElementModules(element, 
+									modules);
+		fingerprints.storeFingerprint(element, MODULE, digest);
+	}
 
 }
@@ -15,6 +15,10 @@
  */
 package io.leitstand.inventory.model;
 
+import static io.leitstand.commons.model.ObjectUtil.optional;
+import static io.leitstand.inventory.model.ElementFingerprintManager.fingerprint;
+import static io.leitstand.inventory.model.Element_Fingerprint.Section.IFP;
+
 import java.util.List;
 
 import javax.inject.Inject;
@@ -40,15 +44,20 @@ public class DefaultElementPhysicalInterfaceService implements ElementPhysicalIn
 	
 	@Inject
 	private ElementPhysicalInterfaceManager inventory;
+	
+	@Inject
+	private ElementFingerprintManager fingerprints;
 
 	public DefaultElementPhysicalInterfaceService() {
 		// CDI
 	}
 	
 	DefaultElementPhysicalInterfaceService(ElementProvider elements, 
-								   ElementPhysicalInterfaceManager manager){
+								   ElementPhysicalInterfaceManager manager,
+								   ElementFingerprintManager fingerprints){
 		this.elements = elements;
 		this.inventory = manager;
+		this.fingerprints = fingerprints;
 	}
 
 	@Override
@@ -78,60 +87,91 @@ public class DefaultElementPhysicalInterfaceService implements ElementPhysicalIn
 	@Override
 	public boolean storePhysicalInterface(ElementId elementId, ElementPhysicalInterfaceSubmission submission) {
 		Element element = elements.fetchElement(elementId);
+		fingerprints.resetFingerprint(element, IFP);
 		return inventory.storePhysicalInterface(element,submission);
 	}
 
 	@Override
 	public boolean storePhysicalInterface(ElementName elementName, ElementPhysicalInterfaceSubmission submission) {
 		Element element = elements.fetchElement(elementName);
+		fingerprints.resetFingerprint(element, IFP);
 		return inventory.storePhysicalInterface(element,submission);
 	}
 
 	@Override
 	public void storePhysicalInterfaces(ElementId elementId, List<ElementPhysicalInterfaceSubmission> submissions) {
 		Element element = elements.fetchElement(elementId);
-		inventory.storePhysicalInterfaces(element,submissions);
+		storePhysicalInterfaces(element, submissions);
 	}
 
 	@Override
 	public void storePhysicalInterfaces(ElementName elementName, List<ElementPhysicalInterfaceSubmission> submissions) {
 		Element element = elements.fetchElement(elementName);
-		inventory.storePhysicalInterfaces(element,submissions);
+		storePhysicalInterfaces(element, submissions);
+	}
+	
+	private void storePhysicalInterfaces(Element element, List<ElementPhysicalInterfaceSubmission> submissions) {
+		String digest = fingerprint(submissions, 
+									ifp -> new Object[] {ifp.getIfpName(),
+														 ifp.getIfpAlias(),
+														 ifp.getCategory(),
+														 ifp.getBandwidth(),
+														 ifp.getMacAddress(),
+														 ifp.getAdministrativeState(),
+														 ifp.getOperationalState(),
+														 ifp.getIfcName(),
+														 optional(ifp.getNeighbor(),ElementPhysicalInterfaceNeighbor::getElementName),
+														 optional(ifp.getNeighbor(),ElementPhysicalInterfaceNeighbor::getInterfaceName)});
+		if(fingerprints.isUnchanged(element, IFP, digest)) {
+			return;
+		}
+		if(inventory.storePhysicalInterfaces(element, submissions)) {
+			fingerprints.storeFingerprint(element, IFP, digest);
+		} else {
+			// Process the next submission again to retry resolving unknown neighbors.
+			fingerprints.resetFingerprint(element, IFP);
+		}
 	}
 
 	@Override
 	public void removePhysicalInterface(ElementId elementId, InterfaceName name) {
 		Element element = elements.fetchElement(elementId);
+		fingerprints.resetFingerprint(element, IFP);
 		inventory.removePhysicalInterface(element,name);
 	}
 
 	@Override
 	public void removePhysicalInterface(ElementName elementName, InterfaceName name) {
 		Element element = elements.fetchElement(elementName);
+		fingerprints.resetFingerprint(element, IFP);
 		inventory.removePhysicalInterface(element,name);
 	}
 
 	@Override
 	public void storePhysicalInterfaceNeighbor(ElementId elementId, InterfaceName ifpName, ElementPhysicalInterfaceNeighbor link) {
 		Element element = elements.fetchElement(elementId);
+		fingerprints.resetFingerprint(element, IFP);
 		inventory.storePhysicalNeighborInterface(element,ifpName,link);
 	}
 
 	@Override
 	public void storePhysicalInterfaceNeighbor(ElementName elementName, InterfaceName ifpName, ElementPhysicalInterfaceNeighbor link) {
 		Element element = elements.fetchElement(elementName);
+		fingerprints.resetFingerprint(element, IFP);
 		inventory.storePhysicalNeighborInterface(element,ifpName,link);
 	}
 
 	@Override
 	public void removePhysicalInterfaceNeighbor(ElementId elementId, InterfaceName ifpName) {
 		Element element = elements.fetchElement(elementId);
+		fingerprints.resetFingerprint(element, IFP);
 		inventory.removePhysicalInterfaceNeighbor(element,ifpName);
 	}
 
 	@Override
 	public void removePhysicalInterfaceNeighbor(ElementName elementName, InterfaceName ifpName) {
 		Element element = elements.fetchElement(elementName);
+		fingerprints.resetFingerprint(element, IFP);
 		inventory.removePhysicalInterfaceNeighbor(element,ifpName);
 	}
 	
@@ -140,6 +180,7 @@ public class DefaultElementPhysicalInterfaceService implements ElementPhysicalIn
 													   InterfaceName ifpName,
 													   OperationalState opState) {
 		Element element = elements.fetchElement(name);
+		fingerprints.resetFingerprint(element, IFP);
 		inventory.updatePhysicalLinkOperationalState(element,ifpName, opState);
 	}
 
@@ -148,6 +189,7 @@ public class DefaultElementPhysicalInterfaceService implements ElementPhysicalIn
 													   InterfaceName ifpName, 
 													   OperationalState opState) {
 		Element element = elements.fetchElement(id);
+		fingerprints.resetFingerprint(element, IFP);
 		inventory.updatePhysicalLinkOperationalState(element,ifpName, opState);
 	}
 
@@ -156,6 +198,7 @@ public class DefaultElementPhysicalInterfaceService implements ElementPhysicalIn
 														  InterfaceName ifpName,
 														  AdministrativeState admState) {
 		Element element = elements.fetchElement(name);
+		fingerprints.resetFingerprint(element, IFP);
 		inventory.updatePhysicalLinkAdministrativeState(element,ifpName, admState);
 
 	}
@@ -165,6 +208,7 @@ public class DefaultElementPhysicalInterfaceService implements ElementPhysicalIn
 														  InterfaceName ifpName,
 														  AdministrativeState admState) {
 		Element element = elements.fetchElement(id);
+		fingerprints.resetFingerprint(element, IFP);
 		inventory.updatePhysicalLinkAdministrativeState(element,ifpName, admState);
 		
 	}
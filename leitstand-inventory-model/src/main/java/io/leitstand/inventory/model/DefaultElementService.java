@@ -20,11 +20,13 @@ import java.util.List;
 import javax.inject.Inject;
 
 import io.leitstand.commons.model.Service;
+import io.leitstand.inventory.service.ElementGroupId;
 import io.leitstand.inventory.service.ElementId;
 import io.leitstand.inventory.service.ElementName;
 import io.leitstand.inventory.service.ElementService;
 import io.leitstand.inventory.service.ElementSettings;
 import io.leitstand.inventory.service.OperationalState;
+import io.leitstand.inventory.service.PageCursor;
 
 @Service
 public class DefaultElementService implements ElementService {
@@ -33,16 +35,32 @@ public class DefaultElementService implements ElementService {
 	
 	private ElementManager manager;
 	
+	private ElementGroupProvider groups;
+	
+	private ElementBatchManager batches;
+	
 	
 	public DefaultElementService() {
 		// EJB constructor
 	}
 	
-	@Inject
 	DefaultElementService(ElementManager manager,
 			  			  ElementProvider elements){
+		this(manager,
+			 elements,
+			 null,
+			 null);
+	}
+	
+	@Inject
+	DefaultElementService(ElementManager manager,
+			  			  ElementProvider elements,
+			  			  ElementGroupProvider groups,
+			  			  ElementBatchManager batches){
 		this.elements  = elements;
 		this.manager = manager;
+		this.groups = groups;
+		this.batches = batches;
 	}
 
 	@Override
@@ -50,45 +68,100 @@ public class DefaultElementService implements ElementService {
 													int offset, 
 													int items) {
 		return manager.filterElementsByName(filter,
+											null,
 											offset,
 											items);
 	}
 
+	@Override
+	public List<ElementSettings> findElementsByName(String filter, 
+													PageCursor after, 
+													int items) {
+		return manager.filterElementsByName(filter,
+											after,
+											0,
+											items);
+	}
+
 	@Override
 	public List<ElementSettings> findElementsByNameOrTag(String filter, 
 														 int offset, 
 														 int items) {
 		return manager.filterElementsByNameOrTag(filter,
+											   	 null,
 											   	 offset,
 											   	 items);
 	}
 
+	@Override
+	public List<ElementSettings> findElementsByNameOrTag(String filter, 
+														 PageCursor after, 
+														 int items) {
+		return manager.filterElementsByNameOrTag(filter,
+											   	 after,
+											   	 0,
+											   	 items);
+	}
+
 	@Override
 	public List<ElementSettings> findElementsByAssetId(String filter, 
 													   int offset, 
 													   int items) {
 		return manager.filterElementsByAssetId(filter,
+											   null,
 											   offset,
 											   items);
 	}
 
+	@Override
+	public List<ElementSettings> findElementsByAssetId(String filter, 
+													   PageCursor after, 
+													   int items) {
+		return manager.filterElementsByAssetId(filter,
+											   after,
+											   0,
+											   items);
+	}
+
 	@Override
 	public List<ElementSettings> findElementsBySerialNumber(String filter, 
 															int offset, 
 															int items) {
 		return manager.filterElementsBySerialNumber(filter,
+												  	null,
 												  	offset,
 												  	items);
 	}
 
+	@Override
+	public List<ElementSettings> findElementsBySerialNumber(String filter, 
+															PageCursor after, 
+															int items) {
+		return manager.filterElementsBySerialNumber(filter,
+												  	after,
+												  	0,
+												  	items);
+	}
+
 	@Override
 	public List<ElementSettings> findElementsByManagementIP(String filter, 
 															int offset, 
 															int items) {
 		return manager.filterElementsByManagementIP(filter,
+												 	null,
 												 	offset,
 												 	items);
 	}
+
+	@Override
+	public List<ElementSettings> findElementsByManagementIP(String filter, 
+															PageCursor after, 
+															int items) {
+		return manager.filterElementsByManagementIP(filter,
+												 	after,
+												 	0,
+												 	items);
+	}
 	
 	@Override
 	public void removeElement(ElementId elementId) {
@@ -122,6 +195,16 @@ public class DefaultElementService implements ElementService {
 		}
 	}
 	
+	@Override
+	public void forceRemoveElements(ElementGroupId groupId) {
+		batches.forceRemoveElements(groups.fetchElementGroup(groupId));
+	}
+	
+	@Override
+	public void forceRemoveElements(List<ElementId> elementIds) {
+		batches.forceRemoveElements(elementIds);
+	}
+	
 	
 	@Override
 	public void updateElementOperationalState(ElementId id, OperationalState state) {
@@ -18,6 +18,8 @@ package io.leitstand.inventory.model;
 import static io.leitstand.inventory.event.ElementAddedEvent.newElementAddedEvent;
 import static io.leitstand.inventory.event.ElementSettingsUpdatedEvent.newElementSettingsUpdatedEvent;
 
+import java.util.List;
+
 import javax.enterprise.event.Event;
 import javax.inject.Inject;
 
@@ -25,6 +27,7 @@ import io.leitstand.commons.EntityNotFoundException;
 import io.leitstand.commons.model.Service;
 import io.leitstand.inventory.event.ElementEvent;
 import io.leitstand.inventory.event.ElementEvent.ElementEventBuilder;
+import io.leitstand.inventory.model.ElementImportManager.ElementImportResult;
 import io.leitstand.inventory.service.ElementId;
 import io.leitstand.inventory.service.ElementName;
 import io.leitstand.inventory.service.ElementSettings;
@@ -39,6 +42,9 @@ public class DefaultElementSettingsService implements ElementSettingsService {
 	@Inject
 	private ElementSettingsManager inventory;
 
+	@Inject
+	private ElementImportManager importer;
+	
 	@Inject
 	private Event<ElementEvent> sink;
 	
@@ -49,7 +55,18 @@ public class DefaultElementSettingsService implements ElementSettingsService {
 	DefaultElementSettingsService(ElementSettingsManager inventory, 
 								  ElementProvider elements,
 								  Event<ElementEvent> sink) {
+		this(inventory,
+			 null,
+			 elements,
+			 sink);
+	}
+	
+	DefaultElementSettingsService(ElementSettingsManager inventory, 
+								  ElementImportManager importer,
+								  ElementProvider elements,
+								  Event<ElementEvent> sink) {
 		this.inventory = inventory;
+		this.importer = importer;
 		this.elements = elements;
 		this.sink = sink;
 	}
@@ -84,6 +101,21 @@ public class DefaultElementSettingsService implements ElementSettingsService {
 	}
 	
 	
+	@Override
+	public void storeElementSettings(List<ElementSettings> settings) {
+		ElementImportResult result = importer.importElements(settings);
+		// Fire the events deferred by the import once all elements have been stored.
+		result.getEvents().forEach(sink::fire);
+		for(ElementSettings element : result.getCreated()) {
+			fire(newElementAddedEvent(),
+				 element);
+		}
+		for(ElementSettings element : result.getUpdated()) {
+			fire(newElementSettingsUpdatedEvent(),
+				 element);
+		}
+	}
+	
 	private <E extends ElementEvent,B extends ElementEventBuilder<E,B>> void fire(B event, ElementSettings settings) {
 		sink.fire(event.withGroupId(settings.getGroupId())
 					   .withGroupName(settings.getGroupName())
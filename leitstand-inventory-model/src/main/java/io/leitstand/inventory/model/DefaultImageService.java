@@ -28,6 +28,7 @@ import static io.leitstand.inventory.model.Checksum.newChecksum;
 import static io.leitstand.inventory.model.DefaultPackageService.packageVersionInfo;
 import static io.leitstand.inventory.model.DeploymentStatisticAggregator.aggregateImageCounters;
 import static io.leitstand.inventory.model.ElementRole.findRoleByName;
+import static io.leitstand.inventory.model.Element_Fingerprint.removeImageFingerprints;
 import static io.leitstand.inventory.model.Image.countElementImageReferences;
 import static io.leitstand.inventory.model.Image.countReleaseImageReferences;
 import static io.leitstand.inventory.model.Image.findImageById;
@@ -36,6 +37,7 @@ import static io.leitstand.inventory.model.Image.findReleaseImage;
 import static io.leitstand.inventory.model.Image.markAllSuperseded;
 import static io.leitstand.inventory.model.Image.restoreCandidates;
 import static io.leitstand.inventory.model.Image.searchImages;
+import static io.leitstand.inventory.model.Image_DeploymentCount.removeImageCounts;
 import static io.leitstand.inventory.model.Platform.findByChipset;
 import static io.leitstand.inventory.service.ElementAlias.elementAlias;
 import static io.leitstand.inventory.service.ElementGroupId.groupId;
@@ -391,6 +393,8 @@ public class DefaultImageService implements ImageService {
         }
 		
 		ImageInfo info = imageInfo(image);
+		repository.execute(removeImageFingerprints(image));
+		repository.execute(removeImageCounts(image));
 		repository.remove(image);
 		messages.add(createMessage(IVT0203I_IMAGE_REMOVED,
 								   image.getImageName()));
@@ -413,6 +417,8 @@ public class DefaultImageService implements ImageService {
 		}
 		ImageState prev = image.getImageState();
 		image.setImageState(state);
+		// Process the next image submission of all elements having this image installed.
+		repository.execute(removeImageFingerprints(image));
 		sink.fire(newImageStateChangedEvent()
 				  .withImageId(image.getImageId())
 				  .withOrganization(image.getOrganization())
@@ -474,20 +480,22 @@ public class DefaultImageService implements ImageService {
 		
 		db.processQuery(prepare(
 						   "WITH image_stats (id, uuid, name, state, count) AS ("+
-						   "SELECT i.id, i.uuid, i.name, i.state, count(*) "+
+						   "SELECT i.id, i.uuid, i.name, i.state, sum(c.elements) "+
 						   "FROM inventory.image i "+
-						   "JOIN inventory.element_image e "+
-						   "ON i.id = e.image_id "+
+						   "JOIN inventory.image_deployment_count c "+
+						   "ON i.id = c.image_id "+
 						   "WHERE i.name ~ ? "+
 						   "OR i.id IN ("+
 						   "SELECT image_id "+
 						   "FROM inventory.image_tag t "+
 						   "WHERE t.tag ~ ?) "+
-						   "GROUP BY i.id, i.uuid, i.name, i.state) "+
+						   "GROUP BY i.id, i.uuid, i.name, i.state "+
+						   "HAVING sum(c.elements) > 0) "+
 						   "SELECT s.uuid, s.name, s.state, s.count, t.tag "+
 						   "FROM image_stats s "+
 						   "LEFT OUTER JOIN inventory.image_tag t "+
-						   "ON s.id = t.image_id ",
+						   "ON s.id = t.image_id "+
+						   "ORDER BY s.name",
 						   filter,
 						   filter),
 						aggregator
@@ -503,16 +511,14 @@ public class DefaultImageService implements ImageService {
 		ImageInfo image = getImage(imageId);
 		Map<String,ImageStatisticsElementGroupImageCount.Builder> stats = new TreeMap<>();
 		db.processQuery(prepare(
-		                "SELECT g.uuid, g.type, g.name, ei.state, count(*) "+
+		                "SELECT g.uuid, g.type, g.name, c.state, c.elements "+
 						"FROM inventory.image i "+
-						"JOIN inventory.element_image ei "+
-						"ON ei.image_id = i.id "+
-						"JOIN inventory.element e "+
-						"ON e.id = ei.element_id "+
+						"JOIN inventory.image_deployment_count c "+
+						"ON c.image_id = i.id "+
 						"JOIN inventory.elementgroup g "+
-						"ON g.id = e.elementgroup_id "+
+						"ON g.id = c.elementgroup_id "+
 						"WHERE i.uuid=? "+
-						"GROUP BY g.uuid, g.type, g.name, ei.state ", 
+						"AND c.elements > 0", 
 						image.getImageId()),
 						rs -> {
 						    String groupName = rs.getString(3);
@@ -661,6 +667,8 @@ public class DefaultImageService implements ImageService {
     public void removeImage(@Valid ImageName imageName) {
     	Image image = repository.execute(findImageByName(imageName));
     	if (image != null) {
+    		repository.execute(removeImageFingerprints(image));
+    		repository.execute(removeImageCounts(image));
     		repository.remove(image);
     	}
     }
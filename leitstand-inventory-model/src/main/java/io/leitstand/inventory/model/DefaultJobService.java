@@ -0,0 +1,161 @@
+/*
+ * Copyright 2020 RtBrick Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.leitstand.inventory.model;
+
+import static io.leitstand.commons.messages.MessageFactory.createMessage;
+import static io.leitstand.inventory.model.Job.cancelJob;
+import static io.leitstand.inventory.model.Job.findJobById;
+import static io.leitstand.inventory.model.Job.findJobs;
+import static io.leitstand.inventory.service.JobInfo.newJobInfo;
+import static io.leitstand.inventory.service.ReasonCode.IVT1100E_JOB_NOT_FOUND;
+import static io.leitstand.inventory.service.ReasonCode.IVT1102I_JOB_CANCELLED;
+import static io.leitstand.inventory.service.ReasonCode.IVT1103E_JOB_NOT_CANCELLABLE;
+import static io.leitstand.inventory.service.ReasonCode.IVT1104I_JOB_REMOVED;
+import static io.leitstand.inventory.service.ReasonCode.IVT1105E_JOB_NOT_REMOVABLE;
+import static java.lang.String.format;
+import static java.util.stream.Collectors.toList;
+
+import java.util.List;
+import java.util.logging.Logger;
+
+import javax.inject.Inject;
+
+import io.leitstand.commons.ConflictException;
+import io.leitstand.commons.EntityNotFoundException;
+import io.leitstand.commons.messages.Messages;
+import io.leitstand.commons.model.Repository;
+import io.leitstand.commons.model.Service;
+import io.leitstand.inventory.service.JobId;
+import io.leitstand.inventory.service.JobInfo;
+import io.leitstand.inventory.service.JobService;
+import io.leitstand.inventory.service.JobState;
+
+@Service
+public class DefaultJobService implements JobService {
+	
+	private static final Logger LOG = Logger.getLogger(DefaultJobService.class.getName());
+
+	static JobInfo jobInfo(Job job) {
+		return newJobInfo()
+			   .withJobId(job.getJobId())
+			   .withJobType(job.getJobType())
+			   .withJobName(job.getJobName())
+			   .withJobState(job.getJobState())
+			   .withDateSubmitted(job.getDateSubmitted())
+			   .withDateStarted(job.getDateStarted())
+			   .withDateCompleted(job.getDateCompleted())
+			   .withEstimatedCompletion(job.getEstimatedCompletion())
+			   .withItemsTotal(job.getItemsTotal())
+			   .withItemsProcessed(job.getItemsProcessed())
+			   .withItemsFailed(job.getItemsFailed())
+			   .withProgress(job.getProgress())
+			   .withMessage(job.getMessage())
+			   .build();
+	}
+	
+	@Inject
+	@Inventory
+	private Repository repository;
+	
+	@Inject
+	private Messages messages;
+	
+	protected DefaultJobService() {
+		// CDI
+	}
+	
+	DefaultJobService(Repository repository, Messages messages){
+		this.repository = repository;
+		this.messages = messages;
+	}
+	
+	@Override
+	public JobInfo getJob(JobId jobId) {
+		return jobInfo(fetchJob(jobId));
+	}
+
+	@Override
+	public List<JobInfo> getJobs(JobState state, int limit) {
+		return repository.execute(findJobs(state, limit))
+						 .stream()
+						 .map(DefaultJobService::jobInfo)
+						 .collect(toList());
+	}
+
+	@Override
+	public void cancelJob(JobId jobId) {
+		Job job = fetchJob(jobId);
+		// The job can terminate after it has been read. Only the conditional update tells whether the job was cancelled.
+		if(job.isTerminated() || repository.execute(cancelJob(jobId)) == 0) {
+			LOG.fine(() -> format("%s: Job %s (%s) cannot be cancelled because the job is %s.",
+								  IVT1103E_JOB_NOT_CANCELLABLE.getReasonCode(),
+								  jobId,
+								  job.getJobName(),
+								  job.getJobState()));
+			throw new ConflictException(IVT1103E_JOB_NOT_CANCELLABLE, 
+										jobId, 
+										job.getJobName(), 
+										job.getJobState());
+		}
+		LOG.fine(() -> format("%s: Job %s (%s) cancelled.",
+							  IVT1102I_JOB_CANCELLED.getReasonCode(),
+							  jobId,
+							  job.getJobName()));
+		messages.add(createMessage(IVT1102I_JOB_CANCELLED, 
+								   jobId, 
+								   job.getJobName()));
+	}
+
+	@Override
+	public void removeJob(JobId jobId) {
+		Job job = repository.execute(findJobById(jobId));
+		if(job == null) {
+			return;
+		}
+		if(!job.isTerminated()) {
+			LOG.fine(() -> format("%s: Job %s (%s) cannot be removed because the job is %s.",
+								  IVT1105E_JOB_NOT_REMOVABLE.getReasonCode(),
+								  jobId,
+								  job.getJobName(),
+								  job.getJobState()));
+			throw new ConflictException(IVT1105E_JOB_NOT_REMOVABLE, 
+										jobId, 
+										job.getJobName(), 
+										job.getJobState());
+		}
+		repository.remove(job);
+		LOG.fine(() -> format("%s: Job %s (%s) removed.",
+							  IVT1104I_JOB_REMOVED.getReasonCode(),
+							  jobId,
+							  job.getJobName()));
+		messages.add(createMessage(IVT1104I_JOB_REMOVED, 
+								   jobId, 
+								   job.getJobName()));
+	}
+	
+	private Job fetchJob(JobId jobId) {
+		Job job = repository.execute(findJobById(jobId));
+		if(job == null) {
+			LOG.fine(() -> format("%s: Job %s not found.", 
+								  IVT1100E_JOB_NOT_FOUND.getReasonCode(),
+								  jobId));
+			throw new EntityNotFoundException(IVT1100E_JOB_NOT_FOUND, 
+											  jobId);
+		}
+		return job;
+	}
+
+}
@@ -6,6 +6,7 @@ import static io.leitstand.inventory.model.Rack.findRacksByFacility;
 import static io.leitstand.inventory.model.Rack.findRacksByName;
 import static io.leitstand.inventory.model.Rack_Item.findRackItem;
 import static io.leitstand.inventory.model.Rack_Item.findRackItemByUnit;
+import static io.leitstand.inventory.model.Rack_Item.findRackItems;
 import static io.leitstand.inventory.service.RackItem.newRackItem;
 import static io.leitstand.inventory.service.RackItemData.newRackItemData;
 import static io.leitstand.inventory.service.RackItems.newRackItems;
@@ -67,7 +68,7 @@ public class DefaultRackService implements RackService{
 			   .build();
 	}
 	
-	static RackItems rackItems(Rack rack) {
+	static RackItems rackItems(Rack rack, List<Rack_Item> items) {
 		return newRackItems()
 			   .withFacilityId(rack.getFacilityId())
 			   .withFacilityType(rack.getFacilityType())
@@ -79,7 +80,7 @@ public class DefaultRackService implements RackService{
 			   .withUnits(rack.getUnits())
 			   .withAscending(rack.isAscending())
 			   .withDescription(rack.getDescription())
-			   .withRackItems(rack.getItems()
+			   .withRackItems(items
 					   		  .stream()
 					   		  .map(item -> rackItem(item))
 					   		  .collect(toList()))
@@ -170,6 +171,12 @@ public class DefaultRackService implements RackService{
 	public RackItems getRackItems(RackName rackName) {
 		return rackItems(racks.fetchRack(rackName));
 	}
+	
+	private RackItems rackItems(Rack rack) {
+		// Read all items with their elements, groups, roles and platforms in a constant number of statements.
+		return rackItems(rack, 
+						 repository.execute(findRackItems(rack)));
+	}
 
 	@Override
 	public boolean storeRack(RackSettings settings) {
@@ -17,6 +17,7 @@ package io.leitstand.inventory.model;
 
 import static io.leitstand.commons.messages.MessageFactory.createMessage;
 import static io.leitstand.inventory.event.ElementRetiredEvent.newElementRetiredEvent;
+import static io.leitstand.inventory.model.Element_Fingerprint.removeFingerprints;
 import static io.leitstand.inventory.model.Element_PhysicalInterface.findIfps;
 import static io.leitstand.inventory.model.Element_Service.findElementServices;
 import static io.leitstand.inventory.service.AdministrativeState.RETIRED;
@@ -25,6 +26,7 @@ import static java.lang.String.format;
 import static java.util.logging.Logger.getLogger;
 import static javax.persistence.LockModeType.OPTIMISTIC_FORCE_INCREMENT;
 
+import java.util.List;
 import java.util.logging.Logger;
 
 import javax.enterprise.event.Event;
@@ -35,6 +37,7 @@ import io.leitstand.commons.model.Repository;
 import io.leitstand.commons.model.Service;
 import io.leitstand.inventory.event.ElementEvent;
 import io.leitstand.inventory.service.AdministrativeState;
+import io.leitstand.inventory.service.ElementGroupId;
 import io.leitstand.inventory.service.ElementId;
 import io.leitstand.inventory.service.ElementName;
 import io.leitstand.inventory.service.OperationalState;
@@ -48,6 +51,12 @@ public class DefaultRetireElementService implements RetireElementService {
 	@Inject
 	private ElementProvider elements;
 	
+	@Inject
+	private ElementGroupProvider groups;
+	
+	@Inject
+	private ElementBatchManager batches;
+	
 	@Inject
 	@Inventory
 	private Repository repository;
@@ -68,6 +77,16 @@ public class DefaultRetireElementService implements RetireElementService {
 		retireElement(elements.fetchElement(elementName));
 	}
 	
+	@Override
+	public void retireElements(ElementGroupId groupId) {
+		batches.retireElements(groups.fetchElementGroup(groupId));
+	}
+	
+	@Override
+	public void retireElements(List<ElementId> elementIds) {
+		batches.retireElements(elementIds);
+	}
+	
 	protected void retireElement(Element element) {
 		repository.lock(element, OPTIMISTIC_FORCE_INCREMENT);
 		
@@ -78,6 +97,7 @@ public class DefaultRetireElementService implements RetireElementService {
 			ifp.setOperationalState(OperationalState.DOWN);
 			ifp.removeNeighbor();
 		}
+		repository.execute(removeFingerprints(element));
 		for(Element_Service service : repository.execute(findElementServices(element))) {
 			service.setOperationalState(OperationalState.DOWN);
 		}
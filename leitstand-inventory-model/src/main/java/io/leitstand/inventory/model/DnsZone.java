@@ -16,15 +16,25 @@
 package io.leitstand.inventory.model;
 
 import static io.leitstand.commons.json.SerializableJsonObject.serializable;
+import static io.leitstand.inventory.model.ReferenceDataCache.EXPIRY;
+import static io.leitstand.inventory.model.ReferenceDataCache.EXPIRY_HINT;
+import static org.eclipse.persistence.config.HintValues.TRUE;
+import static org.eclipse.persistence.config.QueryHints.QUERY_RESULTS_CACHE;
+import static org.eclipse.persistence.config.QueryHints.QUERY_RESULTS_CACHE_EXPIRY;
+import static org.eclipse.persistence.config.QueryHints.QUERY_RESULTS_CACHE_IGNORE_NULL;
 
 import java.util.List;
 
 import javax.json.JsonObject;
+import javax.persistence.Cacheable;
 import javax.persistence.Convert;
 import javax.persistence.Entity;
 import javax.persistence.NamedQuery;
+import javax.persistence.QueryHint;
 import javax.persistence.Table;
 
+import org.eclipse.persistence.annotations.Cache;
+
 import io.leitstand.commons.jpa.SerializableJsonObjectConverter;
 import io.leitstand.commons.json.SerializableJsonObject;
 import io.leitstand.commons.model.Query;
@@ -35,13 +45,21 @@ import io.leitstand.inventory.service.DnsZoneId;
 import io.leitstand.inventory.service.DnsZoneName;
 
 @Entity
+@Cacheable
+@Cache(expiry=EXPIRY)
 @Table(schema="inventory", name="dnszone")
 @NamedQuery(name="DnsZone.findDnsZones",
 			query="SELECT z FROM DnsZone z WHERE CAST (z.name as text) REGEXP :filter")
 @NamedQuery(name="DnsZone.findByName",
-			query="SELECT z FROM DnsZone z WHERE z.name=:name")
+			query="SELECT z FROM DnsZone z WHERE z.name=:name",
+			hints={@QueryHint(name=QUERY_RESULTS_CACHE, value=TRUE),
+			       @QueryHint(name=QUERY_RESULTS_CACHE_EXPIRY, value=EXPIRY_HINT),
+			       @QueryHint(name=QUERY_RESULTS_CACHE_IGNORE_NULL, value=TRUE)})
 @NamedQuery(name="DnsZone.findById",
-	   		query="SELECT z FROM DnsZone z WHERE z.uuid=:id")
+	   		query="SELECT z FROM DnsZone z WHERE z.uuid=:id",
+	   		hints={@QueryHint(name=QUERY_RESULTS_CACHE, value=TRUE),
+	   		       @QueryHint(name=QUERY_RESULTS_CACHE_EXPIRY, value=EXPIRY_HINT),
+	   		       @QueryHint(name=QUERY_RESULTS_CACHE_IGNORE_NULL, value=TRUE)})
 @NamedQuery(name="DnsZone.findAllElements",
 			query="SELECT r FROM Element_DnsRecordSet r WHERE r.dnsZone=:zone ")
 @NamedQuery(name="DnsZone.removeAllRecords",
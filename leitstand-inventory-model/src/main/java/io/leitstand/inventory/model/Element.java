@@ -19,11 +19,14 @@ import static io.leitstand.inventory.service.AdministrativeState.ACTIVE;
 import static io.leitstand.inventory.service.AdministrativeState.NEW;
 import static io.leitstand.inventory.service.OperationalState.OPERATIONAL;
 import static io.leitstand.inventory.service.OperationalState.UP;
+import static java.util.Collections.emptySet;
 import static java.util.Collections.unmodifiableMap;
 import static java.util.Collections.unmodifiableSet;
 import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toMap;
 import static javax.persistence.CascadeType.PERSIST;
+import static org.eclipse.persistence.annotations.BatchFetchType.IN;
 
 import java.util.Collection;
 import java.util.HashMap;
@@ -45,6 +48,8 @@ import javax.persistence.MapKey;
 import javax.persistence.NamedQuery;
 import javax.persistence.Table;
 
+import org.eclipse.persistence.annotations.BatchFetch;
+
 import io.leitstand.commons.model.Query;
 import io.leitstand.commons.model.VersionableEntity;
 import io.leitstand.inventory.jpa.AdministrativeStateConverter;
@@ -63,6 +68,7 @@ import io.leitstand.inventory.service.ElementName;
 import io.leitstand.inventory.service.ElementRoleName;
 import io.leitstand.inventory.service.MACAddress;
 import io.leitstand.inventory.service.OperationalState;
+import io.leitstand.inventory.service.PageCursor;
 import io.leitstand.inventory.service.Plane;
 import io.leitstand.inventory.service.PlatformName;
 
@@ -72,22 +78,44 @@ import io.leitstand.inventory.service.PlatformName;
 			query="SELECT e FROM Element e WHERE e.uuid=:id")
 @NamedQuery(name="Element.findByElementName", 
 			query="SELECT e FROM Element e WHERE e.elementName=:name OR e.elementAlias=:alias")
+@NamedQuery(name="Element.findByElementIds", 
+			query="SELECT e FROM Element e WHERE e.uuid IN :ids")
+@NamedQuery(name="Element.findByElementNames", 
+			query="SELECT e FROM Element e WHERE e.elementName IN :names OR e.elementAlias IN :aliases")
 @NamedQuery(name="Element.findByElementGroupAndElementRoleAndPlatform",
 			query="SELECT e FROM Element e WHERE e.group=:group AND e.role=:role AND e.platform=:platform")
 @NamedQuery(name="Element.findByElementGroupAndElementRole",
-			query="SELECT e FROM Element e WHERE e.group=:group AND e.role=:role")
+			query="SELECT e FROM Element e LEFT JOIN FETCH e.platform WHERE e.group=:group AND e.role=:role ORDER BY e.elementName")
 @NamedQuery(name="Element.findByElementNamePattern", 
-			query="SELECT e FROM Element e WHERE CAST(e.elementName AS TEXT) REGEXP :name  OR  CAST(e.elementAlias AS TEXT) REGEXP :name  ORDER by e.group.name ASC, e.elementName ASC")
+			query="SELECT e FROM Element e WHERE (CAST(e.elementName AS TEXT) REGEXP :name  OR  CAST(e.elementAlias AS TEXT) REGEXP :name) AND CAST(e.group.name AS TEXT) >= :afterGroup AND (CAST(e.group.name AS TEXT) > :afterGroup OR CAST(e.elementName AS TEXT) > :afterElement) ORDER by e.group.name ASC, e.elementName ASC")
 @NamedQuery(name="Element.findByElementNameOrTag", 
-			query="SELECT DISTINCT e FROM Element e LEFT JOIN e.tags t WHERE CAST(e.elementName AS TEXT) REGEXP :pattern  OR  CAST(e.elementAlias AS TEXT) REGEXP :pattern OR t LIKE :pattern ORDER by e.group.name ASC, e.elementName ASC")
+			query="SELECT DISTINCT e FROM Element e LEFT JOIN e.tags t WHERE (CAST(e.elementName AS TEXT) REGEXP :pattern  OR  CAST(e.elementAlias AS TEXT) REGEXP :pattern OR t LIKE :pattern) AND CAST(e.group.name AS TEXT) >= :afterGroup AND (CAST(e.group.name AS TEXT) > :afterGroup OR CAST(e.elementName AS TEXT) > :afterElement) ORDER by e.group.name ASC, e.elementName ASC")
+@NamedQuery(name="Element.findByElementNameLike", 
+			query="SELECT e FROM Element e WHERE (CAST(e.elementName AS TEXT) LIKE :name ESCAPE '!' OR CAST(e.elementAlias AS TEXT) LIKE :name ESCAPE '!') AND CAST(e.group.name AS TEXT) >= :afterGroup AND (CAST(e.group.name AS TEXT) > :afterGroup OR CAST(e.elementName AS TEXT) > :afterElement) ORDER by e.group.name ASC, e.elementName ASC")
+@NamedQuery(name="Element.findByElementNameOrTagLike", 
+			query="SELECT DISTINCT e FROM Element e LEFT JOIN e.tags t WHERE (CAST(e.elementName AS TEXT) LIKE :pattern ESCAPE '!' OR CAST(e.elementAlias AS TEXT) LIKE :pattern ESCAPE '!' OR t LIKE :pattern ESCAPE '!') AND CAST(e.group.name AS TEXT) >= :afterGroup AND (CAST(e.group.name AS TEXT) > :afterGroup OR CAST(e.elementName AS TEXT) > :afterElement) ORDER by e.group.name ASC, e.elementName ASC")
 @NamedQuery(name="Element.findByManagementIP", 
-		    query="SELECT DISTINCT e FROM Element e JOIN e.managementInterfaces m WHERE m.hostname REGEXP :pattern ORDER by e.group.name ASC, e.elementName ASC")
+		    query="SELECT DISTINCT e FROM Element e JOIN e.managementInterfaces m WHERE (m.hostname REGEXP :pattern) AND CAST(e.group.name AS TEXT) >= :afterGroup AND (CAST(e.group.name AS TEXT) > :afterGroup OR CAST(e.elementName AS TEXT) > :afterElement) ORDER by e.group.name ASC, e.elementName ASC")
 @NamedQuery(name="Element.findBySerialNumber", 
-			query="SELECT e FROM Element e WHERE e.serialNumber REGEXP :pattern ORDER by e.group.name ASC, e.elementName ASC")
+			query="SELECT e FROM Element e WHERE (e.serialNumber REGEXP :pattern) AND CAST(e.group.name AS TEXT) >= :afterGroup AND (CAST(e.group.name AS TEXT) > :afterGroup OR CAST(e.elementName AS TEXT) > :afterElement) ORDER by e.group.name ASC, e.elementName ASC")
 @NamedQuery(name="Element.findByAssetId", 
-			query="SELECT e FROM Element e WHERE e.assetId REGEXP :pattern ORDER by e.group.name ASC, e.elementName ASC")
+			query="SELECT e FROM Element e WHERE (e.assetId REGEXP :pattern) AND CAST(e.group.name AS TEXT) >= :afterGroup AND (CAST(e.group.name AS TEXT) > :afterGroup OR CAST(e.elementName AS TEXT) > :afterElement) ORDER by e.group.name ASC, e.elementName ASC")
+@NamedQuery(name="Element.findByManagementIPLike", 
+		    query="SELECT DISTINCT e FROM Element e JOIN e.managementInterfaces m WHERE (m.hostname LIKE :pattern ESCAPE '!') AND CAST(e.group.name AS TEXT) >= :afterGroup AND (CAST(e.group.name AS TEXT) > :afterGroup OR CAST(e.elementName AS TEXT) > :afterElement) ORDER by e.group.name ASC, e.elementName ASC")
+@NamedQuery(name="Element.findBySerialNumberLike", 
+			query="SELECT e FROM Element e WHERE (e.serialNumber LIKE :pattern ESCAPE '!') AND CAST(e.group.name AS TEXT) >= :afterGroup AND (CAST(e.group.name AS TEXT) > :afterGroup OR CAST(e.elementName AS TEXT) > :afterElement) ORDER by e.group.name ASC, e.elementName ASC")
+@NamedQuery(name="Element.findByAssetIdLike", 
+			query="SELECT e FROM Element e WHERE (e.assetId LIKE :pattern ESCAPE '!') AND CAST(e.group.name AS TEXT) >= :afterGroup AND (CAST(e.group.name AS TEXT) > :afterGroup OR CAST(e.elementName AS TEXT) > :afterElement) ORDER by e.group.name ASC, e.elementName ASC")
+@NamedQuery(name="Element.findAll",
+			query="SELECT e FROM Element e JOIN FETCH e.group JOIN FETCH e.role LEFT JOIN FETCH e.platform ORDER BY e.uuid")
+@NamedQuery(name="Element.findByElementGroupId",
+			query="SELECT e FROM Element e JOIN FETCH e.role LEFT JOIN FETCH e.platform WHERE e.group.uuid=:group ORDER BY e.elementName")
 @NamedQuery(name="Element.findByElementGroupAndPlane",
 			query="SELECT e FROM Element e WHERE e.group=:group AND e.role.plane=:plane")
+@NamedQuery(name="Element.findElementIdsByGroupId",
+			query="SELECT e.uuid FROM Element e WHERE e.group.uuid=:group ORDER BY e.elementName")
+@NamedQuery(name="Element.findElementNamesByIdsAndAdministrativeState",
+			query="SELECT e.elementName FROM Element e WHERE e.uuid IN :ids AND e.admState=:state")
 
 public class Element extends VersionableEntity {
 	private static final long serialVersionUID = 1L;
@@ -105,51 +133,176 @@ public class Element extends VersionableEntity {
 					   .getSingleResult();
 	}
 
+	public static Query<List<Element>> findElementsByIds(Collection<ElementId> ids) {
+		return em -> em.createNamedQuery("Element.findByElementIds",Element.class)
+					   .setParameter("ids",ids.stream()
+							   				  .map(ElementId::toString)
+							   				  .collect(toList()))
+					   .getResultList();
+	}
+
+	public static Query<List<ElementId>> findElementIdsByGroupId(ElementGroupId groupId) {
+		return em -> em.createNamedQuery("Element.findElementIdsByGroupId",String.class)
+					   .setParameter("group",groupId.toString())
+					   .getResultList()
+					   .stream()
+					   .map(ElementId::valueOf)
+					   .collect(toList());
+	}
+	
+	public static Query<List<ElementName>> findElementNamesByIds(Collection<ElementId> ids, 
+																 AdministrativeState state) {
+		return em -> em.createNamedQuery("Element.findElementNamesByIdsAndAdministrativeState",ElementName.class)
+					   .setParameter("ids",ids.stream()
+							   				  .map(ElementId::toString)
+							   				  .collect(toList()))
+					   .setParameter("state",state)
+					   .getResultList();
+	}
+
+	public static Query<List<Element>> findElementsByNames(Collection<ElementName> names) {
+		return em -> em.createNamedQuery("Element.findByElementNames",Element.class)
+					   .setParameter("names",names)
+					   .setParameter("aliases",names.stream()
+							   						.map(name -> ElementAlias.valueOf(name))
+							   						.collect(toList()))
+					   .getResultList();
+	}
+
+	private static String afterGroup(PageCursor after) {
+		// The empty string precedes all group names and selects the first page.
+		return after != null ? after.getKey(0) : "";
+	}
+	
+	private static String afterElement(PageCursor after) {
+		return after != null ? after.getKey(1) : "";
+	}
+
 	public static Query<List<Element>> findElementsByName(String pattern, 
+														  PageCursor after,
 														  int offset, 
 														  int limit){
 		return em -> em.createNamedQuery("Element.findByElementNamePattern",Element.class)
 					   .setParameter("name", pattern)
+					   .setParameter("afterGroup", afterGroup(after))
+					   .setParameter("afterElement", afterElement(after))
+					   .setFirstResult(offset)
+					   .setMaxResults(limit)
+					   .getResultList();
+	}
+
+	public static Query<List<Element>> findElementsByNameLike(String likePattern, 
+	                                                          PageCursor after,
+	                                                          int offset, 
+	                                                          int limit){
+		return em -> em.createNamedQuery("Element.findByElementNameLike",Element.class)
+					   .setParameter("name", likePattern)
+					   .setParameter("afterGroup", afterGroup(after))
+					   .setParameter("afterElement", afterElement(after))
 					   .setFirstResult(offset)
 					   .setMaxResults(limit)
 					   .getResultList();
 	}
 	
 	public static Query<List<Element>> findElementsByNameOrTag(String pattern, 
+			  												   PageCursor after,
 			  												   int offset, 
 			  												   int limit){
 		return em -> em.createNamedQuery("Element.findByElementNameOrTag",Element.class)
 					   .setParameter("pattern", pattern)
+					   .setParameter("afterGroup", afterGroup(after))
+					   .setParameter("afterElement", afterElement(after))
+					   .setFirstResult(offset)
+					   .setMaxResults(limit)
+					   .getResultList();
+	}
+
+	public static Query<List<Element>> findElementsByNameOrTagLike(String likePattern, 
+	                                                               PageCursor after,
+	                                                               int offset, 
+	                                                               int limit){
+		return em -> em.createNamedQuery("Element.findByElementNameOrTagLike",Element.class)
+					   .setParameter("pattern", likePattern)
+					   .setParameter("afterGroup", afterGroup(after))
+					   .setParameter("afterElement", afterElement(after))
 					   .setFirstResult(offset)
 					   .setMaxResults(limit)
 					   .getResultList();
 	}
 	
 	public static Query<List<Element>> findElementsBySerialNumber(String pattern, 
+																  PageCursor after,
 																  int offset, 
 																  int limit){
 		return em -> em.createNamedQuery("Element.findBySerialNumber",Element.class)
 					   .setParameter("pattern", pattern)
+					   .setParameter("afterGroup", afterGroup(after))
+					   .setParameter("afterElement", afterElement(after))
+					   .setFirstResult(offset)
+					   .setMaxResults(limit)
+					   .getResultList();
+	}
+
+	public static Query<List<Element>> findElementsBySerialNumberLike(String likePattern, 
+	                                                                  PageCursor after,
+	                                                                  int offset, 
+	                                                                  int limit){
+		return em -> em.createNamedQuery("Element.findBySerialNumberLike",Element.class)
+					   .setParameter("pattern", likePattern)
+					   .setParameter("afterGroup", afterGroup(after))
+					   .setParameter("afterElement", afterElement(after))
 					   .setFirstResult(offset)
 					   .setMaxResults(limit)
 					   .getResultList();
 	}
 	
 	public static Query<List<Element>> findElementsByAssetId(String pattern, 
+															 PageCursor after,
 															 int offset, 
 															 int limit){
 		return em -> em.createNamedQuery("Element.findByAssetId",Element.class)
 					   .setParameter("pattern", pattern)
+					   .setParameter("afterGroup", afterGroup(after))
+					   .setParameter("afterElement", afterElement(after))
+					   .setFirstResult(offset)
+					   .setMaxResults(limit)
+					   .getResultList();
+	}
+
+	public static Query<List<Element>> findElementsByAssetIdLike(String likePattern, 
+	                                                             PageCursor after,
+	                                                             int offset, 
+	                                                             int limit){
+		return em -> em.createNamedQuery("Element.findByAssetIdLike",Element.class)
+					   .setParameter("pattern", likePattern)
+					   .setParameter("afterGroup", afterGroup(after))
+					   .setParameter("afterElement", afterElement(after))
 					   .setFirstResult(offset)
 					   .setMaxResults(limit)
 					   .getResultList();
 	}
 	
 	public static Query<List<Element>> findElementsByManagementIP(String pattern, 
+															      PageCursor after,
 															      int offset, 
 															      int limit){
 		return em -> em.createNamedQuery("Element.findByManagementIP",Element.class)
 					   .setParameter("pattern", pattern)
+					   .setParameter("afterGroup", afterGroup(after))
+					   .setParameter("afterElement", afterElement(after))
+					   .setFirstResult(offset)
+					   .setMaxResults(limit)
+					   .getResultList();
+	}
+
+	public static Query<List<Element>> findElementsByManagementIPLike(String likePattern, 
+	                                                                  PageCursor after,
+	                                                                  int offset, 
+	                                                                  int limit){
+		return em -> em.createNamedQuery("Element.findByManagementIPLike",Element.class)
+					   .setParameter("pattern", likePattern)
+					   .setParameter("afterGroup", afterGroup(after))
+					   .setParameter("afterElement", afterElement(after))
 					   .setFirstResult(offset)
 					   .setMaxResults(limit)
 					   .getResultList();
@@ -174,6 +327,20 @@ public class Element extends VersionableEntity {
 	}
 	
 	
+	public static Query<List<Element>> findAllElements(int offset, 
+													   int limit){
+		return em -> em.createNamedQuery("Element.findAll",Element.class)
+					   .setFirstResult(offset)
+					   .setMaxResults(limit)
+					   .getResultList();
+	}
+	
+	public static Query<List<Element>> findElementsByGroupId(ElementGroupId groupId){
+		return em -> em.createNamedQuery("Element.findByElementGroupId",Element.class)
+					   .setParameter("group", groupId.toString())
+					   .getResultList();
+	}
+	
 	public static Query<List<Element>> findElementsByGroupAndPlane(ElementGroup group, 
 														   		   Plane plane){
 		return em -> em.createNamedQuery("Element.findByElementGroupAndPlane",Element.class)
@@ -200,6 +367,7 @@ public class Element extends VersionableEntity {
 	
 	
 	@ElementCollection
+	@BatchFetch(IN)
 	@CollectionTable(schema="inventory",
 					 name="element_management_interface", 
 					 joinColumns=@JoinColumn(name="element_id"))	
@@ -212,14 +380,17 @@ public class Element extends VersionableEntity {
 	private OperationalState opState;
 	
 	@ManyToOne(cascade=PERSIST)
+	@BatchFetch(IN)
 	@JoinColumn(name="platform_id")
 	private Platform platform;
 	
 	@ManyToOne(cascade=PERSIST)
+	@BatchFetch(IN)
 	@JoinColumn(name="elementgroup_id")
 	private ElementGroup group;
 	
 	@ManyToOne(cascade=PERSIST)
+	@BatchFetch(IN)
 	@JoinColumn(name="elementrole_id")
 	private ElementRole role;
 	
@@ -235,6 +406,7 @@ public class Element extends VersionableEntity {
 
 	
 	@ElementCollection
+	@BatchFetch(IN)
 	@CollectionTable(schema="inventory", 
 					 name="element_tag", 
 					 joinColumns=@JoinColumn(name="element_id"))
@@ -387,7 +559,11 @@ public class Element extends VersionableEntity {
 	}
 	
 	protected void setElementManagementInterfaces(Collection<ElementManagementInterface> interfaces) {
-		this.managementInterfaces = interfaces.stream().collect(toMap(ElementManagementInterface::getName,identity()));
+		Map<String,ElementManagementInterface> updated = interfaces.stream().collect(toMap(ElementManagementInterface::getName,identity()));
+		// Replace the collection only if the interfaces were modified to not rewrite all rows unnecessarily.
+		if(!updated.equals(this.managementInterfaces)) {
+			this.managementInterfaces = updated;
+		}
 	}
 	
 	protected ElementName setElementName(ElementName name) {
@@ -421,10 +597,13 @@ public class Element extends VersionableEntity {
 	}
 	
 	protected void setTags(Set<String> tags){
-		this.tags.clear();
-		if(tags!=null) {
-			this.tags.addAll(tags);
+		Set<String> updated = tags != null ? tags : emptySet();
+		if(this.tags.equals(updated)) {
+			// Tags not modified.
+			return;
 		}
+		this.tags.clear();
+		this.tags.addAll(updated);
 	}
 
 	public ElementGroupId getGroupId() {
@@ -0,0 +1,331 @@
+/*
+ * Copyright 2020 RtBrick Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.leitstand.inventory.model;
+
+import static io.leitstand.commons.messages.MessageFactory.createMessage;
+import static io.leitstand.inventory.event.ElementBatchEvent.BatchElement.newBatchElement;
+import static io.leitstand.inventory.event.ElementsRemovedEvent.newElementsRemovedEvent;
+import static io.leitstand.inventory.event.ElementsRetiredEvent.newElementsRetiredEvent;
+import static io.leitstand.inventory.model.Element.findElementIdsByGroupId;
+import static io.leitstand.inventory.model.Element.findElementNamesByIds;
+import static io.leitstand.inventory.model.Element.findElementsByIds;
+import static io.leitstand.inventory.model.Element_Config.removeAllConfigurations;
+import static io.leitstand.inventory.model.Element_ContainerInterface.removeIfcs;
+import static io.leitstand.inventory.model.Element_DnsRecordSet.removeDnsRecordSets;
+import static io.leitstand.inventory.model.Element_Environment.removeEnvironments;
+import static io.leitstand.inventory.model.Element_Fingerprint.removeFingerprints;
+import static io.leitstand.inventory.model.Element_Fingerprint.removeNeighborFingerprints;
+import static io.leitstand.inventory.model.Element_Image.removeElementImages;
+import static io.leitstand.inventory.model.Element_LogicalInterface.removeIfls;
+import static io.leitstand.inventory.model.Element_Module.removeModules;
+import static io.leitstand.inventory.model.Element_PhysicalInterface.removeIfps;
+import static io.leitstand.inventory.model.Element_PhysicalInterface.removeNeighbors;
+import static io.leitstand.inventory.model.Element_PhysicalInterface.retireIfps;
+import static io.leitstand.inventory.model.Element_Service.removeServices;
+import static io.leitstand.inventory.model.Element_Service.updateOperationalState;
+import static io.leitstand.inventory.model.Element_ServiceContext.removeServiceContexts;
+import static io.leitstand.inventory.model.Image_DeploymentCount.countElementImages;
+import static io.leitstand.inventory.model.Rack_Item.removeRackItems;
+import static io.leitstand.inventory.service.AdministrativeState.ACTIVE;
+import static io.leitstand.inventory.service.AdministrativeState.RETIRED;
+import static io.leitstand.inventory.service.OperationalState.DOWN;
+import static io.leitstand.inventory.service.ReasonCode.IVT0303E_ELEMENT_NOT_REMOVABLE;
+import static io.leitstand.inventory.service.ReasonCode.IVT0309I_ELEMENTS_RETIRED;
+import static io.leitstand.inventory.service.ReasonCode.IVT0313I_ELEMENTS_REMOVED;
+import static java.lang.Boolean.TRUE;
+import static java.lang.Math.min;
+import static java.lang.String.format;
+import static java.util.logging.Level.FINE;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toList;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import javax.enterprise.context.Dependent;
+import javax.enterprise.event.Event;
+import javax.inject.Inject;
+
+import io.leitstand.commons.ConflictException;
+import io.leitstand.commons.messages.Messages;
+import io.leitstand.commons.model.Repository;
+import io.leitstand.commons.tx.SubtransactionService;
+import io.leitstand.inventory.event.ElementBatchEvent;
+import io.leitstand.inventory.event.ElementBatchEvent.ElementBatchEventBuilder;
+import io.leitstand.inventory.service.ElementId;
+import io.leitstand.inventory.service.ElementName;
+
+/**
+ * Retires and removes sets of elements.
+ * <p>
+ * The elements are processed in batches. 
+ * Every batch is committed in a subtransaction, such that the size of a transaction does not depend on the number of processed elements.
+ * Each cleanup step is executed once per batch for all elements of the batch rather than once per element, 
+ * and a single {@link ElementBatchEvent} is fired per element group and batch.
+ * The batch size can be set by the <code>leitstand.inventory.element.batch.size</code> system property and defaults to 100.
+ * <p>
+ * When executed as a job, the progress is reported to the {@link JobContext} after every batch
+ * and the processing stops after the current batch when the job gets cancelled.
+ */
+@Dependent
+public class ElementBatchManager {
+	
+	private static final Logger LOG = Logger.getLogger(ElementBatchManager.class.getName());
+	
+	static final int DEFAULT_BATCH_SIZE = Integer.getInteger("leitstand.inventory.element.batch.size", 100);
+
+	private Repository repository;
+	private SubtransactionService transactions;
+	private Event<ElementBatchEvent> sink;
+	private Messages messages;
+	private JobContext job;
+	private int batchSize;
+	
+	protected ElementBatchManager() {
+		// CDI
+	}
+	
+	@Inject
+	public ElementBatchManager(@Inventory Repository repository,
+							   @Inventory SubtransactionService transactions,
+							   Event<ElementBatchEvent> sink,
+							   Messages messages,
+							   JobContext job) {
+		this(repository,
+			 transactions,
+			 sink,
+			 messages,
+			 job,
+			 DEFAULT_BATCH_SIZE);
+	}
+	
+	ElementBatchManager(Repository repository,
+						SubtransactionService transactions,
+						Event<ElementBatchEvent> sink,
+						Messages messages,
+						JobContext job,
+						int batchSize) {
+		this.repository = repository;
+		this.transactions = transactions;
+		this.sink = sink;
+		this.messages = messages;
+		this.job = job;
+		this.batchSize = batchSize;
+	}
+	
+	/**
+	 * Retires all elements of the given element group.
+	 * @param group the element group
+	 * @return the number of retired elements
+	 */
+	public int retireElements(ElementGroup group) {
+		return retireElements(repository.execute(findElementIdsByGroupId(group.getGroupId())));
+	}
+	
+	/**
+	 * Removes all elements of the given element group and all their assigned resources.
+	 * @param group the element group
+	 * @return the number of removed elements
+	 * @throws ConflictException if an element of the group is active.
+	 */
+	public int forceRemoveElements(ElementGroup group) {
+		return forceRemoveElements(repository.execute(findElementIdsByGroupId(group.getGroupId())));
+	}
+	
+	/**
+	 * Retires the given elements.
+	 * Unknown elements are ignored.
+	 * @param elementIds the element IDs
+	 * @return the number of retired elements
+	 */
+	public int retireElements(List<ElementId> elementIds) {
+		int retired = process(elementIds, 
+							  "retired", 
+							  this::retire);
+		messages.add(createMessage(IVT0309I_ELEMENTS_RETIRED, 
+								   retired,
+								   elementIds.size()));
+		job.setMessage(format("%d of %d elements retired.",
+							  retired,
+							  elementIds.size()));
+		return retired;
+	}
+	
+	/**
+	 * Removes the given elements and all their assigned resources.
+	 * Unknown elements are ignored.
+	 * @param elementIds the element IDs
+	 * @return the number of removed elements
+	 * @throws ConflictException if one of the elements is active.
+	 */
+	public int forceRemoveElements(List<ElementId> elementIds) {
+		// Verify that all elements are removable before any element gets removed.
+		for(int i=0; i < elementIds.size(); i+=batchSize) {
+			List<ElementName> active = repository.execute(findElementNamesByIds(elementIds.subList(i, min(i+batchSize, elementIds.size())),
+																				ACTIVE));
+			if(!active.isEmpty()) {
+				throw new ConflictException(IVT0303E_ELEMENT_NOT_REMOVABLE, 
+											active.get(0));
+			}
+		}
+		int removed = process(elementIds, 
+							  "removed", 
+							  this::forceRemove);
+		messages.add(createMessage(IVT0313I_ELEMENTS_REMOVED, 
+								   removed,
+								   elementIds.size()));
+		job.setMessage(format("%d of %d elements removed.",
+							  removed,
+							  elementIds.size()));
+		return removed;
+	}
+	
+	private int process(List<ElementId> elementIds, 
+						String operation,
+						BiConsumer<Repository,List<Element>> task) {
+		int processed = 0;
+		int failed = 0;
+		job.setItemsTotal(elementIds.size());
+		for(int i=0; i < elementIds.size() && !job.isCancelled(); i+=batchSize) {
+			List<ElementId> batch = elementIds.subList(i, min(i+batchSize, elementIds.size()));
+			Integer count = run(batch, task);
+			if(count != null) {
+				processed += count;
+				job.progress(count, 0);
+			} else {
+				failed += batch.size();
+				job.progress(0, batch.size());
+			}
+			int done = processed;
+			int skipped = failed;
+			LOG.info(() -> format("%d of %d elements %s, %d elements failed.",
+								  done,
+								  elementIds.size(),
+								  operation,
+								  skipped));
+		}
+		return processed;
+	}
+	
+	private Integer run(List<ElementId> batch, 
+						BiConsumer<Repository,List<Element>> task) {
+		int[] processed = new int[1];
+		try {
+			Boolean committed = transactions.run(tx -> { List<Element> elements = tx.execute(findElementsByIds(batch));
+														 task.accept(tx, elements);
+														 processed[0] = elements.size();},
+												 tx -> TRUE);
+			return TRUE.equals(committed) ? processed[0] : null;
+		} catch (Exception e) {
+			LOG.log(FINE,e.getMessage(),e);
+			return null;
+		}
+	}
+	
+	/**
+	 * Retires a batch of elements in the specified subtransaction.
+	 * @param tx the repository of the subtransaction
+	 * @param elements the elements to be retired
+	 */
+	void retire(Repository tx, List<Element> elements) {
+		if(elements.isEmpty()) {
+			return;
+		}
+		for(Element element : elements) {
+			element.setOperationalState(DOWN);
+			element.setAdministrativeState(RETIRED);
+		}
+		int ifps = tx.execute(retireIfps(elements));
+		tx.execute(removeFingerprints(elements));
+		int services = tx.execute(updateOperationalState(elements, DOWN));
+		LOG.fine(() -> format("Retired %d elements including %d physical interfaces and %d services.",
+							  elements.size(),
+							  ifps,
+							  services));
+		fireBatchEvents(elements, 
+						() -> newElementsRetiredEvent());
+	}
+
+	/**
+	 * Removes a batch of elements and all their assigned resources in the specified subtransaction.
+	 * @param tx the repository of the subtransaction
+	 * @param elements the elements to be removed
+	 * @throws ConflictException if one of the elements is active.
+	 */
+	void forceRemove(Repository tx, List<Element> elements) {
+		if(elements.isEmpty()) {
+			return;
+		}
+		for(Element element : elements) {
+			if(element.isActive()) {
+				throw new ConflictException(IVT0303E_ELEMENT_NOT_REMOVABLE, 
+											element.getElementName());
+			}
+		}
+		
+		tx.execute(removeAllConfigurations(elements));
+		tx.execute(removeEnvironments(elements));
+		tx.execute(removeDnsRecordSets(elements));
+		tx.execute(removeIfls(elements));
+		// Neighbors must process their next physical interface submission in order to detect the removed neighbor elements.
+		tx.execute(removeNeighborFingerprints(elements));
+		tx.execute(removeNeighbors(elements));
+		tx.execute(removeIfps(elements));
+		tx.execute(removeIfcs(elements));
+		tx.execute(removeServiceContexts(elements));
+		tx.execute(removeServices(elements));
+		tx.execute(removeModules(elements));
+		tx.execute(removeFingerprints(elements));
+		tx.execute(countElementImages(elements, -1));
+		tx.execute(removeElementImages(elements));
+		tx.execute(removeRackItems(elements));
+		
+		for(Element element : elements) {
+			tx.remove(element);
+		}
+		LOG.fine(() -> format("Removed %d elements including all assigned resources.",
+							  elements.size()));
+		fireBatchEvents(elements, 
+						() -> newElementsRemovedEvent());
+	}
+	
+	private void fireBatchEvents(List<Element> elements, 
+								 Supplier<ElementBatchEventBuilder<?,?>> events) {
+		Map<ElementGroup,List<Element>> groups = elements.stream()
+														 .collect(groupingBy(Element::getGroup,
+																 			 LinkedHashMap::new,
+																 			 toList()));
+		for(Map.Entry<ElementGroup,List<Element>> group : groups.entrySet()) {
+			ElementBatchEventBuilder<?,?> event = events.get();
+			event.withGroupId(group.getKey().getGroupId());
+			event.withGroupName(group.getKey().getGroupName());
+			event.withGroupType(group.getKey().getGroupType());
+			event.withElements(group.getValue()
+									.stream()
+									.map(element -> newBatchElement(element.getElementId(),
+																	element.getElementName(),
+																	element.getElementAlias(),
+																	element.getElementRoleName()))
+									.collect(toList()));
+			sink.fire(event.build());
+		}
+	}
+	
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2020 RtBrick Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.leitstand.inventory.model;
+
+import static io.leitstand.commons.model.ByteArrayUtil.encodeBase36String;
+import static io.leitstand.inventory.model.Element_Fingerprint.findDigest;
+import static io.leitstand.inventory.model.Element_Fingerprint.removeFingerprint;
+import static io.leitstand.inventory.model.Element_Fingerprint.storeDigest;
+import static io.leitstand.inventory.service.ElementSubmissionStatistics.newElementSubmissionStatistics;
+import static io.leitstand.security.crypto.SecureHashes.sha256;
+import static java.lang.String.format;
+import static java.util.stream.Collectors.joining;
+
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import io.leitstand.commons.model.Repository;
+import io.leitstand.inventory.model.Element_Fingerprint.Section;
+import io.leitstand.inventory.service.ElementSubmissionStatistics;
+import io.leitstand.inventory.service.ElementSubmissionStatisticsService;
+
+/**
+ * Detects resubmissions of unchanged element inventory data.
+ * <p>
+ * The <code>ElementFingerprintManager</code> computes a fingerprint of a bulk submission and compares it 
+ * with the fingerprint of the last processed submission of the same element inventory section.
+ * Identical resubmissions can be skipped without loading or touching any entity.
+ * The manager counts the processed and skipped submissions per section and exposes the counters
+ * as {@link ElementSubmissionStatistics}.
+ * <p>
+ * All operations modifying an element inventory section outside of a bulk submission must 
+ * {@link #resetFingerprint(Element, Section) reset} the fingerprint of the section in order to enforce
+ * that the next bulk submission is processed.
+ */
+@ApplicationScoped
+public class ElementFingerprintManager implements ElementSubmissionStatisticsService {
+
+	private static final Logger LOG = Logger.getLogger(ElementFingerprintManager.class.getName());
+	
+	/**
+	 * Computes the fingerprint of a bulk submission.
+	 * The fingerprint is independent of the order of the submitted items.
+	 * @param items the submitted items
+	 * @param fields function to obtain all fields of an item that shall be covered by the fingerprint
+	 * @return the Base36-encoded SHA-256 hash of the canonical submission.
+	 */
+	static <T> String fingerprint(Collection<T> items, Function<T,Object[]> fields) {
+		String canonical = items.stream()
+								.map(item -> Stream.of(fields.apply(item))
+												   .map(String::valueOf)
+												   .collect(joining("\t")))
+								.sorted()
+								.collect(joining("\n"));
+		return encodeBase36String(sha256().hash(canonical));
+	}
+	
+	private Repository repository;
+	private Map<Section,AtomicLong> processed;
+	private Map<Section,AtomicLong> skipped;
+	
+	protected ElementFingerprintManager() {
+		// CDI
+	}
+	
+	@Inject
+	protected ElementFingerprintManager(@Inventory Repository repository) {
+		this.repository = repository;
+		this.processed = new EnumMap<>(Section.class);
+		this.skipped = new EnumMap<>(Section.class);
+		for(Section section : Section.values()) {
+			processed.put(section, new AtomicLong());
+			skipped.put(section, new AtomicLong());
+		}
+	}
+	
+	/**
+	 * Tests whether the given fingerprint matches the fingerprint of the last processed submission.
+	 * @param element the element
+	 * @param section the inventory section
+	 * @param digest the fingerprint of the current submission
+	 * @return <code>true</code> if the submission is unchanged and can be skipped, <code>false</code> otherwise.
+	 */
+	public boolean isUnchanged(Element element, Section section, String digest) {
+		String fingerprint = repository.execute(findDigest(element, section));
+		if(digest.equals(fingerprint)) {
+			long count = skipped.get(section).incrementAndGet();
+			LOG.fine(() -> format("Skipped unchanged %s submission of element %s (%d %s submissions skipped so far)",
+								  section,
+								  element.getElementName(),
+								  count,
+								  section));
+			return true;
+		}
+		processed.get(section).incrementAndGet();
+		return false;
+	}
+	
+	/**
+	 * Stores the fingerprint of a processed submission.
+	 * @param element the element
+	 * @param section the inventory section
+	 * @param digest the fingerprint of the processed submission
+	 */
+	public void storeFingerprint(Element element, Section section, String digest) {
+		repository.execute(storeDigest(element, section, digest));
+	}
+	
+	/**
+	 * Resets the fingerprint of an element inventory section. 
+	 * The next submission for this section is processed regardless of whether it was submitted before.
+	 * @param element the element
+	 * @param section the inventory section
+	 */
+	public void resetFingerprint(Element element, Section section) {
+		repository.execute(removeFingerprint(element, section));
+	}
+	
+	/**
+	 * Returns the number of processed submissions of the given section since the application was started.
+	 * @param section the inventory section
+	 * @return the number of processed submissions.
+	 */
+	public long getProcessedSubmissions(Section section) {
+		return processed.get(section).get();
+	}
+
+	/**
+	 * Returns the number of skipped submissions of the given section since the application was started.
+	 * @param section the inventory section
+	 * @return the number of skipped submissions.
+	 */
+	public long getSkippedSubmissions(Section section) {
+		return skipped.get(section).get();
+	}
+	
+	@Override
+	public List<ElementSubmissionStatistics> getSubmissionStatistics() {
+		List<ElementSubmissionStatistics> statistics = new ArrayList<>();
+		for(Section section : Section.values()) {
+			statistics.add(newElementSubmissionStatistics()
+						   .withSection(section.name())
+						   .withProcessedSubmissions(getProcessedSubmissions(section))
+						   .withSkippedSubmissions(getSkippedSubmissions(section))
+						   .build());
+		}
+		return statistics;
+	}
+	
+}
@@ -18,8 +18,10 @@ package io.leitstand.inventory.model;
 import static io.leitstand.commons.model.ObjectUtil.optional;
 import static java.util.Collections.unmodifiableList;
 import static java.util.Collections.unmodifiableSortedSet;
+import static java.util.stream.Collectors.toList;
 import static javax.persistence.CascadeType.PERSIST;
 
+import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
@@ -49,6 +51,7 @@ import io.leitstand.inventory.service.ElementGroupType;
 import io.leitstand.inventory.service.FacilityId;
 import io.leitstand.inventory.service.FacilityName;
 import io.leitstand.inventory.service.FacilityType;
+import io.leitstand.inventory.service.PageCursor;
 import io.leitstand.inventory.service.Plane;
 
 @Entity
@@ -56,14 +59,16 @@ import io.leitstand.inventory.service.Plane;
 @NamedQueries({
 @NamedQuery(name="ElementGroup.findByGroupId", 
 			query="SELECT g FROM ElementGroup g WHERE g.uuid=:id"),
+@NamedQuery(name="ElementGroup.findByGroupIds", 
+			query="SELECT g FROM ElementGroup g WHERE g.uuid IN :ids"),
 @NamedQuery(name="ElementGroup.findByGroupName",
 			query="SELECT g FROM ElementGroup g WHERE g.name=:name AND g.type=:type ORDER BY g.name"),
 @NamedQuery(name="ElementGroup.findByGroupNamePattern", 
-			query="SELECT g FROM ElementGroup g WHERE CAST(g.name AS TEXT) REGEXP :name AND g.type=:type ORDER BY g.name"),
+			query="SELECT g FROM ElementGroup g WHERE CAST(g.name AS TEXT) REGEXP :name AND g.type=:type AND CAST(g.name AS TEXT) > :after ORDER BY g.name"),
 @NamedQuery(name="ElementGroup.findAll", 
-			query="SELECT g FROM ElementGroup g WHERE g.type=:type ORDER BY g.name"),
+			query="SELECT g FROM ElementGroup g WHERE g.type=:type AND CAST(g.name AS TEXT) > :after ORDER BY g.name"),
 @NamedQuery(name="ElementGroup.findPlaneElements", 
-			query="SELECT e FROM Element e WHERE e.role.plane=:plane AND e.group=:group ORDER BY e.elementName"),
+			query="SELECT e FROM Element e JOIN FETCH e.role LEFT JOIN FETCH e.platform WHERE e.role.plane=:plane AND e.group=:group ORDER BY e.elementName"),
 @NamedQuery(name="ElementGroup.findUpdatableElements", 
 			query="SELECT e FROM Element e "+
 				  "WHERE e.role=:role AND e.group=:group "+
@@ -82,6 +87,14 @@ public class ElementGroup extends VersionableEntity {
 					   .getSingleResult();
 	}
 	
+	public static Query<List<ElementGroup>> findElementGroupsByIds(Collection<ElementGroupId> ids){
+		return em -> em.createNamedQuery("ElementGroup.findByGroupIds",ElementGroup.class)
+					   .setParameter("ids", ids.stream()
+							   				   .map(ElementGroupId::toString)
+							   				   .collect(toList()))
+					   .getResultList();
+	}
+	
 	public static Query<ElementGroup> findElementGroupByName(ElementGroupType groupType, 
 															 ElementGroupName groupName){
 		return em -> em.createNamedQuery("ElementGroup.findByGroupName",ElementGroup.class)
@@ -92,10 +105,12 @@ public class ElementGroup extends VersionableEntity {
 	
 	public static Query<List<ElementGroup>> findByElementGroupName(ElementGroupType groupType,
 																   String pattern, 
+																   PageCursor after,
 																   int offset, 
 																   int limit){
 		if(pattern == null || pattern.isEmpty()){
 			return findAll(groupType,
+						   after,
 						   offset,
 						   limit);
 		}
@@ -103,21 +118,29 @@ public class ElementGroup extends VersionableEntity {
 		return em -> em.createNamedQuery("ElementGroup.findByGroupNamePattern",ElementGroup.class)
 					   .setParameter("name", pattern)
 					   .setParameter("type", groupType)
+					   .setParameter("after", afterGroup(after))
 					   .setFirstResult(offset)
-					   .setMaxResults(100)
+					   .setMaxResults(limit)
 					   .getResultList();
 	}
 	
 	public static Query<List<ElementGroup>> findAll(ElementGroupType groupType,
+													PageCursor after,
 													int offset, 
 													int limit){
 		return em -> em.createNamedQuery("ElementGroup.findAll",ElementGroup.class)
 					   .setParameter("type", groupType)
+					   .setParameter("after", afterGroup(after))
 					   .setMaxResults(limit)
 					   .setFirstResult(offset)
 					   .getResultList();
 	}
 
+	private static String afterGroup(PageCursor after) {
+		// The empty string precedes all group names and selects the first page.
+		return after != null ? after.getKey(0) : "";
+	}
+
 	public static Query<List<Element>> findPlaneElements(ElementGroup group, Plane plane){
 		return em -> em.createNamedQuery("ElementGroup.findPlaneElements",Element.class)
 					   .setParameter("group",group)
@@ -21,6 +21,7 @@ import static io.leitstand.commons.model.ObjectUtil.isDifferent;
 import static io.leitstand.commons.model.StringUtil.isNonEmptyString;
 import static io.leitstand.commons.rs.ReasonCode.VAL0003E_IMMUTABLE_ATTRIBUTE;
 import static io.leitstand.inventory.model.ElementGroup.findByElementGroupName;
+import static io.leitstand.inventory.model.Image_DeploymentCount.removeGroupCounts;
 import static io.leitstand.inventory.service.AdministrativeState.ACTIVE;
 import static io.leitstand.inventory.service.AdministrativeState.NEW;
 import static io.leitstand.inventory.service.AdministrativeState.administrativeState;
@@ -57,6 +58,7 @@ import io.leitstand.inventory.service.ElementGroupSettings;
 import io.leitstand.inventory.service.ElementGroupStatistics;
 import io.leitstand.inventory.service.ElementGroupType;
 import io.leitstand.inventory.service.OperationalState;
+import io.leitstand.inventory.service.PageCursor;
 
 @Dependent
 class ElementGroupManager{	
@@ -65,16 +67,30 @@ class ElementGroupManager{
 	private DatabaseService db;
 	private Messages messages;
 	private FacilityProvider facilities;
+	private ElementGroupStatisticsCache statistics;
 
+	protected ElementGroupManager(Repository repository,
+								  DatabaseService db,
+								  FacilityProvider facilities,
+								  Messages messages ) {
+		this(repository,
+			 db,
+			 facilities,
+			 messages,
+			 null);
+	}
+	
 	@Inject
 	protected ElementGroupManager(@Inventory Repository repository,
 								  @Inventory DatabaseService db,
 								  FacilityProvider facilities,
-								  Messages messages ) {
+								  Messages messages,
+								  ElementGroupStatisticsCache statistics) {
 		this.repository = repository;
 		this.db = db;
 		this.facilities = facilities;
 		this.messages = messages;
+		this.statistics = statistics;
 	}
 
 	public void storeElementGroupSettings(ElementGroup group, ElementGroupSettings settings) {
@@ -118,6 +134,7 @@ class ElementGroupManager{
 
 	public void removeElementGroup(ElementGroup group){
 		if(group.getElements().isEmpty()){
+			repository.execute(removeGroupCounts(group));
 			repository.remove(group);
 			LOG.fine(()->format("%s: Element %s group %s removed",
 								IVT0102I_GROUP_REMOVED.getReasonCode(),
@@ -163,11 +180,13 @@ class ElementGroupManager{
 	
 	public List<ElementGroupSettings> findGroups(ElementGroupType type,
 												 String filter, 
+												 PageCursor after,
 												 int offset, 
 												 int items) {
 		List<ElementGroupSettings> groups = new LinkedList<>();
 		for(ElementGroup group : repository.execute(findByElementGroupName(type,
 																		   filter,
+																		   after,
 																		   offset,
 																		   items))){
 			groups.add(newElementGroupSettings()
@@ -185,6 +204,10 @@ class ElementGroupManager{
 
 	public List<ElementGroupStatistics> getGroupStatistics(ElementGroupType type, 
 			   											   String filter) {
+		if(statistics != null && !isNonEmptyString(filter)) {
+			// The unfiltered statistics are served from the in-memory element counters.
+			return statistics.getGroupStatistics(type);
+		}
 		List<Object> args = new LinkedList<>();
 		args.add(type);
 		String query = "SELECT g.type, g.name, g.uuid, e.admstate, e.opstate, count(*) "+
@@ -0,0 +1,421 @@
+/*
+ * Copyright 2020 RtBrick Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.leitstand.inventory.model;
+
+import static io.leitstand.commons.db.DatabaseService.prepare;
+import static io.leitstand.inventory.model.Element.findElementsByIds;
+import static io.leitstand.inventory.service.AdministrativeState.ACTIVE;
+import static io.leitstand.inventory.service.AdministrativeState.NEW;
+import static io.leitstand.inventory.service.AdministrativeState.RETIRED;
+import static io.leitstand.inventory.service.AdministrativeState.administrativeState;
+import static io.leitstand.inventory.service.ElementGroupId.groupId;
+import static io.leitstand.inventory.service.ElementGroupName.groupName;
+import static io.leitstand.inventory.service.ElementGroupStatistics.newElementGroupStatistics;
+import static io.leitstand.inventory.service.ElementGroupType.groupType;
+import static io.leitstand.inventory.service.ElementId.elementId;
+import static io.leitstand.inventory.service.OperationalState.DOWN;
+import static io.leitstand.inventory.service.OperationalState.operationalState;
+import static java.lang.Boolean.TRUE;
+import static java.lang.String.format;
+import static java.lang.System.currentTimeMillis;
+import static java.util.Collections.singletonList;
+import static java.util.Comparator.comparing;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static java.util.stream.Collectors.toList;
+import static javax.enterprise.event.TransactionPhase.AFTER_SUCCESS;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.context.Initialized;
+import javax.enterprise.event.Observes;
+import javax.inject.Inject;
+
+import io.leitstand.commons.db.DatabaseService;
+import io.leitstand.commons.tx.SubtransactionService;
+import io.leitstand.inventory.event.ElementActivatedEvent;
+import io.leitstand.inventory.event.ElementAddedEvent;
+import io.leitstand.inventory.event.ElementBatchEvent;
+import io.leitstand.inventory.event.ElementBatchEvent.BatchElement;
+import io.leitstand.inventory.event.ElementClonedEvent;
+import io.leitstand.inventory.event.ElementEvent;
+import io.leitstand.inventory.event.ElementMovedEvent;
+import io.leitstand.inventory.event.ElementOperationalStateChangedEvent;
+import io.leitstand.inventory.event.ElementRemovedEvent;
+import io.leitstand.inventory.event.ElementRetiredEvent;
+import io.leitstand.inventory.event.ElementRoleChangedEvent;
+import io.leitstand.inventory.event.ElementSettingsUpdatedEvent;
+import io.leitstand.inventory.event.ElementsClonedEvent;
+import io.leitstand.inventory.event.ElementsRemovedEvent;
+import io.leitstand.inventory.event.ElementsRetiredEvent;
+import io.leitstand.inventory.service.AdministrativeState;
+import io.leitstand.inventory.service.ElementCloneRequest;
+import io.leitstand.inventory.service.ElementGroupId;
+import io.leitstand.inventory.service.ElementGroupName;
+import io.leitstand.inventory.service.ElementGroupStatistics;
+import io.leitstand.inventory.service.ElementGroupType;
+import io.leitstand.inventory.service.ElementId;
+import io.leitstand.inventory.service.OperationalState;
+
+/**
+ * In-memory element state counters of all element groups.
+ * <p>
+ * The cache tracks the administrative and operational state of all elements with a manageable element role 
+ * and maintains the element counters per group and state, 
+ * such that the unfiltered element group statistics are computed without querying the database.
+ * <p>
+ * The cache is loaded from the database on application startup and updated by element events.
+ * Operational state changes, retired and removed elements are applied in memory.
+ * Added, moved, cloned and updated elements are reloaded from the database, because the event does not convey whether the element role is manageable.
+ * The cache is not bound to a transaction. 
+ * The counters are loaded by plain JDBC queries and the elements affected by an element event are reloaded in a subtransaction.
+ * The cache is reconciled with the database after five minutes to also reflect changes made by other inventory instances 
+ * or changes that do not fire element events, like changing the manageable flag of an element role.
+ * The reconciliation interval can be set in seconds by the 
+ * <code>leitstand.inventory.group.statistics.max.age</code> system property.
+ */
+@ApplicationScoped
+public class ElementGroupStatisticsCache {
+	
+	private static final Logger LOG = Logger.getLogger(ElementGroupStatisticsCache.class.getName());
+
+	static final long MAX_AGE_MILLIS = SECONDS.toMillis(Long.getLong("leitstand.inventory.group.statistics.max.age", 300));
+	
+	static class Statistics {
+		private final Map<ElementId,TrackedElement> elements;
+		private final Map<ElementGroupId,GroupCounters> groups;
+		private volatile long loaded;
+		
+		Statistics(){
+			this.elements = new HashMap<>();
+			this.groups = new HashMap<>();
+			this.loaded = currentTimeMillis();
+		}
+		
+		boolean isExpired() {
+			return currentTimeMillis() - loaded > MAX_AGE_MILLIS;
+		}
+		
+		void expire() {
+			loaded = 0;
+		}
+		
+		synchronized void put(ElementGroupId groupId,
+							  ElementGroupType groupType,
+							  ElementGroupName groupName,
+							  ElementId elementId,
+							  AdministrativeState admState,
+							  OperationalState opState) {
+			remove(elementId);
+			GroupCounters group = groups.computeIfAbsent(groupId, 
+														 id -> new GroupCounters(groupId, groupType));
+			group.groupName = groupName;
+			TrackedElement element = new TrackedElement(groupId, admState, opState);
+			elements.put(elementId, element);
+			group.count(element, 1);
+		}
+		
+		synchronized void remove(ElementId elementId) {
+			TrackedElement element = elements.remove(elementId);
+			if(element == null) {
+				return;
+			}
+			GroupCounters group = groups.get(element.groupId);
+			group.count(element, -1);
+			if(group.isEmpty()) {
+				groups.remove(element.groupId);
+			}
+		}
+		
+		synchronized void update(ElementId elementId,
+								 AdministrativeState admState,
+								 OperationalState opState) {
+			TrackedElement element = elements.get(elementId);
+			if(element == null) {
+				// Element has no manageable role.
+				return;
+			}
+			GroupCounters group = groups.get(element.groupId);
+			group.count(element, -1);
+			TrackedElement updated = new TrackedElement(element.groupId, admState, opState);
+			elements.put(elementId, updated);
+			group.count(updated, 1);
+		}
+		
+		synchronized AdministrativeState getAdministrativeState(ElementId elementId) {
+			TrackedElement element = elements.get(elementId);
+			return element != null ? element.admState : null;
+		}
+		
+		synchronized List<ElementGroupStatistics> getGroupStatistics(ElementGroupType groupType) {
+			return groups.values()
+						 .stream()
+						 .filter(group -> Objects.equals(groupType, group.groupType))
+						 .sorted(comparing((GroupCounters group) -> group.groupName.toString())
+								 .thenComparing(group -> group.groupId.toString()))
+						 .map(GroupCounters::toStatistics)
+						 .collect(toList());
+		}
+		
+		synchronized int size() {
+			return elements.size();
+		}
+	}
+	
+	static final class TrackedElement {
+		private final ElementGroupId groupId;
+		private final AdministrativeState admState;
+		private final OperationalState opState;
+		
+		TrackedElement(ElementGroupId groupId, 
+					   AdministrativeState admState,
+					   OperationalState opState){
+			this.groupId = groupId;
+			this.admState = admState;
+			this.opState = opState;
+		}
+	}
+	
+	static final class GroupCounters {
+		private final ElementGroupId groupId;
+		private final ElementGroupType groupType;
+		private ElementGroupName groupName;
+		private final Map<OperationalState,Integer> active;
+		private int newElements;
+		private int retiredElements;
+		private int total;
+		
+		GroupCounters(ElementGroupId groupId, ElementGroupType groupType){
+			this.groupId = groupId;
+			this.groupType = groupType;
+			this.active = new HashMap<>();
+		}
+		
+		void count(TrackedElement element, int delta) {
+			total += delta;
+			if(element.admState.is(ACTIVE)) {
+				active.merge(element.opState, delta, (a,b) -> a+b == 0 ? null : a+b);
+			} else if(element.admState.is(NEW)) {
+				newElements += delta;
+			} else {
+				retiredElements += delta;
+			}
+		}
+		
+		boolean isEmpty() {
+			return total == 0;
+		}
+		
+		ElementGroupStatistics toStatistics() {
+			ElementGroupStatistics.Builder stats = newElementGroupStatistics()
+												   .withGroupId(groupId)
+												   .withGroupType(groupType)
+												   .withGroupName(groupName)
+												   .withNewCount(newElements)
+												   .withRetiredCount(retiredElements);
+			active.forEach(stats::withCount);
+			return stats.build();
+		}
+	}
+	
+	private SubtransactionService transactions;
+	private DatabaseService db;
+	private volatile Statistics statistics;
+	private AtomicBoolean loading;
+	private AtomicLong generation;
+	
+	protected ElementGroupStatisticsCache() {
+		// CDI
+	}
+	
+	@Inject
+	protected ElementGroupStatisticsCache(@Inventory SubtransactionService transactions,
+										  @Inventory DatabaseService db) {
+		this.transactions = transactions;
+		this.db = db;
+		this.loading = new AtomicBoolean();
+		this.generation = new AtomicLong();
+	}
+	
+	/**
+	 * Loads the element counters on application startup.
+	 * @param init the application scope initialization event
+	 */
+	public void onStartup(@Observes @Initialized(ApplicationScoped.class) Object init) {
+		try {
+			rebuild();
+		} catch (Exception e) {
+			// Do not fail the deployment. The counters are loaded with the first request.
+			LOG.warning(() -> format("Cannot load element group statistics: %s",e.getMessage()));
+		}
+	}
+	
+	/**
+	 * Returns the statistics of all element groups of the given type, ordered by group name.
+	 * @param groupType the group type
+	 * @return the element group statistics
+	 */
+	public List<ElementGroupStatistics> getGroupStatistics(ElementGroupType groupType){
+		Statistics current = statistics;
+		if(current == null) {
+			current = rebuild();
+		} else if (current.isExpired() && loading.compareAndSet(false, true)) {
+			// Reconcile the expired counters. Concurrent requests use the expired counters meanwhile.
+			try {
+				current = rebuild();
+			} finally {
+				loading.set(false);
+			}
+		}
+		return current.getGroupStatistics(groupType);
+	}
+	
+	/**
+	 * Updates the counters when an element has been added, activated, moved, cloned, retired, removed or changed its state, role or settings.
+	 * @param event the element event
+	 */
+	public void onElementEvent(@Observes(during=AFTER_SUCCESS) ElementEvent event) {
+		Statistics current = statistics;
+		if(current == null) {
+			return;
+		}
+		generation.incrementAndGet();
+		if(event instanceof ElementRemovedEvent) {
+			current.remove(event.getElementId());
+			return;
+		}
+		if(event instanceof ElementOperationalStateChangedEvent) {
+			AdministrativeState admState = current.getAdministrativeState(event.getElementId());
+			if(admState != null) {
+				current.update(event.getElementId(), 
+							   admState, 
+							   event.getOperationalState());
+			}
+			return;
+		}
+		if(event instanceof ElementRetiredEvent) {
+			current.update(event.getElementId(), 
+						   RETIRED, 
+						   DOWN);
+			return;
+		}
+		if(event instanceof ElementClonedEvent) {
+			reload(current, 
+				   singletonList(((ElementClonedEvent)event).getCloneId()));
+			return;
+		}
+		if(event instanceof ElementsClonedEvent) {
+			reload(current,
+				   ((ElementsClonedEvent)event).getClones()
+											   .stream()
+											   .map(ElementCloneRequest::getElementId)
+											   .collect(toList()));
+			return;
+		}
+		if(event instanceof ElementAddedEvent
+		   || event instanceof ElementActivatedEvent
+		   || event instanceof ElementMovedEvent
+		   || event instanceof ElementRoleChangedEvent
+		   || event instanceof ElementSettingsUpdatedEvent) {
+			reload(current, 
+				   singletonList(event.getElementId()));
+		}
+	}
+	
+	/**
+	 * Updates the counters when a batch of elements has been retired or removed.
+	 * @param event the element batch event
+	 */
+	public void onElementBatchEvent(@Observes(during=AFTER_SUCCESS) ElementBatchEvent event) {
+		Statistics current = statistics;
+		if(current == null) {
+			return;
+		}
+		generation.incrementAndGet();
+		for(BatchElement element : event.getElements()) {
+			if(event instanceof ElementsRemovedEvent) {
+				current.remove(element.getElementId());
+			} else if(event instanceof ElementsRetiredEvent) {
+				current.update(element.getElementId(), 
+							   RETIRED, 
+							   DOWN);
+			}
+		}
+	}
+	
+	private void reload(Statistics current, List<ElementId> elementIds) {
+		transactions.run(repository -> {
+							Set<ElementId> removed = new HashSet<>(elementIds);
+							for(Element element : repository.execute(findElementsByIds(elementIds))) {
+								removed.remove(element.getElementId());
+								track(current, element);
+							}
+							// Elements that do not exist anymore
+							removed.forEach(current::remove);
+						 },
+						 repository -> TRUE);
+	}
+	
+	private void track(Statistics current, Element element) {
+		if(!element.getElementRole().isManageable()) {
+			current.remove(element.getElementId());
+			return;
+		}
+		ElementGroup group = element.getGroup();
+		current.put(group.getGroupId(), 
+					group.getGroupType(), 
+					group.getGroupName(), 
+					element.getElementId(), 
+					element.getAdministrativeState(), 
+					element.getOperationalState());
+	}
+	
+	Statistics rebuild() {
+		long expected = generation.get();
+		Statistics rebuilt = new Statistics();
+		db.processQuery(prepare("SELECT g.uuid, g.type, g.name, e.uuid, e.admstate, e.opstate "+
+								"FROM inventory.elementgroup g "+
+								"JOIN inventory.element e "+
+								"ON e.elementgroup_id = g.id "+
+								"JOIN inventory.elementrole r "+
+								"ON e.elementrole_id = r.id "+
+								"WHERE r.manageable = 'Y'"),
+						rs -> rebuilt.put(groupId(rs.getString(1)), 
+										  groupType(rs.getString(2)), 
+										  groupName(rs.getString(3)), 
+										  elementId(rs.getString(4)), 
+										  administrativeState(rs.getString(5)), 
+										  operationalState(rs.getString(6))));
+		if(generation.get() != expected) {
+			// Elements were modified while the counters were loaded.
+			// Use the loaded counters but reconcile them again with the next request.
+			rebuilt.expire();
+		}
+		statistics = rebuilt;
+		LOG.fine(() -> format("Element group statistics loaded for %d elements.", 
+							  rebuilt.size()));
+		return rebuilt;
+	}
+	
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2020 RtBrick Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.leitstand.inventory.model;
+
+import static io.leitstand.inventory.service.ElementName.elementName;
+import static java.lang.String.format;
+import static javax.enterprise.event.Reception.IF_EXISTS;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import javax.annotation.PreDestroy;
+import javax.enterprise.event.Observes;
+import javax.transaction.TransactionScoped;
+
+import io.leitstand.inventory.event.ElementRemovedEvent;
+import io.leitstand.inventory.service.ElementId;
+import io.leitstand.inventory.service.ElementName;
+
+/**
+ * Transaction-scoped identity map of all elements resolved by the {@link ElementProvider}.
+ * <p>
+ * The identity map has the same lifetime as the transaction-scoped inventory repository.
+ * Hence all cached elements are managed by the current persistence context.
+ * The identity map evicts removed elements and 
+ * verifies that a cached element still has the requested name or alias, 
+ * because an element can be renamed within a transaction.
+ * The number of hits and misses is logged when the transaction ends.
+ */
+@TransactionScoped
+public class ElementIdentityMap implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+	private static final Logger LOG = Logger.getLogger(ElementIdentityMap.class.getName());
+
+	private final Map<ElementId,Element> ids;
+	private final Map<ElementName,Element> names;
+	private int hits;
+	private int misses;
+	
+	public ElementIdentityMap() {
+		this.ids = new HashMap<>();
+		this.names = new HashMap<>();
+	}
+	
+	/**
+	 * Returns the cached element with the specified ID.
+	 * @param elementId the element ID
+	 * @return the cached element or <code>null</code> if the element has not been resolved yet.
+	 */
+	Element get(ElementId elementId) {
+		return count(ids.get(elementId));
+	}
+	
+	/**
+	 * Returns the cached element with the specified name or alias.
+	 * @param elementName the element name or alias
+	 * @return the cached element or <code>null</code> if the element has not been resolved yet.
+	 */
+	Element get(ElementName elementName) {
+		Element element = names.get(elementName);
+		if(element != null && !hasNameOrAlias(element, elementName)) {
+			// Element was renamed
+			names.remove(elementName);
+			element = null;
+		}
+		return count(element);
+	}
+	
+	private static boolean hasNameOrAlias(Element element, ElementName elementName) {
+		return elementName.equals(element.getElementName()) 
+			   || (element.getElementAlias() != null 
+			       && elementName.equals(elementName(element.getElementAlias())));
+	}
+	
+	private Element count(Element element) {
+		if(element == null) {
+			misses++;
+		} else {
+			hits++;
+		}
+		return element;
+	}
+	
+	/**
+	 * Adds an element to the identity map. 
+	 * The element is cached by its ID, its name and its alias.
+	 * @param element the element
+	 * @return the element
+	 */
+	Element put(Element element) {
+		if(element != null) {
+			ids.put(element.getElementId(), element);
+			names.put(element.getElementName(), element);
+			if(element.getElementAlias() != null) {
+				names.put(elementName(element.getElementAlias()), element);
+			}
+		}
+		return element;
+	}
+	
+	/**
+	 * Removes an element from the identity map.
+	 * @param elementId the ID of the removed element
+	 */
+	void evict(ElementId elementId) {
+		Element element = ids.remove(elementId);
+		if(element != null) {
+			names.values().removeIf(cached -> cached == element);
+		}
+	}
+	
+	/**
+	 * Evicts a removed element from the identity map of the current transaction, 
+	 * if an identity map has already been created.
+	 * @param event the element removed event
+	 */
+	void onElementRemoved(@Observes(notifyObserver=IF_EXISTS) ElementRemovedEvent event) {
+		evict(event.getElementId());
+	}
+	
+	int getHits() {
+		return hits;
+	}
+	
+	int getMisses() {
+		return misses;
+	}
+	
+	@PreDestroy
+	void logStatistics() {
+		LOG.finer(() -> format("Element identity map: %d hits, %d misses",
+							   hits,
+							   misses));
+	}
+	
+}
@@ -23,7 +23,7 @@ import static io.leitstand.inventory.model.ElementValueObjects.elementValueObjec
 import static io.leitstand.inventory.model.Element_Image.findElementImage;
 import static io.leitstand.inventory.model.Element_Image.findElementImages;
 import static io.leitstand.inventory.model.Image.findImageById;
-import static io.leitstand.inventory.model.Image.findUpdates;
+import static io.leitstand.inventory.model.Image_DeploymentCount.countDeployment;
 import static io.leitstand.inventory.service.ElementAvailableUpgrade.newElementAvailableUpgrade;
 import static io.leitstand.inventory.service.ElementAvailableUpgrade.UpgradeType.MAJOR;
 import static io.leitstand.inventory.service.ElementAvailableUpgrade.UpgradeType.MINOR;
@@ -56,6 +56,7 @@ import io.leitstand.commons.EntityNotFoundException;
 import io.leitstand.commons.messages.Messages;
 import io.leitstand.commons.model.Repository;
 import io.leitstand.commons.tx.SubtransactionService;
+import io.leitstand.inventory.model.ImageUpgradeIndex.UpgradeCandidate;
 import io.leitstand.inventory.service.ElementAvailableUpgrade;
 import io.leitstand.inventory.service.ElementAvailableUpgrade.UpgradeType;
 import io.leitstand.inventory.service.ElementImage;
@@ -75,13 +76,16 @@ public class ElementImageManager {
 	private Repository repository;
 	private Messages messages;
 	private SubtransactionService inventory;
+	private ImageUpgradeIndex upgrades;
 	
 	@Inject
 	protected ElementImageManager(@Inventory Repository repository, 
 							      @Inventory SubtransactionService inventory,
+							      ImageUpgradeIndex upgrades,
 							      Messages messages){
 		this.repository = repository;
 		this.inventory  = inventory;
+		this.upgrades	= upgrades;
 		this.messages 	= messages;
 	}
 	
@@ -102,23 +106,7 @@ public class ElementImageManager {
 				packages.add(packageVersionInfo(revision));
 			}
 			
-			List<ElementAvailableUpgrade> updates = new LinkedList<>();
-			for(Image update : repository.execute(findUpdates(element.getPlatform(),
-															  image.getImageType(), 
-															  image.getImageName(),
-															  element.getElementRole(), 
-															  image.getImageVersion()))){
-				UpgradeType type = updateType(image, update);
-				
-				updates.add(newElementAvailableUpgrade()
-						    .withImageId(update.getImageId())
-						    .withImageName(update.getImageName())
-						    .withImageState(update.getImageState())
-							.withImageVersion(update.getImageVersion())
-							.withBuildDate(update.getBuildDate())
-							.withUpgradeType(type)
-							.build());
-			}
+			List<ElementAvailableUpgrade> updates = availableUpgrades(element, image);
 			installed.add(newElementImageData()
 						  .withOrganization(image.getOrganization())
 						  .withImageId(image.getImageId())
@@ -146,7 +134,25 @@ public class ElementImageManager {
 		
 	}
 
-	private UpgradeType updateType(Image image, Image update) {
+	private List<ElementAvailableUpgrade> availableUpgrades(Element element, Image image){
+		List<ElementAvailableUpgrade> updates = new LinkedList<>();
+		for(UpgradeCandidate update : upgrades.findUpgrades(element.getPlatform().getChipset(),
+															element.getElementRole(),
+															image.getImageType(), 
+															image.getImageVersion())){
+			updates.add(newElementAvailableUpgrade()
+					    .withImageId(update.getImageId())
+					    .withImageName(update.getImageName())
+					    .withImageState(update.getImageState())
+						.withImageVersion(update.getImageVersion())
+						.withBuildDate(update.getBuildDate())
+						.withUpgradeType(updateType(image, update))
+						.build());
+		}
+		return updates;
+	}
+
+	private UpgradeType updateType(Image image, UpgradeCandidate update) {
 		UpgradeType type = PRERELEASE;
 		if(update.getImageVersion().getMajorLevel() > image.getImageVersion().getMajorLevel()){
 			type = MAJOR;
@@ -169,23 +175,7 @@ public class ElementImageManager {
 			packages.add(packageVersionInfo(revision));
 		}
 		
-		List<ElementAvailableUpgrade> updates = new LinkedList<>();
-		for(Image update : repository.execute(findUpdates(element.getPlatform(),
-														  image.getImageType(), 
-														  image.getImageName(),
-														  element.getElementRole(),
-														  image.getImageVersion()))){
-			UpgradeType type = updateType(image, update);
-			
-			updates.add(newElementAvailableUpgrade()
-					 	.withImageId(update.getImageId())
-					 	.withImageName(update.getImageName())
-					 	.withImageState(update.getImageState())
-					 	.withImageVersion(update.getImageVersion())
-					 	.withBuildDate(update.getBuildDate())
-						.withUpgradeType(type)
-						.build());
-		}
+		List<ElementAvailableUpgrade> updates = availableUpgrades(element, image);
 		return elementValueObject(newElementImage(),element)
 			   .withImage(newElementImageData()
 					   	  .withImageId(image.getImageId())
@@ -210,7 +200,8 @@ public class ElementImageManager {
 			
 	}
 	
-	public void storeElementImages(Element element, List<ElementImageReference> refs) {
+	public boolean storeElementImages(Element element, List<ElementImageReference> refs) {
+		boolean complete = true;
 		Map<ImageId,Element_Image> images = new HashMap<>();
 		for(Element_Image image : repository.execute(findElementImages(element))){
 			images.put(image.getImageId(),image);
@@ -219,7 +210,12 @@ public class ElementImageManager {
 		for(ElementImageReference installed : refs){
 			Element_Image image = images.remove(installed.getImageId());
 			if(image != null) {
-				image.setElementImageState(elementImageState(installed));
+				ElementImageState state = elementImageState(installed);
+				if(image.getElementImageState() != state) {
+					count(element,image,-1);
+					image.setElementImageState(state);
+					count(element,image,+1);
+				}
 				continue;
 			}
 			Image artefact = repository.execute(findImageById(installed.getImageId()));
@@ -248,18 +244,21 @@ public class ElementImageManager {
 				if(artefact == null) {
 					LOG.fine(() -> format("Attemt to create image stub record failed. Proceed ignoring the image registration attempt of element %s!",
 										  element.getElementName()));
+					complete = false;
 					continue; // With next entry.
 				}
 			}
 			image = new Element_Image(element,artefact);
 			image.setElementImageState(elementImageState(installed));
 			repository.add(image);
+			count(element,image,+1);
 		}
 		
 		for(Element_Image image : images.values()){
 			repository.remove(image);
+			count(element,image,-1);
 		}
-		
+		return complete;
 	}
 
 	private ElementImageState elementImageState(ElementImageReference installed) {
@@ -290,7 +289,14 @@ public class ElementImageManager {
 								   image.getImageName(),
 								   image.getImageId()));
 		repository.remove(image);
-		
+		count(element,image,-1);
+	}
+	
+	private void count(Element element, Element_Image image, int delta) {
+		repository.execute(countDeployment(image.getImage(),
+										   element.getGroup(),
+										   image.getElementImageState(),
+										   delta));
 	}
 
 
@@ -309,6 +315,7 @@ public class ElementImageManager {
                if(elementImage.getElementImageState() == PULL) {
                    // Remove PULL image if it is not longer the ZTP image.
                    repository.remove(elementImage);
+                   count(element,elementImage,-1);
                } else {
                    // Keep all other images but don't declare them as ZTP image.
                    elementImage.setZtp(false);
@@ -328,6 +335,7 @@ public class ElementImageManager {
             ztpImage.setElementImageState(PULL); // Must be PULL because otherwise it would have been processed in the loop above.
             ztpImage.setZtp(true); // This image shall be pulled via ZTP when doing an upgrade.
             repository.add(ztpImage);
+            count(element,ztpImage,+1);
         }
     }
 
@@ -337,6 +345,7 @@ public class ElementImageManager {
                 if(image.getElementImageState() == PULL) {
                     // A pull image is not needed anymore if it is not a ZTP image.
                     repository.remove(image);
+                    count(element,image,-1);
                 } else {
                     image.setZtp(false);
                 }
@@ -0,0 +1,371 @@
+/*
+ * Copyright 2020 RtBrick Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.leitstand.inventory.model;
+
+import static io.leitstand.commons.messages.MessageFactory.createMessage;
+import static io.leitstand.commons.model.ObjectUtil.isDifferent;
+import static io.leitstand.inventory.model.Element.findElementsByIds;
+import static io.leitstand.inventory.model.Element.findElementsByNames;
+import static io.leitstand.inventory.model.ElementGroup.findElementGroupsByIds;
+import static io.leitstand.inventory.model.ElementRole.findRoles;
+import static io.leitstand.inventory.model.Platform.findAll;
+import static io.leitstand.inventory.service.ElementName.elementName;
+import static io.leitstand.inventory.service.ReasonCode.IVT0301I_ELEMENT_STORED;
+import static io.leitstand.inventory.service.ReasonCode.IVT1000E_IMPORT_ERROR;
+import static java.lang.Math.min;
+import static java.lang.String.format;
+import static java.util.Collections.unmodifiableList;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+import javax.enterprise.context.Dependent;
+import javax.inject.Inject;
+
+import io.leitstand.commons.messages.Messages;
+import io.leitstand.commons.model.Query;
+import io.leitstand.commons.model.Repository;
+import io.leitstand.inventory.event.ElementEvent;
+import io.leitstand.inventory.service.ElementGroupId;
+import io.leitstand.inventory.service.ElementId;
+import io.leitstand.inventory.service.ElementName;
+import io.leitstand.inventory.service.ElementRoleName;
+import io.leitstand.inventory.service.ElementSettings;
+import io.leitstand.inventory.service.PlatformChipsetName;
+import io.leitstand.inventory.service.PlatformId;
+import io.leitstand.inventory.service.PlatformName;
+
+/**
+ * Imports the settings of many elements at once.
+ * <p>
+ * The <code>ElementImportManager</code> resolves all groups, roles, platforms and existing elements referenced by the imported settings 
+ * with a few set-based queries upfront. 
+ * New elements are added and unchanged or merely described elements are updated without further lookups, 
+ * leaving it to the persistence provider to write all changes in JDBC batches.
+ * Elements that are renamed, moved, change their role or operational state are delegated to the {@link ElementSettingsManager}, 
+ * which creates the respective element events. 
+ * The names and aliases of all imported elements are verified by a single query, 
+ * and the events are collected in the import result to be fired after all elements have been stored.
+ * Elements that cannot be resolved from the preloaded data are stored by the {@link ElementSettingsManager} as well, 
+ * which reports the reason why an element cannot be stored.
+ */
+@Dependent
+public class ElementImportManager {
+
+	private static final Logger LOG = Logger.getLogger(ElementImportManager.class.getName());
+	
+	/**
+	 * Maximum number of parameters of an IN query.
+	 */
+	static final int MAX_IN_PARAMETERS = 1000;
+	
+	/**
+	 * The outcome of an element import.
+	 */
+	public static class ElementImportResult {
+		private final List<ElementSettings> created = new LinkedList<>();
+		private final List<ElementSettings> updated = new LinkedList<>();
+		private final List<ElementSettings> failed = new LinkedList<>();
+		private final List<ElementEvent> events = new LinkedList<>();
+		
+		/**
+		 * Returns the settings of all created elements.
+		 * @return the settings of all created elements.
+		 */
+		public List<ElementSettings> getCreated() {
+			return unmodifiableList(created);
+		}
+		
+		/**
+		 * Returns the settings of all updated elements.
+		 * @return the settings of all updated elements.
+		 */
+		public List<ElementSettings> getUpdated() {
+			return unmodifiableList(updated);
+		}
+		
+		/**
+		 * Returns the settings of all elements that could not be stored.
+		 * @return the settings of all elements that could not be stored.
+		 */
+		public List<ElementSettings> getFailed() {
+			return unmodifiableList(failed);
+		}
+		
+		/**
+		 * Returns the events of all renamed and moved elements and all elements 
+		 * that changed their role or operational state, in the order of their occurrence.
+		 * The events are fired after all elements have been stored.
+		 * @return the element events caused by the import.
+		 */
+		public List<ElementEvent> getEvents() {
+			return unmodifiableList(events);
+		}
+	}
+	
+	private Repository repository;
+	private PlatformProvider platforms;
+	private ElementSettingsManager inventory;
+	private Messages messages;
+	
+	protected ElementImportManager() {
+		// CDI
+	}
+	
+	@Inject
+	protected ElementImportManager(@Inventory Repository repository,
+								   PlatformProvider platforms,
+								   ElementSettingsManager inventory,
+								   Messages messages) {
+		this.repository = repository;
+		this.platforms = platforms;
+		this.inventory = inventory;
+		this.messages = messages;
+	}
+	
+	public ElementImportResult importElements(List<ElementSettings> settings) {
+		ElementImportResult result = new ElementImportResult();
+		if(settings.isEmpty()) {
+			return result;
+		}
+		
+		// Resolve all referenced entities upfront.
+		Map<ElementId,Element> elements = index(fetch(settings, 
+													  ElementSettings::getElementId, 
+													  ids -> findElementsByIds(ids)),
+												Element::getElementId);
+		Map<ElementGroupId,ElementGroup> groups = index(fetch(settings, 
+															  ElementSettings::getGroupId, 
+															  ids -> findElementGroupsByIds(ids)),
+														ElementGroup::getGroupId);
+		Map<ElementRoleName,ElementRole> roles = index(repository.execute(findRoles()),
+													   ElementRole::getRoleName);
+		List<Platform> allPlatforms = repository.execute(findAll(null));
+		Map<PlatformId,Platform> platformsById = index(allPlatforms, Platform::getPlatformId);
+		Map<PlatformName,Platform> platformsByName = index(allPlatforms, Platform::getPlatformName);
+		Map<String,ElementId> names = claimedNames(settings);
+		
+		for(ElementSettings element : settings) {
+			Element existing = elements.get(element.getElementId());
+			ElementGroup group = element.getGroupId() != null ? groups.get(element.getGroupId()) : null;
+			ElementRole role = roles.get(element.getElementRole());
+			if(group == null 
+			   || role == null 
+			   || isNameInUse(names, element)) {
+				// Conflict that cannot be handled in bulk.
+				storeElementSettings(result, existing, element);
+			} else if (existing != null && requiresEvents(existing, element, group)) {
+				// Name and alias have already been verified for the entire import.
+				updateElementSettings(result, existing, element);
+			} else if (existing == null) {
+				Element created = new Element(group,
+											  role,
+											  element.getElementId(),
+											  element.getElementName());
+				apply(created, element);
+				created.setPlatform(platform(platformsById, 
+											 platformsByName, 
+											 element.getPlatformId(), 
+											 element.getPlatformName(), 
+											 element.getPlatformChipset()));
+				repository.add(created);
+				stored(element);
+				result.created.add(element);
+			} else {
+				apply(existing, element);
+				existing.setPlatform(platform(platformsById,
+											  platformsByName,
+											  element.getPlatformId(),
+											  element.getPlatformName(),
+											  null));
+				stored(element);
+				result.updated.add(element);
+			}
+			claimNames(names, element);
+		}
+		
+		return result;
+	}
+
+	private void stored(ElementSettings element) {
+		messages.add(createMessage(IVT0301I_ELEMENT_STORED, 
+								   element.getElementName()));
+	}
+
+	private void storeElementSettings(ElementImportResult result, 
+									  Element existing, 
+									  ElementSettings element) {
+		try {
+			if(existing == null) {
+				inventory.createElement(element);
+				result.created.add(element);
+			} else {
+				inventory.storeElementSettings(existing, 
+											   element, 
+											   result.events::add);
+				result.updated.add(element);
+			}
+		} catch (Exception e) {
+			failed(result, element, e);
+		}
+	}
+	
+	private void updateElementSettings(ElementImportResult result, 
+									   Element existing, 
+									   ElementSettings element) {
+		try {
+			inventory.updateElementSettings(existing, 
+											element, 
+											result.events::add);
+			result.updated.add(element);
+		} catch (Exception e) {
+			failed(result, element, e);
+		}
+	}
+
+	private void failed(ElementImportResult result, 
+						ElementSettings element, 
+						Exception e) {
+		LOG.warning(() -> format("%s: Element %s cannot be stored: %s",
+								 IVT1000E_IMPORT_ERROR.getReasonCode(),
+								 element.getElementName(),
+								 e.getMessage()));
+		messages.add(createMessage(IVT1000E_IMPORT_ERROR,
+								   "element",
+								   element.getElementName(),
+								   e.getMessage()));
+		result.failed.add(element);
+	}
+
+	private Platform platform(Map<PlatformId,Platform> platformsById,
+							  Map<PlatformName,Platform> platformsByName,
+							  PlatformId platformId,
+							  PlatformName platformName,
+							  PlatformChipsetName platformChipset) {
+		Platform platform = platformId != null ? platformsById.get(platformId) : platformsByName.get(platformName);
+		if(platform == null && platformId != null && platformName != null) {
+			// Unknown platform. Let the platform provider create the platform and remember it for subsequent elements.
+			platform = platforms.findOrCreatePlatform(platformId, 
+													  platformName, 
+													  platformChipset);
+			platformsById.put(platformId, platform);
+			platformsByName.put(platformName, platform);
+		}
+		return platform;
+	}
+
+	private static void apply(Element element, ElementSettings settings) {
+		element.setElementAlias(settings.getElementAlias());
+		element.setDescription(settings.getDescription());
+		element.setSerialNumber(settings.getSerialNumber());
+		element.setAssetId(settings.getAssetId());
+		element.setManagementInterfaceMacAddress(settings.getManagementInterfaceMacAddress());
+		element.setElementManagementInterfaces(settings.getManagementInterfaces().values());
+		element.setTags(settings.getTags());
+		element.setAdministrativeState(settings.getAdministrativeState());
+		element.setOperationalState(settings.getOperationalState());
+	}
+	
+	private static boolean requiresEvents(Element element, 
+										  ElementSettings settings, 
+										  ElementGroup group) {
+		return isDifferent(element.getElementName(), settings.getElementName())
+			   || isDifferent(element.getElementRoleName(), settings.getElementRole())
+			   || isDifferent(element.getOperationalState(), settings.getOperationalState())
+			   || isDifferent(element.getGroup(), group);
+	}
+	
+	private Map<String,ElementId> claimedNames(List<ElementSettings> settings){
+		// Fetch all elements using one of the imported names or aliases as name or alias.
+		Set<ElementName> names = new LinkedHashSet<>();
+		for(ElementSettings element : settings) {
+			names.add(element.getElementName());
+			if(element.getElementAlias() != null) {
+				names.add(elementName(element.getElementAlias().toString()));
+			}
+		}
+		Map<String,ElementId> claimed = new HashMap<>();
+		for(Element element : fetch(new ArrayList<>(names), batch -> findElementsByNames(batch))) {
+			claimed.put(element.getElementName().toString(), element.getElementId());
+			if(element.getElementAlias() != null) {
+				claimed.put(element.getElementAlias().toString(), element.getElementId());
+			}
+		}
+		return claimed;
+	}
+	
+	private static boolean isNameInUse(Map<String,ElementId> names, ElementSettings settings) {
+		return isClaimedByOtherElement(names, settings.getElementId(), settings.getElementName())
+			   || isClaimedByOtherElement(names, settings.getElementId(), settings.getElementAlias());
+	}
+	
+	private static boolean isClaimedByOtherElement(Map<String,ElementId> names, 
+												   ElementId elementId, 
+												   Object name) {
+		if(name == null) {
+			return false;
+		}
+		ElementId owner = names.get(name.toString());
+		return owner != null && !owner.equals(elementId);
+	}
+	
+	private static void claimNames(Map<String,ElementId> names, ElementSettings settings) {
+		names.put(settings.getElementName().toString(), settings.getElementId());
+		if(settings.getElementAlias() != null) {
+			names.put(settings.getElementAlias().toString(), settings.getElementId());
+		}
+	}
+	
+	private <T,K> List<T> fetch(Collection<ElementSettings> settings, 
+								Function<ElementSettings,K> key,
+								Function<List<K>,Query<List<T>>> query) {
+		Set<K> keys = new LinkedHashSet<>();
+		for(ElementSettings element : settings) {
+			K value = key.apply(element);
+			if(value != null) {
+				keys.add(value);
+			}
+		}
+		return fetch(new ArrayList<>(keys), query);
+	}
+
+	private <T,K> List<T> fetch(List<K> keys, 
+								Function<List<K>,Query<List<T>>> query) {
+		// Split large key sets to not exceed the number of supported query parameters.
+		List<T> entities = new LinkedList<>();
+		for(int i=0; i < keys.size(); i+=MAX_IN_PARAMETERS) {
+			entities.addAll(repository.execute(query.apply(keys.subList(i, min(i+MAX_IN_PARAMETERS,keys.size())))));
+		}
+		return entities;
+	}
+	
+	private static <K,T> Map<K,T> index(List<T> entities, Function<T,K> key){
+		Map<K,T> index = new HashMap<>();
+		for(T entity : entities) {
+			index.put(key.apply(entity), entity);
+		}
+		return index;
+	}
+	
+}
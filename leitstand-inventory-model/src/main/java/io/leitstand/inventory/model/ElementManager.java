@@ -20,20 +20,29 @@ import static io.leitstand.commons.model.ObjectUtil.isDifferent;
 import static io.leitstand.inventory.event.ElementOperationalStateChangedEvent.newElementOperationalStateChangedEvent;
 import static io.leitstand.inventory.event.ElementRemovedEvent.newElementRemovedEvent;
 import static io.leitstand.inventory.model.Element.findElementsByAssetId;
+import static io.leitstand.inventory.model.Element.findElementsByAssetIdLike;
 import static io.leitstand.inventory.model.Element.findElementsByManagementIP;
+import static io.leitstand.inventory.model.Element.findElementsByManagementIPLike;
 import static io.leitstand.inventory.model.Element.findElementsByName;
+import static io.leitstand.inventory.model.Element.findElementsByNameLike;
 import static io.leitstand.inventory.model.Element.findElementsByNameOrTag;
+import static io.leitstand.inventory.model.Element.findElementsByNameOrTagLike;
 import static io.leitstand.inventory.model.Element.findElementsBySerialNumber;
+import static io.leitstand.inventory.model.Element.findElementsBySerialNumberLike;
 import static io.leitstand.inventory.model.Element_Config.removeAllConfigurations;
 import static io.leitstand.inventory.model.Element_ContainerInterface.removeIfcs;
 import static io.leitstand.inventory.model.Element_DnsRecordSet.removeDnsRecordSets;
 import static io.leitstand.inventory.model.Element_Environment.removeEnvironments;
+import static io.leitstand.inventory.model.Element_Fingerprint.removeFingerprints;
+import static io.leitstand.inventory.model.Element_Fingerprint.removeNeighborFingerprints;
 import static io.leitstand.inventory.model.Element_Image.removeElementImages;
 import static io.leitstand.inventory.model.Element_Module.removeModules;
 import static io.leitstand.inventory.model.Element_PhysicalInterface.removeIfps;
 import static io.leitstand.inventory.model.Element_PhysicalInterface.removeNeighbors;
 import static io.leitstand.inventory.model.Element_Service.removeServices;
 import static io.leitstand.inventory.model.Element_ServiceContext.removeServiceContexts;
+import static io.leitstand.inventory.model.Image_DeploymentCount.countElementImages;
+import static io.leitstand.inventory.model.SearchPattern.searchPattern;
 import static io.leitstand.inventory.service.ReasonCode.IVT0302I_ELEMENT_REMOVED;
 import static io.leitstand.inventory.service.ReasonCode.IVT0303E_ELEMENT_NOT_REMOVABLE;
 import static java.lang.String.format;
@@ -48,11 +57,13 @@ import javax.inject.Inject;
 
 import io.leitstand.commons.ConflictException;
 import io.leitstand.commons.messages.Messages;
+import io.leitstand.commons.model.Query;
 import io.leitstand.commons.model.Repository;
 import io.leitstand.inventory.event.ElementEvent;
 import io.leitstand.inventory.event.ElementRemovedEvent;
 import io.leitstand.inventory.service.ElementSettings;
 import io.leitstand.inventory.service.OperationalState;
+import io.leitstand.inventory.service.PageCursor;
 
 @Dependent
 public class ElementManager {
@@ -83,6 +94,7 @@ public class ElementManager {
 			throw new ConflictException(IVT0303E_ELEMENT_NOT_REMOVABLE, 
 										element.getElementName());
 		}
+		repository.execute(countElementImages(element,element.getGroup(),-1));
 		repository.remove(element);
 		
 		LOG.fine(()->format("%s: Removed %s element %s (%s)", 
@@ -152,6 +164,8 @@ public class ElementManager {
 						    element.getElementName(),
 						    element.getElementId()));
 
+		// Neighbors must process their next physical interface submission in order to detect the removed neighbor element.
+		repository.execute(removeNeighborFingerprints(element));
 		int removedNeighbors = repository.execute(removeNeighbors(element));
 		
 		LOG.fine(()->format("Removed %d neighbors of %s %s (%s)",
@@ -195,6 +209,8 @@ public class ElementManager {
 						    element.getElementName(),
 						    element.getElementId()));
 		
+		repository.execute(removeFingerprints(element));
+		repository.execute(countElementImages(element,element.getGroup(),-1));
 		int removedImages = repository.execute(removeElementImages(element));
         LOG.fine(()->format("Removed %d images of %s %s (%s)",
                             removedImages,
@@ -247,45 +263,46 @@ public class ElementManager {
 		}
 	}
 
-	public List<ElementSettings> filterElementsByName(String filter, int offset, int items) {
-		return unmodifiableList(repository.
-								executeMapListItem(findElementsByName(filter,
-																	  offset,
-																	  items),
-								ElementSettingsManager::settingsOf));
-	
+	public List<ElementSettings> filterElementsByName(String filter, PageCursor after, int offset, int items) {
+		SearchPattern pattern = searchPattern(filter);
+		return search(pattern.isLiteral() 
+					  ? findElementsByNameLike(pattern.getLikePattern(), after, offset, items)
+					  : findElementsByName(pattern.getRegex(), after, offset, items));
 	}
 
-	public List<ElementSettings> filterElementsByNameOrTag(String filter, int offset, int items) {
-		return unmodifiableList(repository.
-				executeMapListItem(findElementsByNameOrTag(filter,
-													  offset,
-													  items),
-				ElementSettingsManager::settingsOf));
+	public List<ElementSettings> filterElementsByNameOrTag(String filter, PageCursor after, int offset, int items) {
+		SearchPattern pattern = searchPattern(filter);
+		return search(pattern.isLiteral() 
+					  ? findElementsByNameOrTagLike(pattern.getLikePattern(), after, offset, items)
+					  : findElementsByNameOrTag(pattern.getRegex(), after, offset, items));
 	}
 
-	public List<ElementSettings> filterElementsByAssetId(String filter, int offset, int items) {
-		return unmodifiableList(repository.
-				executeMapListItem(findElementsByAssetId(filter,
-													     offset,
-													     items),
-				ElementSettingsManager::settingsOf));	
+	public List<ElementSettings> filterElementsByAssetId(String filter, PageCursor after, int offset, int items) {
+		SearchPattern pattern = searchPattern(filter);
+		return search(pattern.isLiteral() 
+					  ? findElementsByAssetIdLike(pattern.getLikePattern(), after, offset, items)
+					  : findElementsByAssetId(pattern.getRegex(), after, offset, items));
 	}
 
-	public List<ElementSettings> filterElementsBySerialNumber(String filter, int offset, int items) {
-		return unmodifiableList(repository.
-				executeMapListItem(findElementsBySerialNumber(filter,
-													  		  offset,
-													  		  items),
-				ElementSettingsManager::settingsOf));
+	public List<ElementSettings> filterElementsBySerialNumber(String filter, PageCursor after, int offset, int items) {
+		SearchPattern pattern = searchPattern(filter);
+		return search(pattern.isLiteral() 
+					  ? findElementsBySerialNumberLike(pattern.getLikePattern(), after, offset, items)
+					  : findElementsBySerialNumber(pattern.getRegex(), after, offset, items));
 	}
 
-	public List<ElementSettings> filterElementsByManagementIP(String filter, int offset, int items) {
-		return unmodifiableList(repository.
-				executeMapListItem(findElementsByManagementIP(filter,
-													  		  offset,
-													  		  items),
-				ElementSettingsManager::settingsOf));	
+	public List<ElementSettings> filterElementsByManagementIP(String filter, PageCursor after, int offset, int items) {
+		SearchPattern pattern = searchPattern(filter);
+		return search(pattern.isLiteral() 
+					  ? findElementsByManagementIPLike(pattern.getLikePattern(), after, offset, items)
+					  : findElementsByManagementIP(pattern.getRegex(), after, offset, items));
+	}
+	
+	private List<ElementSettings> search(Query<List<Element>> query){
+		// Literal filters are matched by LIKE expressions, which can use the trigram indexes of the searched columns.
+		// Regular expressions are only evaluated if the filter is not a literal.
+		return unmodifiableList(repository.executeMapListItem(query, 
+															  ElementSettingsManager::settingsOf));
 	}
 
 }
@@ -16,12 +16,16 @@
 package io.leitstand.inventory.model;
 
 import static io.leitstand.commons.messages.MessageFactory.createMessage;
+import static io.leitstand.commons.model.ObjectUtil.isDifferent;
+import static io.leitstand.commons.model.ObjectUtil.optional;
 import static io.leitstand.inventory.event.ElementPhysicalInterfaceRemovedEvent.newPhysicalInterfaceRemovedEvent;
 import static io.leitstand.inventory.event.ElementPhysicalInterfaceStoredEvent.newPhysicalInterfaceStoredEvent;
 import static io.leitstand.inventory.model.ElementValueObjects.elementValueObject;
+import static io.leitstand.inventory.model.Element_ContainerInterface.findIfcs;
 import static io.leitstand.inventory.model.Element_PhysicalInterface.countLogicalInterfaces;
 import static io.leitstand.inventory.model.Element_PhysicalInterface.findIfpByName;
 import static io.leitstand.inventory.model.Element_PhysicalInterface.findIfps;
+import static io.leitstand.inventory.service.ElementAlias.elementAlias;
 import static io.leitstand.inventory.service.ElementPhysicalInterface.newPhysicalInterface;
 import static io.leitstand.inventory.service.ElementPhysicalInterfaceData.newPhysicalInterfaceData;
 import static io.leitstand.inventory.service.ElementPhysicalInterfaces.newPhysicalInterfaces;
@@ -36,10 +40,13 @@ import static io.leitstand.inventory.service.ReasonCode.IVT0370I_ELEMENT_IFC_STO
 import static java.lang.String.format;
 import static java.util.function.Function.identity;
 import static java.util.stream.Collectors.toMap;
+import static java.util.stream.Collectors.toSet;
 
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.logging.Logger;
 
 import javax.enterprise.context.Dependent;
@@ -52,6 +59,7 @@ import io.leitstand.commons.messages.Messages;
 import io.leitstand.commons.model.Repository;
 import io.leitstand.inventory.event.ElementPhysicalInterfaceEvent;
 import io.leitstand.inventory.service.AdministrativeState;
+import io.leitstand.inventory.service.ElementName;
 import io.leitstand.inventory.service.ElementPhysicalInterface;
 import io.leitstand.inventory.service.ElementPhysicalInterfaceData;
 import io.leitstand.inventory.service.ElementPhysicalInterfaceFilter;
@@ -151,15 +159,7 @@ public class ElementPhysicalInterfaceManager {
 																		 	     submission.getIfcName()));
 		
 		if(ifc == null) {
-			ifc = new Element_ContainerInterface(element,submission.getIfcName());
-			repository.add(ifc);
-			LOG.fine(() -> format("Created new container interface %s for physical interface %s for element %s", 
-								  submission.getIfcName(),
-								  submission.getIfpName(),
-								  element.getElementName()));
-			messages.add(createMessage(IVT0370I_ELEMENT_IFC_STORED, 
-									   element.getElementName(),
-									   submission.getIfcName()));
+			ifc = addContainerInterface(element, submission);
 		}
 		
 		Element_PhysicalInterface ifp = repository.execute(findIfpByName(element, 
@@ -167,17 +167,161 @@ public class ElementPhysicalInterfaceManager {
 		
 		boolean created = false;
 		if(ifp == null){
-			ifp = new Element_PhysicalInterface(element,
-												submission.getIfpName(),
-												submission.getBandwidth(),
-												ifc);
-			repository.add(ifp);
-			LOG.fine(() -> format("Created new physical interface %s for element %s",
-								  submission.getIfpName(),
-								  element.getElementName()));
+			ifp = addPhysicalInterface(element, submission, ifc);
 			created = true;
 		}
 		
+		Element neighborElement = null;
+		if(submission.getNeighbor() != null) {
+			neighborElement = elements.tryFetchElement(submission.getNeighbor().getElementName());
+		}
+		updatePhysicalInterface(element, ifp, ifc, submission, neighborElement);
+		
+		return created;
+	}
+	
+	/**
+	 * Synchronizes the physical interfaces of an element with the submitted physical interfaces.
+	 * <p>
+	 * All existing physical and container interfaces of the element are loaded upfront. 
+	 * The submitted interfaces are compared against the existing interfaces in order to add missing interfaces, 
+	 * update modified interfaces and remove interfaces that are not longer reported.
+	 * Unchanged interfaces are left untouched, i.e. neither an update statement is issued nor an event is fired.
+	 * @param element the element
+	 * @param submissions the complete list of physical interfaces of the element
+	 * @return <code>true</code> if all submitted neighbors were resolved, <code>false</code> if at least one neighbor element does not exist.
+	 */
+	public boolean storePhysicalInterfaces(Element element, List<ElementPhysicalInterfaceSubmission> submissions) {
+		Map<InterfaceName,Element_PhysicalInterface> ifps =  repository.execute(findIfps(element))
+																	   .stream()
+																	   .collect(toMap(Element_PhysicalInterface::getIfpName, identity()));
+		
+		Map<InterfaceName,Element_ContainerInterface> ifcs = repository.execute(findIfcs(element))
+																	   .stream()
+																	   .collect(toMap(Element_ContainerInterface::getInterfaceName, identity()));
+		
+		int added = 0;
+		int modified = 0;
+		int unchanged = 0;
+		
+		// Compute the added and modified IFPs.
+		List<ElementPhysicalInterfaceSubmission> pending = new LinkedList<>();
+		Map<InterfaceName,Element_PhysicalInterface> targets = new HashMap<>();
+		for(ElementPhysicalInterfaceSubmission submission : submissions){
+			Element_ContainerInterface ifc = ifcs.get(submission.getIfcName());
+			if(ifc == null) {
+				ifc = addContainerInterface(element, submission);
+				ifcs.put(submission.getIfcName(), ifc);
+			}
+			
+			Element_PhysicalInterface ifp = ifps.remove(submission.getIfpName());
+			if(ifp == null) {
+				ifp = addPhysicalInterface(element, submission, ifc);
+				added++;
+			} else if(isModified(ifp, ifc, submission)) {
+				modified++;
+			} else {
+				unchanged++;
+				continue;
+			}
+			pending.add(submission);
+			targets.put(submission.getIfpName(), ifp);
+		}
+		
+		// Resolve all neighbors of added and modified IFPs at once.
+		Map<ElementName,Element> neighbors = elements.tryFetchElements(pending.stream()
+																			  .map(ElementPhysicalInterfaceSubmission::getNeighbor)
+																			  .filter(Objects::nonNull)
+																			  .map(ElementPhysicalInterfaceNeighbor::getElementName)
+																			  .filter(Objects::nonNull)
+																			  .collect(toSet()));
+		
+		// Store the added and modified IFPs.
+		boolean complete = true;
+		for(ElementPhysicalInterfaceSubmission submission : pending) {
+			complete &= updatePhysicalInterface(element, 
+												targets.get(submission.getIfpName()), 
+												ifcs.get(submission.getIfcName()), 
+												submission,
+												optional(submission.getNeighbor(), 
+														 neighbor -> neighbors.get(neighbor.getElementName())));
+		}
+		
+		// Remove all remaining IFPs.
+		for(Element_PhysicalInterface ifp : ifps.values()) {
+			removePhysicalInterface(ifp);
+		}
+		
+		String summary = format("%d added, %d modified, %d unchanged, %d removed",
+								added,
+								modified,
+								unchanged,
+								ifps.size());
+		LOG.fine(() -> format("Physical interfaces of element %s synchronized: %s",
+							  element.getElementName(),
+							  summary));
+		return complete;
+	}
+	
+	private Element_ContainerInterface addContainerInterface(Element element, ElementPhysicalInterfaceSubmission submission) {
+		Element_ContainerInterface ifc = new Element_ContainerInterface(element,submission.getIfcName());
+		repository.add(ifc);
+		LOG.fine(() -> format("Created new container interface %s for physical interface %s for element %s", 
+							  submission.getIfcName(),
+							  submission.getIfpName(),
+							  element.getElementName()));
+		messages.add(createMessage(IVT0370I_ELEMENT_IFC_STORED, 
+								   element.getElementName(),
+								   submission.getIfcName()));
+		return ifc;
+	}
+	
+	private Element_PhysicalInterface addPhysicalInterface(Element element, 
+														   ElementPhysicalInterfaceSubmission submission, 
+														   Element_ContainerInterface ifc) {
+		Element_PhysicalInterface ifp = new Element_PhysicalInterface(element,
+																	  submission.getIfpName(),
+																	  submission.getBandwidth(),
+																	  ifc);
+		repository.add(ifp);
+		LOG.fine(() -> format("Created new physical interface %s for element %s",
+							  submission.getIfpName(),
+							  element.getElementName()));
+		return ifp;
+	}
+	
+	static boolean isModified(Element_PhysicalInterface ifp, 
+							  Element_ContainerInterface ifc,
+							  ElementPhysicalInterfaceSubmission submission) {
+		return ifp.getContainerInterface() != ifc
+			   || isDifferent(ifp.getIfpAlias(), submission.getIfpAlias())
+			   || isDifferent(ifp.getCategory(), submission.getCategory())
+			   || isDifferent(ifp.getBandwidth(), submission.getBandwidth())
+			   || isDifferent(ifp.getMacAddress(), submission.getMacAddress())
+			   || isDifferent(ifp.getAdministrativeState(), submission.getAdministrativeState())
+			   || isDifferent(ifp.getOperationalState(), submission.getOperationalState())
+			   || isNeighborModified(ifp, submission.getNeighbor());
+	}
+	
+	private static boolean isNeighborModified(Element_PhysicalInterface ifp, 
+											  ElementPhysicalInterfaceNeighbor neighbor) {
+		Element neighborElement = ifp.getNeighborElement();
+		if(neighbor == null || neighborElement == null) {
+			return neighbor != null || neighborElement != null;
+		}
+		if(isDifferent(ifp.getNeighborElementIfpName(), neighbor.getInterfaceName())) {
+			return true;
+		}
+		// The neighbor element name can either be the element name or the element alias.
+		return isDifferent(neighborElement.getElementName(), neighbor.getElementName()) 
+			   && isDifferent(neighborElement.getElementAlias(), elementAlias(neighbor.getElementName()));
+	}
+	
+	private boolean updatePhysicalInterface(Element element, 
+											Element_PhysicalInterface ifp,
+											Element_ContainerInterface ifc,
+											ElementPhysicalInterfaceSubmission submission,
+											Element neighborElement) {
 		ifp.setMacAddress(submission.getMacAddress());
 		ifp.setAdministrativeState(submission.getAdministrativeState());
 		ifp.setOperationalState(submission.getOperationalState());
@@ -185,8 +329,8 @@ public class ElementPhysicalInterfaceManager {
 		ifp.setIfpAlias(submission.getIfpAlias());
 		ifp.setCategory(submission.getCategory());
 		ifp.setBandwidth(submission.getBandwidth());
+		boolean resolved = true;
 		if(submission.getNeighbor() != null ) {
-			Element neighborElement = elements.tryFetchElement(submission.getNeighbor().getElementName());
 			if(neighborElement != null) {
 				LOG.fine(()->format("Registered neighbor interface %s at %s for interface %s at %s",
 									neighborElement.getElementName(),
@@ -206,6 +350,7 @@ public class ElementPhysicalInterfaceManager {
 										   element.getElementName(),
 										   submission.getIfpName(),
 										   submission.getNeighbor().getElementName()));	
+				resolved = false;
 			}
 		} else {
 			LOG.fine(()->format("%s: Remove neighbor interface for interface %s at %s",
@@ -241,28 +386,7 @@ public class ElementPhysicalInterfaceManager {
 				   .withInterfaceDateModified(ifp.getDateModified())
 				   .withNeighbor(ifp.getNeighbor())
 				   .build());
-
-		
-		
-		return created;
-	}
-	
-	public void storePhysicalInterfaces(Element element, List<ElementPhysicalInterfaceSubmission> submissions) {
-		Map<InterfaceName,Element_PhysicalInterface> ifps =  repository.execute(findIfps(element))
-																	   .stream()
-																	   .collect(toMap(Element_PhysicalInterface::getIfpName, identity()));
-		
-		// Add missing and update existing IFPs.
-		for(ElementPhysicalInterfaceSubmission submission : submissions){
-			storePhysicalInterface(element,submission);
-			ifps.remove(submission.getIfpName());
-		}
-		
-		// Remove all remaining IFPs.
-		for(Element_PhysicalInterface ifp : ifps.values()) {
-			removePhysicalInterface(ifp);
-		}
-
+		return resolved;
 	}
 
 	public void removePhysicalInterface(Element element, InterfaceName ifpName) {
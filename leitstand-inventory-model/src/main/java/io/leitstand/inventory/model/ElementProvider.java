@@ -17,9 +17,15 @@ package io.leitstand.inventory.model;
 
 import static io.leitstand.inventory.model.Element.findElementById;
 import static io.leitstand.inventory.model.Element.findElementByName;
+import static io.leitstand.inventory.model.Element.findElementsByNames;
+import static io.leitstand.inventory.service.ElementName.elementName;
 import static io.leitstand.inventory.service.ReasonCode.IVT0300E_ELEMENT_NOT_FOUND;
 import static java.lang.String.format;
+import static java.util.Collections.emptyMap;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.logging.Logger;
 
 import javax.enterprise.context.Dependent;
@@ -36,20 +42,43 @@ public class ElementProvider {
 	private static final Logger LOG = Logger.getLogger(ElementProvider.class.getName());
 	
 	private Repository repository;
+	
+	private ElementIdentityMap cache;
 
 	protected ElementProvider() {
 		// CDI
 	}
 	
+	/**
+	 * Creates an element provider without identity map. 
+	 * Every lookup reads the element from the repository.
+	 * @param repository the inventory repository
+	 */
+	public ElementProvider(Repository repository) {
+		this(repository, null);
+	}
+	
+	/**
+	 * Creates an element provider, that resolves every element only once per transaction.
+	 * @param repository the inventory repository
+	 * @param cache the transaction-scoped identity map
+	 */
 	@Inject
-	public ElementProvider(@Inventory Repository repository) {
+	public ElementProvider(@Inventory Repository repository, 
+						   ElementIdentityMap cache) {
 		this.repository = repository;
+		this.cache = cache;
 	}
-	
-
 
 	public Element tryFetchElement(ElementId elementId) {
-		return repository.execute(findElementById(elementId));
+		if(cache == null) {
+			return repository.execute(findElementById(elementId));
+		}
+		Element element = cache.get(elementId);
+		if(element != null) {
+			return element;
+		}
+		return cache.put(repository.execute(findElementById(elementId)));
 	}
 	
 	public Element fetchElement(ElementId elementId) {
@@ -75,7 +104,46 @@ public class ElementProvider {
 	}
 	
 	public Element tryFetchElement(ElementName elementName) {
-		return repository.execute(findElementByName(elementName));
+		if(cache == null) {
+			return repository.execute(findElementByName(elementName));
+		}
+		Element element = cache.get(elementName);
+		if(element != null) {
+			return element;
+		}
+		return cache.put(repository.execute(findElementByName(elementName)));
+	}
+	
+	/**
+	 * Resolves a set of element names in a single query.
+	 * <p>
+	 * An element name is either matched against the element name or the element alias, 
+	 * whereas a matching element name takes precedence over a matching element alias.
+	 * Unknown element names are not contained in the returned map.
+	 * @param elementNames the element names to be resolved
+	 * @return the resolved elements, keyed by the element name they were resolved for.
+	 */
+	public Map<ElementName,Element> tryFetchElements(Collection<ElementName> elementNames) {
+		if(elementNames.isEmpty()) {
+			return emptyMap();
+		}
+		Map<ElementName,Element> resolved = new HashMap<>();
+		Map<ElementName,Element> aliases  = new HashMap<>();
+		for(Element element : repository.execute(findElementsByNames(elementNames))) {
+			resolved.put(element.getElementName(), element);
+			if(element.getElementAlias() != null) {
+				aliases.put(elementName(element.getElementAlias()), element);
+			}
+		}
+		for(Map.Entry<ElementName,Element> alias : aliases.entrySet()) {
+			if(elementNames.contains(alias.getKey())) {
+				resolved.putIfAbsent(alias.getKey(), alias.getValue());
+			}
+		}
+		if(cache != null) {
+			resolved.values().forEach(cache::put);
+		}
+		return resolved;
 	}
 	
 	public Element fetchElement(ElementName elementName) {
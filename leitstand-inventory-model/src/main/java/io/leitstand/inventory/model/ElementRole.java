@@ -15,17 +15,27 @@
  */
 package io.leitstand.inventory.model;
 
+import static io.leitstand.inventory.model.ReferenceDataCache.EXPIRY;
+import static io.leitstand.inventory.model.ReferenceDataCache.EXPIRY_HINT;
 import static java.util.UUID.randomUUID;
+import static org.eclipse.persistence.config.HintValues.TRUE;
+import static org.eclipse.persistence.config.QueryHints.QUERY_RESULTS_CACHE;
+import static org.eclipse.persistence.config.QueryHints.QUERY_RESULTS_CACHE_EXPIRY;
+import static org.eclipse.persistence.config.QueryHints.QUERY_RESULTS_CACHE_IGNORE_NULL;
 
 import java.util.List;
 
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.Convert;
 import javax.persistence.Entity;
 import javax.persistence.NamedQueries;
 import javax.persistence.NamedQuery;
+import javax.persistence.QueryHint;
 import javax.persistence.Table;
 
+import org.eclipse.persistence.annotations.Cache;
+
 import io.leitstand.commons.jpa.BooleanConverter;
 import io.leitstand.commons.model.Query;
 import io.leitstand.commons.model.VersionableEntity;
@@ -36,12 +46,20 @@ import io.leitstand.inventory.service.ElementRoleName;
 import io.leitstand.inventory.service.Plane;
 
 @Entity
+@Cacheable
+@Cache(expiry=EXPIRY)
 @Table(schema="inventory", name="elementrole")
 @NamedQueries({
 @NamedQuery(name="ElementRole.findByName", 
-			query="SELECT r from ElementRole r WHERE r.name=:name"),
+			query="SELECT r from ElementRole r WHERE r.name=:name",
+			hints={@QueryHint(name=QUERY_RESULTS_CACHE, value=TRUE),
+			       @QueryHint(name=QUERY_RESULTS_CACHE_EXPIRY, value=EXPIRY_HINT),
+			       @QueryHint(name=QUERY_RESULTS_CACHE_IGNORE_NULL, value=TRUE)}),
 @NamedQuery(name="ElementRole.findById", 
-			query="SELECT r from ElementRole r WHERE r.uuid=:uuid"),
+			query="SELECT r from ElementRole r WHERE r.uuid=:uuid",
+			hints={@QueryHint(name=QUERY_RESULTS_CACHE, value=TRUE),
+			       @QueryHint(name=QUERY_RESULTS_CACHE_EXPIRY, value=EXPIRY_HINT),
+			       @QueryHint(name=QUERY_RESULTS_CACHE_IGNORE_NULL, value=TRUE)}),
 @NamedQuery(name="ElementRole.findAll", 
 			query="SELECT r from ElementRole r ORDER BY r.displayName, r.name"),
 @NamedQuery(name="ElementRole.countElements",
@@ -0,0 +1,381 @@
+/*
+ * Copyright 2020 RtBrick Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.leitstand.inventory.model;
+
+import static io.leitstand.inventory.model.Element.findAllElements;
+import static io.leitstand.inventory.model.Element.findElementsByIds;
+import static java.lang.Boolean.TRUE;
+import static java.lang.Character.MAX_VALUE;
+import static java.lang.String.format;
+import static java.lang.System.currentTimeMillis;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static java.util.Comparator.comparing;
+import static java.util.Locale.ENGLISH;
+import static java.util.stream.Collectors.toList;
+import static javax.enterprise.event.TransactionPhase.AFTER_SUCCESS;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.context.Initialized;
+import javax.enterprise.event.Observes;
+import javax.inject.Inject;
+
+import io.leitstand.commons.tx.SubtransactionService;
+import io.leitstand.inventory.event.ElementActivatedEvent;
+import io.leitstand.inventory.event.ElementAddedEvent;
+import io.leitstand.inventory.event.ElementBatchEvent;
+import io.leitstand.inventory.event.ElementBatchEvent.BatchElement;
+import io.leitstand.inventory.event.ElementClonedEvent;
+import io.leitstand.inventory.event.ElementEvent;
+import io.leitstand.inventory.event.ElementMovedEvent;
+import io.leitstand.inventory.event.ElementOperationalStateChangedEvent;
+import io.leitstand.inventory.event.ElementRemovedEvent;
+import io.leitstand.inventory.event.ElementRenamedEvent;
+import io.leitstand.inventory.event.ElementRetiredEvent;
+import io.leitstand.inventory.event.ElementRoleChangedEvent;
+import io.leitstand.inventory.event.ElementSettingsUpdatedEvent;
+import io.leitstand.inventory.event.ElementsClonedEvent;
+import io.leitstand.inventory.event.ElementsRemovedEvent;
+import io.leitstand.inventory.service.ElementCloneRequest;
+import io.leitstand.inventory.service.ElementId;
+import io.leitstand.inventory.service.ElementManagementInterface;
+import io.leitstand.inventory.service.ElementSearchService;
+import io.leitstand.inventory.service.ElementSettings;
+
+/**
+ * In-memory search index of all elements.
+ * <p>
+ * The index maps the lower-case tokens of element name, alias, tags, serial number, asset ID and 
+ * management interface hostnames to the IDs of the elements carrying these tokens.
+ * Every value is indexed as a whole and in parts split at <code>-</code>, <code>_</code>, <code>.</code>, <code>:</code> and <code>/</code>.
+ * The tokens are kept in a sorted map, such that all tokens starting with a search term form a contiguous range of the map.
+ * <p>
+ * The index is loaded from the database on application startup 
+ * and is updated whenever an element is added, cloned, renamed, moved, updated, retired or removed.
+ * The index is not bound to a transaction. All elements are loaded in subtransactions, 
+ * where every subtransaction loads a batch of elements or the elements affected by an element event.
+ * The index is rebuilt after five minutes to also reflect element changes made by other inventory instances.
+ */
+@ApplicationScoped
+public class ElementSearchIndex implements ElementSearchService {
+	
+	private static final Logger LOG = Logger.getLogger(ElementSearchIndex.class.getName());
+
+	static final long MAX_AGE_MILLIS = TimeUnit.MINUTES.toMillis(5);
+	static final int LOAD_BATCH_SIZE = 1000;
+	private static final String TOKEN_DELIMITERS = "[-_.:/]";
+	
+	static class Index {
+		private final NavigableMap<String,Set<ElementId>> tokens;
+		private final Map<ElementId,IndexedElement> elements;
+		private volatile long loaded;
+		
+		Index(){
+			this.tokens = new ConcurrentSkipListMap<>();
+			this.elements = new ConcurrentHashMap<>();
+			this.loaded = currentTimeMillis();
+		}
+		
+		boolean isExpired() {
+			return currentTimeMillis() - loaded > MAX_AGE_MILLIS;
+		}
+		
+		void expire() {
+			loaded = 0;
+		}
+		
+		void add(ElementSettings settings) {
+			remove(settings.getElementId());
+			IndexedElement element = new IndexedElement(settings);
+			elements.put(settings.getElementId(), element);
+			for(String token : element.tokens) {
+				tokens.computeIfAbsent(token, t -> ConcurrentHashMap.newKeySet())
+					  .add(settings.getElementId());
+			}
+		}
+		
+		void remove(ElementId elementId) {
+			IndexedElement element = elements.remove(elementId);
+			if(element == null) {
+				return;
+			}
+			for(String token : element.tokens) {
+				tokens.computeIfPresent(token, (t,ids) -> {
+					ids.remove(elementId);
+					return ids.isEmpty() ? null : ids;
+				});
+			}
+		}
+		
+		List<ElementSettings> search(List<String> terms, int limit){
+			Set<ElementId> matches = null;
+			for(String term : terms) {
+				Set<ElementId> termMatches = new HashSet<>();
+				for(Set<ElementId> ids : tokens.subMap(term, true, term+MAX_VALUE, true).values()) {
+					termMatches.addAll(ids);
+				}
+				if(matches == null) {
+					matches = termMatches;
+				} else {
+					matches.retainAll(termMatches);
+				}
+				if(matches.isEmpty()) {
+					return emptyList();
+				}
+			}
+			if(matches == null) {
+				return emptyList();
+			}
+			return matches.stream()
+						  .map(elements::get)
+						  .filter(element -> element != null)
+						  .map(element -> element.settings)
+						  .sorted(comparing((ElementSettings element) -> element.getGroupName().toString())
+								  .thenComparing(element -> element.getElementName().toString()))
+						  .limit(limit)
+						  .collect(toList());
+		}
+		
+		int size() {
+			return elements.size();
+		}
+	}
+	
+	static class IndexedElement {
+		private final ElementSettings settings;
+		private final Set<String> tokens;
+		
+		IndexedElement(ElementSettings settings){
+			this.settings = settings;
+			this.tokens = new HashSet<>();
+			addTokens(settings.getElementName());
+			addTokens(settings.getElementAlias());
+			addTokens(settings.getSerialNumber());
+			addTokens(settings.getAssetId());
+			for(String tag : settings.getTags()) {
+				addTokens(tag);
+			}
+			for(ElementManagementInterface mgmt : settings.getManagementInterfaces().values()) {
+				addTokens(mgmt.getHostname());
+			}
+		}
+
+		private void addTokens(Object value) {
+			if(value == null) {
+				return;
+			}
+			String token = value.toString().toLowerCase(ENGLISH);
+			if(token.isEmpty()) {
+				return;
+			}
+			tokens.add(token.intern());
+			for(String part : token.split(TOKEN_DELIMITERS)) {
+				if(!part.isEmpty()) {
+					tokens.add(part.intern());
+				}
+			}
+		}
+	}
+	
+	private SubtransactionService transactions;
+	private volatile Index index;
+	private AtomicBoolean loading;
+	private AtomicLong generation;
+	
+	protected ElementSearchIndex() {
+		// CDI
+	}
+	
+	@Inject
+	protected ElementSearchIndex(@Inventory SubtransactionService transactions) {
+		this.transactions = transactions;
+		this.loading = new AtomicBoolean();
+		this.generation = new AtomicLong();
+	}
+	
+	/**
+	 * Loads the index on application startup.
+	 * @param init the application scope initialization event
+	 */
+	public void onStartup(@Observes @Initialized(ApplicationScoped.class) Object init) {
+		try {
+			rebuild();
+		} catch (Exception e) {
+			// Do not fail the deployment. The index is loaded with the first search.
+			LOG.warning(() -> format("Cannot load element search index: %s",e.getMessage()));
+		}
+	}
+	
+	@Override
+	public List<ElementSettings> searchElements(String query, int limit) {
+		List<String> terms = terms(query);
+		if(terms.isEmpty() || limit <= 0) {
+			return emptyList();
+		}
+		Index current = index;
+		if(current == null) {
+			current = rebuild();
+		} else if (current.isExpired() && loading.compareAndSet(false, true)) {
+			// Rebuild the expired index. Concurrent searches use the expired index meanwhile.
+			try {
+				current = rebuild();
+			} finally {
+				loading.set(false);
+			}
+		}
+		return current.search(terms,limit);
+	}
+	
+	/**
+	 * Updates the index when an element has been added, cloned, renamed, moved, changed its role, settings or lifecycle state, or was removed.
+	 * @param event the element event
+	 */
+	public void onElementEvent(@Observes(during=AFTER_SUCCESS) ElementEvent event) {
+		Index current = index;
+		if(current == null) {
+			return;
+		}
+		if(event instanceof ElementRemovedEvent) {
+			generation.incrementAndGet();
+			current.remove(event.getElementId());
+			return;
+		}
+		if(event instanceof ElementClonedEvent) {
+			generation.incrementAndGet();
+			reload(current, 
+				   singletonList(((ElementClonedEvent)event).getCloneId()));
+			return;
+		}
+		if(event instanceof ElementsClonedEvent) {
+			generation.incrementAndGet();
+			reload(current, 
+				   ((ElementsClonedEvent)event).getClones()
+				   							   .stream()
+				   							   .map(ElementCloneRequest::getElementId)
+				   							   .collect(toList()));
+			return;
+		}
+		if(event instanceof ElementAddedEvent 
+		   || event instanceof ElementRenamedEvent
+		   || event instanceof ElementMovedEvent
+		   || event instanceof ElementRoleChangedEvent
+		   || event instanceof ElementSettingsUpdatedEvent
+		   || event instanceof ElementActivatedEvent
+		   || event instanceof ElementRetiredEvent
+		   || event instanceof ElementOperationalStateChangedEvent) {
+			generation.incrementAndGet();
+			reload(current, 
+				   singletonList(event.getElementId()));
+		}
+	}
+	
+	/**
+	 * Updates the index when a batch of elements has been retired or removed.
+	 * @param event the element batch event
+	 */
+	public void onElementBatchEvent(@Observes(during=AFTER_SUCCESS) ElementBatchEvent event) {
+		Index current = index;
+		if(current == null) {
+			return;
+		}
+		generation.incrementAndGet();
+		List<ElementId> elementIds = event.getElements()
+										  .stream()
+										  .map(BatchElement::getElementId)
+										  .collect(toList());
+		if(event instanceof ElementsRemovedEvent) {
+			elementIds.forEach(current::remove);
+			return;
+		}
+		reload(current, elementIds);
+	}
+	
+	private void reload(Index current, List<ElementId> elementIds) {
+		List<ElementSettings> elements = new ArrayList<>(elementIds.size());
+		transactions.run(repository -> repository.execute(findElementsByIds(elementIds))
+												 .stream()
+												 .map(ElementSettingsManager::settingsOf)
+												 .forEach(elements::add),
+						 repository -> TRUE);
+		Set<ElementId> removed = new HashSet<>(elementIds);
+		for(ElementSettings element : elements) {
+			removed.remove(element.getElementId());
+			current.add(element);
+		}
+		// Elements that do not exist anymore
+		removed.forEach(current::remove);
+	}
+	
+	Index rebuild() {
+		long expected = generation.get();
+		Index rebuilt = new Index();
+		for(int offset = 0;;offset+=LOAD_BATCH_SIZE) {
+			List<ElementSettings> elements = load(offset);
+			elements.forEach(rebuilt::add);
+			if(elements.size() < LOAD_BATCH_SIZE) {
+				break;
+			}
+		}
+		if(generation.get() != expected) {
+			// Elements were modified while the index was loaded. 
+			// Use the loaded index but load it again with the next search.
+			rebuilt.expire();
+		}
+		index = rebuilt;
+		LOG.fine(() -> format("Element search index loaded with %d elements.", 
+							  rebuilt.size()));
+		return rebuilt;
+	}
+	
+	private List<ElementSettings> load(int offset){
+		// Load every batch in a transaction of its own to release the loaded entities after every batch.
+		List<ElementSettings> elements = new ArrayList<>(LOAD_BATCH_SIZE);
+		transactions.run(repository -> repository.execute(findAllElements(offset, LOAD_BATCH_SIZE))
+												 .stream()
+												 .map(ElementSettingsManager::settingsOf)
+												 .forEach(elements::add),
+						 repository -> TRUE);
+		return elements;
+	}
+	
+	static List<String> terms(String query){
+		List<String> terms = new LinkedList<>();
+		if(query == null) {
+			return terms;
+		}
+		for(String term : query.trim().toLowerCase(ENGLISH).split("\\s+")) {
+			if(!term.isEmpty()) {
+				terms.add(term);
+			}
+		}
+		return terms;
+	}
+	
+}
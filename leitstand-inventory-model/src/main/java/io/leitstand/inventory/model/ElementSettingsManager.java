@@ -24,6 +24,7 @@ import static io.leitstand.inventory.event.ElementOperationalStateChangedEvent.n
 import static io.leitstand.inventory.event.ElementRenamedEvent.newElementRenamedEvent;
 import static io.leitstand.inventory.event.ElementRoleChangedEvent.newElementRoleChangedEvent;
 import static io.leitstand.inventory.model.ElementValueObjects.elementValueObject;
+import static io.leitstand.inventory.model.Image_DeploymentCount.countElementImages;
 import static io.leitstand.inventory.service.ElementGroupSettings.newElementGroupSettings;
 import static io.leitstand.inventory.service.ElementName.elementName;
 import static io.leitstand.inventory.service.ElementSettings.newElementSettings;
@@ -31,6 +32,7 @@ import static io.leitstand.inventory.service.ReasonCode.IVT0301I_ELEMENT_STORED;
 import static io.leitstand.inventory.service.ReasonCode.IVT0307E_ELEMENT_NAME_ALREADY_IN_USE;
 import static java.lang.String.format;
 
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javax.enterprise.context.Dependent;
@@ -143,6 +145,21 @@ public class ElementSettingsManager {
 	
 	
 	public void storeElementSettings(Element element, ElementSettings settings) {
+		storeElementSettings(element, 
+							 settings, 
+							 event::fire);
+	}
+	
+	/**
+	 * Stores the element settings and passes all element events to the specified consumer 
+	 * instead of firing them immediately.
+	 * @param element the element
+	 * @param settings the element settings
+	 * @param events the consumer of all element events caused by the settings update
+	 */
+	void storeElementSettings(Element element, 
+							  ElementSettings settings, 
+							  Consumer<ElementEvent> events) {
 		if(!element.hasElementId(settings.getElementId())){
 			LOG.fine(() -> format("%s: Element ID is immutable. Request to change it from %s to %s for %s element %s rejected",
 								  VAL0003E_IMMUTABLE_ATTRIBUTE.getReasonCode(),
@@ -160,6 +177,21 @@ public class ElementSettingsManager {
 								  settings.getElementName(), 
 								  settings.getElementAlias());
 		
+		updateElementSettings(element, 
+							  settings, 
+							  events);
+	}
+	
+	/**
+	 * Updates the element settings without checking for name and alias conflicts.
+	 * The caller must have verified that the element name and alias are not used by other elements.
+	 * @param element the element
+	 * @param settings the element settings
+	 * @param events the consumer of all element events caused by the settings update
+	 */
+	void updateElementSettings(Element element, 
+							   ElementSettings settings, 
+							   Consumer<ElementEvent> events) {
 		ElementName previousElementName = element.setElementName(settings.getElementName());
 		element.setElementAlias(settings.getElementAlias());
 		OperationalState previousOperationalState = element.setOperationalState(settings.getOperationalState());
@@ -179,7 +211,7 @@ public class ElementSettingsManager {
 								   element.getElementRoleName(),
 								   settings.getElementRole()));
 			element.setElementRole(newRole);
-			event.fire(newElementRoleChangedEvent()
+			events.accept(newElementRoleChangedEvent()
 					   .withGroupId(element.getGroupId())
 					   .withGroupName(element.getGroupName())
 					   .withGroupType(element.getGroupType())
@@ -205,7 +237,7 @@ public class ElementSettingsManager {
 								   element.getElementRole(),
 								   previousElementName,
 								   element.getElementName()));
-			event.fire(newElementRenamedEvent()
+			events.accept(newElementRenamedEvent()
 					   .withGroupId(element.getGroupId())
 					   .withGroupName(element.getGroupName())
 					   .withGroupType(element.getGroupType())
@@ -227,7 +259,7 @@ public class ElementSettingsManager {
 								   element.getElementName(),
 								   previousOperationalState,
 								   element.getOperationalState()));
-			event.fire(newElementOperationalStateChangedEvent()
+			events.accept(newElementOperationalStateChangedEvent()
 					   .withGroupId(element.getGroupId())
 					   .withGroupName(element.getGroupName())
 					   .withGroupType(element.getGroupType())
@@ -253,7 +285,9 @@ public class ElementSettingsManager {
 			current.remove(element);
 			element.setGroup(expected);
 			expected.add(element);
-			event.fire(newElementMovedEvent()
+			repository.execute(countElementImages(element, current, -1));
+			repository.execute(countElementImages(element, expected, +1));
+			events.accept(newElementMovedEvent()
 					   .withGroupId(element.getGroupId())
 					   .withGroupName(element.getGroupName())
 					   .withGroupType(element.getGroupType())
@@ -50,6 +50,10 @@ import io.leitstand.security.auth.UserName;
 			query="SELECT c FROM Element_Config c WHERE c.element=:element")
 @NamedQuery(name="Element_Config.removeConfigRevisions",
 			query="DELETE FROM Element_Config_Revision c WHERE c.elementConfig=:config AND c.state=io.leitstand.inventory.service.ConfigurationState.SUPERSEDED")
+@NamedQuery(name="Element_Config.removeAllRevisionsOfElements",
+			query="DELETE FROM Element_Config_Revision r WHERE r.elementConfig.element IN :elements")
+@NamedQuery(name="Element_Config.removeAllOfElements",
+			query="DELETE FROM Element_Config c WHERE c.element IN :elements")
 public class Element_Config implements Serializable {
 
 	private static final long serialVersionUID = 1L;
@@ -81,6 +85,18 @@ public class Element_Config implements Serializable {
 		};
 	}
 	
+	public static Update removeAllConfigurations(List<Element> elements) {
+		return em -> {
+			// Remove all revisions first, because JPQL does not support cascade DELETE (see JPA spec).
+			em.createNamedQuery("Element_Config.removeAllRevisionsOfElements",int.class)
+			  .setParameter("elements", elements)
+			  .executeUpdate();
+			return em.createNamedQuery("Element_Config.removeAllOfElements",int.class)
+					 .setParameter("elements", elements)
+					 .executeUpdate();
+		};
+	}
+	
 	public static Update removeConfigRevisions(Element element, 
 											   ElementConfigName configName) {
 		
@@ -16,6 +16,7 @@
 package io.leitstand.inventory.model;
 
 import java.io.Serializable;
+import java.util.List;
 
 import javax.persistence.Column;
 import javax.persistence.Entity;
@@ -33,20 +34,36 @@ import io.leitstand.inventory.service.InterfaceName;
 @Entity
 @Table(schema="inventory", name="element_ifc")
 @IdClass(Element_InterfacePK.class)
+@NamedQuery(name="Element_ContainerInterface.findByElement",
+			query="SELECT ifc FROM Element_ContainerInterface ifc WHERE ifc.element=:element")
 @NamedQuery(name="Element_ContainerInterface.removeAll",
 			query="DELETE FROM Element_ContainerInterface ifc WHERE ifc.element=:element")
+@NamedQuery(name="Element_ContainerInterface.removeAllOfElements",
+			query="DELETE FROM Element_ContainerInterface ifc WHERE ifc.element IN :elements")
 public class Element_ContainerInterface implements Serializable {
 
 	public static Query<Element_ContainerInterface> findIfcByName(Element element, InterfaceName name) {
 		return em -> em.find(Element_ContainerInterface.class, new Element_InterfacePK(element,name));
 	}
 
+	public static Query<List<Element_ContainerInterface>> findIfcs(Element element) {
+		return em -> em.createNamedQuery("Element_ContainerInterface.findByElement",Element_ContainerInterface.class)
+					   .setParameter("element",element)
+					   .getResultList();
+	}
+
 	public static Update removeIfcs(Element element) {
 		return em -> em.createNamedQuery("Element_ContainerInterface.removeAll",int.class)
 					   .setParameter("element",element)
 					   .executeUpdate();
 	}
 	
+	public static Update removeIfcs(List<Element> elements) {
+		return em -> em.createNamedQuery("Element_ContainerInterface.removeAllOfElements",int.class)
+					   .setParameter("elements",elements)
+					   .executeUpdate();
+	}
+	
 	private static final long serialVersionUID = 1L;
 
 	@Id
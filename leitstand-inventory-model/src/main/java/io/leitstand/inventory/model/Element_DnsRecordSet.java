@@ -63,6 +63,8 @@ import io.leitstand.inventory.service.DnsZoneName;
 @NamedQuery(name="Element_DnsRecordSet.findDnsRecordSetById",
 			query="SELECT s FROM Element_DnsRecordSet s WHERE s.uuid=:id")
 
+@NamedQuery(name="Element_DnsRecordSet.removeAllOfElements",
+			query="DELETE FROM Element_DnsRecordSet s WHERE s.element IN :elements")
 public class Element_DnsRecordSet {
 
 	public static Update removeDnsRecordSets(Element element) {
@@ -71,6 +73,12 @@ public class Element_DnsRecordSet {
 					   .executeUpdate();
 	}
 	
+	public static Update removeDnsRecordSets(List<Element> elements) {
+		return em -> em.createNamedQuery("Element_DnsRecordSet.removeAllOfElements",int.class)
+					   .setParameter("elements",elements)
+					   .executeUpdate();
+	}
+	
 	public static Query<List<Element_DnsRecordSet>> findDnsRecordSets(Element element) {
 		return em -> em.createNamedQuery("Element_DnsRecordSet.findDnsRecordSets",Element_DnsRecordSet.class)
 					   .setParameter("element", element)
@@ -58,6 +58,8 @@ import io.leitstand.inventory.service.EnvironmentName;
 			query="SELECT e FROM Element_Environment e WHERE e.element=:element")
 @NamedQuery(name="Element_Environment.removeAll",
 			query="DELETE FROM Element_Environment e WHERE e.element=:element")
+@NamedQuery(name="Element_Environment.removeAllOfElements",
+			query="DELETE FROM Element_Environment e WHERE e.element IN :elements")
 public class Element_Environment implements Serializable {
 
 	private static final long serialVersionUID = 1L;
@@ -68,6 +70,12 @@ public class Element_Environment implements Serializable {
 					   .executeUpdate();
 	}
 	
+	public static Update removeEnvironments(List<Element> elements) {
+		return em -> em.createNamedQuery("Element_Environment.removeAllOfElements",int.class)
+					   .setParameter("elements",elements)
+					   .executeUpdate();
+	}
+	
 	public static Query<Element_Environment> findEnvironmentById(EnvironmentId id){
 		return em -> em.createNamedQuery("Element_Environment.findEnvironmentById",Element_Environment.class)
 					   .setParameter("uuid",id)
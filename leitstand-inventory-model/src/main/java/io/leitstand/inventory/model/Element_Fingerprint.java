@@ -0,0 +1,231 @@
+/*
+ * Copyright 2020 RtBrick Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.leitstand.inventory.model;
+
+import static javax.persistence.EnumType.STRING;
+import static javax.persistence.TemporalType.TIMESTAMP;
+
+import java.io.Serializable;
+import java.util.Date;
+import java.util.List;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Enumerated;
+import javax.persistence.Id;
+import javax.persistence.IdClass;
+import javax.persistence.JoinColumn;
+import javax.persistence.ManyToOne;
+import javax.persistence.NamedQuery;
+import javax.persistence.Table;
+import javax.persistence.Temporal;
+
+import io.leitstand.commons.model.Query;
+import io.leitstand.commons.model.Update;
+
+/**
+ * Fingerprint of the last bulk submission of a certain element inventory section.
+ * <p>
+ * Collectors periodically submit the complete physical interfaces, modules and images of an element.
+ * The fingerprint allows to detect a resubmission of unchanged data, which can be skipped entirely. 
+ */
+@Entity
+@Table(schema="inventory", name="element_fingerprint")
+@IdClass(Element_FingerprintPK.class)
+@NamedQuery(name="Element_Fingerprint.findDigest",
+			query="SELECT f.digest FROM Element_Fingerprint f WHERE f.element=:element AND f.section=:section")
+@NamedQuery(name="Element_Fingerprint.remove",
+			query="DELETE FROM Element_Fingerprint f WHERE f.element=:element AND f.section=:section")
+@NamedQuery(name="Element_Fingerprint.removeImageFingerprints",
+			query="DELETE FROM Element_Fingerprint f WHERE f.section=:section AND f.element IN (SELECT ei.element FROM Element_Image ei WHERE ei.image=:image)")
+@NamedQuery(name="Element_Fingerprint.removeAll",
+			query="DELETE FROM Element_Fingerprint f WHERE f.element=:element")
+@NamedQuery(name="Element_Fingerprint.removeNeighborFingerprints",
+			query="DELETE FROM Element_Fingerprint f WHERE f.section=:section AND f.element IN (SELECT ifp.element FROM Element_PhysicalInterface ifp WHERE ifp.neighborElement=:element)")
+@NamedQuery(name="Element_Fingerprint.removeAllOfElements",
+			query="DELETE FROM Element_Fingerprint f WHERE f.element IN :elements")
+@NamedQuery(name="Element_Fingerprint.removeNeighborFingerprintsOfElements",
+			query="DELETE FROM Element_Fingerprint f WHERE f.section=:section AND f.element IN (SELECT ifp.element FROM Element_PhysicalInterface ifp WHERE ifp.neighborElement IN :elements)")
+public class Element_Fingerprint implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * The element inventory section a fingerprint was computed for.
+	 */
+	public enum Section {
+		/** Physical interfaces of an element. */
+		IFP,
+		/** Modules of an element. */
+		MODULE,
+		/** Installed images of an element.*/
+		IMAGE
+	}
+	
+	/**
+	 * Reads the digest of the last processed submission of an element inventory section.
+	 * The digest is read from the database and never from the persistence context,
+	 * because fingerprints are stored by native statements.
+	 * @param element the element
+	 * @param section the inventory section
+	 * @return the digest or <code>null</code> if no fingerprint exists.
+	 */
+	public static Query<String> findDigest(Element element, Section section) {
+		return em -> em.createNamedQuery("Element_Fingerprint.findDigest",String.class)
+					   .setParameter("element", element)
+					   .setParameter("section", section)
+					   .getResultList()
+					   .stream()
+					   .findFirst()
+					   .orElse(null);
+	}
+	
+	/**
+	 * Stores the digest of a processed submission.
+	 * <p>
+	 * The fingerprint is created if it does not exist and updated otherwise.
+	 * Inserting with <code>ON CONFLICT DO NOTHING</code> first avoids a primary key violation 
+	 * when two transactions store the first fingerprint of the same section concurrently.
+	 * @param element the element
+	 * @param section the inventory section
+	 * @param digest the digest of the processed submission
+	 * @return the number of modified fingerprints.
+	 */
+	public static Update storeDigest(Element element, Section section, String digest) {
+		return em -> {
+			int created = em.createNativeQuery("INSERT INTO inventory.element_fingerprint (element_id, section, digest, tsmodified) "+
+											   "VALUES (?1, ?2, ?3, CURRENT_TIMESTAMP) "+
+											   "ON CONFLICT DO NOTHING")
+							.setParameter(1, element.getId())
+							.setParameter(2, section.name())
+							.setParameter(3, digest)
+							.executeUpdate();
+			if(created > 0) {
+				return created;
+			}
+			return em.createNativeQuery("UPDATE inventory.element_fingerprint "+
+										"SET digest = ?1, tsmodified = CURRENT_TIMESTAMP "+
+										"WHERE element_id = ?2 "+
+										"AND section = ?3")
+					 .setParameter(1, digest)
+					 .setParameter(2, element.getId())
+					 .setParameter(3, section.name())
+					 .executeUpdate();
+		};
+	}
+	
+	public static Update removeFingerprint(Element element, Section section) {
+		return em -> em.createNamedQuery("Element_Fingerprint.remove",int.class)
+					   .setParameter("element", element)
+					   .setParameter("section", section)
+					   .executeUpdate();
+	}
+	
+	/**
+	 * Removes the image fingerprints of all elements having the given image installed.
+	 * @param image the image
+	 * @return the number of removed fingerprints.
+	 */
+	public static Update removeImageFingerprints(Image image) {
+		return em -> em.createNamedQuery("Element_Fingerprint.removeImageFingerprints",int.class)
+					   .setParameter("section", Section.IMAGE)
+					   .setParameter("image", image)
+					   .executeUpdate();
+	}
+	
+	public static Update removeFingerprints(Element element) {
+		return em -> em.createNamedQuery("Element_Fingerprint.removeAll",int.class)
+					   .setParameter("element", element)
+					   .executeUpdate();
+	}
+	
+	/**
+	 * Removes the physical interface fingerprints of all elements having a neighbor interface on the given element.
+	 * @param element the neighbor element
+	 * @return the number of removed fingerprints.
+	 */
+	public static Update removeNeighborFingerprints(Element element) {
+		return em -> em.createNamedQuery("Element_Fingerprint.removeNeighborFingerprints",int.class)
+					   .setParameter("section", Section.IFP)
+					   .setParameter("element", element)
+					   .executeUpdate();
+	}
+	
+	public static Update removeFingerprints(List<Element> elements) {
+		return em -> em.createNamedQuery("Element_Fingerprint.removeAllOfElements",int.class)
+					   .setParameter("elements", elements)
+					   .executeUpdate();
+	}
+	
+	public static Update removeNeighborFingerprints(List<Element> elements) {
+		return em -> em.createNamedQuery("Element_Fingerprint.removeNeighborFingerprintsOfElements",int.class)
+					   .setParameter("section", Section.IFP)
+					   .setParameter("elements", elements)
+					   .executeUpdate();
+	}
+	
+	@Id
+	@ManyToOne
+	@JoinColumn(name="element_id")
+	private Element element;
+	
+	@Id
+	@Enumerated(STRING)
+	@Column(name="section")
+	private Section section;
+	
+	@Column(name="digest")
+	private String digest;
+	
+	@Temporal(TIMESTAMP)
+	private Date tsModified;
+	
+	protected Element_Fingerprint() {
+		// JPA
+	}
+	
+	protected Element_Fingerprint(Element element, Section section, String digest) {
+		this.element = element;
+		this.section = section;
+		setDigest(digest);
+	}
+	
+	public Element getElement() {
+		return element;
+	}
+	
+	public Section getSection() {
+		return section;
+	}
+	
+	public String getDigest() {
+		return digest;
+	}
+	
+	public boolean hasDigest(String digest) {
+		return this.digest != null && this.digest.equals(digest);
+	}
+	
+	void setDigest(String digest) {
+		this.digest = digest;
+		this.tsModified = new Date();
+	}
+	
+	public Date getDateModified() {
+		return new Date(tsModified.getTime());
+	}
+	
+}
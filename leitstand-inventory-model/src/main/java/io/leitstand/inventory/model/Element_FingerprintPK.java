@@ -0,0 +1,72 @@
+/*
+ * Copyright 2020 RtBrick Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.leitstand.inventory.model;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+import io.leitstand.inventory.model.Element_Fingerprint.Section;
+
+public class Element_FingerprintPK implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	private Long element;
+	private Section section;
+	
+	public Element_FingerprintPK() {
+		// JPA
+	}
+	
+	public Element_FingerprintPK(Element element, Section section) {
+		this(element.getId(),section);
+	}
+	
+	public Element_FingerprintPK(Long element, Section section) {
+		this.element = element;
+		this.section = section;
+	}
+	
+	public Long getElement() {
+		return element;
+	}
+	
+	public Section getSection() {
+		return section;
+	}
+	
+	@Override
+	public int hashCode() {
+		return Objects.hash(element,section);
+	}
+	
+	@Override
+	public boolean equals(Object o) {
+		if(o == null) {
+			return false;
+		}
+		if(o == this) {
+			return true;
+		}
+		if(o.getClass() != getClass()) {
+			return false;
+		}
+		Element_FingerprintPK pk = (Element_FingerprintPK) o;
+		return Objects.equals(element, pk.element) 
+			   && Objects.equals(section, pk.section);
+	}
+	
+}
@@ -31,6 +31,7 @@ import javax.persistence.IdClass;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.NamedQuery;
+import javax.persistence.QueryHint;
 import javax.persistence.OneToOne;
 import javax.persistence.Table;
 import javax.persistence.Temporal;
@@ -49,11 +50,23 @@ import io.leitstand.inventory.service.Version;
 @IdClass(Element_ImagePK.class)
 @NamedQuery(name="Element_Image.findImages", 
 			query="SELECT ei FROM Element_Image ei "+
-				  "WHERE ei.element=:element")
+				  "JOIN FETCH ei.image "+
+				  "WHERE ei.element=:element",
+			hints={@QueryHint(name="eclipselink.batch.type", value="IN"),
+				   @QueryHint(name="eclipselink.batch", value="ei.image.packages"),
+				   @QueryHint(name="eclipselink.batch", value="ei.image.packages.pkg"),
+				   @QueryHint(name="eclipselink.batch", value="ei.image.packages.checksums"),
+				   @QueryHint(name="eclipselink.batch", value="ei.image.checksums")})
 @NamedQuery(name="Element_Image.findImageById", 
 			query="SELECT ei FROM Element_Image ei "+
+				  "JOIN FETCH ei.image "+
 				  "WHERE ei.element=:element "+
-				  "AND ei.image.uuid=:uuid")
+				  "AND ei.image.uuid=:uuid",
+			hints={@QueryHint(name="eclipselink.batch.type", value="IN"),
+				   @QueryHint(name="eclipselink.batch", value="ei.image.packages"),
+				   @QueryHint(name="eclipselink.batch", value="ei.image.packages.pkg"),
+				   @QueryHint(name="eclipselink.batch", value="ei.image.packages.checksums"),
+				   @QueryHint(name="eclipselink.batch", value="ei.image.checksums")})
 @NamedQuery(name="Element_Image.findImageByName", 
 			query="SELECT ei FROM Element_Image ei "+
 				  "WHERE ei.element=:element "+
@@ -67,6 +80,8 @@ import io.leitstand.inventory.service.Version;
 			       "WHERE ei.imageState=io.leitstand.inventory.service.ElementImageState.CACHED AND ei.image.uuid=:imageId")
 @NamedQuery(name="Element_Image.removeElementImages",
             query="DELETE FROM Element_Image ei WHERE ei.element=:element")
+@NamedQuery(name="Element_Image.removeImagesOfElements",
+			query="DELETE FROM Element_Image ei WHERE ei.element IN :elements")
 public class Element_Image {
 	
 	public static Query<List<Element>> findImageCaches(ImageId imageId) {
@@ -97,6 +112,12 @@ public class Element_Image {
                        .setParameter("element", element)
                        .executeUpdate();
     }
+    
+    public static Update removeElementImages(List<Element> elements) {
+        return em -> em.createNamedQuery("Element_Image.removeImagesOfElements",int.class)
+                       .setParameter("elements", elements)
+                       .executeUpdate();
+    }
 	
 	
 	@OneToOne
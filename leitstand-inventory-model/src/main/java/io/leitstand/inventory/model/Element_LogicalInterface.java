@@ -71,6 +71,8 @@ import io.leitstand.inventory.service.VlanTag;
 			query="SELECT i FROM Element_LogicalInterface i JOIN i.addresses a WHERE i.element=:element AND CAST(a.address AS TEXT)=:filter" )
 @NamedQuery(name="Element_LogicalInterface.findLogicalInterfacesByVlan",
 			query="SELECT i FROM Element_LogicalInterface i JOIN i.vlans v WHERE i.element=:element AND CAST(v.vlanId AS INTEGER)=:vlan" )
+@NamedQuery(name="Element_LogicalInterface.removeAllOfElements",
+			query="DELETE FROM Element_LogicalInterface i WHERE i.element IN :elements")
 public class Element_LogicalInterface implements Serializable {
 
 	private static final long serialVersionUID = 1L;
@@ -121,6 +123,12 @@ public class Element_LogicalInterface implements Serializable {
 					   .executeUpdate();
 	}
 	
+	public static Update removeIfls(List<Element> elements) {
+		return em -> em.createNamedQuery("Element_LogicalInterface.removeAllOfElements",int.class)
+					   .setParameter("elements", elements)
+					   .executeUpdate();
+	}
+	
 	@Id
 	@ManyToOne
 	@JoinColumn(name="element_id")
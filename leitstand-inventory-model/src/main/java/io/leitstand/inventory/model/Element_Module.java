@@ -56,6 +56,10 @@ import io.leitstand.inventory.service.ModuleName;
 @NamedQuery(name="Element_Module.removeAll",
 			query="DELETE FROM Element_Module m WHERE m.element=:element")
 
+@NamedQuery(name="Element_Module.removeParentChildOfElements",
+			query="UPDATE Element_Module m SET m.parent=null WHERE m.element IN :elements")
+@NamedQuery(name="Element_Module.removeAllOfElements",
+			query="DELETE FROM Element_Module m WHERE m.element IN :elements")
 public class Element_Module extends AbstractEntity{
 
 	private static final long serialVersionUID = 1L;
@@ -96,6 +100,18 @@ public class Element_Module extends AbstractEntity{
 		
 	}
 	
+	public static Update removeModules(List<Element> elements) {
+		return em -> {
+			em.createNamedQuery("Element_Module.removeParentChildOfElements",int.class)
+			  .setParameter("elements", elements)
+			  .executeUpdate();
+			
+			return  em.createNamedQuery("Element_Module.removeAllOfElements",int.class)
+					  .setParameter("elements",elements)
+					  .executeUpdate();
+		};
+	}
+	
 	@ManyToOne
 	@JoinColumn(name="element_id")
 	private Element element;
@@ -68,6 +68,12 @@ import io.leitstand.inventory.service.OperationalState;
 			query="SELECT count(ifl) FROM Element_LogicalInterface ifl WHERE ifl.element=:element AND ifl.ifc=:ifc")
 @NamedQuery(name="Element_PhysicalInterface.findByLogicalInterface",
 			query="SELECT ifp FROM Element_PhysicalInterface ifp WHERE ifp.element=:element AND ifp.ifc=:ifc")
+@NamedQuery(name="Element_PhysicalInterface.removeAllOfElements", 
+			query="DELETE FROM Element_PhysicalInterface p WHERE p.element IN :elements")
+@NamedQuery(name="Element_PhysicalInterface.removeNeighborsOfElements", 
+			query="UPDATE Element_PhysicalInterface p SET p.neighborElement=NULL, p.neighborElementIfpName=NULL WHERE p.neighborElement IN :elements")
+@NamedQuery(name="Element_PhysicalInterface.retireIfpsOfElements", 
+			query="UPDATE Element_PhysicalInterface p SET p.admState=:admState, p.opState=:opState, p.neighborElement=NULL, p.neighborElementIfpName=NULL WHERE p.element IN :elements")
 public class Element_PhysicalInterface implements Serializable{
 
 	private static final long serialVersionUID = 1L;
@@ -111,6 +117,32 @@ public class Element_PhysicalInterface implements Serializable{
 					   .executeUpdate();
 	}
 	
+	public static Update removeIfps(List<Element> elements) {
+		return em -> em.createNamedQuery("Element_PhysicalInterface.removeAllOfElements",int.class)
+					   .setParameter("elements", elements)
+					   .executeUpdate();
+	}
+	
+	public static Update removeNeighbors(List<Element> elements) {
+		return em -> em.createNamedQuery("Element_PhysicalInterface.removeNeighborsOfElements",int.class)
+					   .setParameter("elements", elements)
+					   .executeUpdate();
+	}
+	
+	/**
+	 * Sets the administrative and operational state of all physical interfaces of the given elements to <code>DOWN</code> 
+	 * and removes the neighbor information of all interfaces.
+	 * @param elements the retired elements
+	 * @return the number of updated interfaces
+	 */
+	public static Update retireIfps(List<Element> elements) {
+		return em -> em.createNamedQuery("Element_PhysicalInterface.retireIfpsOfElements",int.class)
+					   .setParameter("admState", AdministrativeState.DOWN)
+					   .setParameter("opState", OperationalState.DOWN)
+					   .setParameter("elements", elements)
+					   .executeUpdate();
+	}
+	
 	public static Update updateIfpOperationalState(Element element, OperationalState state) {
 		return em -> em.createNamedQuery("Element_PhysicalInterface.updateOperationalState")
 					   .setParameter("element", element)
@@ -61,6 +61,10 @@ import io.leitstand.inventory.service.ServiceType;
 				  "WHERE s.element=:element "+
 				  "AND s.service.name=:name")
 @IdClass(Element_ServicePK.class)
+@NamedQuery(name="Element_Service.removeAllOfElements",
+			query="DELETE FROM Element_Service s WHERE s.element IN :elements")
+@NamedQuery(name="Element_Service.updateOperationalStateOfElements",
+			query="UPDATE Element_Service s SET s.opState=:state WHERE s.element IN :elements")
 public class Element_Service implements Serializable{
 
 	private static final long serialVersionUID = 1L;
@@ -95,6 +99,20 @@ public class Element_Service implements Serializable{
 					   .executeUpdate();
 	}
 	
+	public static Update removeServices(List<Element> elements) {
+		return em -> em.createNamedQuery("Element_Service.removeAllOfElements",int.class)
+					   .setParameter("elements", elements)
+					   .executeUpdate();
+	}
+	
+	public static Update updateOperationalState(List<Element> elements, 
+												OperationalState state) {
+		return em -> em.createNamedQuery("Element_Service.updateOperationalStateOfElements",int.class)
+					   .setParameter("state", state)
+					   .setParameter("elements", elements)
+					   .executeUpdate();
+	}
+	
 	
 	@Id
 	@ManyToOne
@@ -18,6 +18,8 @@ package io.leitstand.inventory.model;
 import static io.leitstand.commons.json.SerializableJsonObject.serializable;
 import static java.util.UUID.randomUUID;
 
+import java.util.List;
+
 import javax.json.JsonObject;
 import javax.persistence.Convert;
 import javax.persistence.Entity;
@@ -41,6 +43,8 @@ import io.leitstand.inventory.service.ServiceName;
 			query="SELECT s FROM Element_ServiceContext s WHERE s.element=:element AND s.service.service.name=:serviceName")
 @NamedQuery(name="Element_ServiceContext.removeAll",
 			query="DELETE FROM Element_ServiceContext s WHERE s.element=:element")
+@NamedQuery(name="Element_ServiceContext.removeAllOfElements",
+			query="DELETE FROM Element_ServiceContext s WHERE s.element IN :elements")
 public class Element_ServiceContext extends VersionableEntity {
 	private static final long serialVersionUID = 1L;
 	
@@ -57,6 +61,12 @@ public class Element_ServiceContext extends VersionableEntity {
 					   .executeUpdate();
 	}
 	
+	public static Update removeServiceContexts(List<Element> elements){
+		return em -> em.createNamedQuery("Element_ServiceContext.removeAllOfElements",int.class)
+					   .setParameter("elements", elements)
+					   .executeUpdate();
+	}
+	
 	@ManyToOne
 	@JoinColumn(name="element_id")
 	private Element element;
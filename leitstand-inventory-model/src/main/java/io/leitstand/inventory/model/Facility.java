@@ -1,17 +1,27 @@
 package io.leitstand.inventory.model;
 
+import static io.leitstand.inventory.model.ReferenceDataCache.EXPIRY;
+import static io.leitstand.inventory.model.ReferenceDataCache.EXPIRY_HINT;
 import static io.leitstand.inventory.service.FacilityId.facilityId;
+import static org.eclipse.persistence.config.HintValues.TRUE;
+import static org.eclipse.persistence.config.QueryHints.QUERY_RESULTS_CACHE;
+import static org.eclipse.persistence.config.QueryHints.QUERY_RESULTS_CACHE_EXPIRY;
+import static org.eclipse.persistence.config.QueryHints.QUERY_RESULTS_CACHE_IGNORE_NULL;
 
 import java.util.List;
 
 import javax.persistence.AttributeOverride;
 import javax.persistence.AttributeOverrides;
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.Convert;
 import javax.persistence.Entity;
 import javax.persistence.NamedQuery;
+import javax.persistence.QueryHint;
 import javax.persistence.Table;
 
+import org.eclipse.persistence.annotations.Cache;
+
 import io.leitstand.commons.model.Query;
 import io.leitstand.commons.model.VersionableEntity;
 import io.leitstand.inventory.jpa.FacilityNameConverter;
@@ -22,11 +32,19 @@ import io.leitstand.inventory.service.FacilityType;
 import io.leitstand.inventory.service.Geolocation;
 
 @Entity
+@Cacheable
+@Cache(expiry=EXPIRY)
 @Table(schema="inventory", name="facility")
 @NamedQuery(name="Facility.findById",
-			query="SELECT f FROM Facility f WHERE f.uuid=:uuid")
+			query="SELECT f FROM Facility f WHERE f.uuid=:uuid",
+			hints={@QueryHint(name=QUERY_RESULTS_CACHE, value=TRUE),
+			       @QueryHint(name=QUERY_RESULTS_CACHE_EXPIRY, value=EXPIRY_HINT),
+			       @QueryHint(name=QUERY_RESULTS_CACHE_IGNORE_NULL, value=TRUE)})
 @NamedQuery(name="Facility.findByName",
-			query="SELECT f FROM Facility f WHERE f.name=:name")
+			query="SELECT f FROM Facility f WHERE f.name=:name",
+			hints={@QueryHint(name=QUERY_RESULTS_CACHE, value=TRUE),
+			       @QueryHint(name=QUERY_RESULTS_CACHE_EXPIRY, value=EXPIRY_HINT),
+			       @QueryHint(name=QUERY_RESULTS_CACHE_IGNORE_NULL, value=TRUE)})
 @NamedQuery(name="Facility.findByNamePattern",
 			query="SELECT f FROM Facility f WHERE CAST(f.name AS TEXT) REGEXP :name ORDER BY f.name ASC")
 @NamedQuery(name="Facility.countGroups",
@@ -15,11 +15,11 @@
  */
 package io.leitstand.inventory.model;
 
+import static io.leitstand.inventory.model.Element.findElementsByGroupId;
 import static io.leitstand.inventory.model.ElementGroup.findPlaneElements;
 import static io.leitstand.inventory.service.ElementGroupElements.newElementGroupElements;
 import static io.leitstand.inventory.service.ReasonCode.IVT0400E_ELEMENT_ROLE_NOT_FOUND;
 import static java.lang.String.format;
-import static java.util.stream.Collectors.toList;
 
 import java.util.List;
 import java.util.logging.Logger;
@@ -28,6 +28,7 @@ import javax.enterprise.context.Dependent;
 import javax.inject.Inject;
 
 import io.leitstand.commons.EntityNotFoundException;
+import io.leitstand.commons.model.Query;
 import io.leitstand.commons.model.Repository;
 import io.leitstand.inventory.service.ElementGroupElements;
 import io.leitstand.inventory.service.ElementRoleName;
@@ -47,11 +48,10 @@ class GroupElementsManager{
 	}
 
 	public ElementGroupElements getGroupElements(ElementGroup group, Plane plane) {
-		List<ElementSettings> elements = findElementsByPlane(group,plane)
-										 .stream()
-										 .sorted((a,b) -> a.getElementName().compareTo(b.getElementName()))
-										 .map(ElementSettingsManager::settingsOf)
-										 .collect(toList());
+		// The queries sort the elements by name and fetch role, platform, tags and management interfaces 
+		// in a constant number of statements instead of loading them per element.
+		List<ElementSettings> elements = repository.executeMapListItem(findElementsByPlane(group,plane), 
+																	   ElementSettingsManager::settingsOf);
 		
 		return groupElements(group, elements);
 	}
@@ -66,11 +66,11 @@ class GroupElementsManager{
 			   .build();
 	}
 
-	private List<Element> findElementsByPlane(ElementGroup group, Plane plane) {
+	private Query<List<Element>> findElementsByPlane(ElementGroup group, Plane plane) {
 		if(plane == null){
-			return group.getElements();
+			return findElementsByGroupId(group.getGroupId());
 		}
-		return repository.execute(findPlaneElements(group, plane));
+		return findPlaneElements(group, plane);
 	}
 
 	public ElementGroupElements getGroupElements(ElementGroup group, ElementRoleName elementRole) {
@@ -47,6 +47,7 @@ import javax.persistence.JoinColumn;
 import javax.persistence.JoinTable;
 import javax.persistence.ManyToMany;
 import javax.persistence.NamedQuery;
+import javax.persistence.QueryHint;
 import javax.persistence.Table;
 import javax.persistence.Temporal;
 import javax.persistence.TypedQuery;
@@ -69,9 +70,23 @@ import io.leitstand.inventory.service.Version;
 @Entity
 @Table(schema="inventory", name="image")
 @NamedQuery(name="Image.findByImageId", 
-		    query="SELECT d FROM Image d WHERE d.uuid=:id")
+		    query="SELECT d FROM Image d WHERE d.uuid=:id",
+		    hints={@QueryHint(name="eclipselink.batch.type", value="IN"),
+		    	   @QueryHint(name="eclipselink.batch", value="d.packages"),
+		    	   @QueryHint(name="eclipselink.batch", value="d.packages.pkg"),
+		    	   @QueryHint(name="eclipselink.batch", value="d.packages.checksums"),
+		    	   @QueryHint(name="eclipselink.batch", value="d.checksums"),
+		    	   @QueryHint(name="eclipselink.batch", value="d.applications"),
+		    	   @QueryHint(name="eclipselink.batch", value="d.roles")})
 @NamedQuery(name="Image.findByImageName", 
-            query="SELECT d FROM Image d WHERE d.imageName=:name")
+            query="SELECT d FROM Image d WHERE d.imageName=:name",
+		    hints={@QueryHint(name="eclipselink.batch.type", value="IN"),
+		    	   @QueryHint(name="eclipselink.batch", value="d.packages"),
+		    	   @QueryHint(name="eclipselink.batch", value="d.packages.pkg"),
+		    	   @QueryHint(name="eclipselink.batch", value="d.packages.checksums"),
+		    	   @QueryHint(name="eclipselink.batch", value="d.checksums"),
+		    	   @QueryHint(name="eclipselink.batch", value="d.applications"),
+		    	   @QueryHint(name="eclipselink.batch", value="d.roles")})
 @NamedQuery(name="Image.markRoleImageSuperseded",
 			query="UPDATE Image d "+ 
 				  "SET d.imageState=io.leitstand.inventory.service.ImageState.SUPERSEDED "+
@@ -120,17 +135,12 @@ import io.leitstand.inventory.service.Version;
 				  "WHERE d.chipset=:chipset "+
 				  "AND :role MEMBER OF d.roles "+
 				  "AND d.imageState=io.leitstand.inventory.service.ImageState.RELEASE")
-@NamedQuery(name="Image.findAvailableUpdates",
-			    query="SELECT d FROM Image d "+
-			    	  "WHERE d.chipset=:chipset "+
-			    	  "AND d.imageState <> io.leitstand.inventory.service.ImageState.REVOKED " +
-			    	  "AND :role MEMBER OF d.roles "+
-			    	  "AND d.imageType=:type "+
-			   		  "AND ((d.major > :major) "+
-			   		  "OR ( d.major = :major AND d.minor > :minor) "+
-			   		  "OR (d.major=:major AND d.minor=:minor AND d.patch > :patch) "+
-			   		  "OR (d.major=:major AND d.minor=:minor AND d.patch = :patch AND d.prerelease IS NOT NULL AND d.prerelease > :prerelease)) "+
-				  "ORDER BY d.major DESC, d.minor DESC, d.patch DESC, d.prerelease DESC")
+@NamedQuery(name="Image.findUpgradeCandidates",
+			query="SELECT d FROM Image d "+
+				  "WHERE d.chipset=:chipset "+
+				  "AND d.imageState <> io.leitstand.inventory.service.ImageState.REVOKED " +
+				  "AND :role MEMBER OF d.roles "+
+				  "AND d.imageType=:type")
 @NamedQuery(name="Image.countElementReferences",
 			query="SELECT count(ei) FROM Element_Image ei WHERE ei.image=:image")
 @NamedQuery(name="Image.countReleaseReferences",
@@ -278,21 +288,15 @@ public class Image extends VersionableEntity{
 }
 	
 	
-	public static Query<List<Image>> findUpdates(Platform platform,
-												 ImageType imageType, 
-												 ImageName imageName,
-	                                             ElementRole role, 
-	                                             Version version){
-		return em -> em.createNamedQuery("Image.findAvailableUpdates",
+	public static Query<List<Image>> findUpgradeCandidates(PlatformChipsetName chipset,
+														   ElementRole role,
+														   ImageType imageType){
+		return em -> em.createNamedQuery("Image.findUpgradeCandidates",
 										 Image.class)
-					   .setParameter("chipset",platform.getChipset())
-				       .setParameter("role", role)
-				       .setParameter("major",version.getMajorLevel())
-				       .setParameter("minor",version.getMinorLevel())
-				       .setParameter("patch",version.getPatchLevel())
-					   .setParameter("prerelease", prerelease(version))
-				       .setParameter("type",imageType)
-				       .getResultList();
+					   .setParameter("chipset",chipset)
+					   .setParameter("role", role)
+					   .setParameter("type",imageType)
+					   .getResultList();
 	}
 
 	public static Query<Image> findImageById(ImageId id){
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2020 RtBrick Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.leitstand.inventory.model;
+
+import static io.leitstand.inventory.model.Image_DeploymentCount.seedDeploymentCounts;
+import static io.leitstand.inventory.model.InitializationMarker.addInitializationMarker;
+import static io.leitstand.inventory.model.InitializationMarker.findInitializationMarker;
+import static java.lang.Boolean.TRUE;
+import static java.lang.String.format;
+import static java.util.logging.Level.FINE;
+
+import java.util.logging.Logger;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.context.Initialized;
+import javax.enterprise.event.Observes;
+import javax.inject.Inject;
+
+import io.leitstand.commons.model.Repository;
+import io.leitstand.commons.tx.SubtransactionService;
+
+/**
+ * Seeds the image deployment counters from the installed element images once.
+ * <p>
+ * The inventory maintains the image deployment counters incrementally whenever the images of an element change.
+ * An inventory upgraded from a release without deployment counters must compute the counters from the installed element images once.
+ * The seeding runs on startup and replaces all existing counters. 
+ * The <code>image_deployment_count</code> initialization marker is added in the same transaction and 
+ * prevents the counters from being seeded again. 
+ * A failed seeding is retried on the next startup.
+ */
+@ApplicationScoped
+public class ImageDeploymentCountInitializer {
+
+	private static final Logger LOG = Logger.getLogger(ImageDeploymentCountInitializer.class.getName());
+	
+	static final String MARKER = "image_deployment_count";
+	
+	@Inject
+	@Inventory
+	private SubtransactionService transactions;
+	
+	protected ImageDeploymentCountInitializer() {
+		// CDI
+	}
+	
+	ImageDeploymentCountInitializer(SubtransactionService transactions) {
+		this.transactions = transactions;
+	}
+	
+	public void onStartup(@Observes @Initialized(ApplicationScoped.class) Object init) {
+		try {
+			int[] seeded = {-1};
+			transactions.run(repository -> seeded[0] = initDeploymentCounters(repository),
+							 repository -> TRUE);
+			if(seeded[0] >= 0) {
+				LOG.info(() -> format("%d image deployment counters seeded from installed element images.", seeded[0]));
+			}
+		} catch (Exception e) {
+			LOG.warning(() -> format("Cannot seed image deployment counters: %s", e.getMessage()));
+			LOG.log(FINE,e.getMessage(),e);
+		}
+	}
+	
+	/**
+	 * Seeds the image deployment counters unless they have been seeded before.
+	 * @param repository the repository of the current transaction
+	 * @return the number of seeded counters or <code>-1</code> if the counters have been seeded before.
+	 */
+	int initDeploymentCounters(Repository repository) {
+		if(repository.execute(findInitializationMarker(MARKER)) != null) {
+			return -1;
+		}
+		// Insert the marker first. A concurrent seeding blocks on the marker and fails when this transaction commits.
+		repository.execute(addInitializationMarker(MARKER));
+		return repository.execute(seedDeploymentCounts());
+	}
+	
+}
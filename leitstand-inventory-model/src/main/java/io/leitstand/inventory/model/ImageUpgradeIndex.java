@@ -0,0 +1,187 @@
+/*
+ * Copyright 2020 RtBrick Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.leitstand.inventory.model;
+
+import static io.leitstand.inventory.model.Image.findUpgradeCandidates;
+import static java.lang.System.currentTimeMillis;
+import static java.util.Arrays.asList;
+import static java.util.Collections.unmodifiableList;
+import static java.util.Comparator.comparing;
+import static java.util.stream.Collectors.toList;
+import static javax.enterprise.event.TransactionPhase.AFTER_COMPLETION;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+import javax.inject.Inject;
+
+import io.leitstand.commons.model.Repository;
+import io.leitstand.inventory.event.ImageEvent;
+import io.leitstand.inventory.service.ImageId;
+import io.leitstand.inventory.service.ImageName;
+import io.leitstand.inventory.service.ImageState;
+import io.leitstand.inventory.service.ImageType;
+import io.leitstand.inventory.service.PlatformChipsetName;
+import io.leitstand.inventory.service.Version;
+
+/**
+ * In-memory index of upgrade candidates.
+ * <p>
+ * The index groups all non-revoked images by platform chipset, element role and image type,
+ * and keeps the images of each group sorted by version in descending order.
+ * The available upgrades of an installed image are all images of its group with a higher version.
+ * A group is loaded from the database when it is requested for the first time.
+ * The index is invalidated whenever an {@link ImageEvent} is fired 
+ * and a loaded group expires after five minutes to also reflect image changes made by other inventory instances.
+ */
+@ApplicationScoped
+public class ImageUpgradeIndex {
+
+	static final long MAX_AGE_MILLIS = TimeUnit.MINUTES.toMillis(5);
+	
+	/**
+	 * An immutable snapshot of an upgrade candidate.
+	 */
+	public static class UpgradeCandidate {
+		
+		private final ImageId imageId;
+		private final ImageName imageName;
+		private final ImageState imageState;
+		private final Version imageVersion;
+		private final Date buildDate;
+		
+		UpgradeCandidate(Image image){
+			this.imageId = image.getImageId();
+			this.imageName = image.getImageName();
+			this.imageState = image.getImageState();
+			this.imageVersion = image.getImageVersion();
+			this.buildDate = image.getBuildDate();
+		}
+		
+		public ImageId getImageId() {
+			return imageId;
+		}
+		
+		public ImageName getImageName() {
+			return imageName;
+		}
+		
+		public ImageState getImageState() {
+			return imageState;
+		}
+		
+		public Version getImageVersion() {
+			return imageVersion;
+		}
+		
+		public Date getBuildDate() {
+			if(buildDate == null) {
+				return null;
+			}
+			return new Date(buildDate.getTime());
+		}
+	}
+	
+	private static class Candidates {
+		private final List<UpgradeCandidate> candidates;
+		private final long loaded;
+		
+		Candidates(List<UpgradeCandidate> candidates){
+			this.candidates = candidates;
+			this.loaded = currentTimeMillis();
+		}
+		
+		boolean isExpired() {
+			return currentTimeMillis() - loaded > MAX_AGE_MILLIS;
+		}
+		
+		List<UpgradeCandidate> findUpgrades(Version version){
+			List<UpgradeCandidate> upgrades = new ArrayList<>();
+			for(UpgradeCandidate candidate : candidates) {
+				if(candidate.getImageVersion().compareTo(version) <= 0) {
+					// Candidates are sorted in descending order. No further upgrades available.
+					break;
+				}
+				upgrades.add(candidate);
+			}
+			return upgrades;
+		}
+	}
+	
+	private Repository repository;
+	private Map<List<Object>,Candidates> index;
+	private AtomicLong generation;
+	
+	protected ImageUpgradeIndex() {
+		// CDI
+	}
+	
+	@Inject
+	protected ImageUpgradeIndex(@Inventory Repository repository) {
+		this.repository = repository;
+		this.index = new ConcurrentHashMap<>();
+		this.generation = new AtomicLong();
+	}
+	
+	/**
+	 * Returns the available upgrades for the given image in descending version order.
+	 * @param chipset the platform chipset of the element
+	 * @param role the element role
+	 * @param imageType the image type
+	 * @param version the installed image version
+	 * @return the available upgrades or an empty list if no upgrades exist.
+	 */
+	public List<UpgradeCandidate> findUpgrades(PlatformChipsetName chipset, 
+											   ElementRole role, 
+											   ImageType imageType, 
+											   Version version){
+		List<Object> key = asList(chipset, role.getRoleName(), imageType);
+		Candidates candidates = index.get(key);
+		if(candidates == null || candidates.isExpired()) {
+			long expected = generation.get();
+			candidates = new Candidates(unmodifiableList(repository.execute(findUpgradeCandidates(chipset,
+																								  role,
+																								  imageType))
+																   .stream()
+																   .map(UpgradeCandidate::new)
+																   .sorted(comparing(UpgradeCandidate::getImageVersion).reversed())
+																   .collect(toList())));
+			index.put(key, candidates);
+			if(generation.get() != expected) {
+				// Discard candidates that were loaded while the index was invalidated.
+				index.remove(key, candidates);
+			}
+		}
+		return candidates.findUpgrades(version);
+	}
+	
+	/**
+	 * Invalidates the index when an image was added, modified or removed.
+	 * @param event the image event
+	 */
+	public void invalidate(@Observes(during=AFTER_COMPLETION) ImageEvent event) {
+		generation.incrementAndGet();
+		index.clear();
+	}
+
+}
@@ -0,0 +1,247 @@
+/*
+ * Copyright 2020 RtBrick Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.leitstand.inventory.model;
+
+import static java.util.Comparator.comparing;
+import static javax.persistence.EnumType.STRING;
+
+import java.io.Serializable;
+import java.util.Comparator;
+import java.util.List;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EntityManager;
+import javax.persistence.Enumerated;
+import javax.persistence.Id;
+import javax.persistence.IdClass;
+import javax.persistence.JoinColumn;
+import javax.persistence.ManyToOne;
+import javax.persistence.NamedQuery;
+import javax.persistence.Table;
+
+import io.leitstand.commons.model.Update;
+import io.leitstand.inventory.service.ElementImageState;
+
+/**
+ * Number of elements of an element group that have a certain image installed in a certain state.
+ * <p>
+ * The counters are maintained incrementally whenever the images of an element change 
+ * and allow to compute the image deployment statistics without scanning all element images.
+ */
+@Entity
+@Table(schema="inventory", name="image_deployment_count")
+@IdClass(Image_DeploymentCountPK.class)
+@NamedQuery(name="Image_DeploymentCount.removeImageCounts",
+			query="DELETE FROM Image_DeploymentCount c WHERE c.image=:image")
+@NamedQuery(name="Image_DeploymentCount.removeGroupCounts",
+			query="DELETE FROM Image_DeploymentCount c WHERE c.group=:group")
+@NamedQuery(name="Image_DeploymentCount.countImagesOfElements",
+			query="SELECT ei.image, ei.element.group, ei.imageState, COUNT(ei) FROM Element_Image ei WHERE ei.element IN :elements GROUP BY ei.image, ei.element.group, ei.imageState")
+public class Image_DeploymentCount implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+	
+	/**
+	 * Creates a counter with zero elements unless the counter already exists.
+	 * Parameters: image ID, element group ID and element image state.
+	 */
+	static final String CREATE_COUNTER_SQL = "INSERT INTO inventory.image_deployment_count (image_id, elementgroup_id, state, elements) "+
+											 "VALUES (?, ?, ?, 0) "+
+											 "ON CONFLICT DO NOTHING";
+	
+	/**
+	 * Adds a delta to an existing counter.
+	 * Parameters: delta, image ID, element group ID and element image state.
+	 */
+	static final String ADD_ELEMENTS_SQL = "UPDATE inventory.image_deployment_count "+
+										   "SET elements = elements + ? "+
+										   "WHERE image_id = ? "+
+										   "AND elementgroup_id = ? "+
+										   "AND state = ?";
+	
+	/**
+	 * Order in which counters are updated. 
+	 * Updating the counters in the same order in all transactions avoids deadlocks between concurrent updates.
+	 */
+	private static final Comparator<Object[]> COUNTER_ORDER = Comparator.<Object[],Long>comparing(c -> ((Image) c[0]).getId())
+																		.thenComparing(c -> ((ElementGroup) c[1]).getId())
+																		.thenComparing(c -> ((ElementImageState) c[2]).name());
+
+	/**
+	 * Adds the given delta to the number of elements of an element group having an image installed in the specified state.
+	 * @param image the image
+	 * @param group the element group
+	 * @param state the element image state
+	 * @param delta the number of elements to be added or, if negative, removed. 
+	 * @return the number of updated counters.
+	 */
+	public static Update countDeployment(Image image, 
+										 ElementGroup group, 
+										 ElementImageState state, 
+										 int delta) {
+		return em -> count(em, image, group, state, delta);
+	}
+	
+	/**
+	 * Adds the given delta to the counters of all images installed on the given element.
+	 * The element group is passed explicitly to support moving an element from one group to another.
+	 * @param element the element
+	 * @param group the element group to update the counters for
+	 * @param delta the number of elements to be added or, if negative, removed.
+	 * @return the number of updated counters.
+	 */
+	public static Update countElementImages(Element element, 
+											ElementGroup group, 
+											int delta) {
+		return em -> {
+			List<Element_Image> images = em.createNamedQuery("Element_Image.findImages",
+															 Element_Image.class)
+										   .setParameter("element", element)
+										   .getResultList();
+			images.sort(comparing(image -> image.getImage().getId()));
+			for(Element_Image image : images) {
+				count(em, image.getImage(), group, image.getElementImageState(), delta);
+			}
+			return images.size();
+		};
+	}
+	
+	/**
+	 * Adds the given delta to the counters of all images installed on the given elements.
+	 * The installed images are aggregated by image, element group and state, 
+	 * such that every affected counter is updated only once.
+	 * @param elements the elements
+	 * @param delta the number of elements to be added or, if negative, removed per element.
+	 * @return the number of updated counters.
+	 */
+	public static Update countElementImages(List<Element> elements, 
+											int delta) {
+		return em -> {
+			List<Object[]> counts = em.createNamedQuery("Image_DeploymentCount.countImagesOfElements",
+														Object[].class)
+									  .setParameter("elements", elements)
+									  .getResultList();
+			counts.sort(COUNTER_ORDER);
+			for(Object[] count : counts) {
+				count(em, 
+					  (Image) count[0], 
+					  (ElementGroup) count[1], 
+					  (ElementImageState) count[2], 
+					  delta * ((Number) count[3]).intValue());
+			}
+			return counts.size();
+		};
+	}
+	
+	private static int count(EntityManager em, 
+							 Image image, 
+							 ElementGroup group, 
+							 ElementImageState state, 
+							 int delta) {
+		// A concurrent transaction creating the same counter blocks the insert until it completes.
+		em.createNativeQuery(CREATE_COUNTER_SQL)
+		  .setParameter(1, image.getId())
+		  .setParameter(2, group.getId())
+		  .setParameter(3, state.name())
+		  .executeUpdate();
+		// The update is atomic and does not depend on a previously read counter value.
+		return em.createNativeQuery(ADD_ELEMENTS_SQL)
+				 .setParameter(1, delta)
+				 .setParameter(2, image.getId())
+				 .setParameter(3, group.getId())
+				 .setParameter(4, state.name())
+				 .executeUpdate();
+	}
+	
+	/**
+	 * Replaces all counters with the counts computed from the installed element images.
+	 * @return the number of created counters.
+	 */
+	public static Update seedDeploymentCounts() {
+		return em -> {
+			em.createNativeQuery("DELETE FROM inventory.image_deployment_count")
+			  .executeUpdate();
+			int counters = em.createNativeQuery("INSERT INTO inventory.image_deployment_count (image_id, elementgroup_id, state, elements) "+
+												"SELECT ei.image_id, e.elementgroup_id, ei.state, count(*) "+
+												"FROM inventory.element_image ei "+
+												"JOIN inventory.element e "+
+												"ON e.id = ei.element_id "+
+												"GROUP BY ei.image_id, e.elementgroup_id, ei.state")
+							 .executeUpdate();
+			// The native statements bypass the shared cache.
+			em.getEntityManagerFactory().getCache().evict(Image_DeploymentCount.class);
+			return counters;
+		};
+	}
+	
+	public static Update removeImageCounts(Image image) {
+		return em -> em.createNamedQuery("Image_DeploymentCount.removeImageCounts",int.class)
+					   .setParameter("image", image)
+					   .executeUpdate();
+	}
+
+	public static Update removeGroupCounts(ElementGroup group) {
+		return em -> em.createNamedQuery("Image_DeploymentCount.removeGroupCounts",int.class)
+					   .setParameter("group", group)
+					   .executeUpdate();
+	}
+	
+	@Id
+	@ManyToOne
+	@JoinColumn(name="image_id")
+	private Image image;
+	
+	@Id
+	@ManyToOne
+	@JoinColumn(name="elementgroup_id")
+	private ElementGroup group;
+	
+	@Id
+	@Enumerated(STRING)
+	@Column(name="state")
+	private ElementImageState state;
+	
+	@Column(name="elements")
+	private int elements;
+	
+	protected Image_DeploymentCount() {
+		// JPA
+	}
+	
+	protected Image_DeploymentCount(Image image, ElementGroup group, ElementImageState state) {
+		this.image = image;
+		this.group = group;
+		this.state = state;
+	}
+	
+	public Image getImage() {
+		return image;
+	}
+	
+	public ElementGroup getGroup() {
+		return group;
+	}
+	
+	public ElementImageState getState() {
+		return state;
+	}
+	
+	public int getElements() {
+		return elements;
+	}
+	
+}
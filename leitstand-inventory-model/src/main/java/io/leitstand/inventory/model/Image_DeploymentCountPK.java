@@ -0,0 +1,79 @@
+/*
+ * Copyright 2020 RtBrick Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.leitstand.inventory.model;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+import io.leitstand.inventory.service.ElementImageState;
+
+public class Image_DeploymentCountPK implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	private Long image;
+	private Long group;
+	private ElementImageState state;
+	
+	public Image_DeploymentCountPK() {
+		// JPA
+	}
+	
+	public Image_DeploymentCountPK(Image image, ElementGroup group, ElementImageState state) {
+		this(image.getId(),group.getId(),state);
+	}
+	
+	public Image_DeploymentCountPK(Long image, Long group, ElementImageState state) {
+		this.image = image;
+		this.group = group;
+		this.state = state;
+	}
+	
+	public Long getImage() {
+		return image;
+	}
+	
+	public Long getGroup() {
+		return group;
+	}
+	
+	public ElementImageState getState() {
+		return state;
+	}
+	
+	@Override
+	public int hashCode() {
+		return Objects.hash(image,group,state);
+	}
+	
+	@Override
+	public boolean equals(Object o) {
+		if(o == null) {
+			return false;
+		}
+		if(o == this) {
+			return true;
+		}
+		if(o.getClass() != getClass()) {
+			return false;
+		}
+		Image_DeploymentCountPK pk = (Image_DeploymentCountPK) o;
+		return Objects.equals(image, pk.image) 
+			   && Objects.equals(group, pk.group)
+			   && Objects.equals(state, pk.state);
+	}
+	
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2020 RtBrick Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.leitstand.inventory.model;
+
+import static javax.persistence.TemporalType.TIMESTAMP;
+
+import java.io.Serializable;
+import java.util.Date;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import javax.persistence.Temporal;
+
+import io.leitstand.commons.model.Query;
+import io.leitstand.commons.model.Update;
+
+/**
+ * Marks a one-time data initialization as completed.
+ * <p>
+ * A data initialization adds the marker in the same transaction that initializes the data.
+ * The marker name is the primary key. Concurrent initializations therefore conflict on the marker insert, 
+ * such that only one initialization commits.
+ */
+@Entity
+@Table(schema="inventory", name="initialization_marker")
+public class InitializationMarker implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	public static Query<InitializationMarker> findInitializationMarker(String name) {
+		return em -> em.find(InitializationMarker.class, name);
+	}
+	
+	/**
+	 * Inserts an initialization marker immediately, 
+	 * such that a concurrent initialization blocks on the marker until this transaction completes.
+	 * @param name the marker name
+	 * @return the number of inserted markers.
+	 */
+	public static Update addInitializationMarker(String name) {
+		return em -> em.createNativeQuery("INSERT INTO inventory.initialization_marker (name, tscreated) VALUES (?1, CURRENT_TIMESTAMP)")
+					   .setParameter(1, name)
+					   .executeUpdate();
+	}
+	
+	@Id
+	@Column(name="name")
+	private String name;
+	
+	@Temporal(TIMESTAMP)
+	private Date tsCreated;
+	
+	protected InitializationMarker() {
+		// JPA
+	}
+	
+	public String getName() {
+		return name;
+	}
+	
+	public Date getDateCreated() {
+		return new Date(tsCreated.getTime());
+	}
+	
+}
@@ -0,0 +1,338 @@
+/*
+ * Copyright 2020 RtBrick Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.leitstand.inventory.model;
+
+import static io.leitstand.inventory.service.JobId.jobId;
+import static io.leitstand.inventory.service.JobState.CANCELLED;
+import static io.leitstand.inventory.service.JobState.FAILED;
+import static io.leitstand.inventory.service.JobState.QUEUED;
+import static io.leitstand.inventory.service.JobState.RUNNING;
+import static java.lang.Boolean.TRUE;
+import static java.lang.Math.min;
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
+import static javax.persistence.EnumType.STRING;
+import static javax.persistence.TemporalType.TIMESTAMP;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+
+import javax.persistence.Column;
+import javax.persistence.Convert;
+import javax.persistence.Entity;
+import javax.persistence.Enumerated;
+import javax.persistence.NamedQuery;
+import javax.persistence.Table;
+import javax.persistence.Temporal;
+
+import io.leitstand.commons.jpa.BooleanConverter;
+import io.leitstand.commons.model.Query;
+import io.leitstand.commons.model.Scalar;
+import io.leitstand.commons.model.Update;
+import io.leitstand.commons.model.VersionableEntity;
+import io.leitstand.inventory.service.JobId;
+import io.leitstand.inventory.service.JobState;
+
+/**
+ * A long-running inventory job.
+ * <p>
+ * The job record tracks the job lifecycle and progress. 
+ * The heartbeat timestamp is updated whenever the job reports progress, 
+ * which allows to detect jobs that were aborted by a server shutdown.
+ * <p>
+ * All state transitions are bulk updates conditional on the current job state.
+ * They do not depend on the entity version, such that a job can be cancelled while it reports progress 
+ * and a transition that lost a race with another transition has no effect.
+ */
+@Entity
+@Table(schema="inventory", name="job")
+@NamedQuery(name="Job.findById",
+			query="SELECT j FROM Job j WHERE j.uuid=:uuid")
+@NamedQuery(name="Job.findJobs",
+			query="SELECT j FROM Job j ORDER BY j.tsSubmitted DESC")
+@NamedQuery(name="Job.findJobsByState",
+			query="SELECT j FROM Job j WHERE j.state=:state ORDER BY j.tsSubmitted DESC")
+@NamedQuery(name="Job.failStaleJobs",
+			query="UPDATE Job j SET j.state=:failed, j.message=:message, j.tsCompleted=:now WHERE j.state IN :active AND j.tsHeartbeat < :threshold")
+@NamedQuery(name="Job.touchJobs",
+			query="UPDATE Job j SET j.tsHeartbeat=:now WHERE j.uuid IN :uuids AND j.state IN :active")
+@NamedQuery(name="Job.start",
+			query="UPDATE Job j SET j.state=:running, j.tsStarted=:now, j.tsHeartbeat=:now WHERE j.uuid=:uuid AND j.state=:queued")
+@NamedQuery(name="Job.cancelQueued",
+			query="UPDATE Job j SET j.state=:cancelled, j.tsCompleted=:now, j.tsHeartbeat=:now WHERE j.uuid=:uuid AND j.state=:queued")
+@NamedQuery(name="Job.cancelRunning",
+			query="UPDATE Job j SET j.cancelled=:cancelled WHERE j.uuid=:uuid AND j.state=:running")
+@NamedQuery(name="Job.terminate",
+			query="UPDATE Job j SET j.state=:state, j.message=:message, j.total=:total, j.processed=:processed, j.failed=:failed, j.tsCompleted=:now, j.tsHeartbeat=:now WHERE j.uuid=:uuid AND j.state IN :active")
+@NamedQuery(name="Job.fail",
+			query="UPDATE Job j SET j.state=:failed, j.message=:message, j.tsCompleted=:now, j.tsHeartbeat=:now WHERE j.uuid=:uuid AND j.state IN :active")
+public class Job extends VersionableEntity {
+
+	private static final long serialVersionUID = 1L;
+	
+	public static Query<Job> findJobById(JobId jobId){
+		return em -> em.createNamedQuery("Job.findById",Job.class)
+					   .setParameter("uuid", Scalar.toString(jobId))
+					   .getSingleResult();
+	}
+	
+	public static Query<List<Job>> findJobs(JobState state, int limit){
+		if(state == null) {
+			return em -> em.createNamedQuery("Job.findJobs",Job.class)
+						   .setMaxResults(limit)
+						   .getResultList();
+		}
+		return em -> em.createNamedQuery("Job.findJobsByState",Job.class)
+					   .setParameter("state", state)
+					   .setMaxResults(limit)
+					   .getResultList();
+	}
+	
+	public static Update failStaleJobs(Date threshold, String message) {
+		return em -> em.createNamedQuery("Job.failStaleJobs",int.class)
+					   .setParameter("failed", FAILED)
+					   .setParameter("message", message)
+					   .setParameter("now", new Date())
+					   .setParameter("active", asList(QUEUED,RUNNING))
+					   .setParameter("threshold", threshold)
+					   .executeUpdate();
+	}
+	
+	/**
+	 * Updates the heartbeat of all queued and running jobs of the given set of jobs.
+	 * @param jobIds the job IDs
+	 * @return the number of updated jobs.
+	 */
+	public static Update touchJobs(Collection<JobId> jobIds) {
+		return em -> em.createNamedQuery("Job.touchJobs",int.class)
+					   .setParameter("now", new Date())
+					   .setParameter("uuids", jobIds.stream()
+							   						.map(JobId::toString)
+							   						.collect(toList()))
+					   .setParameter("active", asList(QUEUED,RUNNING))
+					   .executeUpdate();
+	}
+	
+	/**
+	 * Starts a queued job.
+	 * @param jobId the job ID
+	 * @return 1 if the job was started, 0 if the job is no longer queued.
+	 */
+	public static Update startJob(JobId jobId) {
+		return em -> em.createNamedQuery("Job.start",int.class)
+					   .setParameter("running", RUNNING)
+					   .setParameter("now", new Date())
+					   .setParameter("uuid", Scalar.toString(jobId))
+					   .setParameter("queued", QUEUED)
+					   .executeUpdate();
+	}
+	
+	/**
+	 * Cancels the job. 
+	 * A queued job is cancelled immediately. 
+	 * A running job is only flagged as cancelled and terminates as soon as it has completed the current chunk of work.
+	 * @param jobId the job ID
+	 * @return 1 if the job was cancelled, 0 if the job is already terminated.
+	 */
+	public static Update cancelJob(JobId jobId) {
+		return em -> {
+			int cancelled = em.createNamedQuery("Job.cancelQueued",int.class)
+							  .setParameter("cancelled", CANCELLED)
+							  .setParameter("now", new Date())
+							  .setParameter("uuid", Scalar.toString(jobId))
+							  .setParameter("queued", QUEUED)
+							  .executeUpdate();
+			if(cancelled > 0) {
+				return cancelled;
+			}
+			return em.createNamedQuery("Job.cancelRunning",int.class)
+					 .setParameter("cancelled", TRUE)
+					 .setParameter("uuid", Scalar.toString(jobId))
+					 .setParameter("running", RUNNING)
+					 .executeUpdate();
+		};
+	}
+	
+	/**
+	 * Terminates a queued or running job and stores the final job progress.
+	 * @param jobId the job ID
+	 * @param state the final job state
+	 * @param message the job message
+	 * @param total the total number of items
+	 * @param processed the number of processed items
+	 * @param failed the number of failed items
+	 * @return 1 if the job was terminated, 0 if the job was already terminated.
+	 */
+	public static Update terminateJob(JobId jobId, 
+									  JobState state, 
+									  String message, 
+									  int total, 
+									  int processed, 
+									  int failed) {
+		return em -> em.createNamedQuery("Job.terminate",int.class)
+					   .setParameter("state", state)
+					   .setParameter("message", message)
+					   .setParameter("total", total)
+					   .setParameter("processed", processed)
+					   .setParameter("failed", failed)
+					   .setParameter("now", new Date())
+					   .setParameter("uuid", Scalar.toString(jobId))
+					   .setParameter("active", asList(QUEUED,RUNNING))
+					   .executeUpdate();
+	}
+	
+	/**
+	 * Marks a queued or running job as failed.
+	 * @param jobId the job ID
+	 * @param message the reason why the job failed
+	 * @return 1 if the job was marked as failed, 0 if the job was already terminated.
+	 */
+	public static Update failJob(JobId jobId, String message) {
+		return em -> em.createNamedQuery("Job.fail",int.class)
+					   .setParameter("failed", FAILED)
+					   .setParameter("message", message)
+					   .setParameter("now", new Date())
+					   .setParameter("uuid", Scalar.toString(jobId))
+					   .setParameter("active", asList(QUEUED,RUNNING))
+					   .executeUpdate();
+	}
+	
+	private String type;
+	private String name;
+	@Enumerated(STRING)
+	private JobState state;
+	@Convert(converter=BooleanConverter.class)
+	private boolean cancelled;
+	@Temporal(TIMESTAMP)
+	private Date tsSubmitted;
+	@Temporal(TIMESTAMP)
+	private Date tsStarted;
+	@Temporal(TIMESTAMP)
+	private Date tsCompleted;
+	@Temporal(TIMESTAMP)
+	private Date tsHeartbeat;
+	@Column(name="items_total")
+	private int total;
+	@Column(name="items_processed")
+	private int processed;
+	@Column(name="items_failed")
+	private int failed;
+	private String message;
+	
+	protected Job() {
+		// JPA
+	}
+	
+	protected Job(JobId jobId, String type, String name) {
+		super(jobId.toString());
+		this.type = type;
+		this.name = name;
+		this.state = QUEUED;
+		this.tsSubmitted = new Date();
+		this.tsHeartbeat = tsSubmitted;
+	}
+	
+	public JobId getJobId() {
+		return jobId(getUuid());
+	}
+	
+	public String getJobType() {
+		return type;
+	}
+	
+	public String getJobName() {
+		return name;
+	}
+	
+	public JobState getJobState() {
+		return state;
+	}
+	
+	boolean isCancelled() {
+		return cancelled || state == CANCELLED;
+	}
+	
+	void setProgress(int total, int processed, int failed) {
+		this.total = total;
+		this.processed = processed;
+		this.failed = failed;
+		this.tsHeartbeat = new Date();
+	}
+	
+	public boolean isTerminated() {
+		return tsCompleted != null;
+	}
+	
+	public Date getDateSubmitted() {
+		return new Date(tsSubmitted.getTime());
+	}
+	
+	public Date getDateStarted() {
+		if(tsStarted == null) {
+			return null;
+		}
+		return new Date(tsStarted.getTime());
+	}
+	
+	public Date getDateCompleted() {
+		if(tsCompleted == null) {
+			return null;
+		}
+		return new Date(tsCompleted.getTime());
+	}
+	
+	public int getItemsTotal() {
+		return total;
+	}
+	
+	public int getItemsProcessed() {
+		return processed;
+	}
+	
+	public int getItemsFailed() {
+		return failed;
+	}
+	
+	public String getMessage() {
+		return message;
+	}
+	
+	/**
+	 * Returns the job progress in percent or <code>null</code> if the total number of items is unknown.
+	 * @return the job progress in percent.
+	 */
+	public Integer getProgress() {
+		if(total <= 0) {
+			return null;
+		}
+		return min(100, (int) (100L * (processed + failed) / total));
+	}
+	
+	/**
+	 * Estimates the completion date of a running job by extrapolating the throughput observed so far.
+	 * @return the estimated completion date or <code>null</code> if the completion date cannot be estimated.
+	 */
+	public Date getEstimatedCompletion() {
+		int done = processed + failed;
+		if(state != RUNNING || tsStarted == null || total <= 0 || done <= 0) {
+			return null;
+		}
+		long elapsed = tsHeartbeat.getTime() - tsStarted.getTime();
+		return new Date(tsStarted.getTime() + elapsed * total / done);
+	}
+	
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2020 RtBrick Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.leitstand.inventory.model;
+
+import static io.leitstand.inventory.model.Job.findJobById;
+import static java.lang.Boolean.TRUE;
+
+import java.util.concurrent.CancellationException;
+
+import javax.enterprise.context.RequestScoped;
+import javax.inject.Inject;
+
+import io.leitstand.commons.tx.SubtransactionService;
+import io.leitstand.inventory.service.JobId;
+
+/**
+ * The context of a running job.
+ * <p>
+ * The job context is request-scoped.
+ * The {@link JobRunner} activates a request context for every job and binds the job context to the running job,
+ * such that all services and managers invoked by the job can report their progress and check whether the job has been cancelled.
+ * A job context that is not bound to a job, i.e. the context of an ordinary API request, ignores all progress reports.
+ * <p>
+ * Every progress report is stored in a subtransaction of its own and 
+ * refreshes whether the job has been cancelled in the meantime.
+ */
+@RequestScoped
+public class JobContext {
+
+	@Inject
+	@Inventory
+	private SubtransactionService transactions;
+	
+	private JobId jobId;
+	private int total;
+	private int processed;
+	private int failed;
+	private boolean cancelled;
+	private String message;
+	
+	public JobContext() {
+		// CDI and unbound contexts
+	}
+	
+	JobContext(SubtransactionService transactions) {
+		this.transactions = transactions;
+	}
+	
+	void bind(JobId jobId) {
+		this.jobId = jobId;
+	}
+	
+	/**
+	 * Returns whether this context is bound to a job.
+	 * @return <code>true</code> if this context is bound to a job, <code>false</code> if not.
+	 */
+	public boolean isBound() {
+		return jobId != null;
+	}
+	
+	/**
+	 * Returns the ID of the running job or <code>null</code> if this context is not bound to a job.
+	 * @return the job ID
+	 */
+	public JobId getJobId() {
+		return jobId;
+	}
+	
+	/**
+	 * Sets the total number of items to be processed by the job.
+	 * @param total the total number of items
+	 */
+	public void setItemsTotal(int total) {
+		this.total = total;
+		store();
+	}
+	
+	/**
+	 * Reports the job progress.
+	 * @param processed the number of items processed since the last report
+	 * @param failed the number of items failed since the last report
+	 */
+	public void progress(int processed, int failed) {
+		this.processed += processed;
+		this.failed += failed;
+		store();
+	}
+	
+	/**
+	 * Returns whether the job has been cancelled.
+	 * @return <code>true</code> if the job has been cancelled, <code>false</code> if not.
+	 */
+	public boolean isCancelled() {
+		return cancelled;
+	}
+	
+	/**
+	 * Throws a {@link CancellationException} if the job has been cancelled.
+	 * @throws CancellationException if the job has been cancelled.
+	 */
+	public void verifyNotCancelled() {
+		if(cancelled) {
+			throw new CancellationException(jobId.toString());
+		}
+	}
+	
+	/**
+	 * Sets the message that summarizes the job outcome.
+	 * @param message the job message
+	 */
+	public void setMessage(String message) {
+		this.message = message;
+	}
+	
+	int getItemsTotal() {
+		return total;
+	}
+	
+	int getItemsProcessed() {
+		return processed;
+	}
+	
+	int getItemsFailed() {
+		return failed;
+	}
+	
+	String getMessage() {
+		return message;
+	}
+	
+	private void store() {
+		if(jobId == null) {
+			return;
+		}
+		transactions.run(repository -> {
+							Job job = repository.execute(findJobById(jobId));
+							job.setProgress(total, processed, failed);
+							cancelled = job.isCancelled();
+						 },
+						 repository -> TRUE);
+	}
+
+}
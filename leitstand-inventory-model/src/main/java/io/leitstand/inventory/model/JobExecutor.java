@@ -0,0 +1,235 @@
+/*
+ * Copyright 2020 RtBrick Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.leitstand.inventory.model;
+
+import static io.leitstand.commons.messages.MessageFactory.createMessage;
+import static io.leitstand.inventory.model.Job.failStaleJobs;
+import static io.leitstand.inventory.model.Job.touchJobs;
+import static io.leitstand.inventory.service.JobId.randomJobId;
+import static io.leitstand.inventory.service.ReasonCode.IVT1101I_JOB_SUBMITTED;
+import static java.lang.Boolean.TRUE;
+import static java.lang.Math.max;
+import static java.lang.String.format;
+import static java.lang.System.currentTimeMillis;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static java.util.logging.Level.FINE;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.logging.Logger;
+
+import javax.annotation.PreDestroy;
+import javax.annotation.Resource;
+import javax.enterprise.concurrent.ManagedExecutorService;
+import javax.enterprise.concurrent.ManagedScheduledExecutorService;
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.context.Initialized;
+import javax.enterprise.event.Observes;
+import javax.inject.Inject;
+
+import io.leitstand.commons.messages.Messages;
+import io.leitstand.commons.tx.SubtransactionService;
+import io.leitstand.inventory.service.JobId;
+
+/**
+ * Executes long-running inventory operations as asynchronous jobs.
+ * <p>
+ * A submitted job is stored in the job table before it is queued, such that clients can poll the job status immediately.
+ * The jobs are executed by the container-managed executor service, 
+ * but the executor never runs more jobs concurrently than the configured number of workers. 
+ * All excess jobs wait in a FIFO queue.
+ * The number of workers can be set by the <code>leitstand.inventory.job.workers</code> system property and defaults to 4.
+ * Whether the workers are platform or virtual threads is a matter of the managed executor service configuration.
+ * <p>
+ * The job queue is not persistent. 
+ * Queued and running jobs are therefore marked as failed if they have not reported progress for a certain period of time,
+ * which can be set in seconds by the <code>leitstand.inventory.job.stale.timeout</code> system property and defaults to one hour.
+ * The executor sweeps stale jobs on startup and periodically, four times per timeout period. 
+ * Every sweep first updates the heartbeat of all jobs queued or running on this instance,
+ * because multiple inventory instances can share the same database and an instance must not fail the jobs of another live instance.
+ */
+@ApplicationScoped
+public class JobExecutor {
+	
+	private static final Logger LOG = Logger.getLogger(JobExecutor.class.getName());
+	
+	static final int DEFAULT_WORKERS = Integer.getInteger("leitstand.inventory.job.workers", 4);
+	static final long STALE_JOB_TIMEOUT = Long.getLong("leitstand.inventory.job.stale.timeout", 3600);
+	static final long STALE_JOB_SWEEP_INTERVAL = max(1, STALE_JOB_TIMEOUT / 4);
+	
+	private static final class QueuedJob {
+		private final JobId jobId;
+		private final JobTask task;
+		
+		QueuedJob(JobId jobId, JobTask task){
+			this.jobId = jobId;
+			this.task = task;
+		}
+	}
+	
+	@Resource
+	private ManagedExecutorService executor;
+	
+	@Resource
+	private ManagedScheduledExecutorService scheduler;
+	
+	@Inject
+	@Inventory
+	private SubtransactionService transactions;
+	
+	@Inject
+	private JobRunner runner;
+	
+	@Inject
+	private Messages messages;
+	
+	private final Queue<QueuedJob> queue = new LinkedList<>();
+	private final Set<JobId> active = new HashSet<>();
+	private int workers = DEFAULT_WORKERS;
+	private int running;
+	private ScheduledFuture<?> sweep;
+	
+	protected JobExecutor() {
+		// CDI
+	}
+	
+	JobExecutor(ManagedExecutorService executor,
+				ManagedScheduledExecutorService scheduler,
+				SubtransactionService transactions,
+				JobRunner runner,
+				Messages messages,
+				int workers){
+		this.executor = executor;
+		this.scheduler = scheduler;
+		this.transactions = transactions;
+		this.runner = runner;
+		this.messages = messages;
+		this.workers = workers;
+	}
+	
+	public void onStartup(@Observes @Initialized(ApplicationScoped.class) Object init) {
+		sweepStaleJobs();
+		try {
+			sweep = scheduler.scheduleAtFixedRate(this::sweepStaleJobs, 
+												  STALE_JOB_SWEEP_INTERVAL, 
+												  STALE_JOB_SWEEP_INTERVAL, 
+												  SECONDS);
+		} catch (RejectedExecutionException e) {
+			LOG.warning(() -> format("Cannot schedule stale job sweep: %s",e.getMessage()));
+			LOG.log(FINE,e.getMessage(),e);
+		}
+	}
+	
+	@PreDestroy
+	public void onShutdown() {
+		if(sweep != null) {
+			sweep.cancel(false);
+		}
+	}
+	
+	/**
+	 * Marks all queued and running jobs as failed that have not reported progress within the stale job timeout.
+	 * The jobs queued or running on this instance are kept alive.
+	 */
+	void sweepStaleJobs() {
+		try {
+			List<JobId> alive = activeJobs();
+			Date threshold = new Date(currentTimeMillis() - SECONDS.toMillis(STALE_JOB_TIMEOUT));
+			int[] stale = new int[1];
+			transactions.run(repository -> { if(!alive.isEmpty()) {
+												 repository.execute(touchJobs(alive));
+											 }
+											 stale[0] = repository.execute(failStaleJobs(threshold, 
+											 											 "Job aborted because the job reported no progress.")); },
+							 repository -> TRUE);
+			if(stale[0] > 0) {
+				LOG.warning(() -> format("%d stale jobs marked as failed.",stale[0]));
+			}
+		} catch (Exception e) {
+			LOG.warning(() -> format("Cannot mark stale jobs as failed: %s",e.getMessage()));
+			LOG.log(FINE,e.getMessage(),e);
+		}
+	}
+	
+	private synchronized List<JobId> activeJobs() {
+		return new ArrayList<>(active);
+	}
+	
+	/**
+	 * Submits a job.
+	 * @param type the job type
+	 * @param name the job name, which describes the job
+	 * @param task the job task
+	 * @return the ID of the submitted job.
+	 */
+	public JobId submit(String type, String name, JobTask task) {
+		Job job = new Job(randomJobId(), type, name);
+		transactions.run(repository -> repository.add(job),
+						 repository -> TRUE);
+		LOG.info(() -> format("%s: Job %s (%s) submitted.",
+							  IVT1101I_JOB_SUBMITTED.getReasonCode(),
+							  job.getJobId(),
+							  name));
+		messages.add(createMessage(IVT1101I_JOB_SUBMITTED, 
+								   job.getJobId(), 
+								   name));
+		enqueue(new QueuedJob(job.getJobId(), task));
+		return job.getJobId();
+	}
+	
+	private synchronized void enqueue(QueuedJob job) {
+		queue.add(job);
+		active.add(job.jobId);
+		dispatch();
+	}
+	
+	private synchronized void dispatch() {
+		while(running < workers && !queue.isEmpty()) {
+			QueuedJob job = queue.poll();
+			try {
+				executor.execute(() -> execute(job));
+				running++;
+			} catch (RejectedExecutionException e) {
+				LOG.log(FINE,e.getMessage(),e);
+				active.remove(job.jobId);
+				runner.fail(job.jobId, "Job rejected by executor service.");
+				job.task.discard();
+			}
+		}
+	}
+	
+	private void execute(QueuedJob job) {
+		try {
+			runner.run(job.jobId, job.task);
+		} finally {
+			completed(job);
+		}
+	}
+	
+	private synchronized void completed(QueuedJob job) {
+		active.remove(job.jobId);
+		running--;
+		dispatch();
+	}
+	
+}
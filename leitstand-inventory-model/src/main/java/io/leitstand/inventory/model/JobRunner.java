@@ -0,0 +1,129 @@
+/*
+ * Copyright 2020 RtBrick Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.leitstand.inventory.model;
+
+import static io.leitstand.inventory.model.Job.failJob;
+import static io.leitstand.inventory.model.Job.startJob;
+import static io.leitstand.inventory.model.Job.terminateJob;
+import static io.leitstand.inventory.service.JobState.CANCELLED;
+import static io.leitstand.inventory.service.JobState.COMPLETED;
+import static io.leitstand.inventory.service.JobState.FAILED;
+import static java.lang.Boolean.TRUE;
+import static java.lang.String.format;
+import static java.util.logging.Level.WARNING;
+
+import java.util.concurrent.CancellationException;
+import java.util.logging.Logger;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.context.control.ActivateRequestContext;
+import javax.inject.Inject;
+
+import io.leitstand.commons.tx.SubtransactionService;
+import io.leitstand.inventory.service.JobId;
+import io.leitstand.inventory.service.JobState;
+
+/**
+ * Runs a job on a worker thread.
+ * <p>
+ * The runner activates a request context for the job, 
+ * such that request-scoped beans like the {@link JobContext} or the messages of the invoked services are available on the worker thread.
+ * The job state is stored in subtransactions, because the job itself commits its work in chunks.
+ * A job is only started if it is still queued and only terminated if it has not been terminated meanwhile,
+ * for example by the stale job sweep of the {@link JobExecutor}.
+ */
+@ApplicationScoped
+public class JobRunner {
+	
+	private static final Logger LOG = Logger.getLogger(JobRunner.class.getName());
+
+	@Inject
+	@Inventory
+	private SubtransactionService transactions;
+	
+	@Inject
+	private JobContext context;
+	
+	protected JobRunner() {
+		// CDI
+	}
+	
+	JobRunner(SubtransactionService transactions, 
+			  JobContext context){
+		this.transactions = transactions;
+		this.context = context;
+	}
+	
+	/**
+	 * Runs a queued job. 
+	 * Jobs that are no longer queued, because they have been cancelled meanwhile, are skipped and discarded.
+	 * @param jobId the job ID
+	 * @param task the job task
+	 */
+	@ActivateRequestContext
+	public void run(JobId jobId, JobTask task) {
+		int[] started = new int[1];
+		transactions.run(repository -> started[0] = repository.execute(startJob(jobId)),
+						 repository -> TRUE);
+		if(started[0] == 0) {
+			LOG.fine(() -> format("Skip job %s because the job is no longer queued.",jobId));
+			task.discard();
+			return;
+		}
+		context.bind(jobId);
+		try {
+			task.execute(context);
+			terminate(jobId, 
+					  context.isCancelled() ? CANCELLED : COMPLETED, 
+					  context.getMessage());
+		} catch (CancellationException e) {
+			terminate(jobId, 
+					  CANCELLED, 
+					  context.getMessage());
+		} catch (Exception e) {
+			LOG.log(WARNING, format("Job %s failed: %s", jobId, e.getMessage()), e);
+			terminate(jobId, 
+					  FAILED, 
+					  e.getMessage());
+		}
+	}
+	
+	/**
+	 * Marks a job as failed that cannot be executed.
+	 * @param jobId the job ID
+	 * @param message the reason why the job cannot be executed
+	 */
+	public void fail(JobId jobId, String message) {
+		transactions.run(repository -> repository.execute(failJob(jobId, message)),
+						 repository -> TRUE);
+	}
+	
+	private void terminate(JobId jobId, JobState state, String message) {
+		transactions.run(repository -> repository.execute(terminateJob(jobId, 
+																	   state, 
+																	   message,
+																	   context.getItemsTotal(), 
+																	   context.getItemsProcessed(), 
+																	   context.getItemsFailed())),
+						 repository -> TRUE);
+		LOG.info(() -> format("Job %s %s: %d items processed, %d items failed.",
+							  jobId,
+							  state.name().toLowerCase(),
+							  context.getItemsProcessed(),
+							  context.getItemsFailed()));
+	}
+	
+}
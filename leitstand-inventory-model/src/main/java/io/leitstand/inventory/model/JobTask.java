@@ -0,0 +1,43 @@
+/*
+ * Copyright 2020 RtBrick Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.leitstand.inventory.model;
+
+/**
+ * A long-running inventory operation executed by the {@link JobExecutor}.
+ */
+@FunctionalInterface
+public interface JobTask {
+	
+	/**
+	 * Executes the job.
+	 * <p>
+	 * The task reports its progress to the given job context and 
+	 * is expected to stop when the context signals that the job has been cancelled.
+	 * @param context the job context
+	 * @throws Exception if the job failed
+	 */
+	void execute(JobContext context) throws Exception;
+	
+	/**
+	 * Releases all resources held by a job that will not be executed, 
+	 * because the job was rejected or cancelled before it was started.
+	 * The default implementation does nothing.
+	 */
+	default void discard() {
+		// Nothing to release
+	}
+
+}
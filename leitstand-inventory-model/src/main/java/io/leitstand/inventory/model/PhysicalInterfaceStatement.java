@@ -0,0 +1,219 @@
+/*
+ * Copyright 2020 RtBrick Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.leitstand.inventory.model;
+
+import static io.leitstand.commons.db.DatabaseService.prepare;
+import static io.leitstand.commons.model.StringUtil.isNonEmptyString;
+import static io.leitstand.inventory.jpa.AdministrativeStateConverter.administrativeStateDbString;
+import static io.leitstand.inventory.jpa.OperationalStateConverter.operationalStateDbString;
+import static io.leitstand.inventory.model.SearchPattern.searchPattern;
+import static java.util.Collections.unmodifiableList;
+
+import java.util.LinkedList;
+import java.util.List;
+
+import io.leitstand.commons.db.StatementPreparator;
+import io.leitstand.inventory.service.Bandwidth;
+import io.leitstand.inventory.service.PageCursor;
+import io.leitstand.inventory.service.PhysicalInterfaceQuery;
+
+/**
+ * Translates a {@link PhysicalInterfaceQuery} into a SQL statement.
+ * <p>
+ * Every query criterion adds a predicate to the <code>WHERE</code> clause. 
+ * Literal text filters are translated into <code>LIKE</code> expressions and 
+ * interface names are compared by equality, such that the database can use indexes to evaluate the predicates.
+ * Only text filters with regular expression meta characters are evaluated by regular expression matches.
+ * <p>
+ * The interfaces are sorted by facility name, group name, element name and interface name.
+ * This sort key is unique for every interface and allows to continue reading after the last interface of a page
+ * instead of skipping all interfaces of the preceding pages.
+ */
+class PhysicalInterfaceStatement {
+	
+	private static final String SELECT = "SELECT g.uuid, g.name, g.type, f.uuid, f.name, f.location, e.uuid, e.name, e.alias, r.name, e.admstate, e.opstate, e.tsmodified, ifp.name, ifp.alias, ifp.opstate, ifp.admstate "+
+										 "FROM inventory.element_ifp ifp "+
+										 "JOIN inventory.element e "+
+										 "ON ifp.element_id = e.id "+
+										 "JOIN inventory.elementgroup g "+
+										 "ON e.elementgroup_id = g.id "+
+										 "JOIN inventory.elementrole r "+
+										 "ON e.elementrole_id = r.id "+
+										 "LEFT JOIN inventory.facility f "+
+										 "ON g.facility_id = f.id ";
+
+	// Groups without facility are sorted first, because the cursor represents a missing facility name as empty string.
+	private static final String ORDER_BY = "ORDER BY COALESCE(f.name,''), g.name, e.name, ifp.name ";
+	
+	static final String IFP_BPS = "(ifp.bwvalue * CASE ifp.bwunit "+
+								  "WHEN 'KBPS' THEN 1000 "+
+								  "WHEN 'MBPS' THEN 1000000 "+
+								  "WHEN 'GBPS' THEN 1000000000 "+
+								  "WHEN 'TBPS' THEN 1000000000000 "+
+								  "END)";
+	
+	static PhysicalInterfaceStatement physicalInterfaceStatement(PhysicalInterfaceQuery query) {
+		return new PhysicalInterfaceStatement(query);
+	}
+	
+	private final StringBuilder where;
+	private final List<Object> args;
+	private PageCursor after;
+	private int offset;
+	private int limit;
+	
+	private PhysicalInterfaceStatement(PhysicalInterfaceQuery query) {
+		this.where = new StringBuilder();
+		this.args = new LinkedList<>();
+		
+		if(isNonEmptyString(query.getFacilityFilter())) {
+			SearchPattern facility = searchPattern(query.getFacilityFilter());
+			and("("+match("f.name",facility)+" OR "+match("f.location", facility)+")",
+				value(facility),
+				value(facility));
+		}
+		if(isNonEmptyString(query.getGroupFilter())) {
+			SearchPattern group = searchPattern(query.getGroupFilter());
+			and(match("g.name",group),
+				value(group));
+		}
+		if(query.getElementRole() != null) {
+			and("r.name = ?",
+				query.getElementRole().toString());
+		}
+		if(isNonEmptyString(query.getIfpFilter())) {
+			SearchPattern alias = searchPattern(query.getIfpFilter());
+			and("(ifp.name = ? OR "+match("ifp.alias",alias)+")",
+				query.getIfpFilter(),
+				value(alias));
+		}
+		if(query.getAdministrativeState() != null) {
+			and("ifp.admstate = ?",
+				administrativeStateDbString(query.getAdministrativeState()));
+		}
+		if(query.getOperationalState() != null) {
+			and("ifp.opstate = ?",
+				operationalStateDbString(query.getOperationalState()));
+		}
+		if(query.getMinBandwidth() != null) {
+			and(IFP_BPS+" >= ?",
+				bps(query.getMinBandwidth()));
+		}
+		if(query.getMaxBandwidth() != null) {
+			and(IFP_BPS+" <= ?",
+				bps(query.getMaxBandwidth()));
+		}
+		if(query.getNeighborPresent() != null) {
+			and(query.getNeighborPresent() 
+				? "ifp.neighbor_element_id IS NOT NULL" 
+				: "ifp.neighbor_element_id IS NULL");
+		}
+	}
+	
+	private static String match(String column, SearchPattern pattern) {
+		return pattern.isLiteral() 
+			   ? column+" LIKE ? ESCAPE '!'" 
+			   : column+" ~ ?";
+	}
+	
+	private static String value(SearchPattern pattern) {
+		return pattern.isLiteral() 
+			   ? pattern.getLikePattern() 
+			   : pattern.getRegex();
+	}
+	
+	private static long bps(Bandwidth bandwidth) {
+		return bandwidth.getUnit().toBps(bandwidth.getValue());
+	}
+	
+	private void and(String predicate, Object... values) {
+		where.append(where.length() == 0 ? "WHERE " : "AND ");
+		where.append(predicate);
+		where.append(' ');
+		for(Object value : values) {
+			args.add(value);
+		}
+	}
+	
+	/**
+	 * Continues reading after the interface the specified cursor points to.
+	 * @param after the cursor of the last interface of the previous page or <code>null</code> to read the first page
+	 * @return a reference to this statement
+	 */
+	PhysicalInterfaceStatement after(PageCursor after) {
+		this.after = after;
+		return this;
+	}
+	
+	/**
+	 * Sets the number of interfaces to be skipped.
+	 * @param offset the read offset
+	 * @return a reference to this statement
+	 */
+	PhysicalInterfaceStatement offset(int offset) {
+		this.offset = offset;
+		return this;
+	}
+	
+	/**
+	 * Sets the maximum number of interfaces to be read. A limit of zero reads all matching interfaces.
+	 * @param limit the maximum number of interfaces
+	 * @return a reference to this statement
+	 */
+	PhysicalInterfaceStatement limit(int limit) {
+		this.limit = limit;
+		return this;
+	}
+	
+	String getSql() {
+		StringBuilder sql = new StringBuilder(SELECT).append(where);
+		if(after != null) {
+			// The row value comparison matches the sort order and can be evaluated by an index scan.
+			sql.append(where.length() == 0 ? "WHERE " : "AND ")
+			   .append("(COALESCE(f.name,''), g.name, e.name, ifp.name) > (?, ?, ?, ?) ");
+		}
+		sql.append(ORDER_BY);
+		if(offset > 0) {
+			sql.append("OFFSET ? ");
+		}
+		if(limit > 0) {
+			sql.append("LIMIT ? ");
+		}
+		return sql.toString();
+	}
+	
+	List<Object> getArguments(){
+		List<Object> arguments = new LinkedList<>(args);
+		if(after != null) {
+			arguments.add(after.getKey(0));
+			arguments.add(after.getKey(1));
+			arguments.add(after.getKey(2));
+			arguments.add(after.getKey(3));
+		}
+		if(offset > 0) {
+			arguments.add(offset);
+		}
+		if(limit > 0) {
+			arguments.add(limit);
+		}
+		return unmodifiableList(arguments);
+	}
+	
+	StatementPreparator prepareStatement() {
+		return prepare(getSql(), getArguments());
+	}
+	
+}
@@ -16,13 +16,20 @@
 package io.leitstand.inventory.model;
 
 import static io.leitstand.commons.model.StringUtil.isEmptyString;
+import static io.leitstand.inventory.model.ReferenceDataCache.EXPIRY;
+import static io.leitstand.inventory.model.ReferenceDataCache.EXPIRY_HINT;
 import static java.util.Collections.unmodifiableSortedSet;
+import static org.eclipse.persistence.config.HintValues.TRUE;
+import static org.eclipse.persistence.config.QueryHints.QUERY_RESULTS_CACHE;
+import static org.eclipse.persistence.config.QueryHints.QUERY_RESULTS_CACHE_EXPIRY;
+import static org.eclipse.persistence.config.QueryHints.QUERY_RESULTS_CACHE_IGNORE_NULL;
 
 import java.util.Collection;
 import java.util.List;
 import java.util.SortedSet;
 import java.util.TreeSet;
 
+import javax.persistence.Cacheable;
 import javax.persistence.CollectionTable;
 import javax.persistence.Column;
 import javax.persistence.Convert;
@@ -31,9 +38,12 @@ import javax.persistence.Entity;
 import javax.persistence.JoinColumn;
 import javax.persistence.NamedQueries;
 import javax.persistence.NamedQuery;
+import javax.persistence.QueryHint;
 import javax.persistence.Table;
 import javax.persistence.UniqueConstraint;
 
+import org.eclipse.persistence.annotations.Cache;
+
 import io.leitstand.commons.model.Query;
 import io.leitstand.commons.model.VersionableEntity;
 import io.leitstand.inventory.jpa.PlatformChipsetNameConverter;
@@ -44,14 +54,22 @@ import io.leitstand.inventory.service.PlatformName;
 import io.leitstand.inventory.service.PlatformPortMapping;
 
 @Entity
+@Cacheable
+@Cache(expiry=EXPIRY)
 @Table(schema="inventory",
 	   name="platform",
 	   uniqueConstraints=@UniqueConstraint(columnNames= {"vendor","model"}))
 @NamedQueries({
 	@NamedQuery(name="Platform.findByPlatformId", 
-				query="SELECT p FROM Platform p WHERE p.uuid=:uuid"),
+				query="SELECT p FROM Platform p WHERE p.uuid=:uuid",
+				hints={@QueryHint(name=QUERY_RESULTS_CACHE, value=TRUE),
+				       @QueryHint(name=QUERY_RESULTS_CACHE_EXPIRY, value=EXPIRY_HINT),
+				       @QueryHint(name=QUERY_RESULTS_CACHE_IGNORE_NULL, value=TRUE)}),
 	@NamedQuery(name="Platform.findByPlatformName", 
-				query="SELECT p FROM Platform p WHERE p.name=:name"),
+				query="SELECT p FROM Platform p WHERE p.name=:name",
+				hints={@QueryHint(name=QUERY_RESULTS_CACHE, value=TRUE),
+				       @QueryHint(name=QUERY_RESULTS_CACHE_EXPIRY, value=EXPIRY_HINT),
+				       @QueryHint(name=QUERY_RESULTS_CACHE_IGNORE_NULL, value=TRUE)}),
 	@NamedQuery(name="Platform.findAll", 
 				query="SELECT p FROM Platform p ORDER BY p.name"),
 	@NamedQuery(name="Platform.findByChipset", 
@@ -17,8 +17,10 @@ package io.leitstand.inventory.model;
 
 import static io.leitstand.commons.model.ObjectUtil.optional;
 import static javax.persistence.EnumType.STRING;
+import static org.eclipse.persistence.annotations.BatchFetchType.IN;
 
 import java.io.Serializable;
+import java.util.List;
 
 import javax.persistence.Column;
 import javax.persistence.Convert;
@@ -31,7 +33,10 @@ import javax.persistence.NamedQuery;
 import javax.persistence.Table;
 import javax.persistence.UniqueConstraint;
 
+import org.eclipse.persistence.annotations.BatchFetch;
+
 import io.leitstand.commons.model.Query;
+import io.leitstand.commons.model.Update;
 import io.leitstand.inventory.jpa.RackItemIdConverter;
 import io.leitstand.inventory.service.AdministrativeState;
 import io.leitstand.inventory.service.ElementAlias;
@@ -55,7 +60,11 @@ import io.leitstand.inventory.service.RackName;
 			query="SELECT r FROM Rack_Item r WHERE r.element=:element")			
 @NamedQuery(name="Rack_Item.findByUnit",
 			query="SELECT r FROM Rack_Item r WHERE r.rack=:rack AND r.position=:unit")
+@NamedQuery(name="Rack_Item.findRackItems",
+			query="SELECT r FROM Rack_Item r WHERE r.rack=:rack ORDER BY r.position")
 
+@NamedQuery(name="Rack_Item.removeRackItemsOfElements",
+			query="DELETE FROM Rack_Item r WHERE r.element IN :elements")
 public class Rack_Item implements Serializable {
 
 	private static final long serialVersionUID = 1L;
@@ -67,6 +76,19 @@ public class Rack_Item implements Serializable {
 					   .getSingleResult();
 	}
 	
+	public static Update removeRackItems(List<Element> elements) {
+		return em -> em.createNamedQuery("Rack_Item.removeRackItemsOfElements",int.class)
+					   .setParameter("elements",elements)
+					   .executeUpdate();
+	}
+	
+	public static Query<List<Rack_Item>> findRackItems(Rack rack){
+		return em -> em.createNamedQuery("Rack_Item.findRackItems", 
+										 Rack_Item.class)
+					   .setParameter("rack", rack)
+					   .getResultList();
+	}
+	
 	public static Query<Rack_Item> findRackItemByUnit(Rack rack, int unit){
 		return em -> em.createNamedQuery("Rack_Item.findByUnit", 
 										 Rack_Item.class)
@@ -90,6 +112,7 @@ public class Rack_Item implements Serializable {
 	private int height;
 	
 	@ManyToOne
+	@BatchFetch(IN)
 	@JoinColumn(name="element_id")
 	private Element element;
 	
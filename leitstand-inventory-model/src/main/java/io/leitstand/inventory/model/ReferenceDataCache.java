@@ -0,0 +1,37 @@
+/*
+ * Copyright 2020 RtBrick Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.leitstand.inventory.model;
+
+/**
+ * Shared cache settings of the inventory reference data.
+ * <p>
+ * Element roles, platforms, facilities, DNS zones and services change rarely but are read on almost every write path.
+ * These entities are held in the EclipseLink shared cache and their lookups by ID and by name use the query results cache.
+ * Both caches expire after {@link #EXPIRY} milliseconds, such that changes made by other inventory nodes become visible.
+ */
+final class ReferenceDataCache {
+
+	/** Expiry of cached reference data in milliseconds. */
+	static final int EXPIRY = 300000;
+	
+	/** The {@link #EXPIRY} as query hint value.*/
+	static final String EXPIRY_HINT = ""+EXPIRY;
+	
+	private ReferenceDataCache() {
+		// No instances allowed
+	}
+	
+}
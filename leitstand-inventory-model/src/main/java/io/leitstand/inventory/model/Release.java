@@ -13,6 +13,7 @@ import javax.persistence.JoinColumn;
 import javax.persistence.JoinTable;
 import javax.persistence.ManyToMany;
 import javax.persistence.NamedQuery;
+import javax.persistence.QueryHint;
 import javax.persistence.Table;
 
 import io.leitstand.commons.model.Query;
@@ -25,11 +26,20 @@ import io.leitstand.inventory.service.ReleaseState;
 @Entity
 @Table(schema="inventory", name="release")
 @NamedQuery(name="Release.findById",
-            query="SELECT r FROM Release r WHERE r.uuid=:uuid")
+            query="SELECT r FROM Release r WHERE r.uuid=:uuid",
+            hints={@QueryHint(name="eclipselink.batch.type", value="IN"),
+                   @QueryHint(name="eclipselink.batch", value="r.images"),
+                   @QueryHint(name="eclipselink.batch", value="r.images.roles")})
 @NamedQuery(name="Release.findByName",
-            query="SELECT r FROM Release r WHERE r.name=:name")
+            query="SELECT r FROM Release r WHERE r.name=:name",
+            hints={@QueryHint(name="eclipselink.batch.type", value="IN"),
+                   @QueryHint(name="eclipselink.batch", value="r.images"),
+                   @QueryHint(name="eclipselink.batch", value="r.images.roles")})
 @NamedQuery(name="Release.findByNamePattern",
-            query="SELECT r FROM Release r WHERE CAST(r.name AS TEXT) REGEXP :name ORDER BY r.name") 
+            query="SELECT r FROM Release r WHERE CAST(r.name AS TEXT) REGEXP :name ORDER BY r.name",
+            hints={@QueryHint(name="eclipselink.batch.type", value="IN"),
+                   @QueryHint(name="eclipselink.batch", value="r.images"),
+                   @QueryHint(name="eclipselink.batch", value="r.images.roles")}) 
 public class Release extends VersionableEntity {
 
     private static final long serialVersionUID = 1L;
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2020 RtBrick Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.leitstand.inventory.model;
+
+/**
+ * A search pattern specified as regular expression.
+ * <p>
+ * Most search box inputs are literals rather than regular expressions.
+ * A literal search is translated into a <code>LIKE</code> pattern,
+ * which the database can evaluate by means of an index,
+ * whereas a regular expression match requires a full table scan unless trigram indexes exist.
+ * A literal can be anchored at the start (<code>^</code>) or at the end (<code>$</code>), 
+ * and can contain escaped regular expression meta characters (e.g. <code>\.</code>).
+ */
+final class SearchPattern {
+
+	private static final String META_CHARACTERS = ".[]{}()*+?^$|\\";
+	private static final char LIKE_ESCAPE = '!';
+	
+	/**
+	 * Parses the given filter expression.
+	 * @param filter - the filter expression
+	 * @return the search pattern
+	 */
+	static SearchPattern searchPattern(String filter) {
+		String regex = filter != null ? filter : "";
+		String body = regex;
+		boolean anchoredStart = false;
+		boolean anchoredEnd = false;
+		if(body.startsWith("^")) {
+			anchoredStart = true;
+			body = body.substring(1);
+		} else if(body.startsWith(".*")) {
+			body = body.substring(2);
+		}
+		if(body.endsWith("$") && !isEscaped(body, body.length()-1)) {
+			anchoredEnd = true;
+			body = body.substring(0, body.length()-1);
+		} else if(body.endsWith(".*") && !isEscaped(body, body.length()-2)) {
+			body = body.substring(0, body.length()-2);
+		}
+		
+		StringBuilder like = new StringBuilder();
+		if(!anchoredStart) {
+			like.append('%');
+		}
+		for(int i=0; i < body.length(); i++) {
+			char c = body.charAt(i);
+			if(c == '\\') {
+				if(i+1 == body.length() || Character.isLetterOrDigit(body.charAt(i+1))) {
+					// Character classes like \d or \w require a regular expression match.
+					return new SearchPattern(regex, null);
+				}
+				c = body.charAt(++i);
+			} else if (META_CHARACTERS.indexOf(c) >= 0) {
+				return new SearchPattern(regex, null);
+			}
+			if(c == '%' || c == '_' || c == LIKE_ESCAPE) {
+				like.append(LIKE_ESCAPE);
+			}
+			like.append(c);
+		}
+		if(!anchoredEnd) {
+			like.append('%');
+		}
+		return new SearchPattern(regex, like.toString());
+	}
+	
+	private static boolean isEscaped(String s, int index) {
+		int backslashes = 0;
+		for(int i=index-1; i >= 0 && s.charAt(i) == '\\'; i--) {
+			backslashes++;
+		}
+		return backslashes % 2 == 1;
+	}
+
+	private final String regex;
+	private final String like;
+	
+	private SearchPattern(String regex, String like) {
+		this.regex = regex;
+		this.like = like;
+	}
+	
+	/**
+	 * Returns whether the pattern is a literal, that can be matched by a <code>LIKE</code> expression.
+	 * @return <code>true</code> if the pattern is a literal, <code>false</code> if the pattern is a regular expression.
+	 */
+	boolean isLiteral() {
+		return like != null;
+	}
+	
+	/**
+	 * Returns the <code>LIKE</code> pattern with <code>!</code> as escape character, 
+	 * or <code>null</code> if the pattern is not a literal.
+	 * @return the <code>LIKE</code> pattern.
+	 */
+	String getLikePattern() {
+		return like;
+	}
+	
+	/**
+	 * Returns the regular expression.
+	 * @return the regular expression.
+	 */
+	String getRegex() {
+		return regex;
+	}
+	
+	@Override
+	public String toString() {
+		return isLiteral() ? like : regex;
+	}
+	
+}
@@ -15,18 +15,28 @@
  */
 package io.leitstand.inventory.model;
 
+import static io.leitstand.inventory.model.ReferenceDataCache.EXPIRY;
+import static io.leitstand.inventory.model.ReferenceDataCache.EXPIRY_HINT;
 import static io.leitstand.inventory.service.ServiceId.serviceId;
+import static org.eclipse.persistence.config.HintValues.TRUE;
+import static org.eclipse.persistence.config.QueryHints.QUERY_RESULTS_CACHE;
+import static org.eclipse.persistence.config.QueryHints.QUERY_RESULTS_CACHE_EXPIRY;
+import static org.eclipse.persistence.config.QueryHints.QUERY_RESULTS_CACHE_IGNORE_NULL;
 
 import java.util.List;
 import java.util.UUID;
 
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.Convert;
 import javax.persistence.Entity;
 import javax.persistence.NamedQueries;
 import javax.persistence.NamedQuery;
+import javax.persistence.QueryHint;
 import javax.persistence.Table;
 
+import org.eclipse.persistence.annotations.Cache;
+
 import io.leitstand.commons.model.Query;
 import io.leitstand.commons.model.VersionableEntity;
 import io.leitstand.inventory.jpa.ServiceNameConverter;
@@ -36,10 +46,15 @@ import io.leitstand.inventory.service.ServiceName;
 import io.leitstand.inventory.service.ServiceType;
 
 @Entity
+@Cacheable
+@Cache(expiry=EXPIRY)
 @Table(schema="inventory", name="service")
 @NamedQueries({
 	@NamedQuery(name="Service.findAll", query="SELECT s FROM Service s"),
-	@NamedQuery(name="Service.findByName", query="SELECT s FROM Service s WHERE s.name=:name")
+	@NamedQuery(name="Service.findByName", query="SELECT s FROM Service s WHERE s.name=:name",
+				hints={@QueryHint(name=QUERY_RESULTS_CACHE, value=TRUE),
+				       @QueryHint(name=QUERY_RESULTS_CACHE_EXPIRY, value=EXPIRY_HINT),
+				       @QueryHint(name=QUERY_RESULTS_CACHE_IGNORE_NULL, value=TRUE)})
 })
 public class Service extends VersionableEntity{
 
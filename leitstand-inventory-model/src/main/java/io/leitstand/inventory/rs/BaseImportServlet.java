@@ -15,49 +15,116 @@
  */
 package io.leitstand.inventory.rs;
 
-import static io.leitstand.commons.json.MapMarshaller.marshal;
+import static io.leitstand.inventory.rs.ChunkedImport.DEFAULT_CHUNK_SIZE;
+import static io.leitstand.inventory.rs.ExportJsonbConfig.EXPORT;
+import static io.leitstand.inventory.rs.ImportReader.importReader;
+import static java.lang.Boolean.parseBoolean;
+import static java.lang.String.format;
+import static java.nio.file.Files.copy;
+import static java.nio.file.Files.createTempFile;
+import static java.nio.file.Files.deleteIfExists;
+import static java.nio.file.Files.newInputStream;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
 import static java.util.logging.Level.FINE;
 import static javax.json.bind.JsonbBuilder.create;
-import static javax.json.bind.config.PropertyNamingStrategy.LOWER_CASE_WITH_UNDERSCORES;
-import static javax.json.bind.config.PropertyOrderStrategy.LEXICOGRAPHICAL;
+import static javax.servlet.http.HttpServletResponse.SC_ACCEPTED;
+import static javax.servlet.http.HttpServletResponse.SC_CONFLICT;
 import static javax.servlet.http.HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
 
 import java.io.IOException;
-import java.util.Map;
+import java.io.InputStream;
+import java.nio.file.Path;
 import java.util.logging.Logger;
 
+import javax.inject.Inject;
+import javax.json.JsonValue;
 import javax.json.bind.Jsonb;
-import javax.json.bind.JsonbConfig;
-import javax.json.bind.JsonbException;
 import javax.servlet.http.HttpServlet;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import javax.servlet.http.Part;
 
-import org.yaml.snakeyaml.Yaml;
+import io.leitstand.commons.tx.SubtransactionService;
+import io.leitstand.inventory.model.Inventory;
+import io.leitstand.inventory.model.JobContext;
+import io.leitstand.inventory.model.JobExecutor;
+import io.leitstand.inventory.model.JobTask;
+import io.leitstand.inventory.service.JobId;
 
-import io.leitstand.commons.jsonb.FieldAccessVisibilityStrategy;
-
-abstract class BaseImportServlet<Import> extends HttpServlet{
+/**
+ * Base class of all servlets to import uploaded export files.
+ * <p>
+ * The uploaded file is read incrementally, item by item, and the items are imported in chunks. 
+ * Each chunk is committed in a transaction of its own. 
+ * The chunk size defaults to 100 items and can be changed with the 
+ * <code>leitstand.inventory.import.chunk.size</code> system property.
+ * <p>
+ * If the <code>async</code> request parameter is set to <code>true</code>, 
+ * the uploaded file is spooled to a temporary file and imported by an asynchronous job.
+ * The servlet responds with <code>202 Accepted</code> and the location of the job resource, 
+ * which reports the progress of the import.
+ * <p>
+ * Items that cannot be imported are reported in the import result.
+ * A synchronous import responds with <code>409 Conflict</code> and a summary of the failed items if not all items were imported.
+ * An asynchronous import reports the summary in the job message.
+ */
+abstract class BaseImportServlet extends HttpServlet{
 	
 	private static final long serialVersionUID = 1L;
 	
 	private static final Logger LOG = Logger.getLogger(BaseImportServlet.class.getName());
 	
-	private static final JsonbConfig DEFAULT = new JsonbConfig()
-											   .withPropertyVisibilityStrategy(new FieldAccessVisibilityStrategy())
-											   .withPropertyNamingStrategy(LOWER_CASE_WITH_UNDERSCORES)
-											   .withPropertyOrderStrategy(LEXICOGRAPHICAL)
-											   .withDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSSXXX", null);
-
+	private static final int MAX_JOB_MESSAGE_LENGTH = 255;
+	
+	@Inject
+	@Inventory
+	private SubtransactionService transactions;
+	
+	@Inject
+	private JobExecutor jobs;
+	
+	private transient Jsonb jsonb;
+	
+	@Override
+	public void init() {
+		jsonb = create(EXPORT);
+	}
+	
+	@Override
+	public void destroy() {
+		try {
+			jsonb.close();
+		} catch (Exception e) {
+			LOG.log(FINE,e.getMessage(),e);
+		}
+	}
+	
 	@Override
 	public void doPost(HttpServletRequest request, 
 					   HttpServletResponse response) {
 		
 		try {
-			Part part = request.getPart("export");
-			Import data = read(part);
-			doImport(data);
+			Part part = request.getPart(getPartName());
+			if(parseBoolean(request.getParameter("async"))) {
+				JobId jobId = submitImport(part);
+				response.setStatus(SC_ACCEPTED);
+				response.setHeader("Location", format("%s/api/v1/jobs/%s", 
+													  request.getContextPath(),
+													  jobId));
+				return;
+			}
+			ChunkedImport chunks = new ChunkedImport(transactions, 
+													 DEFAULT_CHUNK_SIZE);
+			try (InputStream in = part.getInputStream()){
+				importFile(part.getSubmittedFileName(),
+						   part.getContentType(), 
+						   in, 
+						   chunks);
+			}
+			if(chunks.getFailed() > 0) {
+				sendError(response, SC_CONFLICT, chunks.getSummary());
+				return;
+			}
 			response.sendRedirect(getRedirectTarget());			
 		} catch (Exception e) {
 			LOG.log(FINE,e.getMessage(),e);
@@ -66,49 +133,124 @@ abstract class BaseImportServlet<Import> extends HttpServlet{
 		
 	}
 	
-	protected Import read(Part part) throws IOException{
-		if("application/json".equals(part.getContentType())) {
-			try(Jsonb unmarshaller = create(DEFAULT)){
-				return unmarshaller.fromJson(part.getInputStream(), 
-											 getImportType());
-			} catch (JsonbException e) {
-				LOG.log(FINE, e.getMessage(), e);
-				throw e;
-			} catch (Exception e) {
-				LOG.log(FINE, e.getMessage(), e);
-				throw new JsonbException(e.getMessage(),e);
+	private JobId submitImport(Part part) throws IOException {
+		// The uploaded part is not available after the request has been processed. 
+		Path spool = createTempFile("leitstand-import-", ".tmp");
+		try (InputStream in = part.getInputStream()){
+			copy(in, spool, REPLACE_EXISTING);
+		} catch (IOException e) {
+			deleteIfExists(spool);
+			throw e;
+		}
+		String fileName = part.getSubmittedFileName();
+		try {
+			return jobs.submit("import", 
+							   format("Import of %s", fileName), 
+							   new SpooledImport(spool, 
+									   			 fileName, 
+									   			 part.getContentType()));
+		} catch (RuntimeException e) {
+			deleteIfExists(spool);
+			throw e;
+		}
+	}
+	
+	/**
+	 * Imports a spooled upload asynchronously and deletes the spool file 
+	 * when the import completes or when the job is discarded without being executed.
+	 */
+	private final class SpooledImport implements JobTask {
+		
+		private final Path spool;
+		private final String fileName;
+		private final String contentType;
+		
+		SpooledImport(Path spool, String fileName, String contentType){
+			this.spool = spool;
+			this.fileName = fileName;
+			this.contentType = contentType;
+		}
+		
+		@Override
+		public void execute(JobContext job) throws Exception {
+			try (InputStream in = newInputStream(spool)){
+				ChunkedImport chunks = new ChunkedImport(transactions, 
+														 DEFAULT_CHUNK_SIZE, 
+														 job);
+				importFile(fileName, 
+						   contentType, 
+						   in, 
+						   chunks);
+				job.setMessage(jobMessage(chunks.getSummary()));
+			} finally {
+				deleteIfExists(spool);
 			}
 		}
-		Yaml yaml = new Yaml();
-		Map<String,Object> raw = yaml.load(part.getInputStream());
 		
-		try(Jsonb unmarshaller = create(DEFAULT)){
-			return unmarshaller.fromJson(marshal(raw).toJson().toString(),
-										 getImportType());
-		} catch (JsonbException e) {
-			LOG.log(FINE, e.getMessage(), e);
-			throw e;
-		} catch (Exception e) {
-			LOG.log(FINE, e.getMessage(), e);
-			throw new JsonbException(e.getMessage(),e);
-
+		@Override
+		public void discard() {
+			try {
+				deleteIfExists(spool);
+			} catch (IOException e) {
+				LOG.log(FINE,e.getMessage(),e);
+			}
 		}
-	}	
+	}
+	
+	private void importFile(String fileName,
+							String contentType, 
+							InputStream in, 
+							ChunkedImport chunks) throws IOException {
+		importReader(contentType, in)
+		.read((property, item) -> importItem(chunks, property, item));
+		chunks.commit();
+		LOG.info(() -> format("Import of %s completed: %d items imported, %d items failed.",
+							  fileName,
+							  chunks.getImported(),
+							  chunks.getFailed()));
+	}
+	
+	/**
+	 * Binds a list item of the import document to the specified value object.
+	 * @param item - the JSON representation of the item
+	 * @param type - the value object type
+	 * @return the value object
+	 */
+	protected <T> T bind(JsonValue item, Class<T> type) {
+		return jsonb.fromJson(item.toString(), type);
+	}
 	
 	protected String getPartName() {
 		return "export";
 	}
 	
+	private static String jobMessage(String summary) {
+		if(summary.length() <= MAX_JOB_MESSAGE_LENGTH) {
+			return summary;
+		}
+		return summary.substring(0, MAX_JOB_MESSAGE_LENGTH - 3)+"...";
+	}
+	
 	protected void sendError(HttpServletResponse response, String message) {
+		sendError(response, SC_INTERNAL_SERVER_ERROR, message);
+	}
+	
+	protected void sendError(HttpServletResponse response, int status, String message) {
 		try {
-			response.sendError(SC_INTERNAL_SERVER_ERROR,message);
+			response.sendError(status,message);
 		} catch (IOException e) {
 			LOG.log(FINE,e.getMessage(),e);
 		}
 	}
 
 	protected abstract String getRedirectTarget();
-	protected abstract Class<Import> getImportType();
-	protected abstract void doImport(Import data);
+	
+	/**
+	 * Adds the import tasks of a list item to the chunked import.
+	 * @param chunks - the chunked import
+	 * @param property - the name of the list that contains the item
+	 * @param item - the JSON representation of the list item
+	 */
+	protected abstract void importItem(ChunkedImport chunks, String property, JsonValue item);
 	
 }
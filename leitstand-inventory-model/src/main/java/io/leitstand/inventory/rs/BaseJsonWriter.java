@@ -0,0 +1,176 @@
+/*
+ * Copyright 2020 RtBrick Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.leitstand.inventory.rs;
+
+import static io.leitstand.commons.jsonb.IsoDateAdapter.isoDateFormat;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.emptyMap;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.Date;
+
+import javax.json.Json;
+import javax.json.stream.JsonGenerator;
+import javax.json.stream.JsonGeneratorFactory;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.ext.MessageBodyWriter;
+
+import io.leitstand.commons.model.Scalar;
+import io.leitstand.inventory.service.BaseElementEnvelope;
+import io.leitstand.inventory.service.BaseElementGroupEnvelope;
+
+/**
+ * Base class for message body writers that stream a large value object with the JSON-P streaming API.
+ * <p>
+ * The JSON-B provider serializes value objects reflectively and dispatches every scalar value to its type adapter.
+ * A writer derived from this class writes the properties of a value object directly to the response stream instead.
+ * The writer must write the same document as the JSON-B provider, 
+ * i.e. it must use the same property names and omit all <code>null</code> values.
+ * Dates are formatted with the {@link io.leitstand.commons.jsonb.IsoDateAdapter} format, which the value objects declare for their date properties.
+ * @param <T> the value object type
+ */
+public abstract class BaseJsonWriter<T> implements MessageBodyWriter<T> {
+
+	private static final JsonGeneratorFactory GENERATORS = Json.createGeneratorFactory(emptyMap());
+	
+	private final Class<T> type;
+	
+	protected BaseJsonWriter(Class<T> type) {
+		this.type = type;
+	}
+	
+	@Override
+	public boolean isWriteable(Class<?> type, 
+							   Type genericType, 
+							   Annotation[] annotations, 
+							   MediaType mediaType) {
+		return this.type == type;
+	}
+
+	@Override
+	public void writeTo(T value, 
+						Class<?> type, 
+						Type genericType, 
+						Annotation[] annotations, 
+						MediaType mediaType,
+						MultivaluedMap<String, Object> httpHeaders, 
+						OutputStream entityStream) throws IOException {
+		// The generator is not closed, because the container owns the entity stream.
+		JsonGenerator json = GENERATORS.createGenerator(entityStream, UTF_8);
+		write(json, value);
+		json.flush();
+	}
+	
+	/**
+	 * Writes the value object.
+	 * @param json the JSON generator
+	 * @param value the value object
+	 */
+	protected abstract void write(JsonGenerator json, T value);
+
+	/**
+	 * Writes the properties of the element group envelope.
+	 * @param json the JSON generator
+	 * @param group the element group envelope
+	 */
+	protected void writeGroupEnvelope(JsonGenerator json, BaseElementGroupEnvelope group) {
+		write(json, "group_id", group.getGroupId());
+		write(json, "group_name", group.getGroupName());
+		write(json, "group_type", group.getGroupType());
+	}
+	
+	/**
+	 * Writes the properties of the element envelope.
+	 * @param json the JSON generator
+	 * @param element the element envelope
+	 */
+	protected void writeElementEnvelope(JsonGenerator json, BaseElementEnvelope element) {
+		write(json, "administrative_state", element.getAdministrativeState());
+		write(json, "date_modified", element.getDateModified());
+		write(json, "element_alias", element.getElementAlias());
+		write(json, "element_id", element.getElementId());
+		write(json, "element_name", element.getElementName());
+		write(json, "element_role", element.getElementRole());
+		writeGroupEnvelope(json, element);
+		write(json, "operational_state", element.getOperationalState());
+		write(json, "platform_chipset", element.getPlatformChipset());
+		write(json, "platform_id", element.getPlatformId());
+		write(json, "platform_name", element.getPlatformName());
+	}
+	
+	/**
+	 * Writes a property unless the property value is <code>null</code>.
+	 * Scalars are written as their wrapped value, enums as their name and all other values as string.
+	 * @param json the JSON generator
+	 * @param name the property name
+	 * @param value the property value
+	 */
+	protected static void write(JsonGenerator json, String name, Object value) {
+		if(value == null) {
+			return;
+		}
+		if(value instanceof Scalar) {
+			Object scalar = ((Scalar<?>)value).getValue();
+			if(scalar instanceof Integer || scalar instanceof Long) {
+				json.write(name,((Number)scalar).longValue());
+				return;
+			}
+			json.write(name, Scalar.toString((Scalar<?>)value));
+			return;
+		}
+		if(value instanceof Enum) {
+			json.write(name, ((Enum<?>)value).name());
+			return;
+		}
+		json.write(name, value.toString());
+	}
+	
+	/**
+	 * Writes a date property unless the date is <code>null</code>.
+	 * @param json the JSON generator
+	 * @param name the property name
+	 * @param date the property value
+	 */
+	protected static void write(JsonGenerator json, String name, Date date) {
+		if(date == null) {
+			return;
+		}
+		json.write(name, isoDateFormat(date));
+	}
+	
+	/**
+	 * Writes a list of strings unless the list is <code>null</code>.
+	 * @param json the JSON generator
+	 * @param name the property name
+	 * @param values the property value
+	 */
+	protected static void write(JsonGenerator json, String name, Collection<String> values) {
+		if(values == null) {
+			return;
+		}
+		json.writeStartArray(name);
+		for(String value : values) {
+			json.write(value);
+		}
+		json.writeEnd();
+	}
+
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2020 RtBrick Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.leitstand.inventory.rs;
+
+import static java.lang.Math.min;
+import static java.lang.String.format;
+import static java.util.logging.Level.FINE;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import io.leitstand.inventory.model.JobContext;
+import io.leitstand.inventory.model.JobTask;
+import io.leitstand.inventory.service.ElementCloneRequest;
+
+/**
+ * Clones an element in chunks as an asynchronous job.
+ * <p>
+ * Every chunk of clone requests is cloned in a transaction of its own,
+ * such that the job reports its progress after every chunk and stops with the next chunk when the job gets cancelled.
+ * A chunk that cannot be cloned is reported as failed and the job continues with the next chunk.
+ * The chunk size defaults to 100 clones and can be changed with the 
+ * <code>leitstand.inventory.clone.chunk.size</code> system property.
+ */
+class ChunkedClone implements JobTask {
+
+	private static final Logger LOG = Logger.getLogger(ChunkedClone.class.getName());
+	
+	static final int DEFAULT_CHUNK_SIZE = Integer.getInteger("leitstand.inventory.clone.chunk.size",100);
+	
+	private final Consumer<List<ElementCloneRequest>> clone;
+	private final List<ElementCloneRequest> requests;
+	private final int chunkSize;
+	
+	/**
+	 * Creates a chunked clone job task.
+	 * @param clone - clones a chunk of clone requests in a transaction of its own
+	 * @param requests - all clone requests
+	 * @param chunkSize - the number of clones per chunk
+	 */
+	ChunkedClone(Consumer<List<ElementCloneRequest>> clone,
+				 List<ElementCloneRequest> requests,
+				 int chunkSize){
+		this.clone = clone;
+		this.requests = requests;
+		this.chunkSize = chunkSize;
+	}
+	
+	@Override
+	public void execute(JobContext job) {
+		job.setItemsTotal(requests.size());
+		int cloned = 0;
+		int failed = 0;
+		for(int i=0; i < requests.size(); i+=chunkSize) {
+			job.verifyNotCancelled();
+			List<ElementCloneRequest> chunk = requests.subList(i, min(i+chunkSize, requests.size()));
+			try {
+				clone.accept(chunk);
+				cloned += chunk.size();
+				job.progress(chunk.size(), 0);
+			} catch (Exception e) {
+				LOG.warning(() -> format("Cannot clone %d elements: %s", 
+										 chunk.size(), 
+										 e.getMessage()));
+				LOG.log(FINE,e.getMessage(),e);
+				failed += chunk.size();
+				job.progress(0, chunk.size());
+			}
+		}
+		job.setMessage(format("%d elements cloned, %d clones failed.",
+							  cloned,
+							  failed));
+	}
+	
+}
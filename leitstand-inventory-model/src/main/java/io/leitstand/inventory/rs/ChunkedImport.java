@@ -0,0 +1,206 @@
+/*
+ * Copyright 2020 RtBrick Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.leitstand.inventory.rs;
+
+import static io.leitstand.inventory.service.ReasonCode.IVT1000E_IMPORT_ERROR;
+import static java.lang.Boolean.TRUE;
+import static java.lang.String.format;
+import static java.util.Collections.unmodifiableList;
+import static java.util.logging.Level.FINE;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import io.leitstand.commons.tx.SubtransactionService;
+import io.leitstand.inventory.model.JobContext;
+
+/**
+ * Imports the items of an import document in chunks.
+ * <p>
+ * Every chunk is committed in a subtransaction, such that the size of a transaction does not depend on the size of the import document.
+ * The chunk size limits the number of entities stored in a chunk. 
+ * An item storing several entities in bulk accounts for all of its entities.
+ * If a chunk cannot be committed, every item of the chunk is imported in a subtransaction of its own 
+ * to import all valid items and to report the items that cannot be imported.
+ * The descriptions of the first {@value #MAX_REPORTED_FAILURES} items that cannot be imported are recorded for the import result.
+ * <p>
+ * When executed as a job, the import reports its progress to the {@link JobContext} after every chunk 
+ * and aborts with a {@link java.util.concurrent.CancellationException} when the job gets cancelled.
+ */
+class ChunkedImport {
+	
+	private static final Logger LOG = Logger.getLogger(ChunkedImport.class.getName());
+	
+	static final int DEFAULT_CHUNK_SIZE = Integer.getInteger("leitstand.inventory.import.chunk.size",100);
+	
+	static final int MAX_REPORTED_FAILURES = 10;
+	
+	private static final class Item {
+		private final String description;
+		private final Runnable task;
+		
+		Item(String description, Runnable task){
+			this.description = description;
+			this.task = task;
+		}
+	}
+	
+	private final SubtransactionService transactions;
+	private final int chunkSize;
+	private final JobContext job;
+	private final List<Item> chunk;
+	private final List<String> failures;
+	private int entities;
+	private int imported;
+	private int failed;
+	
+	ChunkedImport(SubtransactionService transactions, 
+				  int chunkSize){
+		this(transactions,
+			 chunkSize,
+			 new JobContext());
+	}
+	
+	ChunkedImport(SubtransactionService transactions,
+				  int chunkSize,
+				  JobContext job){
+		this.transactions = transactions;
+		this.chunkSize = chunkSize;
+		this.job = job;
+		this.chunk = new ArrayList<>(chunkSize);
+		this.failures = new ArrayList<>();
+	}
+	
+	/**
+	 * Adds an item storing a single entity to the current chunk and commits the chunk if the chunk size is reached.
+	 * @param description - the item description for error reports
+	 * @param task - the task to import the item
+	 * @throws java.util.concurrent.CancellationException if the import job has been cancelled
+	 */
+	void add(String description, Runnable task) {
+		add(description, 1, task);
+	}
+	
+	/**
+	 * Adds an item storing the given number of entities to the current chunk and 
+	 * commits the chunk if the chunk size is reached.
+	 * @param description - the item description for error reports
+	 * @param entities - the number of entities stored by the item
+	 * @param task - the task to import the item
+	 * @throws java.util.concurrent.CancellationException if the import job has been cancelled
+	 */
+	void add(String description, int entities, Runnable task) {
+		job.verifyNotCancelled();
+		chunk.add(new Item(description,task));
+		this.entities += entities;
+		if(this.entities >= chunkSize) {
+			commit();
+		}
+	}
+	
+	/**
+	 * Returns the maximum number of entities stored in a chunk.
+	 * @return the chunk size
+	 */
+	int getChunkSize() {
+		return chunkSize;
+	}
+	
+	/**
+	 * Commits all pending items.
+	 */
+	void commit() {
+		if(chunk.isEmpty()) {
+			return;
+		}
+		int importedBefore = imported;
+		int failedBefore = failed;
+		if(run(() -> chunk.forEach(item -> item.task.run()))) {
+			imported += chunk.size();
+		} else {
+			LOG.fine(() -> format("Import of %d items failed. Retry to import each item separately.",
+								  chunk.size()));
+			for(Item item : chunk) {
+				if(run(item.task)) {
+					imported++;
+				} else {
+					failed++;
+					if(failures.size() < MAX_REPORTED_FAILURES) {
+						failures.add(item.description);
+					}
+					LOG.warning(() -> format("%s: %s cannot be imported.",
+											 IVT1000E_IMPORT_ERROR.getReasonCode(),
+											 item.description));
+				}
+			}
+		}
+		chunk.clear();
+		entities = 0;
+		job.progress(imported - importedBefore, 
+					 failed - failedBefore);
+		LOG.info(() -> format("%d items imported, %d items failed.",
+							  imported,
+							  failed));
+	}
+
+	private boolean run(Runnable task) {
+		try {
+			return TRUE.equals(transactions.run(repository -> task.run(), 
+											    repository -> TRUE));
+		} catch (Exception e) {
+			LOG.log(FINE,e.getMessage(),e);
+			return false;
+		}
+	}
+	
+	int getImported() {
+		return imported;
+	}
+	
+	int getFailed() {
+		return failed;
+	}
+	
+	/**
+	 * Returns the descriptions of the items that cannot be imported.
+	 * At most {@value #MAX_REPORTED_FAILURES} items are reported, the total number of failed items is reported by {@link #getFailed()}.
+	 * @return the descriptions of the failed items.
+	 */
+	List<String> getFailures() {
+		return unmodifiableList(failures);
+	}
+	
+	/**
+	 * Returns a summary of the import outcome, including the descriptions of the reported failed items.
+	 * @return the import summary
+	 */
+	String getSummary() {
+		StringBuilder summary = new StringBuilder(format("%d items imported, %d items failed.",
+														 imported,
+														 failed));
+		if(!failures.isEmpty()) {
+			summary.append(" Failed items: ")
+				   .append(String.join(", ", failures));
+			if(failed > failures.size()) {
+				summary.append(format(" and %d more", failed - failures.size()));
+			}
+			summary.append('.');
+		}
+		return summary.toString();
+	}
+	
+}
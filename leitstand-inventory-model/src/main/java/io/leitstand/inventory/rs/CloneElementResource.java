@@ -17,11 +17,15 @@ package io.leitstand.inventory.rs;
 
 import static io.leitstand.commons.model.Patterns.UUID_PATTERN;
 import static io.leitstand.commons.rs.Responses.created;
+import static io.leitstand.inventory.rs.ChunkedClone.DEFAULT_CHUNK_SIZE;
 import static io.leitstand.inventory.rs.Scopes.IVT;
+import static io.leitstand.inventory.rs.JobResource.accepted;
 import static io.leitstand.inventory.rs.Scopes.IVT_ELEMENT;
 import static java.lang.String.format;
 import static javax.ws.rs.core.MediaType.APPLICATION_JSON;
 
+import java.util.List;
+
 import javax.inject.Inject;
 import javax.validation.Valid;
 import javax.ws.rs.Consumes;
@@ -29,14 +33,17 @@ import javax.ws.rs.POST;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.Response;
 
 import io.leitstand.commons.messages.Messages;
 import io.leitstand.commons.rs.Resource;
+import io.leitstand.inventory.model.JobExecutor;
 import io.leitstand.inventory.service.CloneElementService;
 import io.leitstand.inventory.service.ElementCloneRequest;
 import io.leitstand.inventory.service.ElementId;
 import io.leitstand.inventory.service.ElementName;
+import io.leitstand.inventory.service.JobId;
 import io.leitstand.security.auth.Scopes;
 
 @Resource
@@ -50,6 +57,9 @@ public class CloneElementResource {
 	@Inject
 	private CloneElementService service;
 	
+	@Inject
+	private JobExecutor jobs;
+	
 	@Inject
 	private Messages messages;
 	
@@ -80,4 +90,46 @@ public class CloneElementResource {
 							  cloneId));
 	}
 	
+	@POST
+	@Path("/{element:"+UUID_PATTERN+"}/_clones")
+	public Response cloneElements(@Valid @PathParam("element") ElementId elementId,
+								  @Valid List<ElementCloneRequest> requests,
+								  @QueryParam("async") boolean async) {
+		if(async) {
+			CloneElementService cloneService = service;
+			JobId jobId = jobs.submit("element-clone", 
+									  format("Clone element %s %d times", elementId, requests.size()), 
+									  new ChunkedClone(chunk -> cloneService.cloneElements(elementId, chunk),
+											  		   requests,
+											  		   DEFAULT_CHUNK_SIZE));
+			return accepted(messages, jobId);
+		}
+
+		List<ElementId> cloneIds = service.cloneElements(elementId, 
+														 requests);
+		
+		return Response.ok(cloneIds).build();
+	}
+	
+	@POST
+	@Path("/{element}/_clones")
+	public Response cloneElements(@Valid @PathParam("element") ElementName elementName,
+								  @Valid List<ElementCloneRequest> requests,
+								  @QueryParam("async") boolean async) {
+		if(async) {
+			CloneElementService cloneService = service;
+			JobId jobId = jobs.submit("element-clone", 
+									  format("Clone element %s %d times", elementName, requests.size()), 
+									  new ChunkedClone(chunk -> cloneService.cloneElements(elementName, chunk),
+											  		   requests,
+											  		   DEFAULT_CHUNK_SIZE));
+			return accepted(messages, jobId);
+		}
+		
+		List<ElementId> cloneIds = service.cloneElements(elementName, 
+														 requests);
+		
+		return Response.ok(cloneIds).build();
+	}
+	
 }
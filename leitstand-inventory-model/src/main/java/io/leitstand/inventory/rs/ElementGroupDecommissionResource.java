@@ -0,0 +1,99 @@
+/*
+ * Copyright 2020 RtBrick Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.leitstand.inventory.rs;
+
+import static io.leitstand.commons.model.Patterns.UUID_PATTERN;
+import static io.leitstand.commons.rs.Responses.success;
+import static io.leitstand.inventory.rs.Scopes.IVT;
+import static io.leitstand.inventory.rs.JobResource.accepted;
+import static io.leitstand.inventory.rs.Scopes.IVT_ELEMENT;
+import static java.lang.String.format;
+import static javax.ws.rs.core.MediaType.APPLICATION_JSON;
+
+import javax.inject.Inject;
+import javax.validation.Valid;
+import javax.ws.rs.Consumes;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.Response;
+
+import io.leitstand.commons.messages.Messages;
+import io.leitstand.commons.rs.Resource;
+import io.leitstand.inventory.model.JobExecutor;
+import io.leitstand.inventory.service.ElementGroupId;
+import io.leitstand.inventory.service.ElementService;
+import io.leitstand.inventory.service.JobId;
+import io.leitstand.inventory.service.RetireElementService;
+import io.leitstand.security.auth.Scopes;
+
+/**
+ * Retires or removes all elements of an element group at once.
+ * <p>
+ * Large element groups can be decommissioned by an asynchronous job by setting the <code>async</code> query parameter to <code>true</code>.
+ */
+@Resource
+@Scopes({IVT, IVT_ELEMENT})
+@Path("/{group_type}s")
+@Consumes(APPLICATION_JSON)
+@Produces(APPLICATION_JSON)
+public class ElementGroupDecommissionResource {
+
+	@Inject
+	private RetireElementService retireService;
+	
+	@Inject
+	private ElementService elementService;
+	
+	@Inject
+	private JobExecutor jobs;
+	
+	@Inject
+	private Messages messages;
+	
+	@POST
+	@Path("/{group_id:"+UUID_PATTERN+"}/elements/_retire")
+	public Response retireElements(@Valid @PathParam("group_id") ElementGroupId groupId,
+								   @QueryParam("async") boolean async) {
+		if(async) {
+			RetireElementService service = retireService;
+			JobId jobId = jobs.submit("element-retire", 
+									  format("Retire all elements of group %s", groupId), 
+									  job -> service.retireElements(groupId));
+			return accepted(messages, jobId);
+		}
+		retireService.retireElements(groupId);
+		return success(messages);
+	}
+	
+	@POST
+	@Path("/{group_id:"+UUID_PATTERN+"}/elements/_remove")
+	public Response forceRemoveElements(@Valid @PathParam("group_id") ElementGroupId groupId,
+										@QueryParam("async") boolean async) {
+		if(async) {
+			ElementService service = elementService;
+			JobId jobId = jobs.submit("element-remove", 
+									  format("Remove all elements of group %s", groupId), 
+									  job -> service.forceRemoveElements(groupId));
+			return accepted(messages, jobId);
+		}
+		elementService.forceRemoveElements(groupId);
+		return success(messages);
+	}
+	
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2020 RtBrick Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.leitstand.inventory.rs;
+
+import static javax.ws.rs.core.MediaType.APPLICATION_JSON;
+
+import java.util.Map;
+
+import javax.json.stream.JsonGenerator;
+import javax.ws.rs.Produces;
+import javax.ws.rs.ext.Provider;
+
+import io.leitstand.inventory.service.ElementGroupElements;
+import io.leitstand.inventory.service.ElementManagementInterface;
+import io.leitstand.inventory.service.ElementSettings;
+
+/**
+ * Streams the elements of an element group.
+ */
+@Provider
+@Produces(APPLICATION_JSON)
+public class ElementGroupElementsWriter extends BaseJsonWriter<ElementGroupElements> {
+
+	public ElementGroupElementsWriter() {
+		super(ElementGroupElements.class);
+	}
+	
+	@Override
+	protected void write(JsonGenerator json, ElementGroupElements group) {
+		json.writeStartObject();
+		write(json, "description", group.getDescription());
+		if(group.getElements() != null) {
+			json.writeStartArray("elements");
+			for(ElementSettings element : group.getElements()) {
+				writeElement(json, element);
+			}
+			json.writeEnd();
+		}
+		writeGroupEnvelope(json, group);
+		json.writeEnd();
+	}
+
+	private void writeElement(JsonGenerator json, ElementSettings element) {
+		json.writeStartObject();
+		writeElementEnvelope(json, element);
+		write(json, "asset_id", element.getAssetId());
+		write(json, "description", element.getDescription());
+		if(element.getManagementInterfaces() != null) {
+			json.writeStartObject("mgmt_interfaces");
+			for(Map.Entry<String,ElementManagementInterface> mgmt : element.getManagementInterfaces().entrySet()) {
+				ElementManagementInterface ifc = mgmt.getValue();
+				json.writeStartObject(mgmt.getKey());
+				write(json, "mgmt_hostname", ifc.getHostname());
+				write(json, "mgmt_name", ifc.getName());
+				write(json, "mgmt_path", ifc.getPath());
+				json.write("mgmt_port", ifc.getPort());
+				write(json, "mgmt_protocol", ifc.getProtocol());
+				json.writeEnd();
+			}
+			json.writeEnd();
+		}
+		write(json, "mgmt_mac", element.getManagementInterfaceMacAddress());
+		write(json, "plane", element.getPlane());
+		write(json, "serial_number", element.getSerialNumber());
+		write(json, "tags", element.getTags());
+		json.writeEnd();
+	}
+	
+}
@@ -17,6 +17,8 @@ package io.leitstand.inventory.rs;
 
 
 import static io.leitstand.commons.rs.Responses.success;
+import static io.leitstand.inventory.rs.ElementGroupsExportOutput.jsonExport;
+import static io.leitstand.inventory.rs.ElementGroupsExportOutput.yamlExport;
 import static io.leitstand.inventory.rs.Scopes.IVT;
 import static io.leitstand.inventory.rs.Scopes.IVT_READ;
 import static javax.ws.rs.core.MediaType.APPLICATION_JSON;
@@ -38,6 +40,8 @@ import io.leitstand.commons.rs.Resource;
 import io.leitstand.inventory.service.ElementGroupExportService;
 import io.leitstand.inventory.service.ElementGroupType;
 import io.leitstand.inventory.service.ElementGroupsExport;
+import io.leitstand.inventory.service.ElementRoleService;
+import io.leitstand.inventory.service.PlatformService;
 import io.leitstand.security.auth.Scopes;
 
 @Resource
@@ -47,9 +51,17 @@ import io.leitstand.security.auth.Scopes;
 @Produces(APPLICATION_JSON)
 public class ElementGroupExportResource {
 
+	static final String APPLICATION_YAML = "application/yaml";
+
 	@Inject
 	private ElementGroupExportService inventory;
 	
+	@Inject
+	private ElementRoleService roles;
+	
+	@Inject
+	private PlatformService platforms;
+	
 	@Inject
 	private Messages messages;
 	
@@ -57,12 +69,29 @@ public class ElementGroupExportResource {
 	@Path("/{group}s")
 	public Response exportElementGroupsJson(@PathParam("group") ElementGroupType groupType,
 											@QueryParam("filter") String filter){
-		return ok(inventory.exportElementGroups(groupType,
-												filter))
+		return ok(jsonExport(inventory,
+							 roles,
+							 platforms,
+							 groupType,
+							 filter))
 			   .header("Content-Disposition", "attachment; filename=inventory-export.json")
 			   .build();
 	}
 	
+	@GET
+	@Path("/{group}s")
+	@Produces(APPLICATION_YAML)
+	public Response exportElementGroupsYaml(@PathParam("group") ElementGroupType groupType,
+											@QueryParam("filter") String filter){
+		return ok(yamlExport(inventory,
+							 roles,
+							 platforms,
+							 groupType,
+							 filter))
+			   .header("Content-Disposition", "attachment; filename=inventory-export.yaml")
+			   .build();
+	}
+	
 	@POST
 	@PUT
 	@Path("/{group}s")
@@ -15,27 +15,44 @@
  */
 package io.leitstand.inventory.rs;
 
+import static java.lang.Math.min;
+import static java.lang.String.format;
+
+import java.util.List;
+
 import javax.inject.Inject;
+import javax.json.JsonValue;
 import javax.servlet.annotation.MultipartConfig;
 import javax.servlet.annotation.WebServlet;
 
-import io.leitstand.inventory.service.ElementGroupExportService;
-import io.leitstand.inventory.service.ElementGroupsExport;
+import io.leitstand.inventory.service.ElementGroupExport;
+import io.leitstand.inventory.service.ElementGroupSettings;
+import io.leitstand.inventory.service.ElementGroupSettingsService;
+import io.leitstand.inventory.service.ElementRoleService;
+import io.leitstand.inventory.service.ElementRoleSettings;
+import io.leitstand.inventory.service.ElementSettings;
+import io.leitstand.inventory.service.ElementSettingsService;
+import io.leitstand.inventory.service.PlatformService;
+import io.leitstand.inventory.service.PlatformSettings;
 
 @WebServlet(urlPatterns= {"/api/v1/import/groups",
 						  "/import/groups"})
 @MultipartConfig()
-public class ElementGroupImportServlet extends BaseImportServlet<ElementGroupsExport> {
+public class ElementGroupImportServlet extends BaseImportServlet {
 	
 	private static final long serialVersionUID = 1L;
 	
 	@Inject
-	private ElementGroupExportService service;
-
-	@Override
-	protected Class<ElementGroupsExport> getImportType() {
-		return ElementGroupsExport.class;
-	}
+	private PlatformService platformService;
+	
+	@Inject
+	private ElementRoleService roleService;
+	
+	@Inject
+	private ElementGroupSettingsService groupSettingsService;
+	
+	@Inject
+	private ElementSettingsService elementSettingsService;
 
 	@Override
 	protected String getRedirectTarget() {
@@ -43,9 +60,51 @@ public class ElementGroupImportServlet extends BaseImportServlet<ElementGroupsEx
 	}
 
 	@Override
-	protected void doImport(ElementGroupsExport data) {
-		service.importElementGroups(data);
+	protected void importItem(ChunkedImport chunks, 
+							  String property, 
+							  JsonValue item) {
+		switch(property) {
+			case "platforms": {
+				PlatformSettings platform = bind(item, PlatformSettings.class);
+				chunks.add(format("Platform %s %s", 
+								  platform.getVendorName(), 
+								  platform.getModelName()),
+						   () -> platformService.storePlatform(platform));
+				break;
+			}
+			case "roles":
+			case "element_roles": { // Alias of roles
+				ElementRoleSettings role = bind(item, ElementRoleSettings.class);
+				chunks.add(format("Element role %s", 
+								  role.getRoleName()),
+						   () -> roleService.storeElementRole(role));
+				break;
+			}
+			case "groups": {
+				ElementGroupExport export = bind(item, ElementGroupExport.class);
+				ElementGroupSettings group = export.getGroup();
+				chunks.add(format("Element group %s (Type: %s)",
+								  group.getGroupName(),
+								  group.getGroupType()),
+						   () -> groupSettingsService.storeElementGroupSettings(group));
+				// Elements are stored in bulk, one slice of elements per import item.
+				// A slice fills an entire chunk, such that a transaction stores at most one chunk of elements.
+				List<ElementSettings> elements = export.getElements();
+				int sliceSize = chunks.getChunkSize();
+				for(int i=0; i < elements.size(); i+=sliceSize) {
+					List<ElementSettings> slice = elements.subList(i, min(i+sliceSize, elements.size()));
+					chunks.add(format("%d elements of element group %s (Type: %s)", 
+									  slice.size(),
+									  group.getGroupName(),
+									  group.getGroupType()),
+							   slice.size(),
+							   () -> elementSettingsService.storeElementSettings(slice));
+				}
+				break;
+			}
+			default:
+				// Ignore unknown lists
+		}
 	}
 	
-	
 }
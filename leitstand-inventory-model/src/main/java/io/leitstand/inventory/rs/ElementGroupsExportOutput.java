@@ -0,0 +1,285 @@
+/*
+ * Copyright 2020 RtBrick Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.leitstand.inventory.rs;
+
+import static io.leitstand.inventory.rs.ExportJsonbConfig.EXPORT;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
+import static javax.json.bind.JsonbBuilder.create;
+import static org.yaml.snakeyaml.DumperOptions.FlowStyle.BLOCK;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.Date;
+import java.util.List;
+
+import javax.json.bind.Jsonb;
+import javax.ws.rs.core.StreamingOutput;
+
+import org.yaml.snakeyaml.DumperOptions;
+import org.yaml.snakeyaml.Yaml;
+
+import io.leitstand.inventory.service.ElementGroupExport;
+import io.leitstand.inventory.service.ElementGroupExportService;
+import io.leitstand.inventory.service.ElementGroupType;
+import io.leitstand.inventory.service.ElementRoleService;
+import io.leitstand.inventory.service.PlatformService;
+
+/**
+ * Writes an element group export incrementally to the response stream.
+ * <p>
+ * The export is written group by group in the same document structure and with the same property names 
+ * as the JSON-B serialization of an {@link io.leitstand.inventory.service.ElementGroupsExport}.
+ * Only the group currently being written is held in memory.
+ * The platforms and element roles are written before the groups, 
+ * such that an incremental import has stored all platforms and roles before it stores the group elements.
+ */
+abstract class ElementGroupsExportOutput implements StreamingOutput {
+
+	static StreamingOutput jsonExport(ElementGroupExportService exports,
+									  ElementRoleService roles,
+									  PlatformService platforms,
+									  ElementGroupType groupType,
+									  String filter) {
+		return new JsonExport(exports, roles, platforms, groupType, filter);
+	}
+	
+	static StreamingOutput yamlExport(ElementGroupExportService exports,
+									  ElementRoleService roles,
+									  PlatformService platforms,
+									  ElementGroupType groupType,
+									  String filter) {
+		return new YamlExport(exports, roles, platforms, groupType, filter);
+	}
+	
+	private final ElementGroupExportService exports;
+	private final ElementRoleService roles;
+	private final PlatformService platforms;
+	private final ElementGroupType groupType;
+	private final String filter;
+	
+	protected ElementGroupsExportOutput(ElementGroupExportService exports,
+										ElementRoleService roles,
+										PlatformService platforms,
+										ElementGroupType groupType,
+										String filter) {
+		this.exports = exports;
+		this.roles = roles;
+		this.platforms = platforms;
+		this.groupType = groupType;
+		this.filter = filter;
+	}
+	
+	@Override
+	public void write(OutputStream os) throws IOException {
+		Writer out = new BufferedWriter(new OutputStreamWriter(os, UTF_8));
+		try (Jsonb jsonb = create(EXPORT)) {
+			beginExport(out);
+			writeProperty(out, jsonb, "date_created", new Date());
+			writeList(out, jsonb, "platforms", platforms.getPlatforms());
+			writeList(out, jsonb, "roles", roles.getElementRoles());
+			beginList(out, "groups");
+			try {
+				int[] groups = {0};
+				exports.exportElementGroups(groupType, 
+											filter, 
+											group -> writeGroup(out, jsonb, group, groups[0]++));
+			} catch (UncheckedIOException e) {
+				throw e.getCause();
+			}
+			endList(out);
+			endExport(out);
+		} catch (IOException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new IOException(e);
+		} finally {
+			out.flush();
+		}
+	}
+	
+	private void writeGroup(Writer out, 
+							Jsonb jsonb, 
+							ElementGroupExport group, 
+							int index) {
+		try {
+			writeListItem(out, jsonb, group, index);
+			// Release the serialized group and make progress visible to the client.
+			out.flush();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+	
+	private void writeList(Writer out, 
+						   Jsonb jsonb, 
+						   String name, 
+						   List<?> items) throws IOException {
+		beginList(out, name);
+		int index = 0;
+		for(Object item : items) {
+			writeListItem(out, jsonb, item, index++);
+		}
+		endList(out);
+	}
+
+	protected abstract void beginExport(Writer out) throws IOException;
+	protected abstract void writeProperty(Writer out, Jsonb jsonb, String name, Object value) throws IOException;
+	protected abstract void beginList(Writer out, String name) throws IOException;
+	protected abstract void writeListItem(Writer out, Jsonb jsonb, Object item, int index) throws IOException;
+	protected abstract void endList(Writer out) throws IOException;
+	protected abstract void endExport(Writer out) throws IOException;
+
+	static final class JsonExport extends ElementGroupsExportOutput {
+
+		private boolean firstProperty = true;
+		private boolean emptyList;
+		
+		JsonExport(ElementGroupExportService exports,
+				   ElementRoleService roles,
+				   PlatformService platforms,
+				   ElementGroupType groupType,
+				   String filter) {
+			super(exports, roles, platforms, groupType, filter);
+		}
+
+		@Override
+		protected void beginExport(Writer out) throws IOException {
+			out.write('{');
+		}
+		
+		@Override
+		protected void writeProperty(Writer out, 
+									 Jsonb jsonb, 
+									 String name, 
+									 Object value) throws IOException {
+			writeName(out, name);
+			out.write(jsonb.toJson(value));
+		}
+
+		@Override
+		protected void beginList(Writer out, String name) throws IOException {
+			writeName(out, name);
+			out.write('[');
+		}
+		
+		@Override
+		protected void writeListItem(Writer out, 
+									 Jsonb jsonb, 
+									 Object item, 
+									 int index) throws IOException {
+			if(index > 0) {
+				out.write(',');
+			}
+			out.write(jsonb.toJson(item));
+		}
+		
+		@Override
+		protected void endList(Writer out) throws IOException {
+			out.write(']');
+		}
+		
+		@Override
+		protected void endExport(Writer out) throws IOException {
+			out.write('}');
+		}
+		
+		private void writeName(Writer out, String name) throws IOException {
+			if(!firstProperty) {
+				out.write(',');
+			}
+			firstProperty = false;
+			out.write('"');
+			out.write(name);
+			out.write("\":");
+		}
+	}
+	
+	static final class YamlExport extends ElementGroupsExportOutput {
+
+		private final Yaml yaml;
+		private String pendingList;
+		
+		YamlExport(ElementGroupExportService exports,
+				   ElementRoleService roles,
+				   PlatformService platforms,
+				   ElementGroupType groupType,
+				   String filter) {
+			super(exports, roles, platforms, groupType, filter);
+			DumperOptions options = new DumperOptions();
+			options.setDefaultFlowStyle(BLOCK);
+			this.yaml = new Yaml(options);
+		}
+
+		@Override
+		protected void beginExport(Writer out) {
+			// Nothing to do
+		}
+		
+		@Override
+		protected void writeProperty(Writer out, 
+									 Jsonb jsonb, 
+									 String name, 
+									 Object value) {
+			yaml.dump(singletonMap(name, toYaml(jsonb, value)), out);
+		}
+		
+		@Override
+		protected void beginList(Writer out, String name) {
+			// The list name is written along with the first item, because an empty list must be written as [].
+			pendingList = name;
+		}
+		
+		@Override
+		protected void writeListItem(Writer out, 
+									 Jsonb jsonb, 
+									 Object item, 
+									 int index) throws IOException {
+			if(index == 0) {
+				out.write(pendingList);
+				out.write(":\n");
+				pendingList = null;
+			}
+			yaml.dump(singletonList(toYaml(jsonb, item)), out);
+		}
+		
+		@Override
+		protected void endList(Writer out) throws IOException {
+			if(pendingList != null) {
+				out.write(pendingList);
+				out.write(": []\n");
+				pendingList = null;
+			}
+		}
+		
+		@Override
+		protected void endExport(Writer out) {
+			// Nothing to do
+		}
+		
+		private Object toYaml(Jsonb jsonb, Object value) {
+			// JSON is a subset of YAML. Reading the JSON-B representation 
+			// ensures that both export formats share the same property names.
+			return yaml.load(jsonb.toJson(value));
+		}
+	}
+	
+}
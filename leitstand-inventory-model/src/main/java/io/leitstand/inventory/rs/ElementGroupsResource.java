@@ -15,10 +15,12 @@
  */
 package io.leitstand.inventory.rs;
 
+import static io.leitstand.inventory.rs.PageCursorHeader.withCursor;
 import static io.leitstand.inventory.rs.Scopes.IVT;
 import static io.leitstand.inventory.rs.Scopes.IVT_GROUP;
 import static io.leitstand.inventory.rs.Scopes.IVT_GROUP_SETTINGS;
 import static io.leitstand.inventory.rs.Scopes.IVT_READ;
+import static io.leitstand.inventory.service.PageCursor.pageCursor;
 import static javax.ws.rs.core.MediaType.APPLICATION_JSON;
 
 import java.util.List;
@@ -32,12 +34,14 @@ import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.Response;
 
 import io.leitstand.commons.rs.Resource;
 import io.leitstand.inventory.service.ElementGroupService;
 import io.leitstand.inventory.service.ElementGroupSettings;
 import io.leitstand.inventory.service.ElementGroupStatistics;
 import io.leitstand.inventory.service.ElementGroupType;
+import io.leitstand.inventory.service.PageCursor;
 import io.leitstand.security.auth.Scopes;
 
 @Resource
@@ -52,14 +56,24 @@ public class ElementGroupsResource {
 	
 	
 	@GET
-	public List<ElementGroupSettings> findGroups(@PathParam("group") ElementGroupType group,
-												 @QueryParam("filter") @DefaultValue("") String filter,
-            							 		 @QueryParam("offset") @DefaultValue("0") int offset,
-            							 		 @QueryParam("limit") @DefaultValue("100") int limit){
-		return service.findGroups(group,
-								  filter, 
-								  offset, 
-								  limit);
+	public Response findGroups(@PathParam("group") ElementGroupType group,
+							   @QueryParam("filter") @DefaultValue("") String filter,
+							   @QueryParam("offset") @DefaultValue("0") int offset,
+							   @QueryParam("limit") @DefaultValue("100") int limit,
+							   @QueryParam("after") PageCursor after){
+		List<ElementGroupSettings> groups = after != null 
+											? service.findGroups(group,
+																 filter,
+																 after,
+																 limit)
+											: service.findGroups(group,
+																 filter, 
+																 offset, 
+																 limit);
+		return withCursor(Response.ok(groups).build(), 
+						  groups, 
+						  limit, 
+						  last -> pageCursor(last));
 	}
 	
 	@GET
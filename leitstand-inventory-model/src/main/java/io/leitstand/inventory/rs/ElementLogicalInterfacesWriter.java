@@ -0,0 +1,99 @@
+/*
+ * Copyright 2020 RtBrick Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.leitstand.inventory.rs;
+
+import static javax.ws.rs.core.MediaType.APPLICATION_JSON;
+
+import javax.json.stream.JsonGenerator;
+import javax.ws.rs.Produces;
+import javax.ws.rs.ext.Provider;
+
+import io.leitstand.inventory.service.AddressInterface;
+import io.leitstand.inventory.service.ElementLogicalInterfaceData;
+import io.leitstand.inventory.service.ElementLogicalInterfaces;
+import io.leitstand.inventory.service.PhysicalInterface;
+import io.leitstand.inventory.service.VlanTag;
+
+/**
+ * Streams the logical interfaces of an element.
+ */
+@Provider
+@Produces(APPLICATION_JSON)
+public class ElementLogicalInterfacesWriter extends BaseJsonWriter<ElementLogicalInterfaces> {
+
+	public ElementLogicalInterfacesWriter() {
+		super(ElementLogicalInterfaces.class);
+	}
+	
+	@Override
+	protected void write(JsonGenerator json, ElementLogicalInterfaces ifls) {
+		json.writeStartObject();
+		writeElementEnvelope(json, ifls);
+		if(ifls.getLogicalInterfaces() != null) {
+			json.writeStartArray("logical_interfaces");
+			for(ElementLogicalInterfaceData ifl : ifls.getLogicalInterfaces()) {
+				writeLogicalInterface(json, ifl);
+			}
+			json.writeEnd();
+		}
+		json.writeEnd();
+	}
+	
+	private static void writeLogicalInterface(JsonGenerator json, ElementLogicalInterfaceData ifl) {
+		json.writeStartObject();
+		if(ifl.getAddresses() != null) {
+			json.writeStartArray("addresses");
+			for(AddressInterface address : ifl.getAddresses()) {
+				json.writeStartObject();
+				write(json, "address", address.getAddress());
+				write(json, "address_type", address.getAddressType());
+				json.writeEnd();
+			}
+			json.writeEnd();
+		}
+		write(json, "administrative_state", ifl.getAdministrativeState());
+		write(json, "ifl_alias", ifl.getIflAlias());
+		write(json, "ifl_name", ifl.getIflName());
+		write(json, "operational_state", ifl.getOperationalState());
+		if(ifl.getPhysicalInterfaces() != null) {
+			json.writeStartArray("physical_interfaces");
+			for(PhysicalInterface ifp : ifl.getPhysicalInterfaces()) {
+				json.writeStartObject();
+				write(json, "administrative_state", ifp.getAdministrativeState());
+				write(json, "category", ifp.getCategory());
+				write(json, "ifp_alias", ifp.getIfpAlias());
+				write(json, "ifp_name", ifp.getIfpName());
+				write(json, "mac_address", ifp.getMacAddress());
+				write(json, "operational_state", ifp.getOperationalState());
+				json.writeEnd();
+			}
+			json.writeEnd();
+		}
+		write(json, "routing_instance", ifl.getRoutingInstance());
+		if(ifl.getVlans() != null) {
+			json.writeStartArray("vlans");
+			for(VlanTag vlan : ifl.getVlans()) {
+				json.writeStartObject();
+				write(json, "vlan_id", vlan.getVlanId());
+				write(json, "vlan_tpid", vlan.getVlanTpid());
+				json.writeEnd();
+			}
+			json.writeEnd();
+		}
+		json.writeEnd();
+	}
+	
+}
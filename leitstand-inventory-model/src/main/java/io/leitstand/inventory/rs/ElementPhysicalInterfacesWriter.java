@@ -0,0 +1,73 @@
+/*
+ * Copyright 2020 RtBrick Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.leitstand.inventory.rs;
+
+import static javax.ws.rs.core.MediaType.APPLICATION_JSON;
+
+import javax.json.stream.JsonGenerator;
+import javax.ws.rs.Produces;
+import javax.ws.rs.ext.Provider;
+
+import io.leitstand.inventory.service.ElementPhysicalInterfaceData;
+import io.leitstand.inventory.service.ElementPhysicalInterfaceNeighbor;
+import io.leitstand.inventory.service.ElementPhysicalInterfaces;
+
+/**
+ * Streams the physical interfaces of an element.
+ */
+@Provider
+@Produces(APPLICATION_JSON)
+public class ElementPhysicalInterfacesWriter extends BaseJsonWriter<ElementPhysicalInterfaces> {
+
+	public ElementPhysicalInterfacesWriter() {
+		super(ElementPhysicalInterfaces.class);
+	}
+	
+	@Override
+	protected void write(JsonGenerator json, ElementPhysicalInterfaces ifps) {
+		json.writeStartObject();
+		writeElementEnvelope(json, ifps);
+		if(ifps.getPhysicalInterfaces() != null) {
+			json.writeStartArray("physical_interfaces");
+			for(ElementPhysicalInterfaceData ifp : ifps.getPhysicalInterfaces()) {
+				writePhysicalInterface(json, ifp);
+			}
+			json.writeEnd();
+		}
+		json.writeEnd();
+	}
+
+	private static void writePhysicalInterface(JsonGenerator json, ElementPhysicalInterfaceData ifp) {
+		json.writeStartObject();
+		write(json, "administrative_state", ifp.getAdministrativeState());
+		write(json, "bandwidth", ifp.getBandwidth());
+		write(json, "category", ifp.getCategory());
+		write(json, "ifp_alias", ifp.getIfpAlias());
+		write(json, "ifp_name", ifp.getIfpName());
+		write(json, "mac_address", ifp.getMacAddress());
+		ElementPhysicalInterfaceNeighbor neighbor = ifp.getNeighbor();
+		if(neighbor != null) {
+			json.writeStartObject("neighbor");
+			write(json, "element_id", neighbor.getElementId());
+			write(json, "element_name", neighbor.getElementName());
+			write(json, "ifp_name", neighbor.getInterfaceName());
+			json.writeEnd();
+		}
+		write(json, "operational_state", ifp.getOperationalState());
+		json.writeEnd();
+	}
+	
+}
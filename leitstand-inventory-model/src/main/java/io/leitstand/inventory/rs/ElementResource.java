@@ -17,10 +17,13 @@ package io.leitstand.inventory.rs;
 
 import static io.leitstand.commons.model.Patterns.UUID_PATTERN;
 import static io.leitstand.commons.rs.Responses.success;
+import static io.leitstand.inventory.rs.JobResource.accepted;
+import static io.leitstand.inventory.rs.PageCursorHeader.withCursor;
 import static io.leitstand.inventory.rs.Scopes.IVT;
 import static io.leitstand.inventory.rs.Scopes.IVT_ELEMENT;
 import static io.leitstand.inventory.rs.Scopes.IVT_ELEMENT_SETTINGS;
 import static io.leitstand.inventory.rs.Scopes.IVT_READ;
+import static io.leitstand.inventory.service.PageCursor.pageCursor;
 import static java.lang.String.format;
 import static javax.ws.rs.core.MediaType.APPLICATION_JSON;
 
@@ -33,6 +36,7 @@ import javax.ws.rs.Consumes;
 import javax.ws.rs.DELETE;
 import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
+import javax.ws.rs.POST;
 import javax.ws.rs.PUT;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
@@ -43,11 +47,14 @@ import javax.ws.rs.core.Response;
 import io.leitstand.commons.AccessDeniedException;
 import io.leitstand.commons.messages.Messages;
 import io.leitstand.commons.rs.Resource;
+import io.leitstand.inventory.model.JobExecutor;
 import io.leitstand.inventory.service.ElementId;
 import io.leitstand.inventory.service.ElementName;
 import io.leitstand.inventory.service.ElementService;
 import io.leitstand.inventory.service.ElementSettings;
+import io.leitstand.inventory.service.JobId;
 import io.leitstand.inventory.service.OperationalState;
+import io.leitstand.inventory.service.PageCursor;
 import io.leitstand.security.auth.ReasonCode;
 import io.leitstand.security.auth.Scopes;
 import io.leitstand.security.auth.UserContext;
@@ -70,6 +77,9 @@ public class ElementResource {
 	@Inject
 	private ElementService service;
 	
+	@Inject
+	private JobExecutor jobs;
+	
 	@Inject
 	private Messages messages;
 	
@@ -78,10 +88,21 @@ public class ElementResource {
 	
 	@GET
 	@Scopes({IVT, IVT_READ, IVT_ELEMENT, IVT_ELEMENT_SETTINGS})
-	public List<ElementSettings> findElement(@QueryParam("filter") @DefaultValue("") String filter,
-											 @QueryParam("by") @DefaultValue(FILTER_BY_NAME_OR_TAG) String by,
-	                                         @QueryParam("offset") @DefaultValue("0") int offset,
-											 @QueryParam("limit")  @DefaultValue("100") int limit){
+	public Response findElement(@QueryParam("filter") @DefaultValue("") String filter,
+								@QueryParam("by") @DefaultValue(FILTER_BY_NAME_OR_TAG) String by,
+								@QueryParam("offset") @DefaultValue("0") int offset,
+								@QueryParam("limit")  @DefaultValue("100") int limit,
+								@QueryParam("after") PageCursor after){
+		List<ElementSettings> elements = after != null 
+										 ? findElements(filter, by, after, limit) 
+										 : findElements(filter, by, offset, limit);
+		return withCursor(Response.ok(elements).build(), 
+						  elements, 
+						  limit, 
+						  last -> pageCursor(last));
+	}
+	
+	private List<ElementSettings> findElements(String filter, String by, int offset, int limit){
 		switch(by) {
 			case FILTER_BY_NAME:
 				return service.findElementsByName(filter, offset, limit);
@@ -100,6 +121,25 @@ public class ElementResource {
 		}
 	}
 	
+	private List<ElementSettings> findElements(String filter, String by, PageCursor after, int limit){
+		switch(by) {
+			case FILTER_BY_NAME:
+				return service.findElementsByName(filter, after, limit);
+			case FILTER_BY_NAME_OR_TAG:
+				return service.findElementsByNameOrTag(filter, after, limit);
+			case FILTER_BY_MANAGEMENT_IP:
+				return service.findElementsByManagementIP(filter, after, limit);
+			case FILTER_BY_SERIAL_NUMBER:
+				return service.findElementsBySerialNumber(filter, after, limit);
+			case FILTER_BY_ASSET_ID:
+				return service.findElementsByAssetId(filter, after, limit);
+			default:{
+				LOG.fine(() -> String.format("Unknown filter criteria %s. Use default %s option instead.",by,FILTER_BY_NAME_OR_TAG));
+				return service.findElementsByNameOrTag(filter, after, limit);
+			}
+		}
+	}
+	
 	@DELETE
 	@Path("/{element:"+UUID_PATTERN+"}")
 	public Response removeElement(@PathParam("element") ElementId elementId,
@@ -126,6 +166,22 @@ public class ElementResource {
 		return success(messages);
 	}
 	
+	@POST
+	@Path("/_remove")
+	public Response forceRemoveElements(List<ElementId> elementIds,
+										@QueryParam("async") boolean async) {
+		verifyForceAllowed();
+		if(async) {
+			ElementService elementService = service;
+			JobId jobId = jobs.submit("element-remove", 
+									  format("Remove %d elements", elementIds.size()), 
+									  job -> elementService.forceRemoveElements(elementIds));
+			return accepted(messages, jobId);
+		}
+		service.forceRemoveElements(elementIds);
+		return success(messages);
+	}
+	
 	private void verifyForceAllowed() {
 		if(!user.scopesIncludeOneOf(IVT,IVT_ELEMENT)) {
 			throw new AccessDeniedException(ReasonCode.AUT0002E_SCOPE_ACCESS_DENIED, format("%s %s",IVT,IVT_ELEMENT));
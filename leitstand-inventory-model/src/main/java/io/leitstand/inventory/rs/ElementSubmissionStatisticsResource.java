@@ -0,0 +1,50 @@
+/*
+ * Copyright 2020 RtBrick Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.leitstand.inventory.rs;
+
+import static io.leitstand.inventory.rs.Scopes.IVT;
+import static io.leitstand.inventory.rs.Scopes.IVT_ELEMENT;
+import static io.leitstand.inventory.rs.Scopes.IVT_READ;
+import static javax.ws.rs.core.MediaType.APPLICATION_JSON;
+
+import java.util.List;
+
+import javax.inject.Inject;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+
+import io.leitstand.commons.rs.Resource;
+import io.leitstand.inventory.service.ElementSubmissionStatistics;
+import io.leitstand.inventory.service.ElementSubmissionStatisticsService;
+import io.leitstand.security.auth.Scopes;
+
+@Resource
+@Scopes({IVT, IVT_READ, IVT_ELEMENT})
+@Path("/elements")
+@Produces(APPLICATION_JSON)
+public class ElementSubmissionStatisticsResource {
+
+	@Inject
+	private ElementSubmissionStatisticsService service;
+	
+	@GET
+	@Path("/_submissions")
+	public List<ElementSubmissionStatistics> getSubmissionStatistics(){
+		return service.getSubmissionStatistics();
+	}
+	
+}
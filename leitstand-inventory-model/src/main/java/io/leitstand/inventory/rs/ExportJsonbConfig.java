@@ -0,0 +1,40 @@
+/*
+ * Copyright 2020 RtBrick Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.leitstand.inventory.rs;
+
+import static javax.json.bind.config.PropertyNamingStrategy.LOWER_CASE_WITH_UNDERSCORES;
+import static javax.json.bind.config.PropertyOrderStrategy.LEXICOGRAPHICAL;
+
+import javax.json.bind.JsonbConfig;
+
+import io.leitstand.commons.jsonb.FieldAccessVisibilityStrategy;
+
+/**
+ * The JSON-B configuration of the inventory export and import files.
+ */
+final class ExportJsonbConfig {
+
+	static final JsonbConfig EXPORT = new JsonbConfig()
+									  .withPropertyVisibilityStrategy(new FieldAccessVisibilityStrategy())
+									  .withPropertyNamingStrategy(LOWER_CASE_WITH_UNDERSCORES)
+									  .withPropertyOrderStrategy(LEXICOGRAPHICAL)
+									  .withDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSSXXX", null);
+	
+	private ExportJsonbConfig() {
+		// No instances allowed
+	}
+	
+}
@@ -15,26 +15,24 @@
  */
 package io.leitstand.inventory.rs;
 
+import static java.lang.String.format;
+
 import javax.inject.Inject;
+import javax.json.JsonValue;
 import javax.servlet.annotation.MultipartConfig;
 import javax.servlet.annotation.WebServlet;
 
-import io.leitstand.inventory.service.ImageExport;
-import io.leitstand.inventory.service.ImageExportService;
+import io.leitstand.inventory.service.ImageInfo;
+import io.leitstand.inventory.service.ImageService;
 
 @WebServlet(urlPatterns="/api/v1/import/images")
 @MultipartConfig()
-public class ImageImportServlet extends BaseImportServlet<ImageExport>{
+public class ImageImportServlet extends BaseImportServlet{
 	
 	private static final long serialVersionUID = 1L;
 	
 	@Inject
-	private ImageExportService service;
-
-	@Override
-	protected Class<ImageExport> getImportType() {
-		return ImageExport.class;
-	}
+	private ImageService service;
 
 	@Override
 	protected String getRedirectTarget() {
@@ -42,7 +40,15 @@ public class ImageImportServlet extends BaseImportServlet<ImageExport>{
 	}
 
 	@Override
-	protected void doImport(ImageExport data) {
-		service.importImages(data);
+	protected void importItem(ChunkedImport chunks, 
+							  String property, 
+							  JsonValue item) {
+		if("images".equals(property)) {
+			ImageInfo image = bind(item, ImageInfo.class);
+			chunks.add(format("Image %s %s", 
+							  image.getImageName(),
+							  image.getImageVersion()),
+					   () -> service.storeImage(image));
+		}
 	}	
 }
@@ -0,0 +1,244 @@
+/*
+ * Copyright 2020 RtBrick Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.leitstand.inventory.rs;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static javax.json.Json.createArrayBuilder;
+import static javax.json.Json.createObjectBuilder;
+import static javax.json.Json.createParser;
+import static javax.json.Json.createValue;
+import static javax.json.JsonValue.FALSE;
+import static javax.json.JsonValue.NULL;
+import static javax.json.JsonValue.TRUE;
+import static org.yaml.snakeyaml.nodes.NodeId.scalar;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.util.Iterator;
+import java.util.function.BiConsumer;
+
+import javax.json.JsonArrayBuilder;
+import javax.json.JsonException;
+import javax.json.JsonObjectBuilder;
+import javax.json.JsonValue;
+import javax.json.stream.JsonParser;
+
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.events.Event;
+import org.yaml.snakeyaml.events.Event.ID;
+import org.yaml.snakeyaml.events.MappingStartEvent;
+import org.yaml.snakeyaml.events.ScalarEvent;
+import org.yaml.snakeyaml.events.SequenceStartEvent;
+import org.yaml.snakeyaml.nodes.Tag;
+import org.yaml.snakeyaml.resolver.Resolver;
+
+/**
+ * Reads an import document incrementally.
+ * <p>
+ * An import document is an object whose properties are lists of items, like the roles, platforms and groups of an element group export.
+ * The reader passes every list item along with the name of the list property to an item consumer, 
+ * before it reads the next item from the document.
+ * Hence, only the item currently being imported is held in memory.
+ * All other properties are skipped.
+ */
+abstract class ImportReader {
+	
+	/**
+	 * Creates a reader for the given import document.
+	 * A document with <code>application/json</code> content type is read as JSON document. 
+	 * All other documents are read as YAML documents.
+	 * @param contentType - the content type of the document
+	 * @param in - the document input stream
+	 * @return the import reader
+	 */
+	static ImportReader importReader(String contentType, InputStream in) {
+		if("application/json".equals(contentType)) {
+			return new JsonImportReader(in);
+		}
+		return new YamlImportReader(in);
+	}
+	
+	/**
+	 * Reads the import document and passes all list items to the given consumer.
+	 * @param items - the consumer of the property name and the JSON representation of each list item
+	 * @throws IOException if the document cannot be read.
+	 */
+	abstract void read(BiConsumer<String,JsonValue> items) throws IOException;
+	
+	static final class JsonImportReader extends ImportReader {
+		
+		private final InputStream in;
+		
+		JsonImportReader(InputStream in) {
+			this.in = in;
+		}
+		
+		@Override
+		void read(BiConsumer<String,JsonValue> items) throws IOException {
+			try (JsonParser parser = createParser(in)){
+				if(!parser.hasNext() || parser.next() != JsonParser.Event.START_OBJECT) {
+					throw new JsonException("Import document must be a JSON object");
+				}
+				while(parser.hasNext()) {
+					if(parser.next() != JsonParser.Event.KEY_NAME) {
+						// End of document
+						return;
+					}
+					String property = parser.getString();
+					switch(parser.next()) {
+						case START_ARRAY: readItems(parser, property, items); break;
+						case START_OBJECT: parser.skipObject(); break;
+						default: // Skip scalar property
+					}
+				}
+			} 
+		}
+
+		private void readItems(JsonParser parser, 
+							   String property, 
+							   BiConsumer<String,JsonValue> items) {
+			while(parser.hasNext()) {
+				switch(parser.next()) {
+					case END_ARRAY: return;
+					case START_OBJECT: items.accept(property, parser.getObject()); break;
+					case START_ARRAY: items.accept(property, parser.getArray()); break;
+					default: items.accept(property, parser.getValue()); 
+				}
+			}
+		}
+	}
+	
+	static final class YamlImportReader extends ImportReader {
+		
+		private final InputStream in;
+		private final Resolver resolver = new Resolver();
+		
+		YamlImportReader(InputStream in) {
+			this.in = in;
+		}
+
+		@Override
+		void read(BiConsumer<String,JsonValue> items) throws IOException {
+			try (InputStreamReader reader = new InputStreamReader(in, UTF_8)){
+				Iterator<Event> events = new Yaml().parse(reader).iterator();
+				Event event = nextNode(events);
+				if(!(event instanceof MappingStartEvent)) {
+					throw new JsonException("Import document must be a YAML mapping");
+				}
+				while(events.hasNext()) {
+					event = events.next();
+					if(!(event instanceof ScalarEvent)) {
+						// End of document
+						return;
+					}
+					String property = ((ScalarEvent) event).getValue();
+					event = events.next();
+					if(event instanceof SequenceStartEvent) {
+						readItems(events, property, items);
+					} else {
+						// Skip property value
+						readValue(events, event);
+					}
+				}
+			}
+		}
+		
+		private void readItems(Iterator<Event> events, 
+							   String property, 
+							   BiConsumer<String,JsonValue> items) {
+			while(events.hasNext()) {
+				Event event = events.next();
+				if(event.is(ID.SequenceEnd)) {
+					return;
+				}
+				items.accept(property, readValue(events, event));
+			}
+		}
+		
+		private JsonValue readValue(Iterator<Event> events, 
+									Event event) {
+			if(event instanceof MappingStartEvent) {
+				JsonObjectBuilder object = createObjectBuilder();
+				for(Event key = events.next(); 
+					key instanceof ScalarEvent; 
+					key = events.next()) {
+					object.add(((ScalarEvent) key).getValue(), 
+							   readValue(events, events.next()));
+				}
+				return object.build();
+			}
+			if(event instanceof SequenceStartEvent) {
+				JsonArrayBuilder array = createArrayBuilder();
+				for(Event item = events.next(); 
+					!item.is(ID.SequenceEnd); 
+					item = events.next()) {
+					array.add(readValue(events, item));
+				}
+				return array.build();
+			}
+			if(event instanceof ScalarEvent) {
+				return scalarValue((ScalarEvent) event);
+			}
+			throw new JsonException("Unsupported YAML construct: "+event);
+		}
+		
+		private JsonValue scalarValue(ScalarEvent event) {
+			String value = event.getValue();
+			Tag tag = resolver.resolve(scalar, 
+									   value, 
+									   event.getImplicit().canOmitTagInPlainScalar());
+			if(Tag.NULL.equals(tag)) {
+				return NULL;
+			}
+			if(Tag.BOOL.equals(tag)) {
+				return isTrue(value) ? TRUE : FALSE;
+			}
+			if(Tag.INT.equals(tag) || Tag.FLOAT.equals(tag)) {
+				try {
+					return createValue(new BigDecimal(value));
+				} catch (NumberFormatException e) {
+					// Hexadecimal, octal or sexagesimal numbers are imported as strings.
+				}
+			}
+			return createValue(value);
+		}
+
+		private static boolean isTrue(String value) {
+			switch(value.toLowerCase()) {
+				case "true":
+				case "yes":
+				case "on":
+				case "y": return true;
+				default: return false;
+			}
+		}
+		
+		private static Event nextNode(Iterator<Event> events) {
+			// Skip stream and document start events.
+			while(events.hasNext()) {
+				Event event = events.next();
+				if(event instanceof MappingStartEvent || event instanceof SequenceStartEvent || event instanceof ScalarEvent) {
+					return event;
+				}
+			}
+			return null;
+		}
+		
+	}
+	
+}
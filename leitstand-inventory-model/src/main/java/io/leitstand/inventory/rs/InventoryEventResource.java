@@ -0,0 +1,86 @@
+/*
+ * Copyright 2020 RtBrick Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.leitstand.inventory.rs;
+
+import static io.leitstand.inventory.rs.Scopes.IVT;
+import static io.leitstand.inventory.rs.Scopes.IVT_READ;
+import static java.lang.Long.parseLong;
+import static javax.ws.rs.core.HttpHeaders.LAST_EVENT_ID_HEADER;
+import static javax.ws.rs.core.MediaType.SERVER_SENT_EVENTS;
+
+import java.util.List;
+
+import javax.inject.Inject;
+import javax.ws.rs.GET;
+import javax.ws.rs.HeaderParam;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.sse.Sse;
+import javax.ws.rs.sse.SseEventSink;
+
+import io.leitstand.commons.rs.Resource;
+import io.leitstand.inventory.event.InventoryEventLog;
+import io.leitstand.security.auth.Scopes;
+
+/**
+ * Streams the committed inventory events as server-sent events.
+ * <p>
+ * The event name is the event type, the event data is the JSON representation of the event
+ * and the event ID allows to resume the stream by means of the <code>Last-Event-ID</code> header.
+ * The stream can be filtered by element group, element, event type and topic.
+ */
+@Resource
+@Scopes({IVT, IVT_READ})
+@Path("/events")
+public class InventoryEventResource {
+	
+	@Inject
+	private InventoryEventLog log;
+
+	@GET
+	@Produces(SERVER_SENT_EVENTS)
+	public void streamEvents(@QueryParam("group") List<String> groups,
+							 @QueryParam("element") List<String> elements,
+							 @QueryParam("type") List<String> types,
+							 @QueryParam("topic") List<String> topics,
+							 @HeaderParam(LAST_EVENT_ID_HEADER) String lastEventId,
+							 @Context SseEventSink sink,
+							 @Context Sse sse) {
+		InventoryEventSubscription subscription = new InventoryEventSubscription(log, 
+																				 sink, 
+																				 sse, 
+																				 groups, 
+																				 elements, 
+																				 types, 
+																				 topics);
+		subscription.open(lastEventId(lastEventId));
+	}
+	
+	static Long lastEventId(String lastEventId) {
+		if(lastEventId == null || lastEventId.trim().isEmpty()) {
+			return null;
+		}
+		try {
+			return parseLong(lastEventId.trim());
+		} catch (NumberFormatException e) {
+			// Unknown event ID. Treat the client as out of sync.
+			return -1L;
+		}
+	}
+	
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2020 RtBrick Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.leitstand.inventory.rs;
+
+import static java.lang.String.format;
+import static java.util.logging.Level.FINE;
+import static javax.ws.rs.core.MediaType.APPLICATION_JSON_TYPE;
+import static javax.ws.rs.core.MediaType.TEXT_PLAIN_TYPE;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javax.ws.rs.sse.OutboundSseEvent;
+import javax.ws.rs.sse.Sse;
+import javax.ws.rs.sse.SseEventSink;
+
+import io.leitstand.inventory.event.InventoryEventLog;
+import io.leitstand.inventory.event.InventoryEventLog.Entry;
+
+/**
+ * Streams the inventory events matching the filter of a client to the client.
+ * <p>
+ * The filter consists of a set of group, element, event type and topic criteria. 
+ * An event matches the filter if it matches all specified criteria, 
+ * whereas an event matches a criterion if it matches one of the criterion's values.
+ * Groups and elements are matched by ID or name. 
+ * <p>
+ * A resumed subscription replays all retained events after the last received event before any new event is sent.
+ * If the missed events are no longer retained, a <code>reset</code> event is sent instead 
+ * to inform the client that it must reload the inventory state.
+ */
+class InventoryEventSubscription implements Consumer<Entry> {
+	
+	private static final Logger LOG = Logger.getLogger(InventoryEventSubscription.class.getName());
+
+	private final InventoryEventLog log;
+	private final SseEventSink sink;
+	private final Sse sse;
+	private final Set<String> groups;
+	private final Set<String> elements;
+	private final Set<String> types;
+	private final Set<String> topics;
+	private long lastEventId;
+	
+	InventoryEventSubscription(InventoryEventLog log,
+							   SseEventSink sink,
+							   Sse sse,
+							   Collection<String> groups,
+							   Collection<String> elements,
+							   Collection<String> types,
+							   Collection<String> topics){
+		this.log = log;
+		this.sink = sink;
+		this.sse = sse;
+		this.groups = new HashSet<>(groups);
+		this.elements = new HashSet<>(elements);
+		this.types = new HashSet<>(types);
+		this.topics = new HashSet<>(topics);
+	}
+	
+	/**
+	 * Opens the subscription and replays all missed events.
+	 * @param lastEventId the ID of the last event received by the client or <code>null</code> if the client opens a new stream.
+	 */
+	synchronized void open(Long lastEventId) {
+		// Register the listener before the missed events are read from the log to not miss any event.
+		// Notifications are blocked until all missed events have been sent.
+		log.addListener(this);
+		if(lastEventId == null) {
+			return;
+		}
+		List<Entry> missed = log.since(lastEventId);
+		if(missed == null) {
+			LOG.fine(() -> format("Events after event %d are no longer available. Request client to reset.", lastEventId));
+			send(sse.newEventBuilder()
+					.name("reset")
+					.mediaType(TEXT_PLAIN_TYPE)
+					.data(String.class, format("Events after event %d are no longer available.", lastEventId))
+					.build());
+			return;
+		}
+		for(Entry entry : missed) {
+			accept(entry);
+		}
+	}
+	
+	@Override
+	public synchronized void accept(Entry entry) {
+		if(sink.isClosed()) {
+			close();
+			return;
+		}
+		if(entry.getId() <= lastEventId || !matches(entry)) {
+			return;
+		}
+		send(sse.newEventBuilder()
+				.id(String.valueOf(entry.getId()))
+				.name(entry.getType())
+				.mediaType(APPLICATION_JSON_TYPE)
+				.data(entry.getPayload().getClass(), entry.getPayload())
+				.build());
+		lastEventId = entry.getId();
+	}
+	
+	boolean matches(Entry entry) {
+		return matches(topics, entry.getTopic())
+			   && matches(types, entry.getType())
+			   && matches(groups, entry.getGroups())
+			   && matches(elements, entry.getElements());
+	}
+	
+	private static boolean matches(Set<String> filter, String value) {
+		return filter.isEmpty() || filter.contains(value);
+	}
+	
+	private static boolean matches(Set<String> filter, Set<String> values) {
+		if(filter.isEmpty()) {
+			return true;
+		}
+		for(String value : values) {
+			if(filter.contains(value)) {
+				return true;
+			}
+		}
+		return false;
+	}
+	
+	private void send(OutboundSseEvent event) {
+		sink.send(event)
+			.whenComplete((result, e) -> {
+				if(e != null) {
+					LOG.fine(() -> format("Cannot send event to client: %s", e.getMessage()));
+					LOG.log(FINE,e.getMessage(),e);
+					close();
+				}
+			});
+	}
+	
+	private void close() {
+		log.removeListener(this);
+		try {
+			sink.close();
+		} catch (Exception e) {
+			LOG.log(FINE,e.getMessage(),e);
+		}
+	}
+	
+}
@@ -40,11 +40,13 @@ public class InventoryResources implements ApiResourceProvider {
 						   ElementConfigResource.class,
 						   ElementDnsRecordSetResource.class,
 						   ElementEnvironmentResource.class,
+						   ElementGroupDecommissionResource.class,
 						   ElementGroupElementsResource.class,
 						   ElementGroupExportResource.class,
 						   ElementGroupSettingsResource.class,
 						   ElementGroupsResource.class,
 						   ElementResource.class,
+						   ElementSearchResource.class,
 						   ElementRoleResource.class,
 						   ElementImageResource.class,
 						   ElementPhysicalInterfaceResource.class,
@@ -53,16 +55,24 @@ public class InventoryResources implements ApiResourceProvider {
 						   ElementModulesResource.class,
 						   ElementServiceResource.class,
 						   ElementSettingsResource.class,
+						   ElementSubmissionStatisticsResource.class,
 						   FacilityResource.class,
 						   ImageExportResource.class,
 						   ImageResource.class,
+						   InventoryEventResource.class,
+						   JobResource.class,
 						   PackageResource.class,
 						   PhysicalInterfacesResource.class,
 						   PlatformResource.class,
 						   RackResource.class,
 						   ReleasesResource.class,
+						   RetireElementResource.class,
 						   ServiceDefinitionResource.class,
-						   OperationalStateReader.class);
+						   OperationalStateReader.class,
+						   PageCursorParamConverter.class,
+						   ElementGroupElementsWriter.class,
+						   ElementLogicalInterfacesWriter.class,
+						   ElementPhysicalInterfacesWriter.class);
 	}
 
 }
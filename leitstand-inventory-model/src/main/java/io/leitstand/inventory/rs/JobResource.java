@@ -0,0 +1,125 @@
+/*
+ * Copyright 2020 RtBrick Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.leitstand.inventory.rs;
+
+import static io.leitstand.commons.model.Patterns.UUID_PATTERN;
+import static io.leitstand.commons.rs.Responses.success;
+import static io.leitstand.inventory.rs.Scopes.IVT;
+import static io.leitstand.inventory.rs.Scopes.IVT_READ;
+import static java.lang.String.format;
+import static javax.ws.rs.core.MediaType.APPLICATION_JSON;
+import static javax.ws.rs.core.MediaType.SERVER_SENT_EVENTS;
+
+import java.net.URI;
+import java.util.List;
+
+import javax.inject.Inject;
+import javax.validation.Valid;
+import javax.ws.rs.DELETE;
+import javax.ws.rs.DefaultValue;
+import javax.ws.rs.GET;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.sse.Sse;
+import javax.ws.rs.sse.SseEventSink;
+
+import io.leitstand.commons.messages.Messages;
+import io.leitstand.commons.rs.Resource;
+import io.leitstand.inventory.service.JobId;
+import io.leitstand.inventory.service.JobInfo;
+import io.leitstand.inventory.service.JobService;
+import io.leitstand.inventory.service.JobState;
+import io.leitstand.security.auth.Scopes;
+
+/**
+ * Provides access to the status of asynchronous inventory jobs.
+ */
+@Resource
+@Scopes({IVT})
+@Path("/jobs")
+@Produces(APPLICATION_JSON)
+public class JobResource {
+	
+	/**
+	 * Creates a <code>202 Accepted</code> response that refers to the submitted job.
+	 * @param messages the messages to be conveyed
+	 * @param jobId the ID of the submitted job
+	 * @return the <code>202 Accepted</code> response.
+	 */
+	static Response accepted(Messages messages, JobId jobId) {
+		return Response.accepted(messages)
+					   .location(URI.create(format("/jobs/%s",jobId)))
+					   .build();
+	}
+
+	@Inject
+	private JobService service;
+	
+	@Inject
+	private JobStatusMonitor monitor;
+	
+	@Inject
+	private Messages messages;
+	
+	@GET
+	@Scopes({IVT, IVT_READ})
+	public List<JobInfo> getJobs(@QueryParam("state") JobState state,
+								 @QueryParam("limit") @DefaultValue("100") int limit) {
+		return service.getJobs(state, limit);
+	}
+	
+	@GET
+	@Scopes({IVT, IVT_READ})
+	@Path("/{job:"+UUID_PATTERN+"}")
+	public JobInfo getJob(@Valid @PathParam("job") JobId jobId) {
+		return service.getJob(jobId);
+	}
+	
+	@GET
+	@Scopes({IVT, IVT_READ})
+	@Path("/{job:"+UUID_PATTERN+"}/_stream")
+	@Produces(SERVER_SENT_EVENTS)
+	public void streamJob(@Valid @PathParam("job") JobId jobId,
+						  @Context SseEventSink sink,
+						  @Context Sse sse) {
+		// Verify that the job exists before the stream is opened.
+		service.getJob(jobId);
+		monitor.stream(new JobStatusStream(monitor, 
+										   jobId, 
+										   sink, 
+										   sse));
+	}
+	
+	@POST
+	@Path("/{job:"+UUID_PATTERN+"}/_cancel")
+	public Response cancelJob(@Valid @PathParam("job") JobId jobId) {
+		service.cancelJob(jobId);
+		return success(messages);
+	}
+	
+	@DELETE
+	@Path("/{job:"+UUID_PATTERN+"}")
+	public Response removeJob(@Valid @PathParam("job") JobId jobId) {
+		service.removeJob(jobId);
+		return success(messages);
+	}
+	
+}
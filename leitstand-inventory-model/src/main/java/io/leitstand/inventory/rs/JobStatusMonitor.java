@@ -0,0 +1,71 @@
+/*
+ * Copyright 2020 RtBrick Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.leitstand.inventory.rs;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import javax.annotation.Resource;
+import javax.enterprise.concurrent.ManagedScheduledExecutorService;
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.context.control.ActivateRequestContext;
+import javax.inject.Inject;
+
+import io.leitstand.inventory.service.JobId;
+import io.leitstand.inventory.service.JobInfo;
+import io.leitstand.inventory.service.JobService;
+
+/**
+ * Polls the status of streamed jobs.
+ * <p>
+ * Every job status stream polls the job status periodically on the container-managed scheduled executor service,
+ * such that no request thread is blocked while a job status is streamed. 
+ * Polling the job table rather than observing the job in memory allows to stream the status of jobs executed by another inventory instance.
+ * The poll interval can be set in milliseconds by the <code>leitstand.inventory.job.stream.interval</code> system property and defaults to one second.
+ */
+@ApplicationScoped
+public class JobStatusMonitor {
+
+	static final long POLL_INTERVAL = Long.getLong("leitstand.inventory.job.stream.interval", 1000);
+	
+	@Resource
+	private ManagedScheduledExecutorService scheduler;
+	
+	@Inject
+	private JobService service;
+	
+	/**
+	 * Returns the current job status.
+	 * The job status is polled from a scheduler thread, hence a request context must be activated.
+	 * @param jobId the job ID
+	 * @return the job status
+	 */
+	@ActivateRequestContext
+	public JobInfo getJob(JobId jobId) {
+		return service.getJob(jobId);
+	}
+	
+	/**
+	 * Schedules the given job status stream.
+	 * @param stream the job status stream
+	 */
+	void stream(JobStatusStream stream) {
+		stream.scheduled(scheduler.scheduleWithFixedDelay(stream, 
+														  0, 
+														  POLL_INTERVAL, 
+														  MILLISECONDS));
+	}
+	
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2020 RtBrick Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.leitstand.inventory.rs;
+
+import static java.lang.String.format;
+import static java.util.logging.Level.FINE;
+import static javax.ws.rs.core.MediaType.APPLICATION_JSON_TYPE;
+
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+
+import javax.ws.rs.sse.Sse;
+import javax.ws.rs.sse.SseEventSink;
+
+import io.leitstand.inventory.service.JobId;
+import io.leitstand.inventory.service.JobInfo;
+
+/**
+ * Streams the status of a job as server-sent events.
+ * <p>
+ * A <code>job</code> event is sent whenever the job status has changed.
+ * The stream is closed when the job has terminated or the client has closed the connection.
+ */
+class JobStatusStream implements Runnable {
+	
+	private static final Logger LOG = Logger.getLogger(JobStatusStream.class.getName());
+
+	private final JobStatusMonitor monitor;
+	private final JobId jobId;
+	private final SseEventSink sink;
+	private final Sse sse;
+	private JobInfo last;
+	private Future<?> future;
+	private boolean closed;
+	
+	JobStatusStream(JobStatusMonitor monitor,
+					JobId jobId,
+					SseEventSink sink,
+					Sse sse){
+		this.monitor = monitor;
+		this.jobId = jobId;
+		this.sink = sink;
+		this.sse = sse;
+	}
+	
+	synchronized void scheduled(Future<?> future) {
+		this.future = future;
+		if(closed) {
+			future.cancel(false);
+		}
+	}
+	
+	@Override
+	public void run() {
+		try {
+			if(sink.isClosed()) {
+				close();
+				return;
+			}
+			JobInfo job = monitor.getJob(jobId);
+			if(!job.equals(last)) {
+				sink.send(sse.newEventBuilder()
+							 .name("job")
+							 .mediaType(APPLICATION_JSON_TYPE)
+							 .data(JobInfo.class, job)
+							 .build());
+				last = job;
+			}
+			if(job.getDateCompleted() != null) {
+				close();
+			}
+		} catch (Exception e) {
+			LOG.fine(() -> format("Streaming the status of job %s failed: %s", jobId, e.getMessage()));
+			LOG.log(FINE,e.getMessage(),e);
+			close();
+		}
+	}
+	
+	private synchronized void close() {
+		closed = true;
+		if(future != null) {
+			future.cancel(false);
+		}
+		sink.close();
+	}
+	
+}
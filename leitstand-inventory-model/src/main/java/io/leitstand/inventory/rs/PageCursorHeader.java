@@ -0,0 +1,53 @@
+/*
+ * Copyright 2020 RtBrick Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.leitstand.inventory.rs;
+
+import java.util.List;
+import java.util.function.Function;
+
+import javax.ws.rs.core.Response;
+
+import io.leitstand.inventory.service.PageCursor;
+
+/**
+ * Adds the continuation cursor of a page to a list response.
+ * <p>
+ * A full page is likely followed by another page. 
+ * The <code>Leitstand-Cursor</code> header conveys the cursor of the last item of the page, 
+ * which can be passed as <code>after</code> query parameter to read the next page.
+ * The header is omitted if the page is not full, i.e. if the end of the list has been reached.
+ */
+final class PageCursorHeader {
+
+	static final String CURSOR_HEADER = "Leitstand-Cursor";
+	
+	static <T> Response withCursor(Response response, 
+								   List<T> page, 
+								   int limit, 
+								   Function<T,PageCursor> cursor) {
+		if(page.isEmpty() || page.size() < limit) {
+			return response;
+		}
+		return Response.fromResponse(response)
+					   .header(CURSOR_HEADER, cursor.apply(page.get(page.size()-1)).getValue())
+					   .build();
+	}
+	
+	private PageCursorHeader() {
+		// No instances allowed
+	}
+	
+}
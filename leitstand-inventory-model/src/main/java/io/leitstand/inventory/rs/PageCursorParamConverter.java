@@ -0,0 +1,78 @@
+/*
+ * Copyright 2020 RtBrick Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.leitstand.inventory.rs;
+
+import static io.leitstand.inventory.service.ReasonCode.IVT1200E_PAGE_CURSOR_INVALID;
+import static javax.ws.rs.core.MediaType.APPLICATION_JSON_TYPE;
+import static javax.ws.rs.core.Response.Status.BAD_REQUEST;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+
+import javax.json.Json;
+import javax.ws.rs.BadRequestException;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.ext.ParamConverter;
+import javax.ws.rs.ext.ParamConverterProvider;
+import javax.ws.rs.ext.Provider;
+
+import io.leitstand.commons.model.Scalar;
+import io.leitstand.inventory.service.PageCursor;
+
+/**
+ * Converts the <code>after</code> query parameter to a {@link PageCursor}.
+ * <p>
+ * A malformed cursor is rejected with <code>400 Bad Request</code> and a problem message,
+ * rather than the <code>404 Not Found</code> JAX-RS reports for query parameters that cannot be converted.
+ */
+@Provider
+public class PageCursorParamConverter implements ParamConverterProvider, ParamConverter<PageCursor> {
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public <T> ParamConverter<T> getConverter(Class<T> rawType, 
+											  Type genericType, 
+											  Annotation[] annotations) {
+		if(PageCursor.class.equals(rawType)) {
+			return (ParamConverter<T>) this;
+		}
+		return null;
+	}
+
+	@Override
+	public PageCursor fromString(String value) {
+		try {
+			return PageCursor.valueOf(value);
+		} catch (IllegalArgumentException e) {
+			throw new BadRequestException(Response.status(BAD_REQUEST)
+												  .type(APPLICATION_JSON_TYPE)
+												  .entity(Json.createObjectBuilder()
+														  	  .add("severity", "ERROR")
+														  	  .add("reason", IVT1200E_PAGE_CURSOR_INVALID.getReasonCode())
+														  	  .add("message", IVT1200E_PAGE_CURSOR_INVALID.getMessage(value))
+														  	  .build()
+														  	  .toString())
+												  .build(),
+											 e);
+		}
+	}
+
+	@Override
+	public String toString(PageCursor cursor) {
+		return Scalar.toString(cursor);
+	}
+
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2020 RtBrick Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.leitstand.inventory.rs;
+
+import static io.leitstand.commons.model.StringUtil.isEmptyString;
+import static io.leitstand.commons.model.StringUtil.trim;
+import static io.leitstand.inventory.service.PhysicalInterfaceQuery.ifpQuery;
+
+import javax.ws.rs.QueryParam;
+
+import io.leitstand.inventory.service.AdministrativeState;
+import io.leitstand.inventory.service.Bandwidth;
+import io.leitstand.inventory.service.ElementRoleName;
+import io.leitstand.inventory.service.OperationalState;
+import io.leitstand.inventory.service.PhysicalInterfaceQuery;
+
+/**
+ * The query parameters to search physical interfaces.
+ */
+public class PhysicalInterfaceQueryParams {
+
+	@QueryParam("facility")
+	private String facilityFilter;
+	
+	@QueryParam("group")
+	private String groupFilter;
+	
+	@QueryParam("role")
+	private ElementRoleName elementRole;
+	
+	@QueryParam("ifp")
+	private String ifpFilter;
+	
+	@QueryParam("adm_state")
+	private AdministrativeState administrativeState;
+	
+	@QueryParam("op_state")
+	private OperationalState operationalState;
+	
+	@QueryParam("min_bw")
+	private Bandwidth minBandwidth;
+	
+	@QueryParam("max_bw")
+	private Bandwidth maxBandwidth;
+	
+	@QueryParam("neighbor")
+	private Boolean neighborPresent;
+	
+	public PhysicalInterfaceQueryParams() {
+		// JAX-RS
+	}
+	
+	PhysicalInterfaceQueryParams(String facilityFilter, String ifpFilter){
+		this.facilityFilter = facilityFilter;
+		this.ifpFilter = ifpFilter;
+	}
+	
+	PhysicalInterfaceQueryParams withGroupFilter(String groupFilter) {
+		this.groupFilter = groupFilter;
+		return this;
+	}
+	
+	PhysicalInterfaceQueryParams withOperationalState(OperationalState state) {
+		this.operationalState = state;
+		return this;
+	}
+	
+	/**
+	 * Returns whether no search criterion has been specified.
+	 * @return <code>true</code> if no criterion has been specified, <code>false</code> otherwise.
+	 */
+	boolean isEmpty() {
+		return isEmptyString(trim(facilityFilter)) 
+			   && isEmptyString(trim(groupFilter))
+			   && isEmptyString(trim(ifpFilter))
+			   && elementRole == null
+			   && administrativeState == null
+			   && operationalState == null
+			   && minBandwidth == null
+			   && maxBandwidth == null
+			   && neighborPresent == null;
+	}
+	
+	/**
+	 * Creates the physical interface query from the query parameters.
+	 * @return the physical interface query.
+	 */
+	PhysicalInterfaceQuery toQuery() {
+		return ifpQuery()
+			   .facility(facilityFilter)
+			   .group(groupFilter)
+			   .elementRole(elementRole)
+			   .ifp(ifpFilter)
+			   .administrativeState(administrativeState)
+			   .operationalState(operationalState)
+			   .minBandwidth(minBandwidth)
+			   .maxBandwidth(maxBandwidth)
+			   .neighborPresent(neighborPresent);
+	}
+	
+}
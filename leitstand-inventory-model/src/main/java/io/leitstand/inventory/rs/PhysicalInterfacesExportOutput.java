@@ -0,0 +1,92 @@
+/*
+ * Copyright 2020 RtBrick Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.leitstand.inventory.rs;
+
+import static io.leitstand.inventory.rs.ExportJsonbConfig.EXPORT;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static javax.json.bind.JsonbBuilder.create;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+
+import javax.json.bind.Jsonb;
+import javax.ws.rs.core.StreamingOutput;
+
+import io.leitstand.inventory.service.PhysicalInterfaceData;
+import io.leitstand.inventory.service.PhysicalInterfaceQuery;
+import io.leitstand.inventory.service.PhysicalInterfaceService;
+
+/**
+ * Writes all physical interfaces matching a query as JSON array to the response stream.
+ * <p>
+ * The interfaces are written as they are read from the database.
+ * The output is flushed every {@value #FLUSH_INTERVAL} interfaces to make progress visible to the client.
+ */
+class PhysicalInterfacesExportOutput implements StreamingOutput {
+
+	static final int FLUSH_INTERVAL = 1000;
+	
+	private final PhysicalInterfaceService ifps;
+	private final PhysicalInterfaceQuery query;
+	
+	PhysicalInterfacesExportOutput(PhysicalInterfaceService ifps, 
+								   PhysicalInterfaceQuery query){
+		this.ifps = ifps;
+		this.query = query;
+	}
+	
+	@Override
+	public void write(OutputStream os) throws IOException {
+		Writer out = new BufferedWriter(new OutputStreamWriter(os, UTF_8));
+		try (Jsonb jsonb = create(EXPORT)) {
+			out.write('[');
+			int[] count = {0};
+			ifps.exportPhysicalInterfaces(query, 
+										  ifp -> writeInterface(out, jsonb, ifp, count[0]++));
+			out.write(']');
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		} catch (IOException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new IOException(e);
+		} finally {
+			out.flush();
+		}
+	}
+
+	private void writeInterface(Writer out, 
+								Jsonb jsonb, 
+								PhysicalInterfaceData ifp, 
+								int index) {
+		try {
+			if(index > 0) {
+				out.write(',');
+			}
+			jsonb.toJson(ifp, out);
+			if(index % FLUSH_INTERVAL == FLUSH_INTERVAL-1) {
+				out.flush();
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+	
+}
@@ -15,22 +15,23 @@
  */
 package io.leitstand.inventory.rs;
 
-import static io.leitstand.commons.model.StringUtil.isEmptyString;
-import static io.leitstand.commons.model.StringUtil.trim;
 import static io.leitstand.commons.rs.Responses.eofHeader;
 import static io.leitstand.commons.rs.Responses.limitHeader;
 import static io.leitstand.commons.rs.Responses.noContent;
 import static io.leitstand.commons.rs.Responses.offsetHeader;
 import static io.leitstand.commons.rs.Responses.sizeHeader;
 import static io.leitstand.commons.rs.Responses.success;
+import static io.leitstand.inventory.rs.PageCursorHeader.withCursor;
 import static io.leitstand.inventory.rs.Scopes.IVT;
 import static io.leitstand.inventory.rs.Scopes.IVT_ELEMENT;
 import static io.leitstand.inventory.rs.Scopes.IVT_READ;
+import static io.leitstand.inventory.service.PageCursor.pageCursor;
 import static javax.ws.rs.core.MediaType.APPLICATION_JSON;
 
 import java.util.List;
 
 import javax.inject.Inject;
+import javax.ws.rs.BeanParam;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
@@ -40,7 +41,9 @@ import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.Response;
 
 import io.leitstand.commons.rs.Resource;
+import io.leitstand.inventory.service.PageCursor;
 import io.leitstand.inventory.service.PhysicalInterfaceData;
+import io.leitstand.inventory.service.PhysicalInterfaceQuery;
 import io.leitstand.inventory.service.PhysicalInterfaceService;
 import io.leitstand.security.auth.Scopes;
 
@@ -56,20 +59,22 @@ public class PhysicalInterfacesResource {
 	private PhysicalInterfaceService ifps;
 	
     @GET
-	public Response findPhysicalInterfaces(@QueryParam("facility") String facilityFilter,
-	                                       @QueryParam("ifp") String ifpFilter,
+	public Response findPhysicalInterfaces(@BeanParam PhysicalInterfaceQueryParams params,
 	                                       @QueryParam("offset") int offset,
-	                                       @QueryParam("limit") @DefaultValue("100") int limit){
-		String trimmedIfpFilter = trim(ifpFilter);
-		String trimmedFacilityFilter = trim(facilityFilter);
-	    if(isEmptyString(trimmedIfpFilter) && isEmptyString(trimmedFacilityFilter)) {
+	                                       @QueryParam("limit") @DefaultValue("100") int limit,
+	                                       @QueryParam("after") PageCursor after){
+	    if(params.isEmpty()) {
 	        return noContent();
 	    }
 		
-	    List<PhysicalInterfaceData> data = ifps.findPhysicalInterfaces(facilityFilter,
-	                                                                   trimmedIfpFilter, 
-		                                                               offset, 
-		                                                               limit+1);
+	    PhysicalInterfaceQuery query = params.toQuery();
+	    List<PhysicalInterfaceData> data = after != null
+	                                       ? ifps.findPhysicalInterfaces(query,
+	                                                                     after, 
+	                                                                     limit+1)
+	                                       : ifps.findPhysicalInterfaces(query,
+	                                                                     offset, 
+	                                                                     limit+1);
 	    
 	    boolean eof = data.size() < limit +1;
 	    
@@ -78,12 +83,27 @@ public class PhysicalInterfacesResource {
 	        data = data.subList(0, limit);
 	    }
 	    
-	    return success(data, 
-	                   offsetHeader(offset),
-	                   limitHeader(limit),
-	                   sizeHeader(data.size()),
-	                   eofHeader(eof));
+	    Response response = success(data, 
+	                                offsetHeader(offset),
+	                                limitHeader(limit),
+	                                sizeHeader(data.size()),
+	                                eofHeader(eof));
+	    if(eof) {
+	        return response;
+	    }
+	    return withCursor(response, 
+	                      data, 
+	                      limit, 
+	                      last -> pageCursor(last));
 	    
 	}
+    
+    @GET
+    @Path("/_export")
+    public Response exportPhysicalInterfaces(@BeanParam PhysicalInterfaceQueryParams params) {
+        return Response.ok(new PhysicalInterfacesExportOutput(ifps, 
+                                                              params.toQuery()))
+                       .build();
+    }
 
 }
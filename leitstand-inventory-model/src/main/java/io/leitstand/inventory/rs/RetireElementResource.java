@@ -18,21 +18,28 @@ package io.leitstand.inventory.rs;
 import static io.leitstand.commons.model.Patterns.UUID_PATTERN;
 import static io.leitstand.commons.rs.Responses.success;
 import static io.leitstand.inventory.rs.Scopes.IVT;
+import static io.leitstand.inventory.rs.JobResource.accepted;
 import static io.leitstand.inventory.rs.Scopes.IVT_ELEMENT;
+import static java.lang.String.format;
 import static javax.ws.rs.core.MediaType.APPLICATION_JSON;
 
+import java.util.List;
+
 import javax.inject.Inject;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.POST;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.Response;
 
 import io.leitstand.commons.messages.Messages;
 import io.leitstand.commons.rs.Resource;
+import io.leitstand.inventory.model.JobExecutor;
 import io.leitstand.inventory.service.ElementId;
 import io.leitstand.inventory.service.ElementName;
+import io.leitstand.inventory.service.JobId;
 import io.leitstand.inventory.service.RetireElementService;
 import io.leitstand.security.auth.Scopes;
 
@@ -46,9 +53,27 @@ public class RetireElementResource {
 	@Inject
 	private RetireElementService service;
 	
+	@Inject
+	private JobExecutor jobs;
+	
 	@Inject
 	private Messages messages;
 	
+	@POST
+	@Path("/_retire")
+	public Response retireElements(List<ElementId> elementIds,
+								   @QueryParam("async") boolean async) {
+		if(async) {
+			RetireElementService retireService = service;
+			JobId jobId = jobs.submit("element-retire", 
+									  format("Retire %d elements", elementIds.size()), 
+									  job -> retireService.retireElements(elementIds));
+			return accepted(messages, jobId);
+		}
+		service.retireElements(elementIds);
+		return success(messages);
+	}
+	
 	@POST
 	@Path("/{element:"+UUID_PATTERN+"}/_retire")
 	public Response retireElement(@PathParam("element") ElementId elementId) {
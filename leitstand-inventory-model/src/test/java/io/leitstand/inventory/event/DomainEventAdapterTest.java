@@ -0,0 +1,221 @@
+/*
+ * Copyright 2020 RtBrick Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.leitstand.inventory.event;
+
+import static io.leitstand.inventory.event.ElementPhysicalInterfaceRemovedEvent.newPhysicalInterfaceRemovedEvent;
+import static io.leitstand.inventory.event.ElementPhysicalInterfaceStoredEvent.newPhysicalInterfaceStoredEvent;
+import static io.leitstand.inventory.event.ElementRemovedEvent.newElementRemovedEvent;
+import static io.leitstand.inventory.service.ElementId.randomElementId;
+import static io.leitstand.inventory.service.InterfaceName.interfaceName;
+import static io.leitstand.inventory.service.OperationalState.DOWN;
+import static io.leitstand.inventory.service.OperationalState.UP;
+import static javax.transaction.Status.STATUS_ACTIVE;
+import static javax.transaction.Status.STATUS_NO_TRANSACTION;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.enterprise.event.Event;
+import javax.transaction.TransactionSynchronizationRegistry;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import io.leitstand.event.queue.service.DomainEvent;
+import io.leitstand.inventory.service.ElementId;
+
+public class DomainEventAdapterTest {
+
+	private static final ElementId ELEMENT_ID = randomElementId();
+	
+	private Event<DomainEvent<?>> bus;
+	private Event<ElementEventBuffer> buffers;
+	private TransactionSynchronizationRegistry transactions;
+	private Map<Object,Object> resources;
+	private DomainEventAdapter adapter;
+	
+	@SuppressWarnings("unchecked")
+	@Before
+	public void initTestEnvironment() {
+		bus = mock(Event.class);
+		buffers = mock(Event.class);
+		transactions = mock(TransactionSynchronizationRegistry.class);
+		resources = new HashMap<>();
+		when(transactions.getTransactionStatus()).thenReturn(STATUS_ACTIVE);
+		when(transactions.getResource(any())).then(invocation -> resources.get(invocation.getArguments()[0]));
+		doAnswer(invocation -> resources.put(invocation.getArguments()[0], invocation.getArguments()[1]))
+		.when(transactions).putResource(any(), any());
+		adapter = new DomainEventAdapter(bus,buffers,transactions);
+	}
+	
+	private void completeTransaction() {
+		ArgumentCaptor<ElementEventBuffer> buffer = ArgumentCaptor.forClass(ElementEventBuffer.class);
+		verify(buffers).fire(buffer.capture());
+		adapter.flushBuffer(buffer.getValue());
+	}
+	
+	@SuppressWarnings("unchecked")
+	private List<DomainEvent<?>> publishedEvents(int count){
+		ArgumentCaptor<DomainEvent> events = ArgumentCaptor.forClass(DomainEvent.class);
+		verify(bus,times(count)).fire(events.capture());
+		return (List) events.getAllValues();
+	}
+	
+	@Test
+	public void publish_element_event_immediately_if_no_transaction_is_active() {
+		when(transactions.getTransactionStatus()).thenReturn(STATUS_NO_TRANSACTION);
+		
+		adapter.publishElementEvent(newPhysicalInterfaceStoredEvent()
+									.withElementId(ELEMENT_ID)
+									.withInterfaceName(interfaceName("ifp-0/0/0"))
+									.build());
+		
+		verify(bus).fire(any(DomainEvent.class));
+		verify(buffers,never()).fire(any(ElementEventBuffer.class));
+	}
+	
+	@Test
+	public void publish_physical_interface_events_before_transaction_completion() {
+		adapter.publishElementEvent(newPhysicalInterfaceStoredEvent()
+									.withElementId(ELEMENT_ID)
+									.withInterfaceName(interfaceName("ifp-0/0/0"))
+									.build());
+		adapter.publishElementEvent(newPhysicalInterfaceStoredEvent()
+									.withElementId(ELEMENT_ID)
+									.withInterfaceName(interfaceName("ifp-0/0/1"))
+									.build());
+		verify(bus,never()).fire(any(DomainEvent.class));
+		
+		completeTransaction();
+		
+		publishedEvents(2);
+	}
+	
+	@Test
+	public void coalesce_physical_interface_events_of_same_interface_and_type() {
+		ElementPhysicalInterfaceEvent outdated = newPhysicalInterfaceStoredEvent()
+												 .withElementId(ELEMENT_ID)
+												 .withInterfaceName(interfaceName("ifp-0/0/0"))
+												 .withInterfaceOperationalState(DOWN)
+												 .build();
+		ElementPhysicalInterfaceEvent other    = newPhysicalInterfaceStoredEvent()
+												 .withElementId(ELEMENT_ID)
+												 .withInterfaceName(interfaceName("ifp-0/0/1"))
+												 .build();
+		ElementPhysicalInterfaceEvent latest   = newPhysicalInterfaceStoredEvent()
+				 								 .withElementId(ELEMENT_ID)
+				 								 .withInterfaceName(interfaceName("ifp-0/0/0"))
+				 								 .withInterfaceOperationalState(UP)
+				 								 .build();
+		adapter.publishElementEvent(outdated);
+		adapter.publishElementEvent(other);
+		adapter.publishElementEvent(latest);
+		
+		completeTransaction();
+		
+		List<DomainEvent<?>> events = publishedEvents(2);
+		assertSame(other,events.get(0).getPayload());
+		assertSame(latest,events.get(1).getPayload());
+	}
+	
+	@Test
+	public void do_not_coalesce_different_event_types_of_same_interface() {
+		adapter.publishElementEvent(newPhysicalInterfaceStoredEvent()
+									.withElementId(ELEMENT_ID)
+									.withInterfaceName(interfaceName("ifp-0/0/0"))
+									.build());
+		adapter.publishElementEvent(newPhysicalInterfaceRemovedEvent()
+									.withElementId(ELEMENT_ID)
+									.withInterfaceName(interfaceName("ifp-0/0/0"))
+									.build());
+
+		completeTransaction();
+		
+		publishedEvents(2);
+	}
+	
+	@Test
+	public void flush_buffered_events_before_publishing_other_element_events() {
+		ElementPhysicalInterfaceEvent ifpEvent = newPhysicalInterfaceStoredEvent()
+												 .withElementId(ELEMENT_ID)
+												 .withInterfaceName(interfaceName("ifp-0/0/0"))
+												 .build();
+		ElementEvent removed = newElementRemovedEvent()
+												  .withElementId(ELEMENT_ID)
+												  .build();
+		adapter.publishElementEvent(ifpEvent);
+		adapter.publishElementEvent(removed);
+		
+		List<DomainEvent<?>> events = publishedEvents(2);
+		assertSame(ifpEvent,events.get(0).getPayload());
+		assertSame(removed,events.get(1).getPayload());
+	}
+	
+	@Test
+	public void flush_buffer_when_maximum_buffer_size_is_exceeded() {
+		for(int i=0; i < DomainEventAdapter.MAX_BUFFER_SIZE; i++) {
+			adapter.publishElementEvent(newPhysicalInterfaceStoredEvent()
+										.withElementId(ELEMENT_ID)
+										.withInterfaceName(interfaceName("ifp-0/0/"+i))
+										.build());
+		}
+		publishedEvents(DomainEventAdapter.MAX_BUFFER_SIZE);
+		assertEquals(0,((ElementEventBuffer)resources.get(ElementEventBuffer.class)).size());
+	}
+	
+	@Test
+	public void announce_transaction_buffer_only_once() {
+		adapter.publishElementEvent(newPhysicalInterfaceStoredEvent()
+									.withElementId(ELEMENT_ID)
+									.withInterfaceName(interfaceName("ifp-0/0/0"))
+									.build());
+		adapter.publishElementEvent(newPhysicalInterfaceStoredEvent()
+									.withElementId(ELEMENT_ID)
+									.withInterfaceName(interfaceName("ifp-0/0/1"))
+									.build());
+		
+		verify(buffers,times(1)).fire(any(ElementEventBuffer.class));
+		verify(bus,never()).fire(any(DomainEvent.class));
+	}
+	
+	@Test
+	public void publish_events_added_after_buffer_flush_immediately() {
+		adapter.publishElementEvent(newPhysicalInterfaceStoredEvent()
+									.withElementId(ELEMENT_ID)
+									.withInterfaceName(interfaceName("ifp-0/0/0"))
+									.build());
+		completeTransaction();
+		
+		adapter.publishElementEvent(newPhysicalInterfaceStoredEvent()
+									.withElementId(ELEMENT_ID)
+									.withInterfaceName(interfaceName("ifp-0/0/1"))
+									.build());
+		
+		publishedEvents(2);
+	}
+	
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2020 RtBrick Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.leitstand.inventory.event;
+
+import static io.leitstand.inventory.event.ElementRemovedEvent.newElementRemovedEvent;
+import static io.leitstand.inventory.event.ImageRemovedEvent.newImageRemovedEvent;
+import static io.leitstand.inventory.service.ElementGroupId.randomGroupId;
+import static io.leitstand.inventory.service.ElementGroupName.groupName;
+import static io.leitstand.inventory.service.ElementId.randomElementId;
+import static io.leitstand.inventory.service.ElementName.elementName;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import io.leitstand.event.queue.service.DomainEvent;
+import io.leitstand.inventory.event.InventoryEventLog.Entry;
+import io.leitstand.inventory.service.ElementGroupId;
+import io.leitstand.inventory.service.ElementId;
+
+public class InventoryEventLogTest {
+	
+	private static final ElementGroupId GROUP_ID = randomGroupId();
+	private static final ElementId ELEMENT_ID = randomElementId();
+	
+	private InventoryEventLog log;
+	
+	@Before
+	public void initTestEnvironment() {
+		log = new InventoryEventLog(3);
+	}
+	
+	private static ElementEvent elementEvent() {
+		return newElementRemovedEvent()
+			   .withGroupId(GROUP_ID)
+			   .withGroupName(groupName("group"))
+			   .withElementId(ELEMENT_ID)
+			   .withElementName(elementName("element"))
+			   .build();
+	}
+	
+	@Test
+	public void extract_group_and_element_from_element_event() {
+		Entry entry = log.append(elementEvent());
+		assertEquals("element",entry.getTopic());
+		assertEquals("ElementRemovedEvent",entry.getType());
+		assertTrue(entry.getGroups().contains(GROUP_ID.toString()));
+		assertTrue(entry.getGroups().contains("group"));
+		assertTrue(entry.getElements().contains(ELEMENT_ID.toString()));
+		assertTrue(entry.getElements().contains("element"));
+	}
+	
+	@Test
+	public void assign_image_topic_to_image_event() {
+		Entry entry = log.append(newImageRemovedEvent().build());
+		assertEquals("image",entry.getTopic());
+		assertTrue(entry.getGroups().isEmpty());
+		assertTrue(entry.getElements().isEmpty());
+	}
+	
+	@Test
+	public void return_all_events_after_last_event() {
+		Entry first = log.append(elementEvent());
+		Entry second = log.append(elementEvent());
+		Entry third = log.append(elementEvent());
+		
+		List<Entry> entries = log.since(first.getId());
+		assertEquals(2,entries.size());
+		assertSame(second,entries.get(0));
+		assertSame(third,entries.get(1));
+		assertTrue(log.since(third.getId()).isEmpty());
+	}
+	
+	@Test
+	public void return_retained_events_after_wraparound() {
+		Entry first = log.append(elementEvent());
+		log.append(elementEvent());
+		log.append(elementEvent());
+		Entry fourth = log.append(elementEvent());
+		
+		List<Entry> entries = log.since(first.getId());
+		assertEquals(3,entries.size());
+		assertSame(fourth,entries.get(2));
+	}
+	
+	@Test
+	public void return_null_when_missed_events_are_no_longer_retained() {
+		Entry first = log.append(elementEvent());
+		log.append(elementEvent());
+		log.append(elementEvent());
+		log.append(elementEvent());
+		log.append(elementEvent());
+		
+		assertNull(log.since(first.getId()));
+	}
+	
+	@Test
+	public void return_null_for_unknown_event_id() {
+		Entry entry = log.append(elementEvent());
+		assertNull(log.since(entry.getId()+1));
+		assertNull(log.since(-1));
+	}
+	
+	@SuppressWarnings("unchecked")
+	@Test
+	public void notify_listeners_and_remove_failing_listeners() {
+		List<Entry> received = new ArrayList<>();
+		List<Entry> failed = new ArrayList<>();
+		Consumer<Entry> failing = entry -> {
+			failed.add(entry);
+			throw new IllegalStateException();
+		};
+		log.addListener(received::add);
+		log.addListener(failing);
+		DomainEvent<Object> event = mock(DomainEvent.class);
+		when(event.getPayload()).thenReturn(elementEvent());
+		
+		log.onDomainEvent(event);
+		log.onDomainEvent(event);
+		
+		assertEquals(2,received.size());
+		assertEquals(1,failed.size());
+	}
+	
+}
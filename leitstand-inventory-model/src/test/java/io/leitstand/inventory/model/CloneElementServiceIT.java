@@ -22,6 +22,8 @@ import static io.leitstand.inventory.service.PlatformChipsetName.platformChipset
 import static io.leitstand.inventory.service.PlatformId.randomPlatformId;
 import static io.leitstand.inventory.service.PlatformName.platformName;
 import static io.leitstand.inventory.service.ReasonCode.IVT0306I_ELEMENT_CLONED;
+import static io.leitstand.inventory.service.ReasonCode.IVT0308I_ELEMENTS_CLONED;
+import static java.util.Arrays.asList;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
@@ -30,6 +32,9 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.when;
 
+import java.util.List;
+import java.util.TreeSet;
+
 import javax.enterprise.event.Event;
 
 import org.hamcrest.CoreMatchers;
@@ -43,6 +48,7 @@ import io.leitstand.commons.messages.Messages;
 import io.leitstand.commons.model.Repository;
 import io.leitstand.inventory.event.ElementClonedEvent;
 import io.leitstand.inventory.event.ElementEvent;
+import io.leitstand.inventory.event.ElementsClonedEvent;
 import io.leitstand.inventory.service.CloneElementService;
 import io.leitstand.inventory.service.ElementAlias;
 import io.leitstand.inventory.service.ElementCloneRequest;
@@ -175,5 +181,65 @@ public class CloneElementServiceIT extends InventoryIT {
 		assertEquals(message.getReason(),IVT0306I_ELEMENT_CLONED.getReasonCode());
 		
 	}
+	
+	@Test
+	public void clone_element_into_multiple_elements() {
+		DefaultCloneElementService.SequenceGenerator sequence = mock(DefaultCloneElementService.SequenceGenerator.class);
+		when(sequence.acquireCloneIds(3)).thenReturn(1000000100L);
+		service = new DefaultCloneElementService(new ElementProvider(repository),
+												 getDatabase(),
+												 sequence,
+												 sink,
+												 messages);
+		
+		List<ElementCloneRequest> cloneRequests = asList(newCloneElementRequest()
+														 .withElementName(elementName("clone-1"))
+														 .withSerialNumber("clone-serial-1")
+														 .build(),
+														 newCloneElementRequest()
+														 .withElementName(elementName("clone-2"))
+														 .withSerialNumber("clone-serial-2")
+														 .build(),
+														 newCloneElementRequest()
+														 .withElementName(elementName("clone-3"))
+														 .withSerialNumber("clone-serial-3")
+														 .build());
+		
+		ArgumentCaptor<ElementEvent> eventCaptor = ArgumentCaptor.forClass(ElementEvent.class);
+		doNothing().when(sink).fire(eventCaptor.capture());
+		ArgumentCaptor<Message> messageCaptor = ArgumentCaptor.forClass(Message.class);
+		doNothing().when(messages).add(messageCaptor.capture());
+		
+		transaction(()->{
+			Element element = repository.execute(findElementById(ELEMENT_ID));
+			element.setTags(new TreeSet<>(asList("tag-a","tag-b")));
+		});
+		
+		transaction(()->{
+			List<ElementId> cloneIds = service.cloneElements(ELEMENT_NAME, cloneRequests);
+			assertEquals(3, cloneIds.size());
+		});
+		
+		transaction(()->{
+			for(ElementCloneRequest cloneRequest : cloneRequests) {
+				Element clone = repository.execute(findElementById(cloneRequest.getElementId()));
+				assertEquals(cloneRequest.getElementName(),clone.getElementName());
+				assertEquals(cloneRequest.getSerialNumber(),clone.getSerialNumber());
+				assertEquals(NEW,clone.getAdministrativeState());
+				assertEquals(DOWN,clone.getOperationalState());
+				assertEquals(GROUP_ID,clone.getGroupId());
+				assertEquals(new TreeSet<>(asList("tag-a","tag-b")),new TreeSet<>(clone.getTags()));
+			}
+		});
+		
+		// A single event for all clones
+		assertEquals(1,eventCaptor.getAllValues().size());
+		ElementsClonedEvent event = (ElementsClonedEvent) eventCaptor.getValue();
+		assertEquals(ELEMENT_ID,event.getElementId());
+		assertEquals(cloneRequests,event.getClones());
+		
+		Message message = messageCaptor.getValue();
+		assertEquals(message.getReason(),IVT0308I_ELEMENTS_CLONED.getReasonCode());
+	}
 		
 }
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2020 RtBrick Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.leitstand.inventory.model;
+
+import static io.leitstand.inventory.service.ElementGroupId.randomGroupId;
+import static io.leitstand.inventory.service.ElementGroupType.groupType;
+import static java.lang.Integer.MAX_VALUE;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.LinkedList;
+import java.util.List;
+
+import javax.inject.Provider;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import io.leitstand.commons.model.Query;
+import io.leitstand.commons.model.Repository;
+import io.leitstand.commons.tx.SubtransactionService;
+import io.leitstand.inventory.service.ElementGroupExport;
+import io.leitstand.inventory.service.ElementGroupExportService;
+import io.leitstand.inventory.service.ElementGroupService;
+import io.leitstand.inventory.service.ElementGroupSettings;
+import io.leitstand.inventory.service.ElementGroupType;
+
+public class DefaultElementGroupExportServiceTest {
+	
+	private static final ElementGroupType GROUP_TYPE = groupType("pod");
+
+	private Repository repository;
+	private ElementGroupService groupService;
+	private ElementGroupExportService service;
+	
+	@Before
+	public void initTestEnvironment() {
+		repository = mock(Repository.class);
+		groupService = mock(ElementGroupService.class);
+		SubtransactionService transactions = new SubtransactionService() {
+
+		    @Override
+		    protected Provider<SubtransactionService> getServiceProvider() {
+		        return () -> this;
+		    }
+        
+		    @Override
+		    protected Repository getRepository() {
+		        return repository;
+		    }
+		};
+		service = new DefaultElementGroupExportService(transactions, 
+													   groupService);
+	}
+	
+	@SuppressWarnings("unchecked")
+	@Test
+	public void export_groups_one_by_one_with_one_element_query_per_group() {
+		ElementGroupSettings group1 = mock(ElementGroupSettings.class);
+		when(group1.getGroupId()).thenReturn(randomGroupId());
+		ElementGroupSettings group2 = mock(ElementGroupSettings.class);
+		when(group2.getGroupId()).thenReturn(randomGroupId());
+		when(groupService.findGroups(GROUP_TYPE, "filter", 0, MAX_VALUE)).thenReturn(asList(group1,group2));
+		when(repository.execute(any(Query.class))).thenReturn(emptyList());
+		
+		List<ElementGroupExport> groups = new LinkedList<>();
+		service.exportElementGroups(GROUP_TYPE, 
+									"filter", 
+									groups::add);
+		
+		assertEquals(2,groups.size());
+		assertSame(group1,groups.get(0).getGroup());
+		assertSame(group2,groups.get(1).getGroup());
+		verify(repository,times(2)).execute(any(Query.class));
+	}
+	
+}
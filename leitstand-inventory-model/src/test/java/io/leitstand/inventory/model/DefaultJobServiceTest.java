@@ -0,0 +1,131 @@
+/*
+ * Copyright 2020 RtBrick Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.leitstand.inventory.model;
+
+import static io.leitstand.inventory.service.JobId.randomJobId;
+import static io.leitstand.inventory.service.JobState.COMPLETED;
+import static io.leitstand.inventory.service.JobState.RUNNING;
+import static io.leitstand.inventory.service.ReasonCode.IVT1100E_JOB_NOT_FOUND;
+import static io.leitstand.inventory.service.ReasonCode.IVT1103E_JOB_NOT_CANCELLABLE;
+import static io.leitstand.inventory.service.ReasonCode.IVT1105E_JOB_NOT_REMOVABLE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import io.leitstand.commons.ConflictException;
+import io.leitstand.commons.EntityNotFoundException;
+import io.leitstand.commons.messages.Messages;
+import io.leitstand.commons.model.Query;
+import io.leitstand.commons.model.Repository;
+import io.leitstand.commons.model.Update;
+import io.leitstand.inventory.service.JobId;
+
+public class DefaultJobServiceTest {
+	
+	private static final JobId JOB_ID = randomJobId();
+
+	private Repository repository;
+	private DefaultJobService service;
+	private Job job;
+	
+	@Before
+	public void initService() {
+		repository = mock(Repository.class);
+		service = new DefaultJobService(repository, 
+										mock(Messages.class));
+		job = mock(Job.class);
+		when(job.getJobId()).thenReturn(JOB_ID);
+		when(job.getJobName()).thenReturn("Unit test job");
+	}
+	
+	@Test
+	public void throws_EntityNotFoundException_for_unknown_job() {
+		try {
+			service.getJob(JOB_ID);
+			fail("EntityNotFoundException expected");
+		} catch (EntityNotFoundException e) {
+			assertEquals(IVT1100E_JOB_NOT_FOUND, e.getReason());
+		}
+	}
+	
+	@Test
+	public void cancel_active_job() {
+		when(repository.execute(any(Query.class))).thenReturn(job);
+		when(repository.execute(any(Update.class))).thenReturn(1);
+		service.cancelJob(JOB_ID);
+		verify(repository).execute(any(Update.class));
+	}
+	
+	@Test
+	public void cannot_cancel_job_terminated_meanwhile() {
+		when(repository.execute(any(Query.class))).thenReturn(job);
+		when(repository.execute(any(Update.class))).thenReturn(0);
+		try {
+			service.cancelJob(JOB_ID);
+			fail("ConflictException expected");
+		} catch (ConflictException e) {
+			assertEquals(IVT1103E_JOB_NOT_CANCELLABLE, e.getReason());
+		}
+	}
+	
+	@Test
+	public void cannot_cancel_terminated_job() {
+		when(job.isTerminated()).thenReturn(true);
+		when(job.getJobState()).thenReturn(COMPLETED);
+		when(repository.execute(any(Query.class))).thenReturn(job);
+		try {
+			service.cancelJob(JOB_ID);
+			fail("ConflictException expected");
+		} catch (ConflictException e) {
+			assertEquals(IVT1103E_JOB_NOT_CANCELLABLE, e.getReason());
+		}
+	}
+	
+	@Test
+	public void cannot_remove_running_job() {
+		when(job.getJobState()).thenReturn(RUNNING);
+		when(repository.execute(any(Query.class))).thenReturn(job);
+		try {
+			service.removeJob(JOB_ID);
+			fail("ConflictException expected");
+		} catch (ConflictException e) {
+			assertEquals(IVT1105E_JOB_NOT_REMOVABLE, e.getReason());
+		}
+		verify(repository,never()).remove(job);
+	}
+	
+	@Test
+	public void remove_terminated_job() {
+		when(job.isTerminated()).thenReturn(true);
+		when(repository.execute(any(Query.class))).thenReturn(job);
+		service.removeJob(JOB_ID);
+		verify(repository).remove(job);
+	}
+	
+	@Test
+	public void ignore_removal_of_unknown_job() {
+		service.removeJob(JOB_ID);
+		verify(repository,never()).remove(any(Job.class));
+	}
+	
+}
@@ -30,6 +30,7 @@ import static io.leitstand.inventory.service.ElementRoleName.elementRoleName;
 import static io.leitstand.inventory.service.OperationalState.DOWN;
 import static io.leitstand.inventory.service.OperationalState.MAINTENANCE;
 import static io.leitstand.inventory.service.OperationalState.UP;
+import static io.leitstand.inventory.service.PageCursor.pageCursor;
 import static io.leitstand.inventory.service.Plane.DATA;
 import static io.leitstand.testing.ut.LeitstandCoreMatchers.hasSizeOf;
 import static io.leitstand.testing.ut.LeitstandCoreMatchers.isEmptyCollection;
@@ -129,6 +130,29 @@ public class ElementGroupServiceIT extends InventoryIT {
 		
 	}
 	
+	@Test
+	public void page_through_groups_by_cursor() {
+		transaction(() -> {
+			for(String name : new String[] {"group_cursor_a","group_cursor_b","group_cursor_c"}) {
+				manager.createElementGroup(newElementGroupSettings()
+										   .withGroupType(GROUP_TYPE)
+										   .withGroupName(groupName(name))
+										   .build());
+			}
+		});
+		
+		transaction(() -> {
+			List<ElementGroupSettings> first = service.findGroups(GROUP_TYPE, "group_cursor", null, 2);
+			assertThat(first,hasSizeOf(2));
+			assertEquals(groupName("group_cursor_a"),first.get(0).getGroupName());
+			assertEquals(groupName("group_cursor_b"),first.get(1).getGroupName());
+			
+			List<ElementGroupSettings> second = service.findGroups(GROUP_TYPE, "group_cursor", pageCursor(first.get(1)), 2);
+			assertThat(second,hasSizeOf(1));
+			assertEquals(groupName("group_cursor_c"),second.get(0).getGroupName());
+		});
+	}
+	
 	@Test
 	public void read_element_group_statistics() {
 
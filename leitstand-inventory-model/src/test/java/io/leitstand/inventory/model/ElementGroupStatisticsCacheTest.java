@@ -0,0 +1,277 @@
+/*
+ * Copyright 2020 RtBrick Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.leitstand.inventory.model;
+
+import static io.leitstand.inventory.event.ElementAddedEvent.newElementAddedEvent;
+import static io.leitstand.inventory.event.ElementClonedEvent.newElementClonedEvent;
+import static io.leitstand.inventory.event.ElementMovedEvent.newElementMovedEvent;
+import static io.leitstand.inventory.event.ElementsClonedEvent.newElementsClonedEvent;
+import static io.leitstand.inventory.service.AdministrativeState.ACTIVE;
+import static io.leitstand.inventory.service.AdministrativeState.NEW;
+import static io.leitstand.inventory.service.AdministrativeState.RETIRED;
+import static io.leitstand.inventory.service.ElementGroupId.randomGroupId;
+import static io.leitstand.inventory.service.ElementGroupName.groupName;
+import static io.leitstand.inventory.service.ElementGroupType.groupType;
+import static io.leitstand.inventory.service.ElementCloneRequest.newCloneElementRequest;
+import static io.leitstand.inventory.service.ElementId.randomElementId;
+import static io.leitstand.inventory.service.ElementName.elementName;
+import static io.leitstand.inventory.service.OperationalState.DOWN;
+import static io.leitstand.inventory.service.OperationalState.UP;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import javax.inject.Provider;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import io.leitstand.commons.db.DatabaseService;
+import io.leitstand.commons.model.Query;
+import io.leitstand.commons.model.Repository;
+import io.leitstand.commons.tx.SubtransactionService;
+import io.leitstand.inventory.model.ElementGroupStatisticsCache.Statistics;
+import io.leitstand.inventory.service.AdministrativeState;
+import io.leitstand.inventory.service.ElementGroupId;
+import io.leitstand.inventory.service.ElementGroupStatistics;
+import io.leitstand.inventory.service.ElementGroupType;
+import io.leitstand.inventory.service.ElementId;
+import io.leitstand.inventory.service.OperationalState;
+
+public class ElementGroupStatisticsCacheTest {
+	
+	private static final ElementGroupType POD = groupType("pod");
+	private static final ElementGroupType LOCATION = groupType("location");
+
+	private Statistics statistics;
+	private ElementGroupId pod1;
+	private ElementGroupId pod2;
+	private ElementId leaf1;
+	private ElementId leaf2;
+	private ElementId spine;
+	private Repository repository;
+	private ElementGroupStatisticsCache cache;
+	
+	@Before
+	public void initStatistics() {
+		pod1 = randomGroupId();
+		pod2 = randomGroupId();
+		leaf1 = randomElementId();
+		leaf2 = randomElementId();
+		spine = randomElementId();
+		statistics = new Statistics();
+		statistics.put(pod2, POD, groupName("pod2"), leaf2, NEW, DOWN);
+		statistics.put(pod1, POD, groupName("pod1"), leaf1, ACTIVE, UP);
+		statistics.put(pod1, POD, groupName("pod1"), spine, ACTIVE, UP);
+		initCache();
+	}
+	
+	@SuppressWarnings("unchecked")
+	private void initCache() {
+		repository = mock(Repository.class);
+		SubtransactionService transactions = new SubtransactionService() {
+
+		    @Override
+		    protected Provider<SubtransactionService> getServiceProvider() {
+		        return () -> this;
+		    }
+        
+		    @Override
+		    protected Repository getRepository() {
+		        return repository;
+		    }
+		};
+		cache = new ElementGroupStatisticsCache(transactions, 
+												mock(DatabaseService.class));
+		// Start with empty counters
+		cache.rebuild();
+		
+		Element leaf = element(pod1, "pod1", leaf1, ACTIVE, UP);
+		when(repository.execute(any(Query.class))).thenReturn(asList(leaf));
+		cache.onElementEvent(newElementAddedEvent()
+							 .withElementId(leaf1)
+							 .withElementName(elementName("leaf-01"))
+							 .build());
+	}
+	
+	private static Element element(ElementGroupId groupId,
+								   String name,
+								   ElementId elementId,
+								   AdministrativeState admState,
+								   OperationalState opState) {
+		ElementGroup group = mock(ElementGroup.class);
+		when(group.getGroupId()).thenReturn(groupId);
+		when(group.getGroupType()).thenReturn(POD);
+		when(group.getGroupName()).thenReturn(groupName(name));
+		ElementRole role = mock(ElementRole.class);
+		when(role.isManageable()).thenReturn(true);
+		Element element = mock(Element.class);
+		when(element.getElementId()).thenReturn(elementId);
+		when(element.getGroup()).thenReturn(group);
+		when(element.getElementRole()).thenReturn(role);
+		when(element.getAdministrativeState()).thenReturn(admState);
+		when(element.getOperationalState()).thenReturn(opState);
+		return element;
+	}
+	
+	@Test
+	public void group_statistics_are_ordered_by_group_name() {
+		List<ElementGroupStatistics> stats = statistics.getGroupStatistics(POD);
+		assertEquals(2, stats.size());
+		assertEquals(pod1, stats.get(0).getGroupId());
+		assertEquals(Integer.valueOf(2), stats.get(0).getActiveElements().get("UP"));
+		assertEquals(pod2, stats.get(1).getGroupId());
+		assertEquals(1, stats.get(1).getNewElements());
+	}
+	
+	@Test
+	public void group_statistics_are_filtered_by_group_type() {
+		assertTrue(statistics.getGroupStatistics(LOCATION).isEmpty());
+	}
+	
+	@Test
+	public void update_operational_state() {
+		statistics.update(leaf1, ACTIVE, DOWN);
+		ElementGroupStatistics pod = statistics.getGroupStatistics(POD).get(0);
+		assertEquals(Integer.valueOf(1), pod.getActiveElements().get("UP"));
+		assertEquals(Integer.valueOf(1), pod.getActiveElements().get("DOWN"));
+	}
+	
+	@Test
+	public void retire_element() {
+		statistics.update(leaf1, RETIRED, DOWN);
+		statistics.update(spine, RETIRED, DOWN);
+		ElementGroupStatistics pod = statistics.getGroupStatistics(POD).get(0);
+		assertTrue(pod.getActiveElements().isEmpty());
+		assertEquals(2, pod.getRetiredElements());
+	}
+	
+	@Test
+	public void move_element() {
+		statistics.put(pod2, POD, groupName("pod2"), spine, ACTIVE, UP);
+		List<ElementGroupStatistics> stats = statistics.getGroupStatistics(POD);
+		assertEquals(Integer.valueOf(1), stats.get(0).getActiveElements().get("UP"));
+		assertEquals(Integer.valueOf(1), stats.get(1).getActiveElements().get("UP"));
+	}
+	
+	@Test
+	public void remove_empty_group() {
+		statistics.remove(leaf2);
+		List<ElementGroupStatistics> stats = statistics.getGroupStatistics(POD);
+		assertEquals(1, stats.size());
+		assertEquals(pod1, stats.get(0).getGroupId());
+	}
+	
+	@Test
+	public void ignore_state_change_of_untracked_element() {
+		ElementId unmanaged = randomElementId();
+		statistics.update(unmanaged, ACTIVE, UP);
+		assertNull(statistics.getAdministrativeState(unmanaged));
+		assertEquals(3, statistics.size());
+	}
+	
+	@Test
+	public void count_added_element() {
+		List<ElementGroupStatistics> stats = cache.getGroupStatistics(POD);
+		assertEquals(1, stats.size());
+		assertEquals(pod1, stats.get(0).getGroupId());
+		assertEquals(Integer.valueOf(1), stats.get(0).getActiveElements().get("UP"));
+	}
+	
+	@SuppressWarnings("unchecked")
+	@Test
+	public void count_moved_element_in_new_group() {
+		Element moved = element(pod2, "pod2", leaf1, ACTIVE, UP);
+		when(repository.execute(any(Query.class))).thenReturn(asList(moved));
+		
+		cache.onElementEvent(newElementMovedEvent()
+							 .withElementId(leaf1)
+							 .withElementName(elementName("leaf-01"))
+							 .build());
+		
+		List<ElementGroupStatistics> stats = cache.getGroupStatistics(POD);
+		assertEquals(1, stats.size());
+		assertEquals(pod2, stats.get(0).getGroupId());
+		assertEquals(Integer.valueOf(1), stats.get(0).getActiveElements().get("UP"));
+	}
+	
+	@SuppressWarnings("unchecked")
+	@Test
+	public void count_cloned_element() {
+		ElementId clone = randomElementId();
+		Element cloned = element(pod1, "pod1", clone, NEW, DOWN);
+		when(repository.execute(any(Query.class))).thenReturn(asList(cloned));
+		
+		cache.onElementEvent(newElementClonedEvent()
+							 .withElementId(leaf1)
+							 .withElementName(elementName("leaf-01"))
+							 .withCloneElementId(clone)
+							 .withCloneElementName(elementName("leaf-02"))
+							 .build());
+		
+		ElementGroupStatistics pod = cache.getGroupStatistics(POD).get(0);
+		assertEquals(Integer.valueOf(1), pod.getActiveElements().get("UP"));
+		assertEquals(1, pod.getNewElements());
+	}
+	
+	@SuppressWarnings("unchecked")
+	@Test
+	public void count_all_clones() {
+		ElementId clone1 = randomElementId();
+		ElementId clone2 = randomElementId();
+		Element cloned1 = element(pod1, "pod1", clone1, NEW, DOWN);
+		Element cloned2 = element(pod1, "pod1", clone2, NEW, DOWN);
+		when(repository.execute(any(Query.class))).thenReturn(asList(cloned1, cloned2));
+		
+		cache.onElementEvent(newElementsClonedEvent()
+							 .withElementId(leaf1)
+							 .withElementName(elementName("leaf-01"))
+							 .withClones(asList(newCloneElementRequest()
+									 			.withElementId(clone1)
+									 			.withElementName(elementName("leaf-02"))
+									 			.build(),
+									 			newCloneElementRequest()
+									 			.withElementId(clone2)
+									 			.withElementName(elementName("leaf-03"))
+									 			.build()))
+							 .build());
+		
+		ElementGroupStatistics pod = cache.getGroupStatistics(POD).get(0);
+		assertEquals(Integer.valueOf(1), pod.getActiveElements().get("UP"));
+		assertEquals(2, pod.getNewElements());
+	}
+	
+	@SuppressWarnings("unchecked")
+	@Test
+	public void remove_reloaded_element_that_does_not_exist_anymore() {
+		when(repository.execute(any(Query.class))).thenReturn(emptyList());
+		
+		cache.onElementEvent(newElementMovedEvent()
+							 .withElementId(leaf1)
+							 .withElementName(elementName("leaf-01"))
+							 .build());
+		
+		assertTrue(cache.getGroupStatistics(POD).isEmpty());
+	}
+	
+}
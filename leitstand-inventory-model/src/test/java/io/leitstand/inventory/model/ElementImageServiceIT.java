@@ -15,9 +15,11 @@
  */
 package io.leitstand.inventory.model;
 
+import static io.leitstand.commons.db.DatabaseService.prepare;
 import static io.leitstand.inventory.model.ElementGroup.findElementGroupById;
 import static io.leitstand.inventory.model.ElementRole.findRoleByName;
 import static io.leitstand.inventory.model.ElementSettingsMother.element;
+import static io.leitstand.inventory.model.Element_Fingerprint.Section.IMAGE;
 import static io.leitstand.inventory.model.Image.findImageById;
 import static io.leitstand.inventory.model.Platform.findPlatformById;
 import static io.leitstand.inventory.service.ElementGroupId.randomGroupId;
@@ -32,6 +34,7 @@ import static io.leitstand.inventory.service.ElementRoleName.elementRoleName;
 import static io.leitstand.inventory.service.ImageId.randomImageId;
 import static io.leitstand.inventory.service.ImageName.imageName;
 import static io.leitstand.inventory.service.ImageState.CANDIDATE;
+import static io.leitstand.inventory.service.ImageState.REVOKED;
 import static io.leitstand.inventory.service.ImageType.imageType;
 import static io.leitstand.inventory.service.Plane.DATA;
 import static io.leitstand.inventory.service.PlatformChipsetName.platformChipsetName;
@@ -53,6 +56,7 @@ import javax.enterprise.event.Event;
 import org.junit.Before;
 import org.junit.Test;
 
+import io.leitstand.commons.db.DatabaseService;
 import io.leitstand.commons.messages.Messages;
 import io.leitstand.commons.model.Repository;
 import io.leitstand.commons.tx.SubtransactionService;
@@ -64,6 +68,7 @@ import io.leitstand.inventory.service.ElementId;
 import io.leitstand.inventory.service.ElementImage;
 import io.leitstand.inventory.service.ElementImageData;
 import io.leitstand.inventory.service.ElementImageReference;
+import io.leitstand.inventory.service.ElementImageState;
 import io.leitstand.inventory.service.ElementImages;
 import io.leitstand.inventory.service.ElementImageService;
 import io.leitstand.inventory.service.ElementName;
@@ -183,10 +188,12 @@ public class ElementImageServiceIT extends InventoryIT{
 	}
 	
 	private ElementImageService service;
+	private ElementFingerprintManager fingerprints;
+	private Repository repository;
 	
 	@Before
 	public void initTestEnvironment() {
-		Repository repository = new Repository(getEntityManager());
+		repository = new Repository(getEntityManager());
 
 		ElementProvider elements = new ElementProvider(repository);
 		ElementGroupProvider groups = new ElementGroupProvider(repository);
@@ -212,10 +219,13 @@ public class ElementImageServiceIT extends InventoryIT{
 								   .withPlatformId(PLATFORM_ID)
 								   .withPlatformName(PLATFORM_NAME)
 								   .build();
+		fingerprints = new ElementFingerprintManager(repository);
 		service = new DefaultElementImagesService(new ElementImageManager(repository,
 												  mock(SubtransactionService.class),
+												  new ImageUpgradeIndex(repository),
 												  mock(Messages.class)), 
-												  elements);
+												  elements,
+												  fingerprints);
 
 		
 		transaction(()->{
@@ -609,6 +619,134 @@ public class ElementImageServiceIT extends InventoryIT{
 		});
 		
 	}
-
 	
+	@Test
+	public void maintain_image_deployment_counters_when_element_images_change() {
+		transaction(()->{
+			service.storeElementImages(ELEMENT_ID, asList(ACTIVE_BASE_REF,
+														  CACHED_PATCH_UPGRADE_REF));
+		});
+		transaction(()->{
+			assertEquals(1,deployments(IMAGE_100, ACTIVE));
+			assertEquals(1,deployments(IMAGE_101, CACHED));
+		});
+		transaction(()->{
+			service.storeElementImages(ELEMENT_ID, asList(ACTIVE_PATCH_UPGRADE_REF));
+		});
+		transaction(()->{
+			assertEquals(0,deployments(IMAGE_100, ACTIVE));
+			assertEquals(0,deployments(IMAGE_101, CACHED));
+			assertEquals(1,deployments(IMAGE_101, ACTIVE));
+		});
+	}
+	
+	@Test
+	public void seed_image_deployment_counters_only_once() {
+		ImageDeploymentCountInitializer initializer = new ImageDeploymentCountInitializer(mock(SubtransactionService.class));
+		transaction(()->{
+			service.storeElementImages(ELEMENT_ID, asList(ACTIVE_BASE_REF,
+														  CACHED_PATCH_UPGRADE_REF));
+		});
+		// Simulate counters that were not maintained before the upgrade.
+		transaction(()->{
+			getDatabase().executeUpdate(prepare("DELETE FROM inventory.image_deployment_count"));
+		});
+		transaction(()->{
+			assertEquals(2,initializer.initDeploymentCounters(repository));
+		});
+		transaction(()->{
+			assertEquals(1,deployments(IMAGE_100, ACTIVE));
+			assertEquals(1,deployments(IMAGE_101, CACHED));
+		});
+		
+		// Counters are maintained incrementally after the seeding and must not be seeded again.
+		transaction(()->{
+			service.storeElementImages(ELEMENT_ID, asList(ACTIVE_PATCH_UPGRADE_REF));
+		});
+		transaction(()->{
+			assertEquals(-1,initializer.initDeploymentCounters(repository));
+		});
+		transaction(()->{
+			assertEquals(0,deployments(IMAGE_100, ACTIVE));
+			assertEquals(0,deployments(IMAGE_101, CACHED));
+			assertEquals(1,deployments(IMAGE_101, ACTIVE));
+		});
+	}
+	
+	private int deployments(ImageId imageId, ElementImageState state) {
+		Image image = repository.execute(findImageById(imageId));
+		ElementGroup group = repository.execute(findElementGroupById(GROUP_ID));
+		// Counters are maintained by native statements and therefore read from the database.
+		List<Integer> count = getDatabase().executeQuery(prepare("SELECT elements "+
+																 "FROM inventory.image_deployment_count "+
+																 "WHERE image_id = ? "+
+																 "AND elementgroup_id = ? "+
+																 "AND state = ?",
+																 image.getId(),
+																 group.getId(),
+																 state.name()),
+														 rs -> rs.getInt(1));
+		return count.isEmpty() ? 0 : count.get(0);
+	}
+	
+	
+	@Test
+	public void skip_unchanged_images_resubmission() {
+		transaction(()->{
+			service.storeElementImages(ELEMENT_ID, asList(ACTIVE_BASE_REF,
+														  CACHED_PATCH_UPGRADE_REF));
+		});
+		
+		// Resubmit the same images in different order.
+		transaction(()->{
+			service.storeElementImages(ELEMENT_ID, asList(CACHED_PATCH_UPGRADE_REF,
+														  ACTIVE_BASE_REF));
+		});
+		
+		assertEquals(1L,fingerprints.getProcessedSubmissions(IMAGE));
+		assertEquals(1L,fingerprints.getSkippedSubmissions(IMAGE));
+		
+		transaction(()->{
+			assertEquals(2,service.getElementImages(ELEMENT_ID).getImages().size());
+		});
+	}
+	
+	@Test
+	public void process_modified_images_resubmission() {
+		transaction(()->{
+			service.storeElementImages(ELEMENT_ID, asList(ACTIVE_BASE_REF,
+														  CACHED_PATCH_UPGRADE_REF));
+		});
+		
+		transaction(()->{
+			service.storeElementImages(ELEMENT_ID, asList(ACTIVE_PATCH_UPGRADE_REF));
+		});
+		
+		assertEquals(2L,fingerprints.getProcessedSubmissions(IMAGE));
+		assertEquals(0L,fingerprints.getSkippedSubmissions(IMAGE));
+	}
+	
+	@Test
+	public void process_images_resubmission_after_image_state_update() {
+		transaction(()->{
+			service.storeElementImages(ELEMENT_ID, asList(ACTIVE_BASE_REF));
+		});
+		
+		DefaultImageService images = new DefaultImageService(mock(PackageVersionService.class),
+															 new ElementGroupProvider(repository),
+															 repository,
+															 mock(DatabaseService.class),
+															 mock(Messages.class),
+															 mock(Event.class));
+		transaction(()->{
+			images.updateImageState(IMAGE_100, REVOKED);
+		});
+		
+		transaction(()->{
+			service.storeElementImages(ELEMENT_ID, asList(ACTIVE_BASE_REF));
+		});
+		
+		assertEquals(2L,fingerprints.getProcessedSubmissions(IMAGE));
+		assertEquals(0L,fingerprints.getSkippedSubmissions(IMAGE));
+	}
 }
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2020 RtBrick Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.leitstand.inventory.model;
+
+import static io.leitstand.commons.db.DatabaseService.prepare;
+import static io.leitstand.inventory.model.Checksum.md5Checksum;
+import static io.leitstand.inventory.model.Checksum.sha256Checksum;
+import static io.leitstand.inventory.model.ElementGroup.findElementGroupByName;
+import static io.leitstand.inventory.model.ElementRole.findRoleByName;
+import static io.leitstand.inventory.model.Platform.findPlatformById;
+import static io.leitstand.inventory.service.ElementGroupId.randomGroupId;
+import static io.leitstand.inventory.service.ElementGroupName.groupName;
+import static io.leitstand.inventory.service.ElementGroupType.groupType;
+import static io.leitstand.inventory.service.ElementId.randomElementId;
+import static io.leitstand.inventory.service.ElementImageState.CACHED;
+import static io.leitstand.inventory.service.ElementName.elementName;
+import static io.leitstand.inventory.service.ElementRoleName.elementRoleName;
+import static io.leitstand.inventory.service.ImageId.randomImageId;
+import static io.leitstand.inventory.service.ImageName.imageName;
+import static io.leitstand.inventory.service.ImageType.imageType;
+import static io.leitstand.inventory.service.Plane.DATA;
+import static io.leitstand.inventory.service.PlatformChipsetName.platformChipsetName;
+import static io.leitstand.inventory.service.PlatformId.randomPlatformId;
+import static io.leitstand.inventory.service.PlatformName.platformName;
+import static java.lang.String.format;
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.leitstand.commons.messages.Messages;
+import io.leitstand.commons.model.Repository;
+import io.leitstand.commons.tx.SubtransactionService;
+import io.leitstand.inventory.service.ElementGroupId;
+import io.leitstand.inventory.service.ElementGroupName;
+import io.leitstand.inventory.service.ElementGroupType;
+import io.leitstand.inventory.service.ElementId;
+import io.leitstand.inventory.service.ElementImageService;
+import io.leitstand.inventory.service.ElementImages;
+import io.leitstand.inventory.service.ElementName;
+import io.leitstand.inventory.service.ElementRoleName;
+import io.leitstand.inventory.service.PlatformChipsetName;
+import io.leitstand.inventory.service.PlatformId;
+import io.leitstand.inventory.service.PlatformName;
+import io.leitstand.inventory.service.Version;
+
+/**
+ * Verifies that the number of SQL statements to read the installed images of an element 
+ * does not depend on the number of installed images and their packages.
+ */
+public class ElementImageStatementCountIT extends InventoryIT {
+
+	private static final ElementGroupId GROUP_ID = randomGroupId();
+	private static final ElementGroupName GROUP_NAME = groupName("group");
+	private static final ElementGroupType GROUP_TYPE = groupType("pod");
+	private static final ElementId ELEMENT_ID = randomElementId();
+	private static final ElementName ELEMENT_NAME = elementName("element");
+	private static final ElementRoleName ELEMENT_ROLE = elementRoleName("role");
+	private static final PlatformId PLATFORM_ID = randomPlatformId();
+	private static final PlatformName PLATFORM_NAME = platformName("platform");
+	private static final PlatformChipsetName PLATFORM_CHIPSET = platformChipsetName("chipset");
+	private static final int IMAGES = 4;
+	private static final int PACKAGES = 5;
+	private static final long MAX_STATEMENTS = 12;
+	
+	private Repository repository;
+	private ElementImageService service;
+	
+	@Before
+	public void initTestEnvironment() {
+		repository = new Repository(getEntityManager());
+		service = new DefaultElementImagesService(new ElementImageManager(repository,
+																		  mock(SubtransactionService.class),
+																		  new ImageUpgradeIndex(repository),
+																		  mock(Messages.class)),
+												  new ElementProvider(repository),
+												  new ElementFingerprintManager(repository));
+		
+		transaction(()->{
+			ElementRole role = repository.addIfAbsent(findRoleByName(ELEMENT_ROLE), 
+													  () -> new ElementRole(ELEMENT_ROLE,DATA));
+			ElementGroup group = repository.addIfAbsent(findElementGroupByName(GROUP_TYPE, GROUP_NAME), 
+														() -> new ElementGroup(GROUP_ID, 
+																			   GROUP_TYPE, 
+																			   GROUP_NAME));
+			Platform platform = repository.addIfAbsent(findPlatformById(PLATFORM_ID),
+													   () -> new Platform(PLATFORM_ID,
+															   			  PLATFORM_NAME,
+															   			  PLATFORM_CHIPSET));
+			Element element = new Element(group, 
+										  role, 
+										  platform, 
+										  ELEMENT_ID, 
+										  ELEMENT_NAME);
+			repository.add(element);
+			
+			for(int i=0; i < IMAGES; i++) {
+				List<Package_Version> packages = new ArrayList<>();
+				for(int j=0; j < PACKAGES; j++) {
+					Package pkg = new Package("io.leitstand", format("pkg-%d-%d",i,j), "deb");
+					Package_Version version = pkg.newVersion(new Version(1,0,0));
+					version.setBuildDate(new Date());
+					version.setChecksums(asList(md5Checksum("md5"),
+												sha256Checksum("sha256")));
+					repository.add(pkg);
+					packages.add(version);
+				}
+				Image image = new Image(randomImageId(),
+										imageType("lxd"),
+										imageName("image-"+i),
+										asList(role),
+										PLATFORM_CHIPSET,
+										new Version(1,i,0));
+				image.setOrganization("io.leitstand");
+				image.setPackages(packages);
+				image.setChecksums(asList(md5Checksum("md5")));
+				repository.add(image);
+				Element_Image elementImage = new Element_Image(element, image);
+				elementImage.setElementImageState(CACHED);
+				repository.add(elementImage);
+			}
+		});
+		// Read everything from the database. 
+		// Neither the persistence context nor the shared cache must serve any entity.
+		getEntityManager().clear();
+		getEntityManager().getEntityManagerFactory().getCache().evictAll();
+	}
+	
+	@After
+	public void disableQueryStatistics() {
+		getDatabase().executeUpdate(prepare("SET QUERY_STATISTICS FALSE"));
+	}
+	
+	private long countStatements() {
+		return getDatabase().getSingleResult(prepare("SELECT COALESCE(SUM(EXECUTION_COUNT),0) "+
+													 "FROM INFORMATION_SCHEMA.QUERY_STATISTICS "+
+													 "WHERE SQL_STATEMENT NOT LIKE '%QUERY_STATISTICS%'"),
+											 rs -> rs.getLong(1));
+	}
+	
+	@Test
+	public void read_element_images_with_bounded_number_of_statements() {
+		getDatabase().executeUpdate(prepare("SET QUERY_STATISTICS TRUE"));
+		transaction(()->{
+			ElementImages images = service.getElementImages(ELEMENT_ID);
+			assertEquals(IMAGES, images.getImages().size());
+			images.getImages().forEach(image -> assertEquals(PACKAGES, image.getPackages().size()));
+		});
+		long statements = countStatements();
+		assertTrue("Element images were not read from the database", statements > 0);
+		assertTrue(format("%d statements exceed the limit of %d statements",statements,MAX_STATEMENTS),
+				   statements <= MAX_STATEMENTS);
+	}
+	
+}
@@ -18,6 +18,7 @@ package io.leitstand.inventory.model;
 import static io.leitstand.inventory.model.Element.findElementByName;
 import static io.leitstand.inventory.model.ElementGroup.findElementGroupByName;
 import static io.leitstand.inventory.model.ElementRole.findRoleByName;
+import static io.leitstand.inventory.model.Element_Fingerprint.Section.MODULE;
 import static io.leitstand.inventory.model.ModuleDataMother.testModule;
 import static io.leitstand.inventory.service.AdministrativeState.RETIRED;
 import static io.leitstand.inventory.service.ElementGroupId.randomGroupId;
@@ -81,13 +82,17 @@ public class ElementModuleServiceIT extends InventoryIT {
 	public ExpectedException exception = ExpectedException.none();
 	
 	private ElementModuleService service;
+	private ElementFingerprintManager fingerprints;
 	
 	@Before
 	public void initTestEnvironment() {
 		Repository repository = new Repository(getEntityManager());
 		ElementProvider elements = new ElementProvider(repository);
 		ElementModuleManager modules = new ElementModuleManager(repository,mock(Messages.class));
-		service = new DefaultElementModuleService(elements,modules);
+		fingerprints = new ElementFingerprintManager(repository);
+		service = new DefaultElementModuleService(elements,
+												  modules,
+												  fingerprints);
 		
 		transaction(()->{
 			ElementGroup moduleTestGroup = repository.addIfAbsent(findElementGroupByName(GROUP_TYPE, 
@@ -325,5 +330,43 @@ public class ElementModuleServiceIT extends InventoryIT {
 			}
 		});
 	}
+	
+	@Test
+	public void skip_unchanged_modules_resubmission() {
+		ModuleData moduleA = testModule("Module A");
+		ModuleData moduleB = testModule("Module B");
+		
+		transaction(() -> {
+			service.storeElementModules(ELEMENT_ID, asList(moduleA,moduleB));
+		});
+		
+		// Resubmit the same modules in different order.
+		transaction(() -> {
+			service.storeElementModules(ELEMENT_ID, asList(moduleB,moduleA));
+		});
+		
+		assertEquals(1L,fingerprints.getProcessedSubmissions(MODULE));
+		assertEquals(1L,fingerprints.getSkippedSubmissions(MODULE));
+		
+		transaction(() -> {
+			assertThat(service.getElementModules(ELEMENT_ID).getModules(),hasSizeOf(2));
+		});
+	}
+	
+	@Test
+	public void process_modified_modules_resubmission() {
+		ModuleData moduleA = testModule("Module A");
+		ModuleData moduleB = testModule("Module B");
+		
+		transaction(() -> {
+			service.storeElementModules(ELEMENT_ID, asList(moduleA));
+		});
+		
+		transaction(() -> {
+			service.storeElementModules(ELEMENT_ID, asList(moduleA,moduleB));
+		});
+		
+		assertEquals(2L,fingerprints.getProcessedSubmissions(MODULE));
+		assertEquals(0L,fingerprints.getSkippedSubmissions(MODULE));
+	}
 }
-
@@ -27,16 +27,21 @@ import static io.leitstand.inventory.service.ReasonCode.IVT0300E_ELEMENT_NOT_FOU
 import static io.leitstand.inventory.service.ReasonCode.IVT0350E_ELEMENT_IFP_NOT_FOUND;
 import static io.leitstand.inventory.service.ReasonCode.IVT0353E_ELEMENT_IFP_NOT_REMOVABLE;
 import static io.leitstand.testing.ut.LeitstandCoreMatchers.reason;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonMap;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyCollection;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -55,6 +60,7 @@ import org.mockito.runners.MockitoJUnitRunner;
 
 import io.leitstand.commons.ConflictException;
 import io.leitstand.commons.EntityNotFoundException;
+import io.leitstand.commons.messages.Message;
 import io.leitstand.commons.messages.Messages;
 import io.leitstand.commons.model.Query;
 import io.leitstand.commons.model.Repository;
@@ -302,4 +308,119 @@ public class ElementPhysicalInterfaceManagerTest {
         verify(ifp).linkTo(neighbor, interfaceName("ifp-0/0/2"));
     }
 	
+	@Test
+	public void synchronizing_physical_interfaces_skips_unchanged_physical_interface() {
+		Element_ContainerInterface  ifc = mock(Element_ContainerInterface.class);
+		when(ifc.getInterfaceName()).thenReturn(interfaceName("ifc-0/0/0/1"));
+		when(ifp.getIfpName()).thenReturn(interfaceName("ifp-0/0/1"));
+		when(ifp.getContainerInterface()).thenReturn(ifc);
+		when(ifp.getAdministrativeState()).thenReturn(AdministrativeState.UP);
+		when(ifp.getOperationalState()).thenReturn(OperationalState.UP);
+		when(ifp.getBandwidth()).thenReturn(bandwidth("10 Gbps"));
+		when(ifp.getCategory()).thenReturn("category");
+		when(ifp.getIfpAlias()).thenReturn("alias");
+		when(ifp.getMacAddress()).thenReturn(macAddress("00:11:22:33:44:55"));
+		when(repository.execute(any(Query.class))).thenReturn(asList(ifp))
+												  .thenReturn(asList(ifc));
+		
+		ElementPhysicalInterfaceSubmission submission = newPhysicalInterfaceSubmission()
+														.withAdministrativeState(AdministrativeState.UP)
+														.withBandwidth(bandwidth("10 Gbps"))
+														.withCategory("category")
+														.withIfcName(interfaceName("ifc-0/0/0/1"))
+														.withIfpAlias("alias")
+														.withIfpName(interfaceName("ifp-0/0/1"))
+														.withMacAddress(macAddress("00:11:22:33:44:55"))
+														.withOperationalState(OperationalState.UP)
+														.build();
+		
+		manager.storePhysicalInterfaces(element, asList(submission));
+		
+		verify(ifp,never()).setOperationalState(any(OperationalState.class));
+		verify(ifp,never()).removeNeighbor();
+		verify(repository,never()).add(any());
+		verify(repository,never()).remove(any());
+		verify(event,never()).fire(any(ElementPhysicalInterfaceEvent.class));
+	}
+	
+	@Test
+	public void synchronizing_physical_interfaces_updates_modified_physical_interface() {
+		Element_ContainerInterface  ifc = mock(Element_ContainerInterface.class);
+		when(ifc.getInterfaceName()).thenReturn(interfaceName("ifc-0/0/0/1"));
+		when(ifp.getIfpName()).thenReturn(interfaceName("ifp-0/0/1"));
+		when(ifp.getContainerInterface()).thenReturn(ifc);
+		when(ifp.getAdministrativeState()).thenReturn(AdministrativeState.UP);
+		when(ifp.getOperationalState()).thenReturn(OperationalState.UP);
+		when(repository.execute(any(Query.class))).thenReturn(asList(ifp))
+												  .thenReturn(asList(ifc));
+		
+		ElementPhysicalInterfaceSubmission submission = newPhysicalInterfaceSubmission()
+														.withAdministrativeState(AdministrativeState.UP)
+														.withIfcName(interfaceName("ifc-0/0/0/1"))
+														.withIfpName(interfaceName("ifp-0/0/1"))
+														.withOperationalState(OperationalState.DOWN)
+														.build();
+		
+		manager.storePhysicalInterfaces(element, asList(submission));
+		
+		verify(ifp).setOperationalState(OperationalState.DOWN);
+		verify(repository,never()).add(any());
+		verify(event).fire(any(ElementPhysicalInterfaceEvent.class));
+	}
+	
+	@Test
+	public void synchronizing_physical_interfaces_adds_missing_physical_interfaces() {
+		ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+		doNothing().when(repository).add(captor.capture());
+		when(repository.execute(any(Query.class))).thenReturn(emptyList())
+												  .thenReturn(emptyList());
+		
+		ElementPhysicalInterfaceSubmission ifp1 = newPhysicalInterfaceSubmission()
+												  .withIfcName(interfaceName("ifc-0/0/0/1"))
+												  .withIfpName(interfaceName("ifp-0/0/1"))
+												  .build();
+		ElementPhysicalInterfaceSubmission ifp2 = newPhysicalInterfaceSubmission()
+												  .withIfcName(interfaceName("ifc-0/0/0/1"))
+												  .withIfpName(interfaceName("ifp-0/0/2"))
+												  .build();
+		
+		manager.storePhysicalInterfaces(element, asList(ifp1,ifp2));
+		
+		List<Object> added = captor.getAllValues();
+		assertEquals(3,added.size());
+		assertThat(added.get(0), is(Element_ContainerInterface.class));
+		assertThat(added.get(1), is(Element_PhysicalInterface.class));
+		assertThat(added.get(2), is(Element_PhysicalInterface.class));
+		verify(event,times(2)).fire(any(ElementPhysicalInterfaceEvent.class));
+	}
+	
+	@Test
+	public void synchronizing_physical_interfaces_resolves_all_neighbors_at_once() {
+		Element neighbor = mock(Element.class);
+		when(repository.execute(any(Query.class))).thenReturn(emptyList())
+												  .thenReturn(emptyList());
+		when(elements.tryFetchElements(anyCollection())).thenReturn(singletonMap(elementName("neighbor"), neighbor));
+		
+		ElementPhysicalInterfaceSubmission ifp1 = newPhysicalInterfaceSubmission()
+												  .withIfcName(interfaceName("ifc-0/0/0/1"))
+												  .withIfpName(interfaceName("ifp-0/0/1"))
+												  .withNeighbor(newPhysicalInterfaceNeighbor()
+														  		.withElementName(elementName("neighbor"))
+														  		.withInterfaceName(interfaceName("ifp-0/0/1")))
+												  .build();
+		ElementPhysicalInterfaceSubmission ifp2 = newPhysicalInterfaceSubmission()
+												  .withIfcName(interfaceName("ifc-0/0/0/2"))
+												  .withIfpName(interfaceName("ifp-0/0/2"))
+												  .withNeighbor(newPhysicalInterfaceNeighbor()
+														  		.withElementName(elementName("unknown"))
+														  		.withInterfaceName(interfaceName("ifp-0/0/1")))
+												  .build();
+		
+		assertFalse(manager.storePhysicalInterfaces(element, asList(ifp1,ifp2)));
+		
+		verify(elements).tryFetchElements(anyCollection());
+		verify(elements,never()).tryFetchElement(any(ElementName.class));
+		verify(messages).add(any(Message.class));
+	}
+	
 }
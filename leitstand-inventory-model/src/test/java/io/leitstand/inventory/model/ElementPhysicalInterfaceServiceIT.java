@@ -40,8 +40,11 @@ import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.fail;
 import static org.mockito.ArgumentCaptor.forClass;
+import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import java.util.List;
 
@@ -103,7 +106,9 @@ public class ElementPhysicalInterfaceServiceIT extends InventoryIT{
 																					  elements,
 																					  messages,
 																					  event);
-		service = new DefaultElementPhysicalInterfaceService(elements,manager);
+		service = new DefaultElementPhysicalInterfaceService(elements,
+															 manager,
+															 new ElementFingerprintManager(repository));
 		
 		transaction(()->{
 			ElementGroup group = repository.addIfAbsent(findElementGroupByName(GROUP_TYPE, 
@@ -567,6 +572,28 @@ public class ElementPhysicalInterfaceServiceIT extends InventoryIT{
 			});
 		
 	}
-
+	
+	@Test
+	public void skip_unchanged_physical_interfaces_resubmission() {
+		ElementPhysicalInterfaceSubmission submission = newPhysicalInterfaceSubmission()
+														.withAdministrativeState(AdministrativeState.UP)
+														.withBandwidth(bandwidth("100.000 Mbps"))
+														.withIfpName(IFP_NAME)
+														.withIfcName(IFC_NAME)
+														.withMacAddress(macAddress("00:11:22:33:44:55"))
+														.withOperationalState(OperationalState.UP)
+														.build();
+		
+		transaction(()->{
+			service.storePhysicalInterfaces(ELEMENT_NAME, asList(submission));
+		});
+		
+		transaction(()->{
+			service.storePhysicalInterfaces(ELEMENT_NAME, asList(submission));
+		});
+		
+		verify(event,times(1)).fire(any(ElementPhysicalInterfaceEvent.class));
+		
+	}
 	
 }
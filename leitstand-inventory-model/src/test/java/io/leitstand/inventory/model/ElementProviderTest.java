@@ -15,18 +15,26 @@
  */
 package io.leitstand.inventory.model;
 
+import static io.leitstand.inventory.service.ElementAlias.elementAlias;
 import static io.leitstand.inventory.service.ElementId.randomElementId;
 import static io.leitstand.inventory.service.ElementName.elementName;
 import static io.leitstand.inventory.service.ReasonCode.IVT0300E_ELEMENT_NOT_FOUND;
 import static io.leitstand.testing.ut.LeitstandCoreMatchers.reason;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.Map;
+
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
@@ -112,7 +120,93 @@ public class ElementProviderTest {
         verify(delegate).fetchElement(ELEMENT_ID);
         
     }
-
-	
+    
+    @Test
+    public void tryFetchElements_does_not_query_database_for_empty_name_set() {
+        assertEquals(0,elements.tryFetchElements(emptyList()).size());
+        verify(repository,never()).execute(any(Query.class));
+    }
+    
+    @Test
+    public void tryFetchElements_resolves_elements_by_name_and_alias() {
+        Element byName = mock(Element.class);
+        when(byName.getElementName()).thenReturn(elementName("a"));
+        Element byAlias = mock(Element.class);
+        when(byAlias.getElementName()).thenReturn(elementName("c"));
+        when(byAlias.getElementAlias()).thenReturn(elementAlias("b"));
+        when(repository.execute(any(Query.class))).thenReturn(asList(byName,byAlias));
+        
+        Map<ElementName,Element> resolved = elements.tryFetchElements(asList(elementName("a"),
+                                                                              elementName("b"),
+                                                                              elementName("d")));
+        assertSame(byName,resolved.get(elementName("a")));
+        assertSame(byAlias,resolved.get(elementName("b")));
+        assertNull(resolved.get(elementName("d")));
+    }
+    
+    @Test
+    public void tryFetchElements_prefers_element_name_over_element_alias() {
+        Element byName = mock(Element.class);
+        when(byName.getElementName()).thenReturn(elementName("a"));
+        Element byAlias = mock(Element.class);
+        when(byAlias.getElementName()).thenReturn(elementName("c"));
+        when(byAlias.getElementAlias()).thenReturn(elementAlias("a"));
+        when(repository.execute(any(Query.class))).thenReturn(asList(byAlias,byName));
+        
+        Map<ElementName,Element> resolved = elements.tryFetchElements(asList(elementName("a")));
+        assertSame(byName,resolved.get(elementName("a")));
+    }
+    
+    @Test
+    public void resolve_element_only_once_per_transaction() {
+        Element element = mock(Element.class);
+        when(element.getElementId()).thenReturn(ELEMENT_ID);
+        when(element.getElementName()).thenReturn(ELEMENT_NAME);
+        when(element.getElementAlias()).thenReturn(elementAlias("alias"));
+        when(repository.execute(any(Query.class))).thenReturn(element);
+        ElementIdentityMap cache = new ElementIdentityMap();
+        ElementProvider cached = new ElementProvider(repository, cache);
+        
+        assertSame(element,cached.fetchElement(ELEMENT_ID));
+        assertSame(element,cached.fetchElement(ELEMENT_ID));
+        assertSame(element,cached.fetchElement(ELEMENT_NAME));
+        assertSame(element,cached.fetchElement(elementName("alias")));
+        
+        verify(repository,times(1)).execute(any(Query.class));
+        assertEquals(3,cache.getHits());
+        assertEquals(1,cache.getMisses());
+    }
+    
+    @Test
+    public void resolve_renamed_element_from_repository() {
+        Element element = mock(Element.class);
+        when(element.getElementId()).thenReturn(ELEMENT_ID);
+        when(element.getElementName()).thenReturn(ELEMENT_NAME);
+        when(repository.execute(any(Query.class))).thenReturn(element);
+        ElementProvider cached = new ElementProvider(repository, new ElementIdentityMap());
+        
+        assertSame(element,cached.fetchElement(ELEMENT_NAME));
+        when(element.getElementName()).thenReturn(elementName("renamed"));
+        when(repository.execute(any(Query.class))).thenReturn(null);
+        
+        assertNull(cached.tryFetchElement(ELEMENT_NAME));
+    }
+    
+    @Test
+    public void resolve_removed_element_from_repository() {
+        Element element = mock(Element.class);
+        when(element.getElementId()).thenReturn(ELEMENT_ID);
+        when(element.getElementName()).thenReturn(ELEMENT_NAME);
+        when(repository.execute(any(Query.class))).thenReturn(element);
+        ElementIdentityMap cache = new ElementIdentityMap();
+        ElementProvider cached = new ElementProvider(repository, cache);
+        
+        assertSame(element,cached.fetchElement(ELEMENT_ID));
+        cache.evict(ELEMENT_ID);
+        when(repository.execute(any(Query.class))).thenReturn(null);
+        
+        assertNull(cached.tryFetchElement(ELEMENT_ID));
+        assertNull(cached.tryFetchElement(ELEMENT_NAME));
+    }
 	
 }
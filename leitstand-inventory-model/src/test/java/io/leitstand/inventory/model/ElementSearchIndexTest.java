@@ -0,0 +1,328 @@
+/*
+ * Copyright 2020 RtBrick Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.leitstand.inventory.model;
+
+import static io.leitstand.inventory.event.ElementBatchEvent.BatchElement.newBatchElement;
+import static io.leitstand.inventory.event.ElementActivatedEvent.newElementActivatedEvent;
+import static io.leitstand.inventory.event.ElementClonedEvent.newElementClonedEvent;
+import static io.leitstand.inventory.event.ElementOperationalStateChangedEvent.newElementOperationalStateChangedEvent;
+import static io.leitstand.inventory.event.ElementRenamedEvent.newElementRenamedEvent;
+import static io.leitstand.inventory.event.ElementRetiredEvent.newElementRetiredEvent;
+import static io.leitstand.inventory.event.ElementsClonedEvent.newElementsClonedEvent;
+import static io.leitstand.inventory.event.ElementsRemovedEvent.newElementsRemovedEvent;
+import static io.leitstand.inventory.model.ElementSearchIndex.terms;
+import static io.leitstand.inventory.service.AdministrativeState.ACTIVE;
+import static io.leitstand.inventory.service.AdministrativeState.RETIRED;
+import static io.leitstand.inventory.service.ElementAlias.elementAlias;
+import static io.leitstand.inventory.service.ElementGroupName.groupName;
+import static io.leitstand.inventory.service.ElementId.randomElementId;
+import static io.leitstand.inventory.service.ElementManagementInterface.newElementManagementInterface;
+import static io.leitstand.inventory.service.ElementCloneRequest.newCloneElementRequest;
+import static io.leitstand.inventory.service.ElementName.elementName;
+import static io.leitstand.inventory.service.ElementSettings.newElementSettings;
+import static io.leitstand.inventory.service.OperationalState.MAINTENANCE;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import javax.inject.Provider;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import io.leitstand.commons.model.Query;
+import io.leitstand.commons.model.Repository;
+import io.leitstand.commons.tx.SubtransactionService;
+import io.leitstand.inventory.model.ElementSearchIndex.Index;
+import io.leitstand.inventory.service.ElementId;
+import io.leitstand.inventory.service.ElementSettings;
+
+public class ElementSearchIndexTest {
+
+	private Index index;
+	private ElementId leaf1;
+	private ElementId leaf2;
+	private ElementId spine;
+	private Repository repository;
+	private ElementSearchIndex searchIndex;
+	
+	@Before
+	public void initIndex() {
+		leaf1 = randomElementId();
+		leaf2 = randomElementId();
+		spine = randomElementId();
+		index = new Index();
+		index.add(newElementSettings()
+				  .withElementId(leaf1)
+				  .withElementName(elementName("leaf-01.pod1"))
+				  .withGroupName(groupName("pod1"))
+				  .withSerialNumber("SN-4711")
+				  .withTags("edge")
+				  .build());
+		index.add(newElementSettings()
+				  .withElementId(leaf2)
+				  .withElementName(elementName("leaf-02.pod2"))
+				  .withElementAlias(elementAlias("Border"))
+				  .withGroupName(groupName("pod2"))
+				  .withManagementInterfaces(newElementManagementInterface()
+						  					.withName("REST")
+						  					.withHostname("mgmt.leaf02.example.com"))
+				  .build());
+		index.add(newElementSettings()
+				  .withElementId(spine)
+				  .withElementName(elementName("spine-01"))
+				  .withGroupName(groupName("pod1"))
+				  .withTags("edge")
+				  .build());
+		initSearchIndex();
+	}
+	
+	private static List<ElementId> ids(List<ElementSettings> elements){
+		return elements.stream()
+					   .map(ElementSettings::getElementId)
+					   .collect(toList());
+	}
+	
+	@Test
+	public void split_query_into_lowercase_terms() {
+		assertEquals(asList("leaf","pod1"),terms("  Leaf \t POD1 "));
+		assertTrue(terms(null).isEmpty());
+		assertTrue(terms("  ").isEmpty());
+	}
+	
+	@Test
+	public void find_elements_by_name_prefix() {
+		assertEquals(asList(leaf1,leaf2),ids(index.search(terms("leaf"),100)));
+	}
+	
+	@Test
+	public void find_elements_by_name_part() {
+		assertEquals(asList(leaf1,spine),ids(index.search(terms("01"),100)));
+	}
+	
+	@Test
+	public void all_terms_must_match() {
+		assertEquals(asList(leaf1),ids(index.search(terms("edge leaf"),100)));
+	}
+	
+	@Test
+	public void find_elements_by_alias_serial_number_and_hostname() {
+		assertEquals(asList(leaf2),ids(index.search(terms("border"),100)));
+		assertEquals(asList(leaf1),ids(index.search(terms("sn-47"),100)));
+		assertEquals(asList(leaf2),ids(index.search(terms("leaf02"),100)));
+	}
+	
+	@Test
+	public void limit_search_results() {
+		assertEquals(asList(leaf1),ids(index.search(terms("leaf"),1)));
+	}
+	
+	@Test
+	public void no_result_for_unknown_term() {
+		assertTrue(index.search(terms("leaf unknown"),100).isEmpty());
+	}
+	
+	@Test
+	public void reindex_updated_element() {
+		index.add(newElementSettings()
+				  .withElementId(spine)
+				  .withElementName(elementName("core-01"))
+				  .withGroupName(groupName("pod1"))
+				  .build());
+		assertTrue(index.search(terms("spine"),100).isEmpty());
+		assertTrue(index.search(terms("edge"),100).stream().noneMatch(e -> e.getElementId().equals(spine)));
+		assertEquals(asList(spine),ids(index.search(terms("core"),100)));
+	}
+	
+	@Test
+	public void remove_element_from_index() {
+		index.remove(leaf1);
+		assertEquals(asList(leaf2),ids(index.search(terms("leaf"),100)));
+		assertEquals(asList(spine),ids(index.search(terms("edge"),100)));
+	}
+	
+	private static Element element(ElementId elementId, String name) {
+		Element element = mock(Element.class);
+		when(element.getElementId()).thenReturn(elementId);
+		when(element.getElementName()).thenReturn(elementName(name));
+		when(element.getGroupName()).thenReturn(groupName("pod1"));
+		when(element.getElementRole()).thenReturn(mock(ElementRole.class));
+		return element;
+	}
+	
+	@SuppressWarnings("unchecked")
+	private void initSearchIndex() {
+		repository = mock(Repository.class);
+		SubtransactionService transactions = new SubtransactionService() {
+
+		    @Override
+		    protected Provider<SubtransactionService> getServiceProvider() {
+		        return () -> this;
+		    }
+        
+		    @Override
+		    protected Repository getRepository() {
+		        return repository;
+		    }
+		};
+		searchIndex = new ElementSearchIndex(transactions);
+		Element leaf = element(leaf1,"leaf-01");
+		when(repository.execute(any(Query.class))).thenReturn(asList(leaf));
+		searchIndex.rebuild();
+	}
+	
+	@SuppressWarnings("unchecked")
+	@Test
+	public void add_cloned_element_to_index() {
+		ElementId clone = randomElementId();
+		Element cloned = element(clone,"leaf-03");
+		when(repository.execute(any(Query.class))).thenReturn(asList(cloned));
+		
+		searchIndex.onElementEvent(newElementClonedEvent()
+								   .withElementId(leaf1)
+								   .withElementName(elementName("leaf-01"))
+								   .withCloneElementId(clone)
+								   .withCloneElementName(elementName("leaf-03"))
+								   .build());
+		
+		assertEquals(asList(clone),ids(searchIndex.searchElements("leaf-03",100)));
+	}
+	
+	@SuppressWarnings("unchecked")
+	@Test
+	public void add_all_clones_to_index() {
+		ElementId clone1 = randomElementId();
+		ElementId clone2 = randomElementId();
+		Element cloned1 = element(clone1,"leaf-03");
+		Element cloned2 = element(clone2,"leaf-04");
+		when(repository.execute(any(Query.class))).thenReturn(asList(cloned1,cloned2));
+		
+		searchIndex.onElementEvent(newElementsClonedEvent()
+								   .withElementId(leaf1)
+								   .withElementName(elementName("leaf-01"))
+								   .withClones(asList(newCloneElementRequest()
+										   			  .withElementId(clone1)
+										   			  .withElementName(elementName("leaf-03"))
+										   			  .build(),
+										   			  newCloneElementRequest()
+										   			  .withElementId(clone2)
+										   			  .withElementName(elementName("leaf-04"))
+										   			  .build()))
+								   .build());
+		
+		assertEquals(asList(leaf1,clone1,clone2),ids(searchIndex.searchElements("leaf",100)));
+	}
+	
+	@SuppressWarnings("unchecked")
+	@Test
+	public void reindex_renamed_element() {
+		Element renamed = element(leaf1,"core-01");
+		when(repository.execute(any(Query.class))).thenReturn(asList(renamed));
+		
+		searchIndex.onElementEvent(newElementRenamedEvent()
+								   .withElementId(leaf1)
+								   .withElementName(elementName("core-01"))
+								   .build());
+		
+		assertTrue(searchIndex.searchElements("leaf",100).isEmpty());
+		assertEquals(asList(leaf1),ids(searchIndex.searchElements("core",100)));
+	}
+	
+	@SuppressWarnings("unchecked")
+	@Test
+	public void remove_element_from_index_if_element_does_not_exist_anymore() {
+		when(repository.execute(any(Query.class))).thenReturn(emptyList());
+		
+		searchIndex.onElementEvent(newElementRenamedEvent()
+								   .withElementId(leaf1)
+								   .withElementName(elementName("core-01"))
+								   .build());
+		
+		assertTrue(searchIndex.searchElements("leaf",100).isEmpty());
+	}
+	
+	@Test
+	public void remove_batch_of_removed_elements_from_index() {
+		searchIndex.onElementBatchEvent(newElementsRemovedEvent()
+										.withGroupName(groupName("pod1"))
+										.withElements(asList(newBatchElement(leaf1, 
+																			 elementName("leaf-01"), 
+																			 null, 
+																			 null)))
+										.build());
+		
+		assertTrue(searchIndex.searchElements("leaf",100).isEmpty());
+	}
+	
+	@Test
+	public void no_result_for_negative_limit() {
+		assertTrue(searchIndex.searchElements("leaf",-1).isEmpty());
+	}
+	
+	@SuppressWarnings("unchecked")
+	@Test
+	public void reindex_retired_element() {
+		Element retired = element(leaf1,"leaf-01");
+		when(retired.getAdministrativeState()).thenReturn(RETIRED);
+		when(repository.execute(any(Query.class))).thenReturn(asList(retired));
+		
+		searchIndex.onElementEvent(newElementRetiredEvent()
+								   .withElementId(leaf1)
+								   .withElementName(elementName("leaf-01"))
+								   .build());
+		
+		assertEquals(RETIRED,searchIndex.searchElements("leaf",100).get(0).getAdministrativeState());
+	}
+	
+	@SuppressWarnings("unchecked")
+	@Test
+	public void reindex_activated_element() {
+		Element activated = element(leaf1,"leaf-01");
+		when(activated.getAdministrativeState()).thenReturn(ACTIVE);
+		when(repository.execute(any(Query.class))).thenReturn(asList(activated));
+		
+		searchIndex.onElementEvent(newElementActivatedEvent()
+								   .withElementId(leaf1)
+								   .withElementName(elementName("leaf-01"))
+								   .build());
+		
+		assertEquals(ACTIVE,searchIndex.searchElements("leaf",100).get(0).getAdministrativeState());
+	}
+	
+	@SuppressWarnings("unchecked")
+	@Test
+	public void reindex_element_with_changed_operational_state() {
+		Element element = element(leaf1,"leaf-01");
+		when(element.getOperationalState()).thenReturn(MAINTENANCE);
+		when(repository.execute(any(Query.class))).thenReturn(asList(element));
+		
+		searchIndex.onElementEvent(newElementOperationalStateChangedEvent()
+								   .withElementId(leaf1)
+								   .withElementName(elementName("leaf-01"))
+								   .withOperationalState(MAINTENANCE)
+								   .build());
+		
+		assertEquals(MAINTENANCE,searchIndex.searchElements("leaf",100).get(0).getOperationalState());
+	}
+	
+}
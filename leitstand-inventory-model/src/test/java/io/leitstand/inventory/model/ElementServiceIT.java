@@ -27,6 +27,7 @@ import static io.leitstand.inventory.service.ElementId.randomElementId;
 import static io.leitstand.inventory.service.ElementManagementInterface.newElementManagementInterface;
 import static io.leitstand.inventory.service.ElementName.elementName;
 import static io.leitstand.inventory.service.ElementRoleName.elementRoleName;
+import static io.leitstand.inventory.service.PageCursor.pageCursor;
 import static io.leitstand.inventory.service.ReasonCode.IVT0303E_ELEMENT_NOT_REMOVABLE;
 import static io.leitstand.testing.ut.LeitstandCoreMatchers.isEmptyList;
 import static io.leitstand.testing.ut.LeitstandCoreMatchers.reason;
@@ -183,6 +184,47 @@ public class ElementServiceIT extends InventoryIT {
 		
 	}
 
+	@Test
+	public void find_elements_by_anchored_name_literal() {
+		
+		transaction(()->{
+			List<ElementSettings> elements = service.findElementsByName("^active$", 0, 100);
+			assertEquals(1, elements.size());
+			assertEquals(ACTIVE_ELEMENT_ID, elements.get(0).getElementId());
+			assertThat(service.findElementsByName("^ctive", 0, 100),isEmptyList());
+		});
+		
+	}
+	
+	@Test
+	public void find_elements_by_name_regular_expression() {
+		
+		transaction(()->{
+			List<ElementSettings> elements = service.findElementsByName("^a[a-z]+e$", 0, 100);
+			assertEquals(1, elements.size());
+			assertEquals(ACTIVE_ELEMENT_ID, elements.get(0).getElementId());
+		});
+		
+	}
+
+	@Test
+	public void page_through_elements_by_cursor() {
+		
+		transaction(()->{
+			List<ElementSettings> first = service.findElementsByName("^(active|new|retired)$", null, 2);
+			assertEquals(2, first.size());
+			assertEquals(ACTIVE_ELEMENT_NAME, first.get(0).getElementName());
+			assertEquals(NEW_ELEMENT_NAME, first.get(1).getElementName());
+
+			List<ElementSettings> second = service.findElementsByName("^(active|new|retired)$", pageCursor(first.get(1)), 2);
+			assertEquals(1, second.size());
+			assertEquals(RETIRED_ELEMENT_NAME, second.get(0).getElementName());
+			
+			assertThat(service.findElementsByName("^retired$", pageCursor(second.get(0)), 2),isEmptyList());
+		});
+		
+	}
+
 	@Test
 	public void find_elements_by_tag_pattern() {
 		
@@ -36,6 +36,7 @@ import static io.leitstand.inventory.service.ReasonCode.IVT0300E_ELEMENT_NOT_FOU
 import static io.leitstand.inventory.service.ReasonCode.IVT0307E_ELEMENT_NAME_ALREADY_IN_USE;
 import static io.leitstand.inventory.service.ReasonCode.IVT0400E_ELEMENT_ROLE_NOT_FOUND;
 import static io.leitstand.testing.ut.LeitstandCoreMatchers.reason;
+import static java.util.Arrays.asList;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
@@ -44,7 +45,9 @@ import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.isA;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 
 import javax.enterprise.event.Event;
 
@@ -57,6 +60,9 @@ import io.leitstand.commons.EntityNotFoundException;
 import io.leitstand.commons.UniqueKeyConstraintViolationException;
 import io.leitstand.commons.messages.Messages;
 import io.leitstand.commons.model.Repository;
+import io.leitstand.inventory.event.ElementEvent;
+import io.leitstand.inventory.event.ElementRenamedEvent;
+import io.leitstand.inventory.event.ElementSettingsUpdatedEvent;
 import io.leitstand.inventory.service.ElementAlias;
 import io.leitstand.inventory.service.ElementId;
 import io.leitstand.inventory.service.ElementName;
@@ -92,6 +98,7 @@ public class ElementSettingsServiceIT extends InventoryIT {
 	
 	private ElementSettingsService service;
 	private PlatformService platforms;
+	private Event<ElementEvent> sink;
 	
 	private ElementSettings seed;
 	
@@ -110,7 +117,13 @@ public class ElementSettingsServiceIT extends InventoryIT {
 																    mock(Messages.class), 
 																    mock(Event.class));
 		
-		this.service = new DefaultElementSettingsService(manager,elements,mock(Event.class));
+		ElementImportManager importer = new ElementImportManager(repository,
+																 platforms,
+																 manager,
+																 mock(Messages.class));
+		
+		this.sink = mock(Event.class);
+		this.service = new DefaultElementSettingsService(manager,importer,elements,sink);
 		this.platforms = new DefaultPlatformService(repository,mock(Messages.class));
 		this.seed = element(ELEMENT_ID,"StoreElement");
 
@@ -579,5 +592,85 @@ public class ElementSettingsServiceIT extends InventoryIT {
 		
 	}
 
+	@Test
+	public void import_new_and_existing_elements_in_bulk() {
+		ElementSettings existing = element(seed)
+								   .withElementId(randomElementId())
+								   .withElementName(elementName("bulk_existing"))
+								   .build();
+		transaction(() -> {
+			service.storeElementSettings(existing);
+		});
+		
+		ElementSettings updated = element(existing)
+								  .withDescription("updated in bulk")
+								  .build();
+		ElementSettings renamed = element(seed)
+				  				  .withElementId(randomElementId())
+				  				  .withElementName(elementName("bulk_renamed"))
+				  				  .build();
+		ElementSettings created = element(seed)
+								  .withElementId(randomElementId())
+								  .withElementName(elementName("bulk_created"))
+								  .withPlatformId(PLATFORM_A.getPlatformId())
+								  .build();
+		ElementSettings conflict = element(seed)
+								   .withElementId(randomElementId())
+								   .withElementName(elementName("bulk_existing"))
+								   .build();
+		
+		transaction(() -> {
+			service.storeElementSettings(renamed);
+		});
+		
+		ElementSettings renaming = element(renamed)
+								   .withElementName(elementName("bulk_renamed_again"))
+								   .build();
+		
+		transaction(() -> {
+			service.storeElementSettings(asList(updated, 
+												renaming,
+												created,
+												conflict));
+		});
+		
+		transaction(() -> {
+			assertEquals("updated in bulk", 
+						 service.getElementSettings(existing.getElementId()).getDescription());
+			assertEquals(elementName("bulk_renamed_again"), 
+						 service.getElementSettings(renamed.getElementId()).getElementName());
+			ElementSettings reloaded = service.getElementSettings(created.getElementId());
+			assertEquals(created.getElementName(),reloaded.getElementName());
+			assertEquals(PLATFORM_A.getPlatformId(),reloaded.getPlatformId());
+			assertEquals(existing.getElementId(),
+						 service.getElementSettings(elementName("bulk_existing")).getElementId());
+		});
+		
+		exception.expect(EntityNotFoundException.class);
+		transaction(() -> {
+			service.getElementSettings(conflict.getElementId());
+		});
+	}
+	
+	@Test
+	public void fire_deferred_events_of_bulk_import() {
+		ElementSettings existing = element(seed)
+								   .withElementId(randomElementId())
+								   .withElementName(elementName("bulk_event"))
+								   .build();
+		transaction(() -> {
+			service.storeElementSettings(existing);
+		});
+		
+		ElementSettings renamed = element(existing)
+								  .withElementName(elementName("bulk_event_renamed"))
+								  .build();
+		transaction(() -> {
+			service.storeElementSettings(asList(renamed));
+		});
+		
+		verify(sink).fire(isA(ElementRenamedEvent.class));
+		verify(sink).fire(isA(ElementSettingsUpdatedEvent.class));
+	}
 	
 }
@@ -57,15 +57,20 @@ import static io.leitstand.inventory.service.ServiceName.serviceName;
 import static io.leitstand.inventory.service.ServiceType.CONTAINER;
 import static io.leitstand.inventory.service.ServiceType.DAEMON;
 import static io.leitstand.security.auth.UserName.userName;
+import static java.util.Arrays.asList;
 import static javax.ws.rs.core.MediaType.TEXT_PLAIN_TYPE;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import java.util.LinkedList;
 import java.util.List;
 
 import javax.enterprise.event.Event;
+import javax.inject.Provider;
 
 import org.junit.After;
 import org.junit.Before;
@@ -75,6 +80,8 @@ import io.leitstand.commons.db.DatabaseService;
 import io.leitstand.commons.messages.Messages;
 import io.leitstand.commons.model.Repository;
 import io.leitstand.commons.tx.SubtransactionService;
+import io.leitstand.inventory.event.ElementBatchEvent;
+import io.leitstand.inventory.event.ElementsRemovedEvent;
 import io.leitstand.inventory.service.AddressInterface;
 import io.leitstand.inventory.service.DnsRecordSet;
 import io.leitstand.inventory.service.DnsZoneId;
@@ -126,6 +133,7 @@ public class ForceRemoveElementIT extends InventoryIT{
 	private ElementRoleProvider roles;
 	private PlatformProvider platforms;
 	private DnsZoneProvider zones;
+	private Event<ElementBatchEvent> batchEvents;
 	
 	@Before
 	public void initTestEnvironment() {
@@ -204,7 +212,8 @@ public class ForceRemoveElementIT extends InventoryIT{
 																							 messages, 
 																							 event);
 			ElementPhysicalInterfaceService ifpService = new DefaultElementPhysicalInterfaceService(elements, 
-																									ifpManager);
+																									ifpManager,
+																									new ElementFingerprintManager(repository));
 			ifpService.storePhysicalInterface(ELEMENT_ID, 
 											  newPhysicalInterfaceSubmission()
 											  .withIfpName(InterfaceName.valueOf("ifp-0/0/0"))
@@ -233,7 +242,8 @@ public class ForceRemoveElementIT extends InventoryIT{
 		transaction(()->{
 			ElementModuleManager moduleManager = new ElementModuleManager(repository,messages);
 			ElementModuleService moduleService = new DefaultElementModuleService(elements, 
-																				 moduleManager);
+																				 moduleManager,
+																				 new ElementFingerprintManager(repository));
 			List<ModuleData> modules = new LinkedList<>();
 			modules.add(newModuleData()
 						.withModuleName(ModuleName.valueOf("parent"))
@@ -340,9 +350,30 @@ public class ForceRemoveElementIT extends InventoryIT{
 		
 		
 		ElementManager elementManager = new ElementManager(repository,mock(Event.class),messages);
+		
+		SubtransactionService txExecutor = new SubtransactionService() {
+
+		    @Override
+		    protected Provider<SubtransactionService> getServiceProvider() {
+		        return () -> this;
+		    }
+        
+		    @Override
+		    protected Repository getRepository() {
+		        return repository;
+		    }
+		};
+		batchEvents = mock(Event.class);
+		ElementBatchManager batchManager = new ElementBatchManager(repository, 
+																   txExecutor, 
+																   batchEvents, 
+																   messages,
+																   new JobContext());
 
 		service = new DefaultElementService(elementManager, 
-											elements);
+											elements,
+											groups,
+											batchManager);
 
 
 	}
@@ -370,6 +401,28 @@ public class ForceRemoveElementIT extends InventoryIT{
 	}
 	
 	
+	@Test
+	public void force_remove_all_group_elements_including_all_subresources() {
+		transaction(()->{
+			service.forceRemoveElements(GROUP_ID);
+		});
+		transaction(()->{
+			assertNull(elements.tryFetchElement(ELEMENT_ID));
+		});
+		verify(batchEvents,times(1)).fire(any(ElementsRemovedEvent.class));
+	}
+	
+	@Test
+	public void force_remove_element_list_including_all_subresources() {
+		transaction(()->{
+			service.forceRemoveElements(asList(ELEMENT_ID));
+		});
+		transaction(()->{
+			assertNull(elements.tryFetchElement(ELEMENT_ID));
+		});
+		verify(batchEvents,times(1)).fire(any(ElementsRemovedEvent.class));
+	}
+	
 	@After
 	public void verify_group_platform_and_role_were_not_removed() {
 		assertNotNull(roles.fetchElementRole(ROLE_NAME));
@@ -18,6 +18,7 @@ package io.leitstand.inventory.model;
 import static io.leitstand.inventory.model.Element.findElementByName;
 import static io.leitstand.inventory.model.ElementGroup.findElementGroupByName;
 import static io.leitstand.inventory.model.ElementRole.findRoleByName;
+import static io.leitstand.inventory.model.Image_DeploymentCount.seedDeploymentCounts;
 import static io.leitstand.inventory.model.Platform.findPlatformById;
 import static io.leitstand.inventory.service.ApplicationName.applicationName;
 import static io.leitstand.inventory.service.ElementAlias.elementAlias;
@@ -647,6 +648,11 @@ public class ImageServiceIT extends InventoryIT{
 			repository.add(ei);
 		});
 		
+		// Element images were added without maintaining the deployment counters.
+		transaction(()->{
+			repository.execute(seedDeploymentCounts());
+		});
+		
 		transaction(()->{
 			ImageDeploymentStatistics stats = service.getDeploymentStatistics(IMAGE_ID);
 			assertEquals(stats.getImage(),service.getImage(IMAGE_ID));
@@ -696,6 +702,11 @@ public class ImageServiceIT extends InventoryIT{
 			repository.add(ei);
 		});
 		
+		// Element images were added without maintaining the deployment counters.
+		transaction(()->{
+			repository.execute(seedDeploymentCounts());
+		});
+		
 		transaction(()->{
             ImageDeploymentStatistics stats = service.getDeploymentStatistics(IMAGE_ID);
             assertEquals(stats.getImage(),service.getImage(IMAGE_ID));
@@ -745,6 +756,11 @@ public class ImageServiceIT extends InventoryIT{
             repository.add(ei);
         });
         
+        // Element images were added without maintaining the deployment counters.
+        transaction(()->{
+            repository.execute(seedDeploymentCounts());
+        });
+        
         transaction(()->{
             ImageDeploymentStatistics stats = service.getDeploymentStatistics(IMAGE_ID);
             assertEquals(stats.getImage(),service.getImage(IMAGE_ID));
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2020 RtBrick Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.leitstand.inventory.model;
+
+import static io.leitstand.inventory.service.ElementRoleName.elementRoleName;
+import static io.leitstand.inventory.service.ImageId.randomImageId;
+import static io.leitstand.inventory.service.ImageType.imageType;
+import static io.leitstand.inventory.service.PlatformChipsetName.platformChipsetName;
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import io.leitstand.commons.model.Query;
+import io.leitstand.commons.model.Repository;
+import io.leitstand.inventory.event.ImageEvent;
+import io.leitstand.inventory.model.ImageUpgradeIndex.UpgradeCandidate;
+import io.leitstand.inventory.service.ImageType;
+import io.leitstand.inventory.service.PlatformChipsetName;
+import io.leitstand.inventory.service.Version;
+
+public class ImageUpgradeIndexTest {
+
+	private static final PlatformChipsetName CHIPSET = platformChipsetName("chipset");
+	private static final ImageType IMAGE_TYPE = imageType("lxd");
+	
+	private static Image image(Version version) {
+		Image image = mock(Image.class);
+		when(image.getImageId()).thenReturn(randomImageId());
+		when(image.getImageVersion()).thenReturn(version);
+		return image;
+	}
+	
+	private Repository repository;
+	private ElementRole role;
+	private ImageUpgradeIndex index;
+	
+	@Before
+	public void initTestEnvironment() {
+		repository = mock(Repository.class);
+		role = mock(ElementRole.class);
+		when(role.getRoleName()).thenReturn(elementRoleName("role"));
+		when(repository.execute(any(Query.class))).thenReturn(asList(image(new Version(1,0,1)),
+																	 image(new Version(2,0,0)),
+																	 image(new Version(1,0,0)),
+																	 image(new Version(1,1,0))));
+		index = new ImageUpgradeIndex(repository);
+	}
+	
+	@Test
+	public void find_upgrades_in_descending_version_order() {
+		List<UpgradeCandidate> upgrades = index.findUpgrades(CHIPSET, role, IMAGE_TYPE, new Version(1,0,0));
+		assertEquals(3,upgrades.size());
+		assertEquals(new Version(2,0,0),upgrades.get(0).getImageVersion());
+		assertEquals(new Version(1,1,0),upgrades.get(1).getImageVersion());
+		assertEquals(new Version(1,0,1),upgrades.get(2).getImageVersion());
+	}
+	
+	@Test
+	public void find_no_upgrades_for_latest_version() {
+		assertTrue(index.findUpgrades(CHIPSET, role, IMAGE_TYPE, new Version(2,0,0)).isEmpty());
+	}
+	
+	@Test
+	public void release_is_an_upgrade_of_its_prerelease() {
+		List<UpgradeCandidate> upgrades = index.findUpgrades(CHIPSET, role, IMAGE_TYPE, new Version(2,0,0,"rc1"));
+		assertEquals(1,upgrades.size());
+		assertEquals(new Version(2,0,0),upgrades.get(0).getImageVersion());
+	}
+	
+	@Test
+	public void load_upgrade_candidates_once() {
+		index.findUpgrades(CHIPSET, role, IMAGE_TYPE, new Version(1,0,0));
+		index.findUpgrades(CHIPSET, role, IMAGE_TYPE, new Version(1,1,0));
+		verify(repository).execute(any(Query.class));
+	}
+	
+	@Test
+	public void reload_upgrade_candidates_after_image_event() {
+		index.findUpgrades(CHIPSET, role, IMAGE_TYPE, new Version(1,0,0));
+		index.invalidate(mock(ImageEvent.class));
+		index.findUpgrades(CHIPSET, role, IMAGE_TYPE, new Version(1,0,0));
+		verify(repository,times(2)).execute(any(Query.class));
+	}
+	
+}
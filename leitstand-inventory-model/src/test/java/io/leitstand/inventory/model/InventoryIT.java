@@ -67,6 +67,7 @@ public class InventoryIT extends JpaIT {
     	    getDatabase().executeUpdate(prepare("DELETE FROM inventory.element_dns_record"));
     	    getDatabase().executeUpdate(prepare("DELETE FROM inventory.element_dns"));
     	    getDatabase().executeUpdate(prepare("DELETE FROM inventory.element_env"));
+    	    getDatabase().executeUpdate(prepare("DELETE FROM inventory.element_fingerprint"));
     	    getDatabase().executeUpdate(prepare("DELETE FROM inventory.element_ifl_ifa"));
     	    getDatabase().executeUpdate(prepare("DELETE FROM inventory.element_ifl_vlan"));
     	    getDatabase().executeUpdate(prepare("DELETE FROM inventory.element_ifl"));
@@ -81,7 +82,9 @@ public class InventoryIT extends JpaIT {
     	    getDatabase().executeUpdate(prepare("DELETE FROM inventory.elementgroup_tag"));
     	    getDatabase().executeUpdate(prepare("DELETE FROM inventory.image_application"));
     	    getDatabase().executeUpdate(prepare("DELETE FROM inventory.image_checksum"));
+    	    getDatabase().executeUpdate(prepare("DELETE FROM inventory.image_deployment_count"));
     	    getDatabase().executeUpdate(prepare("DELETE FROM inventory.image_elementrole"));
+    	    getDatabase().executeUpdate(prepare("DELETE FROM inventory.initialization_marker"));
     	    getDatabase().executeUpdate(prepare("DELETE FROM inventory.image_package_version"));
     	    getDatabase().executeUpdate(prepare("DELETE FROM inventory.package_version_checksum"));
     	    getDatabase().executeUpdate(prepare("DELETE FROM inventory.package_version"));
@@ -92,6 +95,7 @@ public class InventoryIT extends JpaIT {
     	    getDatabase().executeUpdate(prepare("DELETE FROM inventory.application"));
     	    getDatabase().executeUpdate(prepare("DELETE FROM inventory.release"));
     	    getDatabase().executeUpdate(prepare("DELETE FROM inventory.image"));
+    	    getDatabase().executeUpdate(prepare("DELETE FROM inventory.job"));
     	    getDatabase().executeUpdate(prepare("DELETE FROM inventory.service"));
     	    getDatabase().executeUpdate(prepare("DELETE FROM inventory.dnszone"));
     	    getDatabase().executeUpdate(prepare("DELETE FROM inventory.element"));
@@ -101,6 +105,8 @@ public class InventoryIT extends JpaIT {
     	    getDatabase().executeUpdate(prepare("DELETE FROM inventory.elementgroup"));
     	    getDatabase().executeUpdate(prepare("DELETE FROM inventory.facility"));
 	    });
+	    // The native statements bypass the shared cache of the reference data entities.
+	    getEntityManager().getEntityManagerFactory().getCache().evictAll();
 	}
 	
 
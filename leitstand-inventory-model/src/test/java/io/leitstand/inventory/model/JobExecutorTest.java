@@ -0,0 +1,174 @@
+/*
+ * Copyright 2020 RtBrick Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.leitstand.inventory.model;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.RejectedExecutionException;
+
+import javax.enterprise.concurrent.ManagedExecutorService;
+import javax.enterprise.concurrent.ManagedScheduledExecutorService;
+import javax.inject.Provider;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import io.leitstand.commons.messages.Messages;
+import io.leitstand.commons.model.Repository;
+import io.leitstand.commons.model.Update;
+import io.leitstand.commons.tx.SubtransactionService;
+import io.leitstand.inventory.service.JobId;
+
+public class JobExecutorTest {
+	
+	private static final JobTask NOOP = context -> {};
+
+	private Repository repository;
+	private ManagedExecutorService executor;
+	private ManagedScheduledExecutorService scheduler;
+	private JobRunner runner;
+	private JobExecutor jobs;
+	
+	@Before
+	public void initExecutor() {
+		repository = mock(Repository.class);
+		SubtransactionService transactions = new SubtransactionService() {
+
+		    @Override
+		    protected Provider<SubtransactionService> getServiceProvider() {
+		        return () -> this;
+		    }
+        
+		    @Override
+		    protected Repository getRepository() {
+		        return repository;
+		    }
+		};
+		executor = mock(ManagedExecutorService.class);
+		scheduler = mock(ManagedScheduledExecutorService.class);
+		runner = mock(JobRunner.class);
+		jobs = new JobExecutor(executor, 
+							   scheduler,
+							   transactions, 
+							   runner, 
+							   mock(Messages.class), 
+							   1);
+	}
+	
+	@Test
+	public void store_submitted_job() {
+		JobId jobId = jobs.submit("unit-test", "Unit test job", NOOP);
+		
+		ArgumentCaptor<Job> job = ArgumentCaptor.forClass(Job.class);
+		verify(repository).add(job.capture());
+		assertEquals(jobId,job.getValue().getJobId());
+	}
+	
+	@Test
+	public void queue_jobs_exceeding_the_number_of_workers() {
+		JobId first  = jobs.submit("unit-test", "First job", NOOP);
+		JobId second = jobs.submit("unit-test", "Second job", NOOP);
+		
+		ArgumentCaptor<Runnable> worker = ArgumentCaptor.forClass(Runnable.class);
+		verify(executor).execute(worker.capture());
+		
+		// Completing the first job dispatches the second job.
+		worker.getValue().run();
+		verify(runner).run(first, NOOP);
+		verify(executor,times(2)).execute(worker.capture());
+		worker.getValue().run();
+		verify(runner).run(second, NOOP);
+	}
+	
+	@Test
+	public void dispatch_next_job_when_running_job_failed() {
+		doThrow(new IllegalStateException()).when(runner).run(any(JobId.class), any(JobTask.class));
+		jobs.submit("unit-test", "First job", NOOP);
+		jobs.submit("unit-test", "Second job", NOOP);
+		
+		ArgumentCaptor<Runnable> worker = ArgumentCaptor.forClass(Runnable.class);
+		verify(executor).execute(worker.capture());
+		try {
+			worker.getValue().run();
+		} catch (IllegalStateException e) {
+			// Expected
+		}
+		verify(executor,times(2)).execute(any(Runnable.class));
+	}
+	
+	@Test
+	public void fail_and_discard_job_rejected_by_executor() {
+		doThrow(new RejectedExecutionException()).when(executor).execute(any(Runnable.class));
+		JobTask task = mock(JobTask.class);
+		
+		JobId jobId = jobs.submit("unit-test", "Unit test job", task);
+		
+		verify(runner).fail(eq(jobId), anyString());
+		verify(runner,never()).run(any(JobId.class), any(JobTask.class));
+		verify(task).discard();
+	}
+	
+	@Test
+	public void fail_stale_jobs_on_startup_and_schedule_periodic_sweep() {
+		when(repository.execute(any(Update.class))).thenReturn(2);
+		
+		jobs.onStartup(new Object());
+		
+		verify(repository).execute(any(Update.class));
+		ArgumentCaptor<Runnable> sweep = ArgumentCaptor.forClass(Runnable.class);
+		verify(scheduler).scheduleAtFixedRate(sweep.capture(), 
+											  anyLong(), 
+											  eq(JobExecutor.STALE_JOB_SWEEP_INTERVAL), 
+											  eq(SECONDS));
+		sweep.getValue().run();
+		verify(repository,times(2)).execute(any(Update.class));
+	}
+	
+	@Test
+	public void keep_jobs_of_this_instance_alive_when_sweeping_stale_jobs() {
+		jobs.submit("unit-test", "Unit test job", NOOP);
+		
+		jobs.sweepStaleJobs();
+		
+		// Touch the active jobs and fail the stale jobs
+		verify(repository,times(2)).execute(any(Update.class));
+	}
+	
+	@Test
+	public void do_not_keep_completed_jobs_alive() {
+		jobs.submit("unit-test", "Unit test job", NOOP);
+		ArgumentCaptor<Runnable> worker = ArgumentCaptor.forClass(Runnable.class);
+		verify(executor).execute(worker.capture());
+		worker.getValue().run();
+		
+		jobs.sweepStaleJobs();
+		
+		verify(repository).execute(any(Update.class));
+	}
+	
+}
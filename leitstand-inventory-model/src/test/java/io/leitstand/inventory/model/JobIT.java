@@ -0,0 +1,174 @@
+/*
+ * Copyright 2020 RtBrick Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.leitstand.inventory.model;
+
+import static io.leitstand.inventory.model.Job.cancelJob;
+import static io.leitstand.inventory.model.Job.failJob;
+import static io.leitstand.inventory.model.Job.failStaleJobs;
+import static io.leitstand.inventory.model.Job.findJobById;
+import static io.leitstand.inventory.model.Job.startJob;
+import static io.leitstand.inventory.model.Job.terminateJob;
+import static io.leitstand.inventory.model.Job.touchJobs;
+import static io.leitstand.inventory.service.JobId.randomJobId;
+import static io.leitstand.inventory.service.JobState.CANCELLED;
+import static io.leitstand.inventory.service.JobState.COMPLETED;
+import static io.leitstand.inventory.service.JobState.FAILED;
+import static io.leitstand.inventory.service.JobState.RUNNING;
+import static java.lang.System.currentTimeMillis;
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Date;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import io.leitstand.commons.model.Repository;
+import io.leitstand.inventory.service.JobId;
+
+public class JobIT extends InventoryIT {
+
+	private JobId jobId;
+	private Repository repository;
+	
+	@Before
+	public void initTestEnvironment() {
+		repository = new Repository(getEntityManager());
+		jobId = randomJobId();
+		transaction(()->{
+			repository.add(new Job(jobId, "unit-test", "Unit test job"));
+		});
+	}
+	
+	private Job job() {
+		// The bulk updates bypass the persistence context.
+		getEntityManager().clear();
+		return repository.execute(findJobById(jobId));
+	}
+	
+	@Test
+	public void queued_job_can_be_started_once() {
+		transaction(()->{
+			assertEquals(1,repository.execute(startJob(jobId)));
+		});
+		transaction(()->{
+			assertEquals(RUNNING, job().getJobState());
+			assertNotNull(job().getDateStarted());
+			assertEquals(0,repository.execute(startJob(jobId)));
+		});
+	}
+	
+	@Test
+	public void cancel_queued_job_terminates_job() {
+		transaction(()->{
+			assertEquals(1,repository.execute(cancelJob(jobId)));
+		});
+		transaction(()->{
+			assertEquals(CANCELLED, job().getJobState());
+			assertTrue(job().isTerminated());
+			assertEquals(0,repository.execute(startJob(jobId)));
+		});
+	}
+	
+	@Test
+	public void cancel_running_job_flags_job_as_cancelled() {
+		transaction(()->{
+			repository.execute(startJob(jobId));
+			assertEquals(1,repository.execute(cancelJob(jobId)));
+		});
+		transaction(()->{
+			Job job = job();
+			assertEquals(RUNNING, job.getJobState());
+			assertTrue(job.isCancelled());
+			assertFalse(job.isTerminated());
+		});
+	}
+	
+	@Test
+	public void cannot_cancel_terminated_job() {
+		transaction(()->{
+			repository.execute(startJob(jobId));
+			repository.execute(terminateJob(jobId, COMPLETED, null, 0, 0, 0));
+		});
+		transaction(()->{
+			assertEquals(0,repository.execute(cancelJob(jobId)));
+			assertEquals(COMPLETED, job().getJobState());
+		});
+	}
+	
+	@Test
+	public void terminated_job_is_not_terminated_again() {
+		transaction(()->{
+			repository.execute(startJob(jobId));
+			repository.execute(failJob(jobId, "Job failed!"));
+		});
+		transaction(()->{
+			assertEquals(0,repository.execute(terminateJob(jobId, COMPLETED, "done", 2, 2, 0)));
+		});
+		transaction(()->{
+			Job job = job();
+			assertEquals(FAILED, job.getJobState());
+			assertEquals("Job failed!", job.getMessage());
+		});
+	}
+	
+	@Test
+	public void progress_includes_failed_items() {
+		transaction(()->{
+			repository.execute(startJob(jobId));
+		});
+		transaction(()->{
+			job().setProgress(200, 40, 10);
+		});
+		transaction(()->{
+			Job job = job();
+			assertEquals(Integer.valueOf(25), job.getProgress());
+			assertNotNull(job.getEstimatedCompletion());
+		});
+	}
+	
+	@Test
+	public void terminated_job_has_no_estimated_completion() {
+		transaction(()->{
+			repository.execute(startJob(jobId));
+			repository.execute(terminateJob(jobId, COMPLETED, null, 200, 200, 0));
+		});
+		transaction(()->{
+			Job job = job();
+			assertEquals(COMPLETED, job.getJobState());
+			assertEquals(Integer.valueOf(100), job.getProgress());
+			assertNull(job.getEstimatedCompletion());
+			assertTrue(job.isTerminated());
+		});
+	}
+	
+	@Test
+	public void fail_stale_jobs() {
+		Date future = new Date(currentTimeMillis() + 60000);
+		transaction(()->{
+			assertEquals(1,repository.execute(touchJobs(asList(jobId))));
+			assertEquals(1,repository.execute(failStaleJobs(future, "Stale job")));
+		});
+		transaction(()->{
+			assertEquals(FAILED, job().getJobState());
+		});
+	}
+	
+}
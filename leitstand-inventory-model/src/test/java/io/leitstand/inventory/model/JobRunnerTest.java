@@ -0,0 +1,137 @@
+/*
+ * Copyright 2020 RtBrick Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.leitstand.inventory.model;
+
+import static io.leitstand.inventory.service.JobId.randomJobId;
+import static org.junit.Assert.assertFalse;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import javax.inject.Provider;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import io.leitstand.commons.model.Query;
+import io.leitstand.commons.model.Repository;
+import io.leitstand.commons.model.Update;
+import io.leitstand.commons.tx.SubtransactionService;
+import io.leitstand.inventory.service.JobId;
+
+public class JobRunnerTest {
+	
+	private static final JobId JOB_ID = randomJobId();
+	
+	private Repository repository;
+	private Job job;
+	private JobRunner runner;
+	
+	@SuppressWarnings("unchecked")
+	@Before
+	public void initRunner() {
+		repository = mock(Repository.class);
+		SubtransactionService transactions = new SubtransactionService() {
+
+		    @Override
+		    protected Provider<SubtransactionService> getServiceProvider() {
+		        return () -> this;
+		    }
+        
+		    @Override
+		    protected Repository getRepository() {
+		        return repository;
+		    }
+		};
+		job = mock(Job.class);
+		when(repository.execute(any(Query.class))).thenReturn(job);
+		// The job is queued and every state transition succeeds.
+		when(repository.execute(any(Update.class))).thenReturn(1);
+		runner = new JobRunner(transactions, 
+							   new JobContext(transactions));
+	}
+	
+	@Test
+	public void start_and_terminate_job_and_store_progress() {
+		runner.run(JOB_ID, context -> {
+			context.setItemsTotal(2);
+			context.progress(1, 1);
+			context.setMessage("done");
+		});
+		
+		verify(job).setProgress(2, 0, 0);
+		verify(job).setProgress(2, 1, 1);
+		// Start and terminate
+		verify(repository,times(2)).execute(any(Update.class));
+	}
+	
+	@Test
+	public void skip_and_discard_job_that_is_no_longer_queued() {
+		when(repository.execute(any(Update.class))).thenReturn(0);
+		JobTask task = mock(JobTask.class);
+		
+		runner.run(JOB_ID, task);
+		
+		verify(task).discard();
+		verify(repository,times(1)).execute(any(Update.class));
+	}
+	
+	@Test
+	public void stop_cancelled_job_with_next_progress_report() throws Exception {
+		when(job.isCancelled()).thenReturn(true);
+		boolean[] continued = new boolean[1];
+		
+		runner.run(JOB_ID, context -> {
+			context.progress(1, 0);
+			context.verifyNotCancelled();
+			continued[0] = true;
+		});
+		
+		assertFalse(continued[0]);
+		verify(repository,times(2)).execute(any(Update.class));
+	}
+	
+	@Test
+	public void terminate_job_that_throws_exception() {
+		runner.run(JOB_ID, context -> {
+			throw new IllegalStateException("Job failed!");
+		});
+		
+		verify(repository,times(2)).execute(any(Update.class));
+	}
+	
+	@Test
+	public void do_not_discard_started_job() throws Exception {
+		JobTask task = mock(JobTask.class);
+		
+		runner.run(JOB_ID, task);
+		
+		verify(task).execute(any(JobContext.class));
+		verify(task,never()).discard();
+	}
+	
+	@Test
+	public void fail_job() {
+		runner.fail(JOB_ID, "Job rejected.");
+		
+		verify(repository).execute(any(Update.class));
+		verify(repository,never()).execute(any(Query.class));
+	}
+	
+}
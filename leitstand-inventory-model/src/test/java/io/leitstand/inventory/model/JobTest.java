@@ -0,0 +1,52 @@
+/*
+ * Copyright 2020 RtBrick Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.leitstand.inventory.model;
+
+import static io.leitstand.inventory.service.JobId.randomJobId;
+import static io.leitstand.inventory.service.JobState.QUEUED;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class JobTest {
+
+	private Job job;
+	
+	@Before
+	public void initJob() {
+		job = new Job(randomJobId(), "unit-test", "Unit test job");
+	}
+	
+	@Test
+	public void submitted_job_is_queued() {
+		assertEquals(QUEUED, job.getJobState());
+		assertNotNull(job.getDateSubmitted());
+		assertNull(job.getDateStarted());
+		assertFalse(job.isTerminated());
+	}
+	
+	@Test
+	public void progress_is_unknown_if_total_is_unknown() {
+		job.setProgress(0, 10, 0);
+		assertNull(job.getProgress());
+		assertNull(job.getEstimatedCompletion());
+	}
+	
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2020 RtBrick Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.leitstand.inventory.model;
+
+import static io.leitstand.inventory.model.PhysicalInterfaceStatement.IFP_BPS;
+import static io.leitstand.inventory.model.PhysicalInterfaceStatement.physicalInterfaceStatement;
+import static io.leitstand.inventory.service.AdministrativeState.UP;
+import static io.leitstand.inventory.service.Bandwidth.bandwidth;
+import static io.leitstand.inventory.service.ElementRoleName.elementRoleName;
+import static io.leitstand.inventory.service.OperationalState.DOWN;
+import static io.leitstand.inventory.service.PageCursor.pageCursor;
+import static io.leitstand.inventory.service.PhysicalInterfaceQuery.ifpQuery;
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import io.leitstand.inventory.service.PhysicalInterfaceQuery;
+
+public class PhysicalInterfaceStatementTest {
+
+	@Test
+	public void empty_query_reads_all_interfaces() {
+		PhysicalInterfaceStatement statement = physicalInterfaceStatement(ifpQuery());
+		
+		assertFalse(statement.getSql().contains("WHERE"));
+		assertTrue(statement.getSql().endsWith("ORDER BY COALESCE(f.name,''), g.name, e.name, ifp.name "));
+		assertTrue(statement.getArguments().isEmpty());
+	}
+	
+	@Test
+	public void literal_facility_filter_is_translated_to_like_expression() {
+		PhysicalInterfaceStatement statement = physicalInterfaceStatement(ifpQuery().facility("dc_1"));
+		
+		assertTrue(statement.getSql().contains("WHERE (f.name LIKE ? ESCAPE '!' OR f.location LIKE ? ESCAPE '!') "));
+		assertEquals(asList("%dc!_1%","%dc!_1%"),
+					 statement.getArguments());
+	}
+	
+	@Test
+	public void regex_facility_filter_is_translated_to_regex_match() {
+		PhysicalInterfaceStatement statement = physicalInterfaceStatement(ifpQuery().facility("^dc[0-9]+"));
+		
+		assertTrue(statement.getSql().contains("WHERE (f.name ~ ? OR f.location ~ ?) "));
+		assertEquals(asList("^dc[0-9]+","^dc[0-9]+"),
+					 statement.getArguments());
+	}
+	
+	@Test
+	public void interface_filter_matches_interface_name_or_alias() {
+		PhysicalInterfaceStatement statement = physicalInterfaceStatement(ifpQuery().ifp("ifp-0/0/1"));
+		
+		assertTrue(statement.getSql().contains("WHERE (ifp.name = ? OR ifp.alias LIKE ? ESCAPE '!') "));
+		assertEquals(asList("ifp-0/0/1","%ifp-0/0/1%"),
+					 statement.getArguments());
+	}
+	
+	@Test
+	public void combine_all_criteria() {
+		PhysicalInterfaceQuery query = ifpQuery()
+									   .elementRole(elementRoleName("leaf"))
+									   .administrativeState(UP)
+									   .operationalState(DOWN)
+									   .minBandwidth(bandwidth("10.000 Gbps"))
+									   .maxBandwidth(bandwidth("100.000 Gbps"))
+									   .neighborPresent(true);
+		
+		PhysicalInterfaceStatement statement = physicalInterfaceStatement(query);
+		
+		assertTrue(statement.getSql().contains("WHERE r.name = ? "+
+											   "AND ifp.admstate = ? "+
+											   "AND ifp.opstate = ? "+
+											   "AND "+IFP_BPS+" >= ? "+
+											   "AND "+IFP_BPS+" <= ? "+
+											   "AND ifp.neighbor_element_id IS NOT NULL "));
+		assertEquals(asList("leaf","UP","DOWN",10000000000L,100000000000L),
+					 statement.getArguments());
+	}
+	
+	@Test
+	public void absent_neighbor_is_translated_to_null_check() {
+		PhysicalInterfaceStatement statement = physicalInterfaceStatement(ifpQuery().neighborPresent(false));
+		
+		assertTrue(statement.getSql().contains("WHERE ifp.neighbor_element_id IS NULL "));
+	}
+	
+	@Test
+	public void continue_after_cursor() {
+		PhysicalInterfaceStatement statement = physicalInterfaceStatement(ifpQuery().group("group"))
+											   .after(pageCursor("facility","group","element","ifp-0/0/1"))
+											   .limit(101);
+		
+		assertTrue(statement.getSql().endsWith("WHERE g.name LIKE ? ESCAPE '!' "+
+											   "AND (COALESCE(f.name,''), g.name, e.name, ifp.name) > (?, ?, ?, ?) "+
+											   "ORDER BY COALESCE(f.name,''), g.name, e.name, ifp.name "+
+											   "LIMIT ? "));
+		assertEquals(asList("%group%","facility","group","element","ifp-0/0/1",101),
+					 statement.getArguments());
+	}
+	
+	@Test
+	public void skip_offset() {
+		PhysicalInterfaceStatement statement = physicalInterfaceStatement(ifpQuery())
+											   .offset(200)
+											   .limit(101);
+		
+		assertTrue(statement.getSql().endsWith("OFFSET ? LIMIT ? "));
+		assertEquals(asList(200,101),
+					 statement.getArguments());
+	}
+	
+}
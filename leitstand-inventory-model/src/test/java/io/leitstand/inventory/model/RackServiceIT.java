@@ -395,6 +395,35 @@ public class RackServiceIT extends InventoryIT {
 		
 	}
 	
+	@Test
+	public void rack_items_are_sorted_by_position() {
+		RackSettings rack = newRackSettings()
+							.withRackId(RACK_ID)
+							.withRackName(RACK_NAME)
+							.build();
+		transaction(()->{
+			boolean created = service.storeRack(rack);
+			assertTrue(created);
+		});
+		
+		transaction(()->{
+			service.storeRackItem(RACK_ID, newRackItemData()
+										   .withRackItemName("Patch Panel")
+										   .withPosition(10)
+										   .build());
+			service.storeRackItem(RACK_ID, newRackItemData()
+										   .withRackItemName("Cable Manager")
+										   .withPosition(1)
+										   .build());
+		});
+		
+		transaction(()->{
+			RackItems rackItems = service.getRackItems(RACK_ID);
+			assertEquals(1,rackItems.getItems().get(0).getPosition());
+			assertEquals(10,rackItems.getItems().get(1).getPosition());
+		});
+	}
+	
 	@Test
 	public void attempt_to_store_rack_item_with_unknown_element_throws_EntityNotFoundException() {
 		
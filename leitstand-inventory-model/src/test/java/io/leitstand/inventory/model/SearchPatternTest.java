@@ -0,0 +1,74 @@
+/*
+ * Copyright 2020 RtBrick Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.leitstand.inventory.model;
+
+import static io.leitstand.inventory.model.SearchPattern.searchPattern;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class SearchPatternTest {
+
+	@Test
+	public void literal_is_matched_as_substring() {
+		SearchPattern pattern = searchPattern("leaf");
+		assertTrue(pattern.isLiteral());
+		assertEquals("%leaf%",pattern.getLikePattern());
+	}
+	
+	@Test
+	public void anchors_are_translated_to_prefix_suffix_and_exact_matches() {
+		assertEquals("leaf%",searchPattern("^leaf").getLikePattern());
+		assertEquals("%leaf",searchPattern("leaf$").getLikePattern());
+		assertEquals("leaf",searchPattern("^leaf$").getLikePattern());
+	}
+	
+	@Test
+	public void leading_and_trailing_wildcards_are_removed() {
+		assertEquals("%leaf%",searchPattern(".*leaf.*").getLikePattern());
+		assertEquals("leaf%",searchPattern("^leaf.*").getLikePattern());
+	}
+
+	@Test
+	public void empty_filter_matches_everything() {
+		assertEquals("%%",searchPattern("").getLikePattern());
+		assertEquals("%%",searchPattern(null).getLikePattern());
+	}
+	
+	@Test
+	public void escaped_meta_characters_are_literals() {
+		SearchPattern pattern = searchPattern("^10\\.0\\.0\\.1$");
+		assertTrue(pattern.isLiteral());
+		assertEquals("10.0.0.1",pattern.getLikePattern());
+	}
+	
+	@Test
+	public void like_wildcards_are_escaped() {
+		assertEquals("%leaf!_1!%!!%",searchPattern("leaf_1%!").getLikePattern());
+	}
+	
+	@Test
+	public void regular_expressions_are_not_literals() {
+		assertFalse(searchPattern("leaf-[0-9]+").isLiteral());
+		assertFalse(searchPattern("leaf|spine").isLiteral());
+		assertFalse(searchPattern("10.0.0.1").isLiteral());
+		assertFalse(searchPattern("leaf\\d").isLiteral());
+		assertEquals("leaf\\d",searchPattern("leaf\\d").getRegex());
+	}
+	
+}
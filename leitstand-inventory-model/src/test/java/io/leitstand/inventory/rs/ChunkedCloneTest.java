@@ -0,0 +1,101 @@
+/*
+ * Copyright 2020 RtBrick Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.leitstand.inventory.rs;
+
+import static io.leitstand.inventory.service.ElementCloneRequest.newCloneElementRequest;
+import static io.leitstand.inventory.service.ElementId.randomElementId;
+import static io.leitstand.inventory.service.ElementName.elementName;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import io.leitstand.inventory.model.JobContext;
+import io.leitstand.inventory.service.ElementCloneRequest;
+
+public class ChunkedCloneTest {
+	
+	private List<ElementCloneRequest> requests;
+	private List<List<ElementCloneRequest>> chunks;
+	private JobContext job;
+	
+	@Before
+	public void initRequests() {
+		requests = new ArrayList<>();
+		for(int i=0; i < 5; i++) {
+			requests.add(newCloneElementRequest()
+						 .withElementId(randomElementId())
+						 .withElementName(elementName("clone-"+i))
+						 .build());
+		}
+		chunks = new LinkedList<>();
+		job = mock(JobContext.class);
+	}
+	
+	@Test
+	public void clone_elements_in_chunks_and_report_progress_after_every_chunk() {
+		new ChunkedClone(chunks::add, requests, 2).execute(job);
+		
+		assertEquals(3,chunks.size());
+		assertEquals(requests.subList(0, 2),chunks.get(0));
+		assertEquals(requests.subList(2, 4),chunks.get(1));
+		assertEquals(requests.subList(4, 5),chunks.get(2));
+		verify(job).setItemsTotal(5);
+		verify(job,times(2)).progress(2, 0);
+		verify(job).progress(1, 0);
+		verify(job).setMessage("5 elements cloned, 0 clones failed.");
+	}
+	
+	@Test
+	public void report_failed_chunk_and_continue_with_next_chunk() {
+		new ChunkedClone(chunk -> {
+							if(chunks.isEmpty()) {
+								chunks.add(null);
+								throw new IllegalStateException();
+							}
+							chunks.add(chunk);
+						 }, 
+						 requests, 
+						 2).execute(job);
+		
+		assertEquals(3,chunks.size());
+		verify(job).progress(0, 2);
+		verify(job).setMessage("3 elements cloned, 2 clones failed.");
+	}
+	
+	@Test
+	public void stop_cloning_when_job_was_cancelled() {
+		doNothing().doThrow(new CancellationException()).when(job).verifyNotCancelled();
+		try {
+			new ChunkedClone(chunks::add, requests, 2).execute(job);
+			fail("CancellationException expected");
+		} catch (CancellationException e) {
+			assertEquals(1,chunks.size());
+			verify(job).progress(2, 0);
+		}
+	}
+	
+}
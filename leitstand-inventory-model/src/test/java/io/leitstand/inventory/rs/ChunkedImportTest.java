@@ -0,0 +1,159 @@
+/*
+ * Copyright 2020 RtBrick Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.leitstand.inventory.rs;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+
+import javax.inject.Provider;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import io.leitstand.commons.model.Repository;
+import io.leitstand.commons.tx.SubtransactionService;
+import io.leitstand.inventory.model.JobContext;
+
+public class ChunkedImportTest {
+	
+	private List<String> imported;
+	private SubtransactionService transactions;
+	private ChunkedImport chunks;
+	
+	@Before
+	public void initChunkedImport() {
+		Repository repository = mock(Repository.class);
+		transactions = new SubtransactionService() {
+
+		    @Override
+		    protected Provider<SubtransactionService> getServiceProvider() {
+		        return () -> this;
+		    }
+        
+		    @Override
+		    protected Repository getRepository() {
+		        return repository;
+		    }
+		};
+		imported = new LinkedList<>();
+		chunks = new ChunkedImport(transactions, 2);
+	}
+	
+	@Test
+	public void commit_chunk_when_chunk_size_is_reached() {
+		chunks.add("a", () -> imported.add("a"));
+		assertEquals(0,chunks.getImported());
+		chunks.add("b", () -> imported.add("b"));
+		assertEquals(2,chunks.getImported());
+		chunks.add("c", () -> imported.add("c"));
+		assertEquals(2,chunks.getImported());
+		chunks.commit();
+		assertEquals(3,chunks.getImported());
+		assertEquals(0,chunks.getFailed());
+	}
+	
+	@Test
+	public void commit_chunk_when_chunk_size_is_reached_by_bulk_item() {
+		chunks.add("a", () -> imported.add("a"));
+		assertEquals(0,chunks.getImported());
+		chunks.add("b", 3, () -> imported.add("b"));
+		assertEquals(2,chunks.getImported());
+		chunks.add("c", 2, () -> imported.add("c"));
+		assertEquals(3,chunks.getImported());
+		assertEquals(asList("a","b","c"),imported);
+	}
+	
+	@Test
+	public void import_items_one_by_one_if_chunk_cannot_be_committed() {
+		chunks.add("a", () -> imported.add("a"));
+		chunks.add("b", () -> {throw new IllegalStateException();});
+		
+		assertEquals(1,chunks.getImported());
+		assertEquals(1,chunks.getFailed());
+	}
+	
+	@Test
+	public void report_failed_items() {
+		chunks.add("a", () -> imported.add("a"));
+		chunks.add("b", () -> {throw new IllegalStateException();});
+		chunks.add("c", () -> {throw new IllegalStateException();});
+		chunks.commit();
+		
+		assertEquals(asList("b","c"),chunks.getFailures());
+		assertEquals("1 items imported, 2 items failed. Failed items: b, c.",chunks.getSummary());
+	}
+	
+	@Test
+	public void report_no_failures_when_all_items_were_imported() {
+		chunks.add("a", () -> imported.add("a"));
+		chunks.commit();
+		
+		assertEquals(emptyList(),chunks.getFailures());
+		assertEquals("1 items imported, 0 items failed.",chunks.getSummary());
+	}
+	
+	@Test
+	public void limit_number_of_reported_failed_items() {
+		for(int i=0; i < ChunkedImport.MAX_REPORTED_FAILURES + 2; i++) {
+			chunks.add("item"+i, () -> {throw new IllegalStateException();});
+		}
+		chunks.commit();
+		
+		assertEquals(ChunkedImport.MAX_REPORTED_FAILURES,chunks.getFailures().size());
+		assertEquals(ChunkedImport.MAX_REPORTED_FAILURES + 2,chunks.getFailed());
+		assertTrue(chunks.getSummary().endsWith(" and 2 more."));
+	}
+	
+	@Test
+	public void report_progress_to_job_after_every_chunk() {
+		JobContext job = mock(JobContext.class);
+		chunks = new ChunkedImport(transactions, 2, job);
+		chunks.add("a", () -> imported.add("a"));
+		chunks.add("b", () -> {throw new IllegalStateException();});
+		chunks.add("c", () -> imported.add("c"));
+		chunks.commit();
+		
+		verify(job).progress(1, 1);
+		verify(job).progress(1, 0);
+	}
+	
+	@Test
+	public void stop_import_when_job_was_cancelled() {
+		JobContext job = mock(JobContext.class);
+		doNothing().doNothing().doThrow(new CancellationException()).when(job).verifyNotCancelled();
+		chunks = new ChunkedImport(transactions, 2, job);
+		chunks.add("a", () -> imported.add("a"));
+		chunks.add("b", () -> imported.add("b"));
+		try {
+			chunks.add("c", () -> imported.add("c"));
+			fail("CancellationException expected");
+		} catch (CancellationException e) {
+			assertEquals(asList("a","b"),imported);
+			assertEquals(2,chunks.getImported());
+		}
+	}
+
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2020 RtBrick Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.leitstand.inventory.rs;
+
+import static io.leitstand.commons.jsonb.IsoDateAdapter.isoDateFormat;
+import static io.leitstand.inventory.service.AdministrativeState.UP;
+import static io.leitstand.inventory.service.Bandwidth.bandwidth;
+import static io.leitstand.inventory.service.ElementGroupId.randomGroupId;
+import static io.leitstand.inventory.service.ElementGroupName.groupName;
+import static io.leitstand.inventory.service.ElementGroupType.groupType;
+import static io.leitstand.inventory.service.ElementId.randomElementId;
+import static io.leitstand.inventory.service.ElementName.elementName;
+import static io.leitstand.inventory.service.ElementPhysicalInterfaceData.newPhysicalInterfaceData;
+import static io.leitstand.inventory.service.ElementPhysicalInterfaceNeighbor.newPhysicalInterfaceNeighbor;
+import static io.leitstand.inventory.service.ElementPhysicalInterfaces.newPhysicalInterfaces;
+import static io.leitstand.inventory.service.ElementRoleName.elementRoleName;
+import static io.leitstand.inventory.service.InterfaceName.interfaceName;
+import static io.leitstand.inventory.service.MACAddress.macAddress;
+import static io.leitstand.inventory.service.OperationalState.DOWN;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static javax.ws.rs.core.MediaType.APPLICATION_JSON_TYPE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Date;
+
+import javax.json.Json;
+import javax.json.JsonArray;
+import javax.json.JsonObject;
+import javax.json.JsonReader;
+
+import org.junit.Test;
+
+import io.leitstand.inventory.service.ElementGroupId;
+import io.leitstand.inventory.service.ElementId;
+import io.leitstand.inventory.service.ElementPhysicalInterfaces;
+
+public class ElementPhysicalInterfacesWriterTest {
+
+	private static final ElementId ELEMENT_ID = randomElementId();
+	private static final ElementId NEIGHBOR_ID = randomElementId();
+	private static final ElementGroupId GROUP_ID = randomGroupId();
+	
+	private static JsonObject write(ElementPhysicalInterfaces ifps) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		ElementPhysicalInterfacesWriter writer = new ElementPhysicalInterfacesWriter();
+		writer.writeTo(ifps, 
+					   ElementPhysicalInterfaces.class, 
+					   ElementPhysicalInterfaces.class, 
+					   null, 
+					   APPLICATION_JSON_TYPE, 
+					   null, 
+					   out);
+		try (JsonReader reader = Json.createReader(new StringReader(new String(out.toByteArray(),UTF_8)))){
+			return reader.readObject();
+		}
+	}
+	
+	@Test
+	public void writes_physical_interfaces_only() {
+		ElementPhysicalInterfacesWriter writer = new ElementPhysicalInterfacesWriter();
+		assertTrue(writer.isWriteable(ElementPhysicalInterfaces.class, null, null, APPLICATION_JSON_TYPE));
+		assertFalse(writer.isWriteable(Object.class, null, null, APPLICATION_JSON_TYPE));
+	}
+	
+	@Test
+	public void write_date_modified_in_iso_date_format() throws IOException {
+		Date dateModified = new Date();
+		JsonObject json = write(newPhysicalInterfaces()
+								.withGroupId(GROUP_ID)
+								.withGroupName(groupName("group"))
+								.withGroupType(groupType("pod"))
+								.withElementId(ELEMENT_ID)
+								.withElementName(elementName("element"))
+								.withElementRole(elementRoleName("leaf"))
+								.withDateModified(dateModified)
+								.build());
+		
+		assertEquals(isoDateFormat(dateModified), json.getString("date_modified"));
+	}
+	
+	@Test
+	public void write_physical_interfaces_with_jsonb_property_names() throws IOException {
+		JsonObject json = write(newPhysicalInterfaces()
+								.withGroupId(GROUP_ID)
+								.withGroupName(groupName("group"))
+								.withGroupType(groupType("pod"))
+								.withElementId(ELEMENT_ID)
+								.withElementName(elementName("element"))
+								.withElementRole(elementRoleName("leaf"))
+								.withPhysicalInterface(newPhysicalInterfaceData()
+													   .withIfpName(interfaceName("ifp-0/0/1"))
+													   .withIfpAlias("alias")
+													   .withCategory("data")
+													   .withBandwidth(bandwidth("100.000 Gbps"))
+													   .withMacAddress(macAddress("00:11:22:33:44:55"))
+													   .withAdministrativeState(UP)
+													   .withOperationalState(DOWN)
+													   .withNeighbor(newPhysicalInterfaceNeighbor()
+															   		 .withElementId(NEIGHBOR_ID)
+															   		 .withElementName(elementName("neighbor"))
+															   		 .withInterfaceName(interfaceName("ifp-0/0/2"))),
+													   newPhysicalInterfaceData()
+													   .withIfpName(interfaceName("ifp-0/0/3")))
+								.build());
+		
+		assertEquals(ELEMENT_ID.toString(), json.getString("element_id"));
+		assertEquals("element", json.getString("element_name"));
+		assertEquals("leaf", json.getString("element_role"));
+		assertEquals(GROUP_ID.toString(), json.getString("group_id"));
+		assertEquals("group", json.getString("group_name"));
+		assertEquals("pod", json.getString("group_type"));
+		assertFalse(json.containsKey("element_alias"));
+		assertFalse(json.containsKey("date_modified"));
+		
+		JsonArray ifps = json.getJsonArray("physical_interfaces");
+		assertEquals(2, ifps.size());
+		JsonObject ifp = ifps.getJsonObject(0);
+		assertEquals("ifp-0/0/1", ifp.getString("ifp_name"));
+		assertEquals("alias", ifp.getString("ifp_alias"));
+		assertEquals("data", ifp.getString("category"));
+		assertEquals("100.000 Gbps", ifp.getString("bandwidth"));
+		assertEquals("00:11:22:33:44:55", ifp.getString("mac_address"));
+		assertEquals("UP", ifp.getString("administrative_state"));
+		assertEquals("DOWN", ifp.getString("operational_state"));
+		JsonObject neighbor = ifp.getJsonObject("neighbor");
+		assertEquals(NEIGHBOR_ID.toString(), neighbor.getString("element_id"));
+		assertEquals("neighbor", neighbor.getString("element_name"));
+		assertEquals("ifp-0/0/2", neighbor.getString("ifp_name"));
+		
+		JsonObject sparse = ifps.getJsonObject(1);
+		assertEquals(1, sparse.size());
+		assertEquals("ifp-0/0/3", sparse.getString("ifp_name"));
+	}
+	
+}
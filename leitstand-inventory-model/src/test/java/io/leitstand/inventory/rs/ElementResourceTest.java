@@ -17,13 +17,22 @@ package io.leitstand.inventory.rs;
 
 import static io.leitstand.inventory.rs.Scopes.IVT;
 import static io.leitstand.inventory.rs.Scopes.IVT_ELEMENT;
+import static io.leitstand.inventory.service.ElementGroupName.groupName;
 import static io.leitstand.inventory.service.ElementId.randomElementId;
 import static io.leitstand.inventory.service.ElementName.elementName;
+import static io.leitstand.inventory.service.ElementSettings.newElementSettings;
+import static io.leitstand.inventory.service.PageCursor.pageCursor;
 import static io.leitstand.security.auth.ReasonCode.AUT0002E_SCOPE_ACCESS_DENIED;
+import static io.leitstand.testing.ut.LeitstandCoreMatchers.containsHeader;
 import static io.leitstand.testing.ut.LeitstandCoreMatchers.reason;
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import javax.ws.rs.core.Response;
+
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
@@ -37,6 +46,8 @@ import io.leitstand.commons.messages.Messages;
 import io.leitstand.inventory.service.ElementId;
 import io.leitstand.inventory.service.ElementName;
 import io.leitstand.inventory.service.ElementService;
+import io.leitstand.inventory.service.ElementSettings;
+import io.leitstand.inventory.service.PageCursor;
 import io.leitstand.security.auth.UserContext;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -62,46 +73,80 @@ public class ElementResourceTest {
 	
 	@Test
 	public void find_elements_by_name() {
-		resource.findElement("foo", "name", 0, 100);
+		resource.findElement("foo", "name", 0, 100, null);
 		verify(service).findElementsByName("foo", 0, 100);
 	}
 	
 	@Test
 	public void find_elements_by_name_or_tags() {
-		resource.findElement("foo", "tag", 0, 100);
+		resource.findElement("foo", "tag", 0, 100, null);
 		verify(service).findElementsByNameOrTag("foo", 0, 100);
 	}
 
 	@Test
 	public void find_elements_by_management_ip() {
-		resource.findElement("foo", "ip", 0, 100);
+		resource.findElement("foo", "ip", 0, 100, null);
 		verify(service).findElementsByManagementIP("foo", 0, 100);
 	}
 
 	@Test
 	public void find_elements_by_serial_number() {
-		resource.findElement("foo", "serial", 0, 100);
+		resource.findElement("foo", "serial", 0, 100, null);
 		verify(service).findElementsBySerialNumber("foo", 0, 100);
 	}
 
 	@Test
 	public void find_elements_by_asset_id() {
-		resource.findElement("foo", "assetid", 0, 100);
+		resource.findElement("foo", "assetid", 0, 100, null);
 		verify(service).findElementsByAssetId("foo", 0, 100);
 	}
 	
 	@Test
 	public void find_elements_by_name_or_tags_for_unkown_property() {
-		resource.findElement("foo", "unknown", 0, 100);
+		resource.findElement("foo", "unknown", 0, 100, null);
 		verify(service).findElementsByNameOrTag("foo", 0, 100);
 	}
 	
 	@Test
 	public void find_elements_by_name_or_tags_for_empty_property() {
-		resource.findElement("foo", "", 0, 100);
+		resource.findElement("foo", "", 0, 100, null);
 		verify(service).findElementsByNameOrTag("foo", 0, 100);
 	}
 	
+	@Test
+	public void find_elements_by_name_after_cursor() {
+		PageCursor cursor = pageCursor("group","element");
+		resource.findElement("foo", "name", 0, 100, cursor);
+		verify(service).findElementsByName("foo", cursor, 100);
+	}
+	
+	@Test
+	public void find_elements_by_name_or_tags_after_cursor_for_unknown_property() {
+		PageCursor cursor = pageCursor("group","element");
+		resource.findElement("foo", "unknown", 0, 100, cursor);
+		verify(service).findElementsByNameOrTag("foo", cursor, 100);
+	}
+	
+	@Test
+	public void send_cursor_of_last_element_for_full_page() {
+		ElementSettings element = newElementSettings()
+								  .withGroupName(groupName("group"))
+								  .withElementName(ELEMENT_NAME)
+								  .build();
+		when(service.findElementsByName("foo", 0, 1)).thenReturn(asList(element));
+		
+		Response response = resource.findElement("foo", "name", 0, 1, null);
+		
+		assertThat(response,containsHeader("Leitstand-Cursor",pageCursor(element).getValue()));
+	}
+	
+	@Test
+	public void send_no_cursor_for_last_page() {
+		Response response = resource.findElement("foo", "name", 0, 1, null);
+		
+		assertNull(response.getHeaderString("Leitstand-Cursor"));
+	}
+	
 	@Test
 	public void settings_scope_is_not_allowed_to_force_remove_element_identified_by_id() {
 		exception.expect(AccessDeniedException.class);
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2020 RtBrick Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.leitstand.inventory.rs;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.LinkedList;
+import java.util.List;
+
+import javax.json.JsonObject;
+import javax.json.JsonValue;
+
+import org.junit.Test;
+
+public class ImportReaderTest {
+
+	private static List<String> read(String contentType, String document) throws IOException {
+		List<String> items = new LinkedList<>();
+		ImportReader.importReader(contentType, new ByteArrayInputStream(document.getBytes(UTF_8)))
+					.read((property, item) -> items.add(property+"="+item));
+		return items;
+	}
+	
+	@Test
+	public void read_json_list_items_in_document_order() throws IOException {
+		List<String> items = read("application/json",
+								  "{\"date_created\":\"2020-01-01T00:00:00.000Z\","+
+								  "\"element_roles\":[{\"role_name\":\"spine\"}],"+
+								  "\"meta\":{\"groups\":[{\"group_name\":\"ignored\"}]},"+
+								  "\"groups\":[{\"group_name\":\"pod-1\",\"elements\":[{\"element_name\":\"leaf-1\"}]},"+
+								  "{\"group_name\":\"pod-2\",\"elements\":[]}]}");
+		
+		assertEquals(3,items.size());
+		assertEquals("element_roles={\"role_name\":\"spine\"}",items.get(0));
+		assertEquals("groups={\"group_name\":\"pod-1\",\"elements\":[{\"element_name\":\"leaf-1\"}]}",items.get(1));
+		assertEquals("groups={\"group_name\":\"pod-2\",\"elements\":[]}",items.get(2));
+	}
+	
+	@Test
+	public void read_yaml_list_items_in_document_order() throws IOException {
+		List<String> items = new LinkedList<>();
+		List<JsonValue> values = new LinkedList<>();
+		ImportReader.importReader("application/yaml", 
+								  new ByteArrayInputStream(("date_created: '2020-01-01T00:00:00.000Z'\n"+
+										  					"meta:\n"+
+										  					"  groups:\n"+
+										  					"  - group_name: ignored\n"+
+										  					"groups:\n"+
+										  					"- group_name: pod-1\n"+
+										  					"  elements:\n"+
+										  					"  - element_name: leaf-1\n"+
+										  					"    unit: 12\n"+
+										  					"    manageable: true\n"+
+										  					"    description: null\n"+
+										  					"- group_name: pod-2\n"+
+										  					"  elements: []\n").getBytes(UTF_8)))
+					.read((property, item) -> {
+						items.add(property);
+						values.add(item);
+					});
+		
+		assertEquals(2,items.size());
+		assertEquals("groups",items.get(0));
+		JsonObject pod1 = (JsonObject) values.get(0);
+		assertEquals("pod-1",pod1.getString("group_name"));
+		JsonObject leaf1 = pod1.getJsonArray("elements").getJsonObject(0);
+		assertEquals("leaf-1",leaf1.getString("element_name"));
+		assertEquals(12,leaf1.getInt("unit"));
+		assertEquals(true,leaf1.getBoolean("manageable"));
+		assertEquals(true,leaf1.isNull("description"));
+		JsonObject pod2 = (JsonObject) values.get(1);
+		assertEquals(0,pod2.getJsonArray("elements").size());
+	}
+	
+}
@@ -0,0 +1,386 @@
+/*
+ * Copyright 2020 RtBrick Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.leitstand.inventory.rs;
+
+import static io.leitstand.inventory.event.ElementAddedEvent.newElementAddedEvent;
+import static io.leitstand.inventory.event.ElementRemovedEvent.newElementRemovedEvent;
+import static io.leitstand.inventory.event.ImageRemovedEvent.newImageRemovedEvent;
+import static io.leitstand.inventory.service.ElementGroupId.randomGroupId;
+import static io.leitstand.inventory.service.ElementGroupName.groupName;
+import static io.leitstand.inventory.service.ElementId.randomElementId;
+import static io.leitstand.inventory.service.ElementName.elementName;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import javax.ws.rs.core.GenericType;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.sse.OutboundSseEvent;
+import javax.ws.rs.sse.Sse;
+import javax.ws.rs.sse.SseEventSink;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.stubbing.Answer;
+
+import io.leitstand.event.queue.service.DomainEvent;
+import io.leitstand.inventory.event.ElementEvent;
+import io.leitstand.inventory.event.InventoryEventLog;
+import io.leitstand.inventory.event.InventoryEventLog.Entry;
+import io.leitstand.inventory.service.ElementGroupId;
+import io.leitstand.inventory.service.ElementId;
+
+public class InventoryEventSubscriptionTest {
+	
+	private static final ElementGroupId POD1_ID = randomGroupId();
+	private static final ElementGroupId POD2_ID = randomGroupId();
+	private static final ElementId LEAF1_ID = randomElementId();
+	private static final ElementId LEAF2_ID = randomElementId();
+	
+	/**
+	 * Records the properties of the event and returns a mock of the built event.
+	 */
+	private static final class EventBuilder implements OutboundSseEvent.Builder {
+		
+		private String id;
+		private String name;
+		private Object data;
+
+		@Override
+		public OutboundSseEvent.Builder id(String id) {
+			this.id = id;
+			return this;
+		}
+
+		@Override
+		public OutboundSseEvent.Builder name(String name) {
+			this.name = name;
+			return this;
+		}
+
+		@Override
+		public OutboundSseEvent.Builder reconnectDelay(long milliseconds) {
+			return this;
+		}
+
+		@Override
+		public OutboundSseEvent.Builder mediaType(MediaType mediaType) {
+			return this;
+		}
+
+		@Override
+		public OutboundSseEvent.Builder comment(String comment) {
+			return this;
+		}
+
+		@SuppressWarnings("rawtypes")
+		@Override
+		public OutboundSseEvent.Builder data(Class type, Object data) {
+			this.data = data;
+			return this;
+		}
+
+		@SuppressWarnings("rawtypes")
+		@Override
+		public OutboundSseEvent.Builder data(GenericType type, Object data) {
+			this.data = data;
+			return this;
+		}
+
+		@Override
+		public OutboundSseEvent.Builder data(Object data) {
+			this.data = data;
+			return this;
+		}
+
+		@Override
+		public OutboundSseEvent build() {
+			OutboundSseEvent event = mock(OutboundSseEvent.class);
+			when(event.getId()).thenReturn(id);
+			when(event.getName()).thenReturn(name);
+			when(event.getData()).thenReturn(data);
+			return event;
+		}
+		
+	}
+	
+	private static ElementEvent elementAdded(ElementGroupId groupId, 
+											 String group, 
+											 ElementId elementId, 
+											 String element) {
+		return newElementAddedEvent()
+			   .withGroupId(groupId)
+			   .withGroupName(groupName(group))
+			   .withElementId(elementId)
+			   .withElementName(elementName(element))
+			   .build();
+	}
+	
+	private static ElementEvent elementRemoved(ElementGroupId groupId, 
+											   String group, 
+											   ElementId elementId, 
+											   String element) {
+		return newElementRemovedEvent()
+			   .withGroupId(groupId)
+			   .withGroupName(groupName(group))
+			   .withElementId(elementId)
+			   .withElementName(elementName(element))
+			   .build();
+	}
+
+	private InventoryEventLog log;
+	private List<Entry> logged;
+	private SseEventSink sink;
+	private Sse sse;
+	private List<OutboundSseEvent> sent;
+	
+	@Before
+	public void initTestEnvironment() {
+		log = new InventoryEventLog();
+		logged = new ArrayList<>();
+		log.addListener(logged::add);
+		sent = new ArrayList<>();
+		sink = mock(SseEventSink.class);
+		when(sink.send(any(OutboundSseEvent.class))).thenAnswer(invocation -> {
+			synchronized(sent) {
+				sent.add((OutboundSseEvent) invocation.getArguments()[0]);
+			}
+			return completedFuture(null);
+		});
+		sse = mock(Sse.class);
+		when(sse.newEventBuilder()).thenAnswer(invocation -> new EventBuilder());
+	}
+	
+	@SuppressWarnings("unchecked")
+	private void publish(Object payload) {
+		DomainEvent<Object> event = mock(DomainEvent.class);
+		when(event.getPayload()).thenReturn(payload);
+		log.onDomainEvent(event);
+	}
+	
+	private InventoryEventSubscription subscribe(Collection<String> groups,
+												 Collection<String> elements,
+												 Collection<String> types,
+												 Collection<String> topics,
+												 Long lastEventId) {
+		InventoryEventSubscription subscription = new InventoryEventSubscription(log, 
+																				 sink, 
+																				 sse, 
+																				 groups, 
+																				 elements, 
+																				 types, 
+																				 topics);
+		subscription.open(lastEventId);
+		return subscription;
+	}
+	
+	private List<Object> sentData(){
+		return sent.stream()
+				   .map(OutboundSseEvent::getData)
+				   .collect(toList());
+	}
+	
+	private List<String> sentIds(){
+		return sent.stream()
+				   .map(OutboundSseEvent::getId)
+				   .collect(toList());
+	}
+	
+	private static String id(Entry entry) {
+		return String.valueOf(entry.getId());
+	}
+	
+	@Test
+	public void send_all_events_without_filter() {
+		subscribe(emptyList(), emptyList(), emptyList(), emptyList(), null);
+		ElementEvent added = elementAdded(POD1_ID, "pod1", LEAF1_ID, "leaf1");
+		publish(added);
+		
+		assertEquals(1,sent.size());
+		assertEquals("ElementAddedEvent",sent.get(0).getName());
+		assertEquals(id(logged.get(0)),sent.get(0).getId());
+		assertEquals(added,sent.get(0).getData());
+	}
+	
+	@Test
+	public void filter_events_by_group_id_or_name() {
+		subscribe(asList("pod1",POD2_ID.toString()), emptyList(), emptyList(), emptyList(), null);
+		ElementEvent pod1 = elementAdded(POD1_ID, "pod1", LEAF1_ID, "leaf1");
+		ElementEvent pod2 = elementAdded(POD2_ID, "pod2", LEAF2_ID, "leaf2");
+		ElementEvent pod3 = elementAdded(randomGroupId(), "pod3", randomElementId(), "leaf3");
+		publish(pod1);
+		publish(pod2);
+		publish(pod3);
+		
+		assertEquals(asList(pod1,pod2),sentData());
+	}
+	
+	@Test
+	public void filter_events_by_element_id_or_name() {
+		subscribe(emptyList(), asList(LEAF1_ID.toString(),"leaf2"), emptyList(), emptyList(), null);
+		ElementEvent leaf1 = elementAdded(POD1_ID, "pod1", LEAF1_ID, "leaf1");
+		ElementEvent leaf2 = elementAdded(POD1_ID, "pod1", LEAF2_ID, "leaf2");
+		ElementEvent leaf3 = elementAdded(POD1_ID, "pod1", randomElementId(), "leaf3");
+		publish(leaf1);
+		publish(leaf2);
+		publish(leaf3);
+		
+		assertEquals(asList(leaf1,leaf2),sentData());
+	}
+	
+	@Test
+	public void filter_events_by_type() {
+		subscribe(emptyList(), emptyList(), asList("ElementRemovedEvent"), emptyList(), null);
+		ElementEvent added = elementAdded(POD1_ID, "pod1", LEAF1_ID, "leaf1");
+		ElementEvent removed = elementRemoved(POD1_ID, "pod1", LEAF1_ID, "leaf1");
+		publish(added);
+		publish(removed);
+		
+		assertEquals(asList(removed),sentData());
+	}
+	
+	@Test
+	public void filter_events_by_topic() {
+		subscribe(emptyList(), emptyList(), emptyList(), asList("image"), null);
+		Object image = newImageRemovedEvent().build();
+		publish(elementAdded(POD1_ID, "pod1", LEAF1_ID, "leaf1"));
+		publish(image);
+		
+		assertEquals(asList(image),sentData());
+	}
+	
+	@Test
+	public void event_must_match_all_criteria() {
+		subscribe(asList("pod1"), emptyList(), asList("ElementRemovedEvent"), asList("element"), null);
+		ElementEvent added = elementAdded(POD1_ID, "pod1", LEAF1_ID, "leaf1");
+		ElementEvent removedFromPod1 = elementRemoved(POD1_ID, "pod1", LEAF1_ID, "leaf1");
+		ElementEvent removedFromPod2 = elementRemoved(POD2_ID, "pod2", LEAF2_ID, "leaf2");
+		publish(added);
+		publish(removedFromPod1);
+		publish(removedFromPod2);
+		
+		assertEquals(asList(removedFromPod1),sentData());
+	}
+	
+	@Test
+	public void replay_events_after_last_event_id() {
+		publish(elementAdded(POD1_ID, "pod1", LEAF1_ID, "leaf1"));
+		publish(elementAdded(POD1_ID, "pod1", LEAF2_ID, "leaf2"));
+		publish(elementRemoved(POD1_ID, "pod1", LEAF1_ID, "leaf1"));
+		
+		subscribe(emptyList(), emptyList(), emptyList(), emptyList(), logged.get(0).getId());
+		
+		assertEquals(asList(id(logged.get(1)),id(logged.get(2))),sentIds());
+	}
+	
+	@Test
+	public void apply_filter_to_replayed_events() {
+		publish(elementAdded(POD1_ID, "pod1", LEAF1_ID, "leaf1"));
+		publish(elementAdded(POD2_ID, "pod2", LEAF2_ID, "leaf2"));
+		publish(elementRemoved(POD1_ID, "pod1", LEAF1_ID, "leaf1"));
+		
+		subscribe(asList("pod2"), emptyList(), emptyList(), emptyList(), logged.get(0).getId());
+		
+		assertEquals(asList(id(logged.get(1))),sentIds());
+	}
+	
+	@Test
+	public void send_reset_event_when_missed_events_are_not_retained() {
+		publish(elementAdded(POD1_ID, "pod1", LEAF1_ID, "leaf1"));
+		
+		// Event ID issued before the log was created.
+		subscribe(emptyList(), emptyList(), emptyList(), emptyList(), 0L);
+		
+		assertEquals(1,sent.size());
+		assertEquals("reset",sent.get(0).getName());
+		assertNull(sent.get(0).getId());
+	}
+	
+	@Test
+	public void send_live_events_after_reset_event() {
+		subscribe(emptyList(), emptyList(), emptyList(), emptyList(), 0L);
+		publish(elementAdded(POD1_ID, "pod1", LEAF1_ID, "leaf1"));
+		
+		assertEquals(2,sent.size());
+		assertEquals("reset",sent.get(0).getName());
+		assertEquals(id(logged.get(0)),sent.get(1).getId());
+	}
+	
+	@Test
+	public void send_replayed_events_before_live_events() throws InterruptedException {
+		publish(elementAdded(POD1_ID, "pod1", LEAF1_ID, "leaf1"));
+		publish(elementAdded(POD1_ID, "pod1", LEAF2_ID, "leaf2"));
+		publish(elementRemoved(POD1_ID, "pod1", LEAF1_ID, "leaf1"));
+		
+		// Publish a live event while the first missed event is replayed.
+		// The live event must wait until all missed events have been sent.
+		Thread[] live = new Thread[1];
+		Answer<?> send = invocation -> {
+			synchronized(sent) {
+				sent.add((OutboundSseEvent) invocation.getArguments()[0]);
+				if(live[0] == null) {
+					live[0] = new Thread(() -> publish(elementRemoved(POD1_ID, "pod1", LEAF2_ID, "leaf2")));
+					live[0].start();
+				}
+			}
+			return completedFuture(null);
+		};
+		doAnswer(send).when(sink).send(any(OutboundSseEvent.class));
+		
+		subscribe(emptyList(), emptyList(), emptyList(), emptyList(), logged.get(0).getId());
+		live[0].join();
+		
+		assertEquals(asList(id(logged.get(1)),id(logged.get(2)),id(logged.get(3))),sentIds());
+	}
+	
+	@Test
+	public void skip_events_that_were_already_sent() {
+		publish(elementAdded(POD1_ID, "pod1", LEAF1_ID, "leaf1"));
+		publish(elementAdded(POD1_ID, "pod1", LEAF2_ID, "leaf2"));
+		InventoryEventSubscription subscription = subscribe(emptyList(), emptyList(), emptyList(), emptyList(), logged.get(0).getId());
+		
+		// Redeliver the replayed event
+		subscription.accept(logged.get(1));
+		
+		assertEquals(asList(id(logged.get(1))),sentIds());
+	}
+	
+	@Test
+	public void close_subscription_when_client_disconnected() {
+		subscribe(emptyList(), emptyList(), emptyList(), emptyList(), null);
+		when(sink.isClosed()).thenReturn(true);
+		publish(elementAdded(POD1_ID, "pod1", LEAF1_ID, "leaf1"));
+		when(sink.isClosed()).thenReturn(false);
+		publish(elementAdded(POD1_ID, "pod1", LEAF2_ID, "leaf2"));
+		
+		assertTrue(sent.isEmpty());
+		verify(sink).close();
+	}
+	
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2020 RtBrick Inc.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License.  You may obtain a copy
+ * of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package io.leitstand.inventory.rs;
+
+import static io.leitstand.inventory.service.PageCursor.pageCursor;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import javax.ws.rs.BadRequestException;
+
+import org.junit.Test;
+
+import io.leitstand.inventory.service.PageCursor;
+
+public class PageCursorParamConverterTest {
+
+	private PageCursorParamConverter converter = new PageCursorParamConverter();
+	
+	@Test
+	public void provides_converter_for_page_cursor_only() {
+		assertSame(converter,converter.getConverter(PageCursor.class, PageCursor.class, null));
+		assertNull(converter.getConverter(String.class, String.class, null));
+	}
+	
+	@Test
+	public void convert_page_cursor() {
+		PageCursor cursor = pageCursor("group","element");
+		assertEquals(cursor,converter.fromString(cursor.getValue()));
+		assertEquals(cursor.getValue(),converter.toString(cursor));
+	}
+	
+	@Test
+	public void reject_malformed_page_cursor_with_bad_request() {
+		try {
+			converter.fromString("not a cursor!");
+			fail("BadRequestException expected");
+		} catch (BadRequestException e) {
+			assertEquals(400,e.getResponse().getStatus());
+			assertTrue(((String)e.getResponse().getEntity()).contains("IVT1200E_PAGE_CURSOR_INVALID"));
+		}
+	}
+	
+}
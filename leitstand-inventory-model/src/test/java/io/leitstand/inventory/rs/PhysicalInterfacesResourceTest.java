@@ -1,11 +1,25 @@
 package io.leitstand.inventory.rs;
 
+import static io.leitstand.inventory.service.ElementGroupName.groupName;
+import static io.leitstand.inventory.service.ElementName.elementName;
+import static io.leitstand.inventory.service.FacilityName.facilityName;
+import static io.leitstand.inventory.service.InterfaceName.interfaceName;
+import static io.leitstand.inventory.service.OperationalState.DOWN;
+import static io.leitstand.inventory.service.PageCursor.pageCursor;
+import static io.leitstand.inventory.service.PhysicalInterfaceData.newPhysicalInterfaceData;
 import static io.leitstand.testing.ut.LeitstandCoreMatchers.containsHeader;
+import static java.util.Arrays.asList;
 import static javax.ws.rs.core.Response.Status.NO_CONTENT;
+import static javax.ws.rs.core.Response.Status.OK;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
 
@@ -15,16 +29,26 @@ import javax.ws.rs.core.Response;
 
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 
+import io.leitstand.inventory.service.PageCursor;
 import io.leitstand.inventory.service.PhysicalInterfaceData;
+import io.leitstand.inventory.service.PhysicalInterfaceQuery;
 import io.leitstand.inventory.service.PhysicalInterfaceService;
 
 @RunWith(MockitoJUnitRunner.class)
 public class PhysicalInterfacesResourceTest {
 
+    private static final PhysicalInterfaceData IFP = newPhysicalInterfaceData()
+                                                     .withFacilityName(facilityName("facility"))
+                                                     .withGroupName(groupName("group"))
+                                                     .withElementName(elementName("element"))
+                                                     .withIfpName(interfaceName("ifp-0/0/1"))
+                                                     .build();
+
     @Mock
     private PhysicalInterfaceService service;
     
@@ -33,10 +57,10 @@ public class PhysicalInterfacesResourceTest {
     
     @Test
     public void return_empty_list_when_empty_filters_are_specified() {
-        Response response = resource.findPhysicalInterfaces("",
-                                                            "", 
+        Response response = resource.findPhysicalInterfaces(new PhysicalInterfaceQueryParams("",""), 
                                                             0, 
-                                                            100);
+                                                            100,
+                                                            null);
         
         assertThat(response.getStatus(),
                    is(NO_CONTENT.getStatusCode()));
@@ -46,10 +70,10 @@ public class PhysicalInterfacesResourceTest {
     
     @Test
     public void return_empty_list_when_null_filters_are_is_specified() {
-        Response response = resource.findPhysicalInterfaces(null,
-                                                            null, 
+        Response response = resource.findPhysicalInterfaces(new PhysicalInterfaceQueryParams(null,null), 
                                                             0, 
-                                                            100);
+                                                            100,
+                                                            null);
         
         assertThat(response.getStatus(),
                    is(NO_CONTENT.getStatusCode()));
@@ -59,10 +83,10 @@ public class PhysicalInterfacesResourceTest {
     
     @Test
     public void return_empty_list_when_blank_filter_is_specified() {
-        Response response = resource.findPhysicalInterfaces("  ",
-                                                            " ", 
+        Response response = resource.findPhysicalInterfaces(new PhysicalInterfaceQueryParams("  "," "), 
                                                             0, 
-                                                            100);
+                                                            100,
+                                                            null);
         assertThat(response.getStatus(),
                    is(NO_CONTENT.getStatusCode()));
         verifyZeroInteractions(service);
@@ -75,9 +99,9 @@ public class PhysicalInterfacesResourceTest {
         List<PhysicalInterfaceData> ifps = mock(List.class);
         when(ifps.size()).thenReturn(24);
         
-        when(service.findPhysicalInterfaces("facility", "ifp", 0, 101)).thenReturn(ifps);
+        when(service.findPhysicalInterfaces(any(PhysicalInterfaceQuery.class), eq(0), eq(101))).thenReturn(ifps);
      
-        Response response = resource.findPhysicalInterfaces("facility","ifp ", 0, 100);
+        Response response = resource.findPhysicalInterfaces(new PhysicalInterfaceQueryParams("facility","ifp "), 0, 100, null);
         
         assertEquals(ifps,response.getEntity());
         assertThat(response,containsHeader("Leitstand-Offset",0));
@@ -94,16 +118,52 @@ public class PhysicalInterfacesResourceTest {
         when(page.size()).thenReturn(100);
         when(ifps.size()).thenReturn(101);
         when(ifps.subList(0, 100)).thenReturn(page);
-        when(service.findPhysicalInterfaces("facility","ifp", 200, 101)).thenReturn(ifps);
+        when(page.get(99)).thenReturn(IFP);
+        when(service.findPhysicalInterfaces(any(PhysicalInterfaceQuery.class), eq(200), eq(101))).thenReturn(ifps);
         
-        Response response = resource.findPhysicalInterfaces("facility","ifp ", 200, 100);
+        Response response = resource.findPhysicalInterfaces(new PhysicalInterfaceQueryParams("facility","ifp "), 200, 100, null);
 
         assertEquals(page,response.getEntity());
         assertThat(response,containsHeader("Leitstand-Offset",200));
         assertThat(response,containsHeader("Leitstand-Limit",100));
         assertThat(response,containsHeader("Leitstand-Size",100));
         assertThat(response,containsHeader("Leitstand-Eof",false)); 
+        assertThat(response,containsHeader("Leitstand-Cursor",pageCursor(IFP).getValue()));
+        
+    }
+    
+    @Test
+    public void search_matching_interfaces_after_cursor() {
+        PageCursor cursor = pageCursor(IFP);
+        when(service.findPhysicalInterfaces(any(PhysicalInterfaceQuery.class), eq(cursor), eq(101))).thenReturn(asList(IFP));
+        
+        Response response = resource.findPhysicalInterfaces(new PhysicalInterfaceQueryParams("facility","ifp"), 0, 100, cursor);
+        
+        assertEquals(asList(IFP),response.getEntity());
+        assertThat(response,containsHeader("Leitstand-Eof",true));
+        assertNull(response.getHeaderString("Leitstand-Cursor"));
+    }
+    
+    @Test
+    public void search_interfaces_by_operational_state_only() {
+        when(service.findPhysicalInterfaces(any(PhysicalInterfaceQuery.class), eq(0), eq(101))).thenReturn(asList(IFP));
+        
+        Response response = resource.findPhysicalInterfaces(new PhysicalInterfaceQueryParams(null,null).withOperationalState(DOWN), 0, 100, null);
+        
+        assertEquals(asList(IFP),response.getEntity());
+        ArgumentCaptor<PhysicalInterfaceQuery> query = ArgumentCaptor.forClass(PhysicalInterfaceQuery.class);
+        verify(service).findPhysicalInterfaces(query.capture(), eq(0), eq(101));
+        assertEquals(DOWN,query.getValue().getOperationalState());
+        assertNull(query.getValue().getFacilityFilter());
+    }
+    
+    @Test
+    public void export_matching_interfaces() {
+        Response response = resource.exportPhysicalInterfaces(new PhysicalInterfaceQueryParams(null,null).withGroupFilter("group"));
         
+        assertThat(response.getStatus(),
+                   is(OK.getStatusCode()));
+        assertTrue(response.getEntity() instanceof PhysicalInterfacesExportOutput);
     }
     
 